@@ -0,0 +1,85 @@
+package sorald;
+
+import static sorald.benchmark.BenchmarkCorpus.S2111;
+import static sorald.benchmark.BenchmarkCorpus.SCENARIO;
+import static sorald.benchmark.BenchmarkCorpus.SYNTHETIC;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import sorald.benchmark.BenchmarkCorpus;
+import sorald.rule.Rule;
+import sorald.rule.RuleViolation;
+import sorald.segment.Node;
+import sorald.sonar.ProjectScanner;
+import spoon.reflect.CtModel;
+import spoon.reflect.declaration.CtCompilationUnit;
+
+/**
+ * Benchmark of printing all compilation units of a repaired model, with the pretty-printers that
+ * Sorald configures for each pretty-printing strategy. The preprocessors of the printers modify the
+ * model, so they are applied once during setup, and every invocation prints the same preprocessed
+ * model.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PrintBenchmark {
+    @Param({SCENARIO, SYNTHETIC})
+    public String corpus;
+
+    @Param({"NORMAL", "SNIPER"})
+    public PrettyPrintingStrategy prettyPrintingStrategy;
+
+    private List<CtCompilationUnit> compilationUnits;
+
+    @Setup
+    public void setUp() {
+        Path root = BenchmarkCorpus.get(corpus);
+        var config = new SoraldConfig();
+        config.setSource(root.toString());
+        config.setPrettyPrintingStrategy(prettyPrintingStrategy);
+
+        var repair = new Repair(config, List.of(), List.of());
+        CtModel model = repair.createSegmentLauncher(List.of(new Node(root.toString()))).getModel();
+
+        // the sniper printer only reprints what was changed, so the model is repaired first
+        Set<RuleViolation> violations =
+                ProjectScanner.scanProject(root.toFile(), root.toFile(), Rule.of(S2111));
+        BenchmarkCorpus.prepareRepair(model, BenchmarkCorpus.createProcessor(S2111), violations)
+                .process(model.getUnnamedModule().getFactory().Class().getAll());
+
+        Set<CtCompilationUnit> uniqueUnits = Collections.newSetFromMap(new IdentityHashMap<>());
+        model.getAllTypes().stream()
+                .map(type -> type.getPosition().getCompilationUnit())
+                .filter(cu -> cu.getFile() != null)
+                .forEach(uniqueUnits::add);
+        compilationUnits = List.copyOf(uniqueUnits);
+        compilationUnits.forEach(Repair::preprocessCompilationUnit);
+    }
+
+    @Benchmark
+    public void print(Blackhole blackhole) {
+        for (CtCompilationUnit cu : compilationUnits) {
+            blackhole.consume(Repair.printPreprocessedCompilationUnit(cu));
+        }
+    }
+}
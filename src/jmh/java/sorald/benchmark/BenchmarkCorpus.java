@@ -0,0 +1,188 @@
+package sorald.benchmark;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import sorald.Constants;
+import sorald.Processors;
+import sorald.TestHelper;
+import sorald.TypeReferenceIndex;
+import sorald.processor.SoraldAbstractProcessor;
+import sorald.rule.RuleViolation;
+import sorald.sonar.BestFitScanner;
+import spoon.Launcher;
+import spoon.reflect.CtModel;
+import spoon.reflect.declaration.CtElement;
+import spoon.reflect.factory.Factory;
+import spoon.support.QueueProcessingManager;
+
+/** The corpora that benchmarks run against, along with helpers for setting up benchmark state. */
+public class BenchmarkCorpus {
+    /** The Maven projects under the scenario test files. */
+    public static final String SCENARIO = "scenario";
+
+    /** A generated corpus of many small classes with violations of the benchmarked rules. */
+    public static final String SYNTHETIC = "synthetic";
+
+    /** Rules that both corpora have violations of, and that Sorald can repair. */
+    public static final String S2111 = "S2111";
+
+    public static final String S2116 = "S2116";
+    public static final String S1854 = "S1854";
+    public static final String S2204 = "S2204";
+
+    static final int SYNTHETIC_PACKAGES = 20;
+    static final int SYNTHETIC_CLASSES_PER_PACKAGE = 50;
+    static final int SYNTHETIC_METHODS_PER_CLASS = 5;
+
+    private static Path syntheticCorpus;
+
+    private BenchmarkCorpus() {}
+
+    /**
+     * @param name The name of a corpus.
+     * @return The root directory of the corpus.
+     */
+    public static synchronized Path get(String name) {
+        switch (name) {
+            case SCENARIO:
+                return TestHelper.PATH_TO_RESOURCES_FOLDER
+                        .resolve("scenario_test_files")
+                        .toAbsolutePath()
+                        .normalize();
+            case SYNTHETIC:
+                if (syntheticCorpus == null) {
+                    syntheticCorpus = generateSyntheticCorpus();
+                }
+                return syntheticCorpus;
+            default:
+                throw new IllegalArgumentException("unknown corpus: " + name);
+        }
+    }
+
+    /**
+     * @param root The root directory of a corpus.
+     * @return Absolute paths to all Java files in the corpus, in sorted order.
+     */
+    public static List<String> listJavaFiles(Path root) {
+        try (Stream<Path> paths = Files.walk(root)) {
+            return paths.filter(path -> path.toString().endsWith(Constants.JAVA_EXT))
+                    .filter(path -> !path.endsWith("module-info.java"))
+                    .map(Path::toString)
+                    .sorted()
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Build a Spoon model of all files in a corpus, in the same mode as Sorald does.
+     *
+     * @param root The root directory of a corpus.
+     * @return The model.
+     */
+    public static CtModel buildModel(Path root) {
+        Launcher launcher = new Launcher();
+        listJavaFiles(root).forEach(launcher::addInputResource);
+        launcher.getEnvironment().setIgnoreDuplicateDeclarations(true);
+        launcher.getEnvironment().setComplianceLevel(Constants.DEFAULT_COMPLIANCE_LEVEL);
+        return launcher.buildModel();
+    }
+
+    /**
+     * @param ruleKey The key of a rule.
+     * @return A fresh processor for the rule.
+     */
+    public static SoraldAbstractProcessor<?> createProcessor(String ruleKey) {
+        try {
+            return Processors.getProcessor(ruleKey)
+                    .getConstructor()
+                    .newInstance()
+                    .setEventHandlers(List.of());
+        } catch (InstantiationException
+                | IllegalAccessException
+                | InvocationTargetException
+                | NoSuchMethodException e) {
+            throw new IllegalStateException("could not create processor for " + ruleKey, e);
+        }
+    }
+
+    /**
+     * Prepare a processing manager that repairs the given violations, in the same way as Sorald
+     * does. The processing itself is not performed.
+     *
+     * @param model A model.
+     * @param processor The processor for the rule of the violations.
+     * @param violations Violations of a single rule.
+     * @return A processing manager, ready to process all classes of the model.
+     */
+    public static QueueProcessingManager prepareRepair(
+            CtModel model, SoraldAbstractProcessor<?> processor, Set<RuleViolation> violations) {
+        Map<CtElement, RuleViolation> bestFits = new IdentityHashMap<>();
+        model.getAllModules()
+                .forEach(
+                        module ->
+                                bestFits.putAll(
+                                        BestFitScanner.calculateBestFits(
+                                                module, violations, processor)));
+        processor.setBestFits(bestFits);
+
+        Factory factory = model.getUnnamedModule().getFactory();
+        var processingManager = new QueueProcessingManager(factory);
+        processingManager.addProcessor(processor);
+        TypeReferenceIndex.of(model).attachTo(factory.getEnvironment());
+        return processingManager;
+    }
+
+    private static Path generateSyntheticCorpus() {
+        try {
+            Path root = Files.createTempDirectory("sorald-synthetic-corpus");
+            for (int pkg = 0; pkg < SYNTHETIC_PACKAGES; pkg++) {
+                Path pkgDir = Files.createDirectories(root.resolve("synthetic").resolve("p" + pkg));
+                for (int cls = 0; cls < SYNTHETIC_CLASSES_PER_PACKAGE; cls++) {
+                    String className = "C" + cls;
+                    Files.writeString(
+                            pkgDir.resolve(className + Constants.JAVA_EXT),
+                            generateClass("synthetic.p" + pkg, className));
+                }
+            }
+            return root;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String generateClass(String packageName, String className) {
+        var sb = new StringBuilder();
+        sb.append("package ").append(packageName).append(";\n\n");
+        sb.append("import java.math.BigDecimal;\n");
+        sb.append("import java.util.concurrent.atomic.AtomicInteger;\n\n");
+        sb.append("public class ").append(className).append(" {\n");
+        sb.append("    private final int[] values = {1, 2, 3};\n");
+        for (int i = 0; i < SYNTHETIC_METHODS_PER_CLASS; i++) {
+            sb.append("\n");
+            sb.append("    public String describe").append(i).append("() {\n");
+            sb.append("        BigDecimal d = new BigDecimal(0.").append(i + 1).append(");\n");
+            sb.append("        String s = values.toString();\n");
+            sb.append("        int unused = ").append(i).append(";\n");
+            sb.append("        unused = values.length;\n");
+            sb.append("        return d + s;\n");
+            sb.append("    }\n\n");
+            sb.append("    public boolean same").append(i);
+            sb.append("(AtomicInteger a, AtomicInteger b) {\n");
+            sb.append("        return a.equals(b);\n");
+            sb.append("    }\n");
+        }
+        sb.append("}\n");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,73 @@
+package sorald.processor;
+
+import static sorald.benchmark.BenchmarkCorpus.S1854;
+import static sorald.benchmark.BenchmarkCorpus.S2111;
+import static sorald.benchmark.BenchmarkCorpus.S2116;
+import static sorald.benchmark.BenchmarkCorpus.S2204;
+import static sorald.benchmark.BenchmarkCorpus.SCENARIO;
+import static sorald.benchmark.BenchmarkCorpus.SYNTHETIC;
+
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import sorald.benchmark.BenchmarkCorpus;
+import sorald.rule.Rule;
+import sorald.rule.RuleViolation;
+import sorald.sonar.ProjectScanner;
+import spoon.reflect.CtModel;
+import spoon.support.QueueProcessingManager;
+
+/**
+ * Benchmark of running a repair processor over a model. Repairs mutate the model, so every
+ * invocation gets a freshly built model and is measured as a single shot.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ProcessBenchmark {
+    @Param({SCENARIO, SYNTHETIC})
+    public String corpus;
+
+    @Param({S2111, S2116, S1854, S2204})
+    public String ruleKey;
+
+    private Path root;
+    private Set<RuleViolation> violations;
+    private CtModel model;
+    private QueueProcessingManager processingManager;
+
+    @Setup(Level.Trial)
+    public void scan() {
+        root = BenchmarkCorpus.get(corpus);
+        violations = ProjectScanner.scanProject(root.toFile(), root.toFile(), Rule.of(ruleKey));
+    }
+
+    @Setup(Level.Invocation)
+    public void prepareRepair() {
+        model = BenchmarkCorpus.buildModel(root);
+        processingManager =
+                BenchmarkCorpus.prepareRepair(
+                        model, BenchmarkCorpus.createProcessor(ruleKey), violations);
+    }
+
+    @Benchmark
+    public CtModel process() {
+        processingManager.process(model.getUnnamedModule().getFactory().Class().getAll());
+        return model;
+    }
+}
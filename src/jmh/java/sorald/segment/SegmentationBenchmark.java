@@ -0,0 +1,61 @@
+package sorald.segment;
+
+import static sorald.benchmark.BenchmarkCorpus.SCENARIO;
+import static sorald.benchmark.BenchmarkCorpus.SYNTHETIC;
+
+import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import sorald.benchmark.BenchmarkCorpus;
+
+/** Benchmark of building the file tree of a corpus and segmenting it. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SegmentationBenchmark {
+    /** Max bytes of source code per segment when segmenting by source size. */
+    private static final long MAX_SEGMENT_BYTES = 256 * 1024;
+
+    @Param({SCENARIO, SYNTHETIC})
+    public String corpus;
+
+    @Param({"10", "100"})
+    public int maxFilesPerSegment;
+
+    private String rootPath;
+    private Node tree;
+
+    @Setup
+    public void setUp() {
+        rootPath = BenchmarkCorpus.get(corpus).toString();
+        tree = SoraldTreeBuilderAlgorithm.buildTree(rootPath);
+    }
+
+    @Benchmark
+    public Node buildTree() {
+        return SoraldTreeBuilderAlgorithm.buildTree(rootPath);
+    }
+
+    @Benchmark
+    public LinkedList<LinkedList<Node>> segmentByFileCount() {
+        return FirstFitSegmentationAlgorithm.segment(tree, maxFilesPerSegment);
+    }
+
+    @Benchmark
+    public LinkedList<LinkedList<Node>> segmentBySourceSize() {
+        return FirstFitSegmentationAlgorithm.segmentBySourceSize(tree, MAX_SEGMENT_BYTES);
+    }
+}
@@ -0,0 +1,58 @@
+package sorald.sonar;
+
+import static sorald.benchmark.BenchmarkCorpus.S1854;
+import static sorald.benchmark.BenchmarkCorpus.S2111;
+import static sorald.benchmark.BenchmarkCorpus.S2116;
+import static sorald.benchmark.BenchmarkCorpus.S2204;
+import static sorald.benchmark.BenchmarkCorpus.SCENARIO;
+import static sorald.benchmark.BenchmarkCorpus.SYNTHETIC;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import sorald.benchmark.BenchmarkCorpus;
+import sorald.rule.RuleViolation;
+
+/** Benchmark of analyzing a corpus for violations of a single rule with sonar-java. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class AnalyzeBenchmark {
+    @Param({SCENARIO, SYNTHETIC})
+    public String corpus;
+
+    @Param({S2111, S2116, S1854, S2204})
+    public String ruleKey;
+
+    private List<String> files;
+    private File baseDir;
+
+    @Setup
+    public void setUp() {
+        Path root = BenchmarkCorpus.get(corpus);
+        files = BenchmarkCorpus.listJavaFiles(root);
+        baseDir = root.toFile();
+    }
+
+    @Benchmark
+    public Set<RuleViolation> analyze() {
+        // checks are stateful, so each analysis gets a fresh instance like in Sorald
+        return RuleVerifier.analyze(files, baseDir, Checks.getCheckInstance(ruleKey));
+    }
+}
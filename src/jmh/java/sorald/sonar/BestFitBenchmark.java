@@ -0,0 +1,62 @@
+package sorald.sonar;
+
+import static sorald.benchmark.BenchmarkCorpus.S1854;
+import static sorald.benchmark.BenchmarkCorpus.S2111;
+import static sorald.benchmark.BenchmarkCorpus.S2116;
+import static sorald.benchmark.BenchmarkCorpus.S2204;
+import static sorald.benchmark.BenchmarkCorpus.SCENARIO;
+import static sorald.benchmark.BenchmarkCorpus.SYNTHETIC;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import sorald.benchmark.BenchmarkCorpus;
+import sorald.processor.SoraldAbstractProcessor;
+import sorald.rule.Rule;
+import sorald.rule.RuleViolation;
+import spoon.reflect.CtModel;
+import spoon.reflect.declaration.CtElement;
+
+/** Benchmark of matching violations to the Spoon elements that a processor can repair. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BestFitBenchmark {
+    @Param({SCENARIO, SYNTHETIC})
+    public String corpus;
+
+    @Param({S2111, S2116, S1854, S2204})
+    public String ruleKey;
+
+    private CtModel model;
+    private Set<RuleViolation> violations;
+    private SoraldAbstractProcessor<?> processor;
+
+    @Setup
+    public void setUp() {
+        Path root = BenchmarkCorpus.get(corpus);
+        model = BenchmarkCorpus.buildModel(root);
+        violations = ProjectScanner.scanProject(root.toFile(), root.toFile(), Rule.of(ruleKey));
+        processor = BenchmarkCorpus.createProcessor(ruleKey);
+    }
+
+    @Benchmark
+    public Map<CtElement, RuleViolation> calculateBestFits() {
+        return BestFitScanner.calculateBestFits(model.getUnnamedModule(), violations, processor);
+    }
+}
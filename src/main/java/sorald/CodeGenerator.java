@@ -3,6 +3,7 @@ package sorald;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import sorald.annotations.ProcessorsClassGenerator;
+import sorald.sonar.CheckIndexGenerator;
 import spoon.Launcher;
 
 /** Wrapper class for all (present and future) code generation in Sorald. */
@@ -22,7 +23,8 @@ public class CodeGenerator {
         launcher.addInputResource("src/main/java/sorald");
 
         launcher.addProcessor(new ProcessorsClassGenerator<>());
-        launcher.setOutputFilter("sorald.Processors");
+        launcher.addProcessor(new CheckIndexGenerator());
+        launcher.setOutputFilter("sorald.Processors", "sorald.sonar.CheckIndex");
 
         launcher.run();
     }
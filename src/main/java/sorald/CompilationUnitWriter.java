@@ -0,0 +1,370 @@
+package sorald;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import org.eclipse.jgit.diff.DiffAlgorithm;
+import org.eclipse.jgit.diff.DiffFormatter;
+import org.eclipse.jgit.diff.EditList;
+import org.eclipse.jgit.diff.RawText;
+import org.eclipse.jgit.diff.RawTextComparator;
+import sorald.event.EventHelper;
+import sorald.event.SoraldEventHandler;
+import sorald.event.models.PhaseEvent;
+import sorald.event.models.PhaseEvent.Phase;
+import sorald.support.CanonicalPaths;
+import sorald.util.SourceDiscovery;
+import spoon.reflect.declaration.CtCompilationUnit;
+
+/**
+ * Output stage of a repair that prints compilation units and writes them according to the {@link
+ * OutputMode} of the config: back to their source files, to a shadow directory, or as unified
+ * diffs to a patch. Compilation units are printed and written in parallel on a pool of worker
+ * threads, while events are fired and diffs are emitted on the calling thread in the order of the
+ * compilation units.
+ *
+ * <p>Each file is written atomically by way of a temporary file in the same directory, such that a
+ * crash never leaves a partially written source file behind. A file whose printed content is
+ * identical to its current content is not written at all.
+ */
+class CompilationUnitWriter implements Closeable {
+    private final int threads;
+    private final OutputMode outputMode;
+    private final Path sourceRoot;
+    private final File outputPath;
+    private final OutputStream standardOutput;
+    private final List<SoraldEventHandler> eventHandlers;
+
+    private OutputStream patchStream;
+    private Map<Path, Path> realToLinkPaths;
+
+    /**
+     * @param config Config of the repair, which determines the threads to print and write with and
+     *     where to write to.
+     * @param eventHandlers Event handlers to fire the phase events of printing and writing to.
+     */
+    CompilationUnitWriter(SoraldConfig config, List<SoraldEventHandler> eventHandlers) {
+        this.threads = config.getPrintThreads();
+        this.outputMode = config.getOutputMode();
+        this.sourceRoot =
+                CanonicalPaths.canonicalize(
+                        FileUtils.getClosestDirectory(new File(config.getSource())).toPath());
+        this.outputPath = config.getOutputPath().orElse(null);
+        this.standardOutput = config.getStandardOutput().orElse(System.out);
+        this.eventHandlers = eventHandlers;
+    }
+
+    /**
+     * Print the given compilation units and write them according to the output mode.
+     *
+     * @param units Compilation units to print and write.
+     * @return Paths to the source files whose printed content differs from their original content,
+     *     in the order of the compilation units. Only in the in-place output mode are these files
+     *     actually written.
+     */
+    List<Path> write(Collection<CtCompilationUnit> units) {
+        List<Result> results;
+        if (threads <= 1 || units.size() <= 1) {
+            results = new ArrayList<>();
+            for (CtCompilationUnit cu : units) {
+                results.add(printAndWrite(cu, Repair::printCompilationUnit, 0));
+                emit(results.get(results.size() - 1));
+            }
+        } else {
+            results = printAndWriteInParallel(units);
+        }
+
+        List<Path> writtenFiles = new ArrayList<>();
+        for (Result result : results) {
+            if (result.written) {
+                writtenFiles.add(result.sourcePath);
+            }
+        }
+        return writtenFiles;
+    }
+
+    /**
+     * Flush and close the patch, if diffs are emitted to one. A patch file is created even if no
+     * file was repaired, while stdout is flushed but never closed.
+     */
+    @Override
+    public void close() throws IOException {
+        if (outputMode == OutputMode.PATCH) {
+            getPatchStream().flush();
+            if (outputPath != null) {
+                patchStream.close();
+            }
+            patchStream = null;
+        }
+    }
+
+    private List<Result> printAndWriteInParallel(Collection<CtCompilationUnit> units) {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, units.size()));
+        try {
+            // the preprocessors modify the shared model, and in sniper mode every modification is
+            // recorded in a change collector shared by all compilation units, so all units are
+            // preprocessed up front and only the printing of them, which reads the model, runs in
+            // parallel
+            Map<CtCompilationUnit, Long> preprocessNanos = new IdentityHashMap<>();
+            for (CtCompilationUnit cu : units) {
+                long preprocessStart = System.nanoTime();
+                Repair.preprocessCompilationUnit(cu);
+                preprocessNanos.put(cu, System.nanoTime() - preprocessStart);
+            }
+
+            List<Future<Result>> futures = new ArrayList<>();
+            for (CtCompilationUnit cu : units) {
+                futures.add(
+                        executor.submit(
+                                () ->
+                                        printAndWrite(
+                                                cu,
+                                                Repair::printPreprocessedCompilationUnit,
+                                                preprocessNanos.get(cu))));
+            }
+            List<Result> results = new ArrayList<>();
+            for (Future<Result> future : futures) {
+                Result result = future.get();
+                emit(result);
+                results.add(result);
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while writing compilation units", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void emit(Result result) {
+        String label = result.sourcePath.toString();
+        EventHelper.fireEvent(new PhaseEvent(Phase.PRINT, label, result.printNanos), eventHandlers);
+        EventHelper.fireEvent(new PhaseEvent(Phase.WRITE, label, result.writeNanos), eventHandlers);
+        if (result.patch.length > 0) {
+            try {
+                getPatchStream().write(result.patch);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private Result printAndWrite(
+            CtCompilationUnit cu, Function<CtCompilationUnit, String> printer, long printNanos) {
+        Path sourcePath = cu.getPosition().getFile().toPath();
+        long printStart = System.nanoTime();
+        byte[] output = printer.apply(cu).getBytes(StandardCharsets.UTF_8);
+        printNanos += System.nanoTime() - printStart;
+
+        long writeStart = System.nanoTime();
+        boolean written;
+        byte[] patch = new byte[0];
+        switch (outputMode) {
+            case INPLACE:
+                written = writeIfChanged(sourcePath, output);
+                break;
+            case DIR:
+                written = !hasContent(sourcePath, output);
+                if (written) {
+                    writeIfChanged(
+                            outputPath.toPath().resolve(relativeSourcePath(sourcePath)), output);
+                }
+                break;
+            case PATCH:
+                patch =
+                        unifiedDiff(
+                                relativeSourcePath(sourcePath), readAllBytes(sourcePath), output);
+                written = patch.length > 0;
+                break;
+            default:
+                throw new IllegalStateException("unknown output mode: " + outputMode);
+        }
+        return new Result(sourcePath, written, patch, printNanos, System.nanoTime() - writeStart);
+    }
+
+    private Path relativeSourcePath(Path sourcePath) {
+        Path canonicalPath = CanonicalPaths.canonicalize(sourcePath);
+        if (!canonicalPath.startsWith(sourceRoot)) {
+            // Spoon stores the real path of a symbolically linked source file, which may be outside
+            // of the source directory, so the file is written to the path of the link instead
+            Path linkPath = getRealToLinkPaths().get(canonicalPath);
+            if (linkPath == null) {
+                throw new IllegalStateException(
+                        "source file "
+                                + sourcePath
+                                + " is not in the source directory "
+                                + sourceRoot);
+            }
+            canonicalPath = linkPath;
+        }
+        return sourceRoot.relativize(canonicalPath);
+    }
+
+    private synchronized Map<Path, Path> getRealToLinkPaths() {
+        if (realToLinkPaths == null) {
+            realToLinkPaths = new HashMap<>();
+            for (Path javaFile : SourceDiscovery.findJavaFiles(sourceRoot)) {
+                if (Files.isSymbolicLink(javaFile)) {
+                    CanonicalPaths.toRealPath(javaFile)
+                            .ifPresent(realPath -> realToLinkPaths.putIfAbsent(realPath, javaFile));
+                }
+            }
+        }
+        return realToLinkPaths;
+    }
+
+    private OutputStream getPatchStream() throws IOException {
+        if (patchStream == null) {
+            patchStream =
+                    outputPath == null
+                            ? standardOutput
+                            : Files.newOutputStream(outputPath.toPath().toAbsolutePath());
+        }
+        return patchStream;
+    }
+
+    /**
+     * Compute a unified diff between the original and the revised content of a file, in the
+     * format of git with 3 lines of context.
+     *
+     * @param relativePath Path to the file relative to the root of the patch.
+     * @param original The original content of the file.
+     * @param revised The revised content of the file.
+     * @return The diff, or an empty array if the contents are identical.
+     */
+    static byte[] unifiedDiff(Path relativePath, byte[] original, byte[] revised) {
+        RawText originalText = new RawText(original);
+        RawText revisedText = new RawText(revised);
+        EditList edits =
+                DiffAlgorithm.getAlgorithm(DiffAlgorithm.SupportedAlgorithm.HISTOGRAM)
+                        .diff(RawTextComparator.DEFAULT, originalText, revisedText);
+        if (edits.isEmpty()) {
+            return new byte[0];
+        }
+
+        String path = relativePath.toString().replace(File.separatorChar, '/');
+        var patch = new ByteArrayOutputStream();
+        try (var formatter = new DiffFormatter(patch)) {
+            patch.write(
+                    String.format(
+                                    "diff --git a/%s b/%s\n--- a/%s\n+++ b/%s\n",
+                                    path, path, path, path)
+                            .getBytes(StandardCharsets.UTF_8));
+            formatter.format(edits, originalText, revisedText);
+        } catch (IOException e) {
+            // writing to a byte array never fails
+            throw new UncheckedIOException(e);
+        }
+        return patch.toByteArray();
+    }
+
+    private static boolean hasContent(Path file, byte[] content) {
+        try {
+            return Files.isRegularFile(file)
+                    && Files.size(file) == content.length
+                    && Arrays.equals(Files.readAllBytes(file), content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] readAllBytes(Path file) {
+        try {
+            return Files.readAllBytes(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Write the given content to the file, unless the file already has that exact content.
+     *
+     * @return true iff the file was written.
+     */
+    static boolean writeIfChanged(Path file, byte[] content) {
+        try {
+            if (hasContent(file, content)) {
+                return false;
+            }
+
+            Path dir = file.toAbsolutePath().getParent();
+            Files.createDirectories(dir);
+            Path tmpFile = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+            try {
+                Files.write(tmpFile, content);
+                copyPermissions(file, tmpFile);
+                moveAtomically(tmpFile, file);
+            } finally {
+                Files.deleteIfExists(tmpFile);
+            }
+            return true;
+        } catch (IOException e) {
+            // must convert to a runtime exception as this is used in a worker thread, which can't
+            // throw checked exceptions
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /** Temporary files are only accessible to the owner, so the original permissions are kept. */
+    private static void copyPermissions(Path from, Path to) throws IOException {
+        if (!Files.exists(from)) {
+            return;
+        }
+        try {
+            Files.setPosixFilePermissions(to, Files.getPosixFilePermissions(from));
+        } catch (UnsupportedOperationException e) {
+            // not a POSIX file system, where temporary files get default permissions
+        }
+    }
+
+    /** The outcome of printing and writing a single compilation unit. */
+    private static class Result {
+        final Path sourcePath;
+        final boolean written;
+        final byte[] patch;
+        final long printNanos;
+        final long writeNanos;
+
+        Result(Path sourcePath, boolean written, byte[] patch, long printNanos, long writeNanos) {
+            this.sourcePath = sourcePath;
+            this.written = written;
+            this.patch = patch;
+            this.printNanos = printNanos;
+            this.writeNanos = writeNanos;
+        }
+    }
+}
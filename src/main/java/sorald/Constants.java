@@ -7,23 +7,44 @@ public class Constants {
 
     public static final String REPAIR_COMMAND_NAME = "repair";
     public static final String MINE_COMMAND_NAME = "mine";
+    public static final String SERVE_COMMAND_NAME = "serve";
 
     public static final String ARG_RULE_KEY = "--rule-key";
     public static final String ARG_SOURCE = "--source";
     public static final String ARG_STATS_ON_GIT_REPOS = "--stats-on-git-repos";
     public static final String ARG_STATS_OUTPUT_FILE = "--stats-output-file";
+    public static final String ARG_STATS_OUTPUT_FORMAT = "--stats-output-format";
     public static final String ARG_MINER_OUTPUT_FILE = "--miner-output-file";
     public static final String ARG_GIT_REPOS_LIST = "--git-repos-list";
     public static final String ARG_TEMP_DIR = "--temp-dir";
+    public static final String ARG_REPO_THREADS = "--repo-threads";
     public static final String ARG_PRETTY_PRINTING_STRATEGY = "--pretty-printing-strategy";
     public static final String ARG_MAX_FIXES_PER_RULE = "--max-fixes-per-rule";
     public static final String ARG_REPAIR_STRATEGY = "--repair-strategy";
     public static final String ARG_MAX_FILES_PER_SEGMENT = "--max-files-per-segment";
+    public static final String ARG_SEGMENTATION_STRATEGY = "--segmentation-strategy";
+    public static final String ARG_SEGMENT_THREADS = "--segment-threads";
+    public static final String ARG_MAX_SEGMENTS_IN_MEMORY = "--max-segments-in-memory";
+    public static final String ARG_HEAP_BYTES_PER_SOURCE_BYTE = "--heap-bytes-per-source-byte";
+    public static final String ARG_PRINT_THREADS = "--print-threads";
+    public static final String ARG_OUTPUT_MODE = "--output-mode";
+    public static final String ARG_OUTPUT_PATH = "--output-path";
     public static final String ARG_RULE_TYPES = "--rule-types";
     public static final String ARG_HANDLED_RULES = "--handled-rules";
     public static final String ARG_RULE_VIOLATION_SPECIFIERS = "--violation-specs";
+    public static final String ARG_RULE_VIOLATION_SPECIFIERS_FILE = "--violation-specs-file";
+    public static final String ARG_VIOLATION_SPECS_VERIFICATION = "--violation-specs-verification";
     public static final String ARG_TARGET = "--target";
     public static final String ARG_RESOLVE_CLASSPATH_FROM = "--resolve-classpath-from";
+    public static final String ARG_ANALYSIS_THREADS = "--analysis-threads";
+    public static final String ARG_VIOLATION_CACHE_DIR = "--violation-cache-dir";
+    public static final String ARG_CLASSPATH_CACHE_DIR = "--classpath-cache-dir";
+    public static final String ARG_NO_CLASSPATH_CACHE = "--no-classpath-cache";
+    public static final String ARG_CHANGED_SINCE = "--changed-since";
+    public static final String ARG_JFR = "--jfr";
+    public static final String ARG_PORT = "--port";
+    public static final String ARG_TOKEN_FILE = "--token-file";
+    public static final String ARG_READ_TIMEOUT = "--read-timeout";
 
     public static final String VIOLATION_SPECIFIER_SEP = File.pathSeparator;
 
@@ -2,14 +2,17 @@ package sorald;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
 import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.Optional;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
@@ -34,6 +37,20 @@ public class FileUtils {
         }
     }
 
+    /**
+     * Resolve the real path of the given path, resolving any symbolic links.
+     *
+     * @param path A path.
+     * @return The real path, or an empty optional if the path does not exist.
+     */
+    public static Optional<Path> toRealPath(Path path) {
+        try {
+            return Optional.of(path.toRealPath());
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
     /**
      * @param file A file.
      * @return The given file if it is a directory, or its parent directory if it is not a
@@ -56,12 +73,19 @@ public class FileUtils {
         if (!directory.isDirectory()) {
             throw new IllegalArgumentException(directory.toString() + " is not a directory");
         }
-        try (Stream<Path> files = Files.walk(directory.toPath())) {
-            return files.map(Path::toFile)
-                    .filter(File::isFile)
-                    .filter(f -> getExtension(f).equals(ext))
-                    .collect(Collectors.toList());
-        }
+        List<File> files = new ArrayList<>();
+        Files.walkFileTree(
+                directory.toPath(),
+                new SimpleFileVisitor<>() {
+                    @Override
+                    public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                        if (Files.isRegularFile(file) && file.toString().endsWith(ext)) {
+                            files.add(file.toFile());
+                        }
+                        return FileVisitResult.CONTINUE;
+                    }
+                });
+        return files;
     }
 
     /**
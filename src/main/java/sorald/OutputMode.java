@@ -0,0 +1,11 @@
+package sorald;
+
+/** Destination of the repaired source files. */
+public enum OutputMode {
+    /** Repaired files overwrite the original source files. */
+    INPLACE,
+    /** Repaired files are written to a shadow directory that mirrors the source directory. */
+    DIR,
+    /** A unified diff per repaired file is streamed to a patch file, or to stdout. */
+    PATCH
+}
@@ -1,19 +1,21 @@
 package sorald;
 
-import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -22,13 +24,24 @@ import sorald.event.EventHelper;
 import sorald.event.EventType;
 import sorald.event.SoraldEventHandler;
 import sorald.event.collectors.CompilationUnitCollector;
+import sorald.event.jfr.BestFitJfrEvent;
+import sorald.event.jfr.ParseJfrEvent;
+import sorald.event.jfr.PrintJfrEvent;
+import sorald.event.jfr.RepairJfrEvent;
 import sorald.event.models.CrashEvent;
+import sorald.event.models.PhaseEvent;
+import sorald.event.models.PhaseEvent.Phase;
 import sorald.processor.SoraldAbstractProcessor;
 import sorald.rule.RuleViolation;
 import sorald.segment.FirstFitSegmentationAlgorithm;
 import sorald.segment.Node;
+import sorald.segment.SegmentPipeline;
+import sorald.segment.SegmentPipeline.ParsedSegment;
 import sorald.segment.SoraldTreeBuilderAlgorithm;
+import sorald.segment.ViolationSegmentationAlgorithm;
 import sorald.sonar.BestFitScanner;
+import sorald.support.CanonicalPaths;
+import sorald.util.MavenUtils;
 import spoon.Launcher;
 import spoon.MavenLauncher;
 import spoon.compiler.Environment;
@@ -39,7 +52,6 @@ import spoon.reflect.declaration.CtCompilationUnit;
 import spoon.reflect.declaration.CtElement;
 import spoon.reflect.declaration.CtType;
 import spoon.reflect.factory.Factory;
-import spoon.reflect.reference.CtTypeReference;
 import spoon.reflect.visitor.DefaultImportComparator;
 import spoon.reflect.visitor.DefaultJavaPrettyPrinter;
 import spoon.reflect.visitor.ImportCleaner;
@@ -55,6 +67,10 @@ public class Repair {
     final List<SoraldEventHandler> eventHandlers;
     private final CompilationUnitCollector cuCollector;
     private final List<String> classpath;
+    private final Set<Path> rewrittenFiles = new LinkedHashSet<>();
+
+    /** Id of the segment being repaired, or 0 if not segmented. Only used to label JFR events. */
+    private int segmentId = 0;
 
     public Repair(
             SoraldConfig config,
@@ -88,34 +104,87 @@ public class Repair {
                     "expected rule violations for precisely 1 rule key, got: " + distinctRuleKeys);
         }
 
-        String ruleKey = distinctRuleKeys.get(0);
-        Path inputDir = Path.of(config.getSource());
+        return repairAll(ruleViolations).get(0);
+    }
 
-        SoraldAbstractProcessor<?> processor = createProcessor(ruleKey);
-        Stream<CtModel> models = repair(inputDir, processor, ruleViolations);
+    /**
+     * Execute a repair of violations of any number of rules according to the config. The model is
+     * built once, and the processors of all rules are run over it in a single processing pass.
+     *
+     * <p>Best fits are calculated separately for each rule, and the processors run in the natural
+     * order of their rule keys. If the target elements of two rules conflict, the rule with the
+     * lowest key is therefore always repaired first, and a violating element that is removed from
+     * the model by an earlier processor is not processed by later ones.
+     *
+     * @param ruleViolations Rule violations to repair. May not be empty.
+     * @return The processors used in the repairs, ordered by rule key.
+     * @throws IllegalArgumentException if the supplied rule violations are empty.
+     */
+    public List<SoraldAbstractProcessor<?>> repairAll(Set<RuleViolation> ruleViolations) {
+        if (ruleViolations.isEmpty()) {
+            throw new IllegalArgumentException("expected at least one rule violation to repair");
+        }
 
-        models.forEach(
-                model -> {
-                    cuCollector
-                            .getCollectedCompilationUnits()
-                            .forEach(this::overwriteCompilationUnit);
-                    cuCollector.clear();
-                });
+        Path inputDir = Path.of(config.getSource());
+        List<SoraldAbstractProcessor<?>> processors =
+                ruleViolations.stream()
+                        .map(RuleViolation::getRuleKey)
+                        .distinct()
+                        .sorted()
+                        .map(this::createProcessor)
+                        .collect(Collectors.toList());
+        Stream<CtModel> models = repair(inputDir, processors, ruleViolations);
+
+        String ruleKeys =
+                processors.stream()
+                        .map(SoraldAbstractProcessor::getRuleKey)
+                        .collect(Collectors.joining(","));
+        try (var writer = new CompilationUnitWriter(config, eventHandlers)) {
+            models.forEach(
+                    model -> {
+                        var jfrEvent = new PrintJfrEvent();
+                        jfrEvent.start();
+                        Collection<CtCompilationUnit> units =
+                                cuCollector.getCollectedCompilationUnits();
+                        writer.write(units).stream()
+                                .map(CanonicalPaths::canonicalize)
+                                .forEach(rewrittenFiles::add);
+                        jfrEvent.setRuleKey(ruleKeys)
+                                .setSegmentId(segmentId)
+                                .setFileCount(units.size())
+                                .finish();
+                        cuCollector.clear();
+                    });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
 
-        return processor;
+        return processors;
+    }
+
+    /**
+     * @return Canonical paths to all source files that have been rewritten by repairs performed
+     *     with this instance, in the order they were written. With an output mode other than {@link
+     *     OutputMode#INPLACE}, these are the source files whose repaired content was written to the
+     *     output instead.
+     */
+    public Set<Path> getRewrittenFiles() {
+        return Collections.unmodifiableSet(rewrittenFiles);
     }
 
     Stream<CtModel> repair(
-            Path inputDir, SoraldAbstractProcessor<?> processor, Set<RuleViolation> violations) {
+            Path inputDir,
+            List<SoraldAbstractProcessor<?>> processors,
+            Set<RuleViolation> violations) {
         switch (config.getRepairStrategy()) {
             case DEFAULT:
-                return Stream.of(defaultRepair(inputDir, processor, violations));
+                return Stream.of(defaultRepair(inputDir, processors, violations));
             case MAVEN:
-                return Stream.of(mavenRepair(inputDir, processor, violations));
+                return Stream.of(mavenRepair(inputDir, processors, violations));
             case SEGMENT:
                 return segmentRepair(
                         inputDir,
-                        processor,
+                        processors,
                         violations,
                         segment -> createSegmentLauncher(segment).getModel());
             default:
@@ -125,26 +194,45 @@ public class Repair {
     }
 
     CtModel defaultRepair(
-            Path inputDir, SoraldAbstractProcessor<?> processor, Set<RuleViolation> violations) {
+            Path inputDir,
+            List<SoraldAbstractProcessor<?>> processors,
+            Set<RuleViolation> violations) {
         EventHelper.fireEvent(EventType.PARSE_START, eventHandlers);
+        long buildStart = System.nanoTime();
+        var jfrEvent = new ParseJfrEvent();
+        jfrEvent.start();
         Launcher launcher = new Launcher();
         launcher.addInputResource(inputDir.toString());
-        CtModel model = initLauncher(launcher).getModel();
+        CtModel model = initLauncher(launcher, classpath).getModel();
+        EventHelper.fireEvent(
+                PhaseEvent.endingNow(Phase.MODEL_BUILD, inputDir.toString(), buildStart),
+                eventHandlers);
+        jfrEvent.setFileCount(model).finish();
         EventHelper.fireEvent(EventType.PARSE_END, eventHandlers);
 
-        repairModelWithInitializedProcessor(model, processor, violations);
+        repairModelWithInitializedProcessors(model, processors, violations);
         return model;
     }
 
     CtModel mavenRepair(
-            Path inputDir, SoraldAbstractProcessor<?> processor, Set<RuleViolation> violations) {
+            Path inputDir,
+            List<SoraldAbstractProcessor<?>> processors,
+            Set<RuleViolation> violations) {
         EventHelper.fireEvent(EventType.PARSE_START, eventHandlers);
-        MavenLauncher launcher =
-                new MavenLauncher(inputDir.toString(), MavenLauncher.SOURCE_TYPE.ALL_SOURCE);
-        CtModel model = initLauncher(launcher).getModel();
+        long buildStart = System.nanoTime();
+        var jfrEvent = new ParseJfrEvent();
+        jfrEvent.start();
+        // the launcher's own classpath is replaced by the given classpath if there is one, so
+        // Maven only needs to resolve it if there is none
+        MavenLauncher launcher = MavenUtils.createLauncher(inputDir, classpath);
+        CtModel model = initLauncher(launcher, classpath).getModel();
+        EventHelper.fireEvent(
+                PhaseEvent.endingNow(Phase.MODEL_BUILD, inputDir.toString(), buildStart),
+                eventHandlers);
+        jfrEvent.setFileCount(model).finish();
         EventHelper.fireEvent(EventType.PARSE_END, eventHandlers);
 
-        repairModelWithInitializedProcessor(model, processor, violations);
+        repairModelWithInitializedProcessors(model, processors, violations);
         return model;
     }
 
@@ -153,28 +241,118 @@ public class Repair {
             SoraldAbstractProcessor<?> processor,
             Set<RuleViolation> violations,
             Function<LinkedList<Node>, CtModel> parseSegment) {
-        Node rootNode = SoraldTreeBuilderAlgorithm.buildTree(inputDir.toString());
-        LinkedList<LinkedList<Node>> segments =
-                FirstFitSegmentationAlgorithm.segment(rootNode, config.getMaxFilesPerSegment());
-
-        return segments.stream()
-                .map(
-                        segment -> {
-                            try {
-                                EventHelper.fireEvent(EventType.PARSE_START, eventHandlers);
-                                CtModel model = parseSegment.apply(segment);
-                                EventHelper.fireEvent(EventType.PARSE_END, eventHandlers);
-
-                                repairModelWithInitializedProcessor(model, processor, violations);
-                                return model;
-                            } catch (Exception e) {
-                                reportSegmentCrash(segment, e);
-                                e.printStackTrace();
-                                return null;
-                            }
-                        })
-                .filter(Objects::nonNull)
-                .takeWhile(model -> processor.getNbFixes() < config.getMaxFixesPerRule());
+        return segmentRepair(inputDir, List.of(processor), violations, parseSegment);
+    }
+
+    Stream<CtModel> segmentRepair(
+            Path inputDir,
+            List<SoraldAbstractProcessor<?>> processors,
+            Set<RuleViolation> violations,
+            Function<LinkedList<Node>, CtModel> parseSegment) {
+        LinkedList<LinkedList<Node>> segments = segment(inputDir, violations);
+        var pipeline =
+                new SegmentPipeline(config.getSegmentThreads(), config.getMaxSegmentsInMemory());
+        BooleanSupplier hasRemainingFixes =
+                () ->
+                        processors.stream()
+                                .anyMatch(
+                                        processor ->
+                                                processor.getNbFixes()
+                                                        < config.getMaxFixesPerRule());
+
+        return pipeline.parse(segments, parseSegment, hasRemainingFixes)
+                .map(parsed -> repairSegment(parsed, processors, violations))
+                .filter(Objects::nonNull);
+    }
+
+    /** @return The repaired model of the segment, or null if the segment could not be repaired. */
+    private CtModel repairSegment(
+            ParsedSegment parsed,
+            List<SoraldAbstractProcessor<?>> processors,
+            Set<RuleViolation> violations) {
+        try {
+            // with parsing running ahead in the background, the parse time is the time that
+            // repairs are blocked waiting for the segment
+            EventHelper.fireEvent(EventType.PARSE_START, eventHandlers);
+            CtModel model;
+            try {
+                model = parsed.awaitModel();
+            } catch (OutOfMemoryError e) {
+                // the parts of a split segment are awaited in parses of their own
+                EventHelper.fireEvent(EventType.PARSE_END, eventHandlers);
+                retryAsSplitSegment(parsed, e);
+                return null;
+            }
+            // the model is built on a worker thread, so its span is reported once handed out
+            EventHelper.fireEvent(
+                    new PhaseEvent(
+                            Phase.MODEL_BUILD,
+                            describeSegment(parsed.getSegment()),
+                            parsed.getParseNanos()),
+                    eventHandlers);
+            EventHelper.fireEvent(EventType.PARSE_END, eventHandlers);
+
+            segmentId = parsed.getId();
+            repairModelWithInitializedProcessors(model, processors, violations);
+            return model;
+        } catch (Exception e) {
+            reportSegmentCrash(parsed.getSegment(), e);
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Segment the input directory. Only the first-fit strategies need the tree of the entire
+     * directory, while violated files are segmented from the violations alone.
+     */
+    private LinkedList<LinkedList<Node>> segment(Path inputDir, Set<RuleViolation> violations) {
+        switch (config.getSegmentationStrategy()) {
+            case FILE_COUNT:
+                return FirstFitSegmentationAlgorithm.segment(
+                        SoraldTreeBuilderAlgorithm.buildTree(inputDir.toString()),
+                        config.getMaxFilesPerSegment());
+            case SOURCE_SIZE:
+                long maxSourceBytes =
+                        FirstFitSegmentationAlgorithm.maxSourceBytesPerSegment(
+                                Runtime.getRuntime().maxMemory(),
+                                config.getMaxSegmentsInMemory(),
+                                config.getHeapBytesPerSourceByte());
+                return FirstFitSegmentationAlgorithm.segmentBySourceSize(
+                        SoraldTreeBuilderAlgorithm.buildTree(inputDir.toString()), maxSourceBytes);
+            case VIOLATED_FILES:
+                return ViolationSegmentationAlgorithm.segment(
+                        violations, config.getMaxFilesPerSegment());
+            default:
+                throw new IllegalStateException(
+                        "unknown segmentation strategy: " + config.getSegmentationStrategy());
+        }
+    }
+
+    /**
+     * Running out of memory while parsing a segment leaves the parse to be garbage collected, so
+     * the segment can be retried in smaller parts. Only a segment that consists of a single file
+     * is reported as a crash.
+     */
+    private void retryAsSplitSegment(ParsedSegment parsed, OutOfMemoryError e) {
+        List<LinkedList<Node>> parts = FirstFitSegmentationAlgorithm.split(parsed.getSegment());
+        if (parts.size() > 1) {
+            parsed.retryAs(parts);
+        } else {
+            reportSegmentCrash(parsed.getSegment(), new IllegalStateException(e));
+        }
+    }
+
+    /** @return A short description of the segment, for labeling metrics. */
+    private static String describeSegment(LinkedList<Node> segment) {
+        Node first = segment.getFirst();
+        String firstPath =
+                first.isDirNode() || first.getJavaFiles().isEmpty()
+                        ? first.getRootPath()
+                        : first.getJavaFiles().get(0);
+        return segment.size() == 1
+                ? firstPath
+                : String.format("%s and %d more", firstPath, segment.size() - 1);
     }
 
     private void reportSegmentCrash(LinkedList<Node> segment, Exception e) {
@@ -189,71 +367,138 @@ public class Repair {
         EventHelper.fireEvent(new CrashEvent("Crash in segment: " + paths, e), eventHandlers);
     }
 
-    private void repairModelWithInitializedProcessor(
-            CtModel model, SoraldAbstractProcessor<?> processor, Set<RuleViolation> violations) {
+    private void repairModelWithInitializedProcessors(
+            CtModel model,
+            List<SoraldAbstractProcessor<?>> processors,
+            Set<RuleViolation> violations) {
         EventHelper.fireEvent(EventType.REPAIR_START, eventHandlers);
-        var bestFits = new IdentityHashMap<CtElement, RuleViolation>();
-        model.getAllModules().stream()
-                .map(module -> BestFitScanner.calculateBestFits(module, violations, processor))
-                .flatMap(m -> m.entrySet().stream())
-                .forEach(entry -> bestFits.put(entry.getKey(), entry.getValue()));
-        processor.setBestFits(bestFits);
+        Map<String, Set<RuleViolation>> keyToViolations =
+                violations.stream()
+                        .collect(
+                                Collectors.groupingBy(
+                                        RuleViolation::getRuleKey, Collectors.toSet()));
 
         Factory factory = model.getUnnamedModule().getFactory();
         ProcessingManager processingManager = new QueueProcessingManager(factory);
-        processingManager.addProcessor(processor);
+        // only the violations of the given processors' rules are repaired
+        int repairedViolationCount = 0;
+        for (SoraldAbstractProcessor<?> processor : processors) {
+            Set<RuleViolation> processorViolations =
+                    keyToViolations.getOrDefault(processor.getRuleKey(), Set.of());
+            repairedViolationCount += processorViolations.size();
+            long bestFitStart = System.nanoTime();
+            var bestFitJfrEvent = new BestFitJfrEvent();
+            bestFitJfrEvent.start();
+            var bestFits = new IdentityHashMap<CtElement, RuleViolation>();
+            model.getAllModules().stream()
+                    .map(
+                            module ->
+                                    BestFitScanner.calculateBestFits(
+                                            module, processorViolations, processor))
+                    .flatMap(m -> m.entrySet().stream())
+                    .forEach(entry -> bestFits.put(entry.getKey(), entry.getValue()));
+            EventHelper.fireEvent(
+                    PhaseEvent.endingNow(Phase.BEST_FIT, processor.getRuleKey(), bestFitStart),
+                    eventHandlers);
+            bestFitJfrEvent
+                    .setRuleKey(processor.getRuleKey())
+                    .setSegmentId(segmentId)
+                    .setViolationCount(processorViolations.size())
+                    .finish();
+            processor.setBestFits(bestFits);
+            processingManager.addProcessor(processor);
+        }
+        var repairJfrEvent = new RepairJfrEvent();
+        repairJfrEvent.start();
         processingManager.process(factory.Class().getAll());
+        repairJfrEvent
+                .setRuleKey(
+                        processors.stream()
+                                .map(SoraldAbstractProcessor::getRuleKey)
+                                .collect(Collectors.joining(",")))
+                .setSegmentId(segmentId)
+                .setFileCount(model)
+                .setViolationCount(repairedViolationCount)
+                .finish();
         EventHelper.fireEvent(EventType.REPAIR_END, eventHandlers);
     }
 
     Launcher createSegmentLauncher(List<Node> segment) {
         Launcher launcher = new Launcher();
 
+        List<Path> files = new ArrayList<>();
         for (Node node : segment) {
             if (node.isDirNode()) {
                 launcher.addInputResource(node.getRootPath());
             } else {
                 for (String file : node.getJavaFiles()) {
                     launcher.addInputResource(file);
+                    files.add(Path.of(file));
                 }
             }
         }
-        return initLauncher(launcher);
-    }
 
-    private void overwriteCompilationUnit(CtCompilationUnit cu) {
-        List<CtType<?>> typesToPrint =
-                cu.getDeclaredTypes().stream()
-                        .filter(CtType::isTopLevel)
-                        .collect(Collectors.toList());
-        Path sourcePath = cu.getPosition().getFile().toPath();
-
-        String output =
-                cu.getFactory()
-                        .getEnvironment()
-                        .createPrettyPrinter()
-                        .printTypes(typesToPrint.toArray(CtType[]::new));
+        if (config.getSegmentationStrategy() == SegmentationStrategy.VIOLATED_FILES) {
+            // the compiler loads source files that are referenced but not part of the segment
+            // from the source roots
+            List<String> segmentClasspath = new ArrayList<>(classpath);
+            ViolationSegmentationAlgorithm.findSourceRoots(files).stream()
+                    .map(Path::toString)
+                    .forEach(segmentClasspath::add);
+            return initLauncher(launcher, segmentClasspath);
+        }
+        return initLauncher(launcher, classpath);
+    }
 
-        // we overwrite the source
-        writeToFile(sourcePath, output);
+    /**
+     * Print the top-level types of a compilation unit with the pretty-printer of its environment.
+     *
+     * @param cu A compilation unit.
+     * @return The printed source code of the compilation unit.
+     */
+    static String printCompilationUnit(CtCompilationUnit cu) {
+        return printTopLevelTypes(cu, cu.getFactory().getEnvironment().createPrettyPrinter());
     }
 
-    private static void writeToFile(Path filepath, String output) {
-        File dir = filepath.getParent().toFile();
-        if (!(dir.isDirectory() || dir.mkdirs())) {
-            throw new IllegalStateException("could not create directory '" + dir + "'");
+    /**
+     * Apply the preprocessors of the pretty-printer of its environment to a compilation unit. The
+     * preprocessors modify the model, so this must not run concurrently with the preprocessing or
+     * printing of any other compilation unit of the same model.
+     *
+     * @param cu A compilation unit.
+     */
+    static void preprocessCompilationUnit(CtCompilationUnit cu) {
+        PrettyPrinter printer = cu.getFactory().getEnvironment().createPrettyPrinter();
+        if (printer instanceof DefaultJavaPrettyPrinter) {
+            ((DefaultJavaPrettyPrinter) printer).applyPreProcessors(cu);
         }
+    }
 
-        try {
-            Files.writeString(filepath, output);
-        } catch (IOException e) {
-            // must convert to a runtime exception as this is used in writeModel, which in turn
-            // is used in a stream (that can't have checked exceptions)
-            throw new RuntimeException(e);
+    /**
+     * Print the top-level types of a compilation unit that has already been preprocessed with
+     * {@link #preprocessCompilationUnit(CtCompilationUnit)}. The model is only read, so
+     * preprocessed compilation units of the same model can be printed concurrently.
+     *
+     * @param cu A preprocessed compilation unit.
+     * @return The printed source code of the compilation unit.
+     */
+    static String printPreprocessedCompilationUnit(CtCompilationUnit cu) {
+        PrettyPrinter printer = cu.getFactory().getEnvironment().createPrettyPrinter();
+        if (printer instanceof DefaultJavaPrettyPrinter) {
+            ((DefaultJavaPrettyPrinter) printer).setPreprocessors(List.of());
         }
+        return printTopLevelTypes(cu, printer);
+    }
+
+    private static String printTopLevelTypes(CtCompilationUnit cu, PrettyPrinter printer) {
+        List<CtType<?>> typesToPrint =
+                cu.getDeclaredTypes().stream()
+                        .filter(CtType::isTopLevel)
+                        .collect(Collectors.toList());
+        return printer.printTypes(typesToPrint.toArray(CtType[]::new));
     }
 
-    private Launcher initLauncher(Launcher launcher) {
+    private Launcher initLauncher(Launcher launcher, List<String> classpath) {
         Environment env = launcher.getEnvironment();
         env.setIgnoreDuplicateDeclarations(true);
         env.setComplianceLevel(Constants.DEFAULT_COMPLIANCE_LEVEL);
@@ -271,6 +516,9 @@ public class Repair {
         // data from the model
         CtModel model = launcher.buildModel();
 
+        // must be attached after building the model, which attaches the change collector of the
+        // sniper printer
+        TypeReferenceIndex.of(model).attachTo(env);
         setPrettyPrinter(env, model);
         return launcher;
     }
@@ -287,15 +535,16 @@ public class Repair {
 
     private static Supplier<PrettyPrinter> applyCommonPrinterOptions(
             Supplier<? extends DefaultJavaPrettyPrinter> prettyPrinterCreator, CtModel model) {
-        Collection<CtTypeReference<?>> existingReferences = model.getElements(e -> true);
-        List<Processor<CtElement>> preprocessors =
-                List.of(
-                        new SelectiveForceImport(existingReferences),
-                        new ImportConflictDetector(),
-                        new ImportCleaner().setImportComparator(new DefaultImportComparator()));
+        TypeReferenceIndex referenceIndex = TypeReferenceIndex.of(model);
         return () -> {
             DefaultJavaPrettyPrinter printer = prettyPrinterCreator.get();
             printer.setIgnoreImplicit(false);
+            // the preprocessors keep state while processing, so each printer gets its own
+            List<Processor<CtElement>> preprocessors =
+                    List.of(
+                            new SelectiveForceImport(referenceIndex),
+                            new ImportConflictDetector(),
+                            new ImportCleaner().setImportComparator(new DefaultImportComparator()));
             printer.setPreprocessors(preprocessors);
             return printer;
         };
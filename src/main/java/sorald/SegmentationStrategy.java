@@ -0,0 +1,7 @@
+package sorald;
+
+public enum SegmentationStrategy {
+    FILE_COUNT,
+    SOURCE_SIZE,
+    VIOLATED_FILES
+}
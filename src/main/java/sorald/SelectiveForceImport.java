@@ -1,7 +1,8 @@
 package sorald;
 
-import java.util.Collection;
-import java.util.IdentityHashMap;
+import java.util.Set;
+import spoon.reflect.declaration.CtCompilationUnit;
+import spoon.reflect.declaration.CtElement;
 import spoon.reflect.path.CtRole;
 import spoon.reflect.reference.CtTypeReference;
 import spoon.reflect.visitor.ForceImportProcessor;
@@ -12,20 +13,34 @@ import spoon.reflect.visitor.LexicalScope;
  * references.
  */
 public class SelectiveForceImport extends ForceImportProcessor {
+    private final TypeReferenceIndex referenceIndex;
+
     // use identity rather than equality to identify existing references to avoid mistaking clones
     // for originals
-    private final IdentityHashMap<CtTypeReference<?>, Boolean> excludedReferences;
+    private Set<CtTypeReference<?>> excludedReferences = Set.of();
+
+    /**
+     * @param referenceIndex An index of the references to ignore when force-importing. The
+     *     references of the compilation unit being processed are looked up in it.
+     */
+    public SelectiveForceImport(TypeReferenceIndex referenceIndex) {
+        this.referenceIndex = referenceIndex;
+    }
 
-    /** @param referencesToIgnore A collection of references to ignore when force-importing. */
-    public SelectiveForceImport(Collection<CtTypeReference<?>> referencesToIgnore) {
-        excludedReferences = new IdentityHashMap<>();
-        referencesToIgnore.forEach(ref -> excludedReferences.put(ref, true));
+    @Override
+    public void process(CtElement element) {
+        CtCompilationUnit cu =
+                element instanceof CtCompilationUnit
+                        ? (CtCompilationUnit) element
+                        : element.getPosition().getCompilationUnit();
+        excludedReferences = cu == null ? Set.of() : referenceIndex.getReferences(cu);
+        super.process(element);
     }
 
     @Override
     protected void handleTypeReference(
             CtTypeReference<?> reference, LexicalScope nameScope, CtRole role) {
-        if (!excludedReferences.containsKey(reference)) {
+        if (!excludedReferences.contains(reference)) {
             super.handleTypeReference(reference, nameScope, role);
         }
     }
@@ -1,8 +1,10 @@
 package sorald;
 
 import java.io.File;
+import java.io.OutputStream;
 import java.nio.file.Paths;
 import java.util.Optional;
+import sorald.segment.FirstFitSegmentationAlgorithm;
 
 /* All config settings of Sorald should be gathered here */
 public class SoraldConfig {
@@ -11,6 +13,15 @@ public class SoraldConfig {
     private String source;
     private int maxFixesPerRule;
     private int maxFilesPerSegment;
+    private SegmentationStrategy segmentationStrategy = SegmentationStrategy.FILE_COUNT;
+    private int segmentThreads = 1;
+    private int maxSegmentsInMemory = 1;
+    private int heapBytesPerSourceByte =
+            FirstFitSegmentationAlgorithm.DEFAULT_HEAP_BYTES_PER_SOURCE_BYTE;
+    private int printThreads = 1;
+    private OutputMode outputMode = OutputMode.INPLACE;
+    private File outputPath;
+    private OutputStream standardOutput;
     private File statsOutputFile;
 
     public SoraldConfig() {}
@@ -55,6 +66,71 @@ public class SoraldConfig {
         return this.maxFilesPerSegment;
     }
 
+    public void setSegmentationStrategy(SegmentationStrategy segmentationStrategy) {
+        this.segmentationStrategy = segmentationStrategy;
+    }
+
+    public SegmentationStrategy getSegmentationStrategy() {
+        return this.segmentationStrategy;
+    }
+
+    public void setSegmentThreads(int segmentThreads) {
+        this.segmentThreads = segmentThreads;
+    }
+
+    public int getSegmentThreads() {
+        return this.segmentThreads;
+    }
+
+    public void setPrintThreads(int printThreads) {
+        this.printThreads = printThreads;
+    }
+
+    public int getPrintThreads() {
+        return this.printThreads;
+    }
+
+    public void setOutputMode(OutputMode outputMode) {
+        this.outputMode = outputMode;
+    }
+
+    public OutputMode getOutputMode() {
+        return this.outputMode;
+    }
+
+    public void setOutputPath(File outputPath) {
+        this.outputPath = outputPath;
+    }
+
+    public Optional<File> getOutputPath() {
+        return Optional.ofNullable(outputPath);
+    }
+
+    /** @param standardOutput Stream to write output to in place of {@link System#out}. */
+    public void setStandardOutput(OutputStream standardOutput) {
+        this.standardOutput = standardOutput;
+    }
+
+    public Optional<OutputStream> getStandardOutput() {
+        return Optional.ofNullable(standardOutput);
+    }
+
+    public void setMaxSegmentsInMemory(int maxSegmentsInMemory) {
+        this.maxSegmentsInMemory = maxSegmentsInMemory;
+    }
+
+    public int getMaxSegmentsInMemory() {
+        return this.maxSegmentsInMemory;
+    }
+
+    public void setHeapBytesPerSourceByte(int heapBytesPerSourceByte) {
+        this.heapBytesPerSourceByte = heapBytesPerSourceByte;
+    }
+
+    public int getHeapBytesPerSourceByte() {
+        return this.heapBytesPerSourceByte;
+    }
+
     public void setStatsOutputFile(File statsOutputFile) {
         this.statsOutputFile = statsOutputFile;
     }
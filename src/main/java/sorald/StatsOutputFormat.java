@@ -0,0 +1,9 @@
+package sorald;
+
+/** Format of the statistics output file. */
+public enum StatsOutputFormat {
+    /** A single JSON object that is written at the end of execution. */
+    JSON,
+    /** One JSON object per event, streamed to the file as the execution progresses. */
+    JSON_LINES
+}
@@ -0,0 +1,153 @@
+package sorald;
+
+import static sorald.support.IdentityHashSet.newIdentityHashSet;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import spoon.compiler.Environment;
+import spoon.reflect.CtModel;
+import spoon.reflect.declaration.CtCompilationUnit;
+import spoon.reflect.declaration.CtElement;
+import spoon.reflect.declaration.CtPackage;
+import spoon.reflect.declaration.CtType;
+import spoon.reflect.path.CtRole;
+import spoon.reflect.reference.CtTypeReference;
+import spoon.reflect.visitor.CtScanner;
+import spoon.reflect.visitor.filter.TypeFilter;
+import spoon.support.modelobs.ChangeCollector;
+import spoon.support.modelobs.SourceFragmentCreator;
+
+/**
+ * Index of the type references that exist in compilation units of a model, including the
+ * references of imports, such that references added by repairs can be told apart from the existing
+ * ones. A compilation unit is indexed lazily, either when its references are first looked up or
+ * right before it is first modified, so compilation units that are never touched by a repair are
+ * never scanned. The references are kept per compilation unit, so they are looked up without
+ * scanning the entire model again.
+ *
+ * <p>The index of a model is stored in the metadata of its root package, and so lives exactly as
+ * long as the model does.
+ */
+public class TypeReferenceIndex {
+    private static final String METADATA_KEY = TypeReferenceIndex.class.getName();
+
+    // use identity rather than equality, as equality of elements is structural
+    private final Map<CtCompilationUnit, Set<CtTypeReference<?>>> cuToReferences =
+            new IdentityHashMap<>();
+
+    private TypeReferenceIndex() {}
+
+    /**
+     * @param model A model.
+     * @return The reference index of the model, which is created if it does not exist yet.
+     */
+    public static TypeReferenceIndex of(CtModel model) {
+        CtPackage rootPackage = model.getRootPackage();
+        synchronized (rootPackage) {
+            Object index = rootPackage.getMetadata(METADATA_KEY);
+            if (index == null) {
+                index = new TypeReferenceIndex();
+                rootPackage.putMetadata(METADATA_KEY, index);
+            }
+            return (TypeReferenceIndex) index;
+        }
+    }
+
+    /**
+     * Attach this index to the environment of its model, such that a compilation unit is indexed
+     * right before it is first modified. The index is attached as the change collector of the
+     * environment, and a source fragment creator required by the sniper printer is preserved.
+     *
+     * @param env The environment of the model of this index, which is about to be modified.
+     */
+    public void attachTo(Environment env) {
+        ChangeCollector collector = ChangeCollector.getChangeCollector(env);
+        if (collector instanceof IndexingChangeCollector
+                || collector instanceof IndexingSourceFragmentCreator) {
+            return;
+        }
+        if (collector instanceof SourceFragmentCreator) {
+            new IndexingSourceFragmentCreator().attachTo(env);
+        } else {
+            new IndexingChangeCollector().attachTo(env);
+        }
+    }
+
+    /**
+     * Get the indexed type references of a compilation unit. A compilation unit that has not been
+     * indexed is indexed as is.
+     *
+     * @param cu A compilation unit.
+     * @return An identity hash set of the type references of the compilation unit.
+     */
+    public synchronized Set<CtTypeReference<?>> getReferences(CtCompilationUnit cu) {
+        return cuToReferences.computeIfAbsent(cu, TypeReferenceIndex::collectReferences);
+    }
+
+    /**
+     * @param cu A compilation unit.
+     * @return true if the compilation unit has been indexed.
+     */
+    synchronized boolean isIndexed(CtCompilationUnit cu) {
+        return cuToReferences.containsKey(cu);
+    }
+
+    private void indexCompilationUnitOf(CtElement element) {
+        CtCompilationUnit cu = findCompilationUnit(element);
+        if (cu != null) {
+            getReferences(cu);
+        }
+    }
+
+    /**
+     * Find the compilation unit of an element of the model. Elements that are not yet part of the
+     * model, such as those being created by a repair, do not have one.
+     */
+    private static CtCompilationUnit findCompilationUnit(CtElement element) {
+        if (element instanceof CtCompilationUnit) {
+            return (CtCompilationUnit) element;
+        }
+        CtCompilationUnit cu = element.getParent(CtCompilationUnit.class);
+        if (cu != null) {
+            return cu;
+        }
+        CtType<?> type =
+                element instanceof CtType ? (CtType<?>) element : element.getParent(CtType.class);
+        return type == null ? null : type.getTopLevelType().getPosition().getCompilationUnit();
+    }
+
+    private static Set<CtTypeReference<?>> collectReferences(CtCompilationUnit cu) {
+        Set<CtTypeReference<?>> references = newIdentityHashSet(Set.of());
+        // imports are scanned directly, as querying a compilation unit requires it to have a
+        // factory
+        new CtScanner() {
+            @Override
+            public <T> void visitCtTypeReference(CtTypeReference<T> reference) {
+                references.add(reference);
+                super.visitCtTypeReference(reference);
+            }
+        }.scan(cu.getImports());
+        for (CtType<?> type : cu.getDeclaredTypes()) {
+            references.addAll(type.getElements(new TypeFilter<>(CtTypeReference.class)));
+        }
+        return references;
+    }
+
+    /** Indexes compilation units before they change, without collecting the changes. */
+    private class IndexingChangeCollector extends ChangeCollector {
+        @Override
+        protected void onChange(CtElement currentElement, CtRole role) {
+            indexCompilationUnitOf(currentElement);
+        }
+    }
+
+    /** Indexes compilation units before they change, and collects changes for the sniper printer. */
+    private class IndexingSourceFragmentCreator extends SourceFragmentCreator {
+        @Override
+        protected void onChange(CtElement currentElement, CtRole role) {
+            indexCompilationUnitOf(currentElement);
+            super.onChange(currentElement, role);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package sorald;
+
+/** How violations specified for a targeted repair are verified to exist before repair. */
+public enum ViolationSpecVerification {
+    /** The entire project is analyzed, and each specified violation must be found. */
+    PROJECT,
+    /** Only the files of the specified violations are analyzed, and each must be found. */
+    FILES,
+    /** Nothing is analyzed, and the specified violations are repaired as they are. */
+    TRUSTED
+}
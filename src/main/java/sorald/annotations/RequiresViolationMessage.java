@@ -0,0 +1,14 @@
+package sorald.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+/**
+ * Annotation to mark that a processor needs the message of the analyzer for each violation it
+ * repairs, such that it can't repair violations that are only known by their location.
+ */
+public @interface RequiresViolationMessage {}
@@ -1,9 +1,22 @@
 package sorald.cli;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
 import java.util.concurrent.Callable;
 import picocli.CommandLine;
 import sorald.Constants;
+import sorald.StatsOutputFormat;
+import sorald.event.StatsMetadataKeys;
+import sorald.event.collectors.JsonLinesStatisticsWriter;
+import sorald.event.jfr.SoraldJfrEvent;
+import sorald.event.models.ExecutionInfo;
+import sorald.sonar.ScanOptions;
+import sorald.sonar.ViolationCache;
+import sorald.util.ClasspathCache;
+import sorald.util.GitUtils;
+import sorald.util.MavenUtils;
 
 /** Base command containing the options in common for all Sorald subcommands. */
 @CommandLine.Command()
@@ -22,9 +35,186 @@ abstract class BaseCommand implements Callable<Integer> {
                     "Path to a file to store execution statistics in (in JSON format). If left unspecified, Sorald does not gather statistics.")
     File statsOutputFile;
 
+    @CommandLine.Option(
+            names = Constants.ARG_STATS_OUTPUT_FORMAT,
+            description =
+                    "Format of the statistics file: 'JSON', which writes a single JSON object at the end of execution, and 'JSON_LINES', which streams one JSON object per event to the file as execution progresses. JSON_LINES does not keep events in memory, and leaves partial statistics if execution crashes.")
+    StatsOutputFormat statsOutputFormat = StatsOutputFormat.JSON;
+
     @CommandLine.Option(
             names = Constants.ARG_RESOLVE_CLASSPATH_FROM,
             description =
                     "Path to the root of a project to resolve the classpath from. Currently only works for Maven projects.")
     File resolveClasspathFrom;
+
+    @CommandLine.Option(
+            names = Constants.ARG_CLASSPATH_CACHE_DIR,
+            description =
+                    "Path to a directory to cache resolved Maven classpaths in, such that Maven is only invoked again after a pom file of the project changes. If left unspecified, sorald/classpath in the user cache directory ($XDG_CACHE_HOME or ~/.cache) is used.")
+    File classpathCacheDir;
+
+    @CommandLine.Option(
+            names = Constants.ARG_NO_CLASSPATH_CACHE,
+            description =
+                    "Always resolve Maven classpaths with Maven, without reading or writing the classpath cache.")
+    boolean noClasspathCache;
+
+    @CommandLine.Option(
+            names = Constants.ARG_ANALYSIS_THREADS,
+            description =
+                    "Amount of threads to use for the Sonar analysis. The analyzed files are split into one shard per thread.")
+    int analysisThreads = 1;
+
+    @CommandLine.Option(
+            names = Constants.ARG_VIOLATION_CACHE_DIR,
+            description =
+                    "Path to a directory to cache violations in. Files whose content, analyzed rules and classpath are unchanged since a previous analysis have their violations replayed from the cache instead of being analyzed.")
+    File violationCacheDir;
+
+    @CommandLine.Option(
+            names = Constants.ARG_CHANGED_SINCE,
+            description =
+                    "A git revision (e.g. a commit hash, branch or HEAD~1). Only Java files that have changed since the revision, including uncommitted changes, are analyzed. The source must be in a git repository. "
+                            + "When repairing, the changed files are repaired with the SEGMENT repair strategy and the VIOLATED_FILES segmentation strategy, which can't be combined with other strategies.")
+    String changedSince;
+
+    @CommandLine.Option(
+            names = Constants.ARG_JFR,
+            description =
+                    "Emit Java Flight Recorder events for the parse, analyze, best-fit, repair, print and mine phases. The events are captured by any running recording, such as one started with -XX:StartFlightRecording.")
+    boolean jfr;
+
+    private PrintStream out;
+    private PrintStream err;
+    private File defaultViolationCacheDir;
+
+    /**
+     * Set the streams that the command prints its output to, in place of the standard streams.
+     *
+     * @param out Stream for regular output.
+     * @param err Stream for warnings and errors.
+     */
+    void setOutputStreams(PrintStream out, PrintStream err) {
+        this.out = out;
+        this.err = err;
+    }
+
+    /**
+     * Set the violation cache directory to use when none is given with {@link
+     * Constants#ARG_VIOLATION_CACHE_DIR}.
+     *
+     * @param defaultViolationCacheDir A violation cache directory, or null for none.
+     */
+    void setDefaultViolationCacheDir(File defaultViolationCacheDir) {
+        this.defaultViolationCacheDir = defaultViolationCacheDir;
+    }
+
+    /** @return The stream for regular output, which is stdout unless set otherwise. */
+    PrintStream getOut() {
+        return out == null ? System.out : out;
+    }
+
+    /** @return The stream for warnings and errors, which is stderr unless set otherwise. */
+    PrintStream getErr() {
+        return err == null ? System.err : err;
+    }
+
+    /**
+     * @return Options for scanning files with the analysis threads and the violation cache
+     *     directory, or the default one, if any. The git revision to scan changed files since is left unset, as it only
+     *     applies to scanning the source of the command.
+     */
+    ScanOptions createScanOptions() {
+        File cacheDir = violationCacheDir != null ? violationCacheDir : defaultViolationCacheDir;
+        return new ScanOptions()
+                .setAnalysisThreads(analysisThreads)
+                .setViolationCache(cacheDir == null ? null : new ViolationCache(cacheDir.toPath()));
+    }
+
+    /**
+     * @return The classpath cache in the classpath cache directory, or null if the classpath cache
+     *     is disabled.
+     */
+    ClasspathCache getClasspathCache() {
+        if (noClasspathCache) {
+            return null;
+        }
+        return MavenUtils.getClasspathCache(
+                classpathCacheDir != null
+                        ? classpathCacheDir.toPath()
+                        : MavenUtils.getDefaultClasspathCacheDir());
+    }
+
+    /** @return Information about the current execution, for the statistics output. */
+    ExecutionInfo createExecutionInfo() {
+        return new ExecutionInfo(
+                spec.commandLine().getParseResult().originalArgs(),
+                SoraldVersionProvider.getVersionFromPropertiesResource(
+                        SoraldVersionProvider.DEFAULT_RESOURCE_NAME),
+                System.getProperty(Constants.JAVA_VERSION_SYSTEM_PROPERTY),
+                target);
+    }
+
+    /**
+     * Create a writer that streams statistics to the statistics output file, starting with
+     * information about the current execution.
+     *
+     * @param projectPath Root path of the project, which locations in the statistics are relative
+     *     to.
+     * @return A statistics writer, or null if statistics are not to be streamed.
+     * @throws IOException If the statistics output file can't be opened for writing.
+     */
+    JsonLinesStatisticsWriter createStatsWriter(Path projectPath) throws IOException {
+        if (statsOutputFile == null || statsOutputFormat != StatsOutputFormat.JSON_LINES) {
+            return null;
+        }
+        var statsWriter = new JsonLinesStatisticsWriter(statsOutputFile.toPath(), projectPath);
+        statsWriter.writeRecord(StatsMetadataKeys.EXECUTION_INFO, createExecutionInfo());
+        return statsWriter;
+    }
+
+    /**
+     * Start emitting Java Flight Recorder events if requested. Emitting is never turned off again,
+     * as a daemon may serve other requests that emit events concurrently.
+     */
+    void enableJfrEventsIfRequested() {
+        if (jfr) {
+            SoraldJfrEvent.setEmitting(true);
+        }
+    }
+
+    /** Perform validation of the options in common for all Sorald subcommands. */
+    void validateBaseArgs() {
+        if (analysisThreads <= 0) {
+            throw new CommandLine.ParameterException(
+                    spec.commandLine(), Constants.ARG_ANALYSIS_THREADS + " must be greater than 0");
+        }
+
+        if (noClasspathCache && classpathCacheDir != null) {
+            throw new CommandLine.ParameterException(
+                    spec.commandLine(),
+                    String.format(
+                            "%s can't be used with %s",
+                            Constants.ARG_CLASSPATH_CACHE_DIR, Constants.ARG_NO_CLASSPATH_CACHE));
+        }
+    }
+
+    /**
+     * Validate that the revision given with {@link Constants#ARG_CHANGED_SINCE}, if any, can be
+     * resolved in the git repository of the source.
+     *
+     * @param source The source of the command.
+     */
+    void validateChangedSince(File source) {
+        if (changedSince == null) {
+            return;
+        }
+        if (source == null || !GitUtils.isResolvableRevision(source.toPath(), changedSince)) {
+            throw new CommandLine.ParameterException(
+                    spec.commandLine(),
+                    String.format(
+                            "%s requires the source to be in a git repository with revision '%s'",
+                            Constants.ARG_CHANGED_SINCE, changedSince));
+        }
+    }
 }
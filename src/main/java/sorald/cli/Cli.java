@@ -1,5 +1,8 @@
 package sorald.cli;
 
+import java.io.File;
+import java.io.PrintStream;
+import java.io.PrintWriter;
 import java.util.concurrent.Callable;
 import picocli.CommandLine;
 
@@ -9,22 +12,57 @@ public class Cli {
 
     /** @return Sorald's command line interface. */
     public static CommandLine createCli() {
-        return new CommandLine(new SoraldCLI());
+        return new CommandLine(new SoraldCLI()).setCaseInsensitiveEnumValuesAllowed(true);
+    }
+
+    /**
+     * Create Sorald's command line interface with all output, including that of the commands
+     * themselves, printed to the given streams rather than to the standard streams.
+     *
+     * @param out Stream for regular output.
+     * @param err Stream for warnings and errors.
+     * @return Sorald's command line interface.
+     */
+    public static CommandLine createCli(PrintStream out, PrintStream err) {
+        return createCli(out, err, null);
+    }
+
+    /**
+     * Create Sorald's command line interface with all output printed to the given streams, and
+     * with a violation cache directory that commands use unless one is given on the command line.
+     *
+     * @param out Stream for regular output.
+     * @param err Stream for warnings and errors.
+     * @param defaultViolationCacheDir Violation cache directory to use by default, or null for none.
+     * @return Sorald's command line interface.
+     */
+    static CommandLine createCli(PrintStream out, PrintStream err, File defaultViolationCacheDir) {
+        CommandLine cli =
+                createCli().setOut(new PrintWriter(out, true)).setErr(new PrintWriter(err, true));
+        for (CommandLine subcommand : cli.getSubcommands().values()) {
+            if (subcommand.getCommand() instanceof BaseCommand) {
+                var command = (BaseCommand) subcommand.getCommand();
+                command.setOutputStreams(out, err);
+                command.setDefaultViolationCacheDir(defaultViolationCacheDir);
+            }
+        }
+        return cli;
     }
 
     @CommandLine.Command(
             name = "sorald",
             mixinStandardHelpOptions = true,
-            subcommands = {RepairCommand.class, MineCommand.class},
+            subcommands = {RepairCommand.class, MineCommand.class, ServeCommand.class},
             description =
                     "The Sorald command line application for automatic repair of Sonar rule violations.",
             synopsisSubcommandLabel = "<COMMAND>",
             versionProvider = SoraldVersionProvider.class)
     static class SoraldCLI implements Callable<Integer> {
+        @CommandLine.Spec CommandLine.Model.CommandSpec spec;
 
         @Override
         public Integer call() {
-            new CommandLine(this).usage(System.out);
+            spec.commandLine().usage(spec.commandLine().getOut());
             return -1;
         }
     }
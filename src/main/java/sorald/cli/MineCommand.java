@@ -1,6 +1,7 @@
 package sorald.cli;
 
 import java.io.File;
+import java.io.IOException;
 import java.nio.file.Files;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -8,13 +9,16 @@ import picocli.CommandLine;
 import sorald.Constants;
 import sorald.FileUtils;
 import sorald.Processors;
+import sorald.event.SoraldEventHandler;
 import sorald.event.StatsMetadataKeys;
+import sorald.event.collectors.JsonLinesStatisticsWriter;
 import sorald.event.collectors.MinerStatisticsCollector;
-import sorald.event.models.ExecutionInfo;
+import sorald.event.collectors.PhaseMetricsCollector;
 import sorald.miner.MineSonarWarnings;
 import sorald.rule.Rule;
 import sorald.rule.RuleType;
 import sorald.rule.Rules;
+import sorald.support.CanonicalPaths;
 import sorald.util.MavenUtils;
 
 /** CLI Command for Sorald's mining functionality. */
@@ -49,6 +53,12 @@ class MineCommand extends BaseCommand {
             description = "The path to the temp directory.")
     File tempDir;
 
+    @CommandLine.Option(
+            names = Constants.ARG_REPO_THREADS,
+            description =
+                    "Amount of git repos to clone and mine concurrently. Each repo is shallowly cloned into its own directory inside of the temp directory.")
+    int repoThreads = 1;
+
     @CommandLine.Option(
             names = {Constants.ARG_RULE_TYPES},
             description =
@@ -64,46 +74,93 @@ class MineCommand extends BaseCommand {
 
     @Override
     public Integer call() throws Exception {
+        // paths are interned for the duration of the command only
+        CanonicalPaths.Run pathsRun = CanonicalPaths.internForRun();
+        try (pathsRun) {
+            return callWithInternedPaths();
+        }
+    }
+
+    private int callWithInternedPaths() throws Exception {
         validateArgs();
+        enableJfrEventsIfRequested();
 
         List<Rule> checks = inferRules(ruleTypes, handledRules);
 
-        var statsCollector = new MinerStatisticsCollector();
         List<String> classpath =
                 resolveClasspathFrom != null
-                        ? MavenUtils.resolveClasspath(resolveClasspathFrom.toPath())
+                        ? MavenUtils.resolveClasspath(
+                                resolveClasspathFrom.toPath(), getClasspathCache())
                         : List.of();
 
+        File projectRoot = statsOnGitRepos ? tempDir : FileUtils.getClosestDirectory(source);
+        var metricsCollector = new PhaseMetricsCollector();
+        try (JsonLinesStatisticsWriter statsWriter =
+                createStatsWriter(projectRoot.toPath().toAbsolutePath().normalize())) {
+            if (statsWriter != null) {
+                mine(checks, classpath, List.of(statsWriter, metricsCollector));
+                statsWriter.writePhaseMetrics(metricsCollector);
+            } else {
+                var statsCollector = new MinerStatisticsCollector();
+                mine(
+                        checks,
+                        classpath,
+                        statsOutputFile == null
+                                ? List.of()
+                                : List.of(statsCollector, metricsCollector));
+                if (statsOutputFile != null) {
+                    FileUtils.writeJSON(
+                            statsOutputFile,
+                            statsCollector,
+                            Map.of(
+                                    StatsMetadataKeys.EXECUTION_INFO,
+                                    createExecutionInfo(),
+                                    StatsMetadataKeys.PHASE_METRICS,
+                                    metricsCollector.getPhaseMetrics()));
+                }
+            }
+        }
+
+        return 0;
+    }
+
+    private void mine(
+            List<Rule> checks, List<String> classpath, List<SoraldEventHandler> eventHandlers)
+            throws IOException {
         var miner =
                 new MineSonarWarnings(
-                        statsOutputFile == null ? List.of() : List.of(statsCollector), classpath);
+                        eventHandlers,
+                        classpath,
+                        createScanOptions().setChangedSince(changedSince));
 
         if (statsOnGitRepos) {
             List<String> reposList = Files.readAllLines(this.reposList.toPath());
-            miner.mineGitRepos(checks, minerOutputFile.getAbsolutePath(), reposList, tempDir);
+            miner.mineGitRepos(
+                    checks, minerOutputFile.getAbsolutePath(), reposList, tempDir, repoThreads);
         } else {
-            miner.mineLocalProject(checks, source.toPath().normalize().toAbsolutePath().toString());
-        }
-
-        if (statsOutputFile != null) {
-            Map<String, Object> additionalStatData =
-                    Map.of(
-                            StatsMetadataKeys.EXECUTION_INFO,
-                            new ExecutionInfo(
-                                    spec.commandLine().getParseResult().originalArgs(),
-                                    SoraldVersionProvider.getVersionFromPropertiesResource(
-                                            SoraldVersionProvider.DEFAULT_RESOURCE_NAME),
-                                    System.getProperty(Constants.JAVA_VERSION_SYSTEM_PROPERTY),
-                                    target));
-
-            FileUtils.writeJSON(statsOutputFile, statsCollector, additionalStatData);
+            miner.mineLocalProject(
+                    checks, source.toPath().normalize().toAbsolutePath().toString(), getOut());
         }
-
-        return 0;
     }
 
     /** Perform validation on the parsed arguments. */
     private void validateArgs() {
+        validateBaseArgs();
+
+        if (statsOnGitRepos && changedSince != null) {
+            throw new CommandLine.ParameterException(
+                    spec.commandLine(),
+                    String.format(
+                            "%s can't be used with %s, as repos are shallowly cloned",
+                            Constants.ARG_CHANGED_SINCE, Constants.ARG_STATS_ON_GIT_REPOS));
+        }
+        validateChangedSince(source);
+
+        if (repoThreads <= 0) {
+            throw new CommandLine.ParameterException(
+                    spec.commandLine(), Constants.ARG_REPO_THREADS + " must be greater than 0");
+        }
+
         if (resolveClasspathFrom != null
                 && !MavenUtils.isMavenProjectRoot(resolveClasspathFrom.toPath())) {
             throw new CommandLine.ParameterException(
@@ -2,34 +2,49 @@ package sorald.cli;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.PrintStream;
 import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import org.json.JSONException;
 import picocli.CommandLine;
 import sorald.Constants;
 import sorald.FileUtils;
+import sorald.OutputMode;
 import sorald.PrettyPrintingStrategy;
 import sorald.Processors;
 import sorald.Repair;
 import sorald.RepairStrategy;
+import sorald.SegmentationStrategy;
 import sorald.SoraldConfig;
+import sorald.ViolationSpecVerification;
+import sorald.annotations.RequiresViolationMessage;
 import sorald.event.EventHelper;
 import sorald.event.EventType;
 import sorald.event.SoraldEventHandler;
 import sorald.event.StatsMetadataKeys;
+import sorald.event.collectors.JsonLinesStatisticsWriter;
+import sorald.event.collectors.PhaseMetricsCollector;
 import sorald.event.collectors.RepairStatisticsCollector;
-import sorald.event.models.ExecutionInfo;
+import sorald.event.jfr.AnalyzeJfrEvent;
+import sorald.event.models.PhaseEvent;
 import sorald.event.models.miner.MinedViolationEvent;
 import sorald.event.models.repair.RuleRepairStatistics;
 import sorald.processor.SoraldAbstractProcessor;
 import sorald.rule.Rule;
 import sorald.rule.RuleViolation;
+import sorald.segment.FirstFitSegmentationAlgorithm;
 import sorald.sonar.ProjectScanner;
+import sorald.support.CanonicalPaths;
 import sorald.util.MavenUtils;
+import sorald.util.SourceDiscovery;
 
 /** The CLI command for the primary repair application. */
 @CommandLine.Command(
@@ -37,7 +52,7 @@ import sorald.util.MavenUtils;
         mixinStandardHelpOptions = true,
         description = "Repair Sonar rule violations in a targeted project.")
 class RepairCommand extends BaseCommand {
-    String ruleKey;
+    List<String> ruleKeys;
     List<RuleViolation> specifiedRuleViolations = List.of();
 
     @CommandLine.Option(
@@ -54,9 +69,11 @@ class RepairCommand extends BaseCommand {
         @CommandLine.Option(
                 names = {Constants.ARG_RULE_KEY},
                 description =
-                        "Choose one of the following rule keys:\n" + Processors.RULE_DESCRIPTIONS,
-                required = true)
-        String ruleKey = null;
+                        "One or more rule keys (use ',' to separate multiple keys). Multiple rules are repaired in a single pass over the project. Choose from the following rule keys:\n"
+                                + Processors.RULE_DESCRIPTIONS,
+                required = true,
+                split = ",")
+        List<String> ruleKeys = List.of();
 
         @CommandLine.Option(
                 names = Constants.ARG_RULE_VIOLATION_SPECIFIERS,
@@ -70,8 +87,33 @@ class RepairCommand extends BaseCommand {
                 required = true,
                 split = ",")
         List<String> ruleViolationSpecifiers = List.of();
+
+        @CommandLine.Option(
+                names = Constants.ARG_RULE_VIOLATION_SPECIFIERS_FILE,
+                description =
+                        "Path to a statistics file of the '"
+                                + Constants.MINE_COMMAND_NAME
+                                + "' command, in either JSON or JSON_LINES format, whose mined violations are repaired. "
+                                + "The file is streamed, so it may contain any number of violations of any number of rules.",
+                required = true,
+                converter = RealFileConverter.class)
+        File ruleViolationSpecifiersFile;
     }
 
+    @CommandLine.Option(
+            names = Constants.ARG_VIOLATION_SPECS_VERIFICATION,
+            description =
+                    "How specified violations are verified to exist before repair: PROJECT - analyze the entire source, "
+                            + "FILES - only analyze the files of the specified violations, "
+                            + "TRUSTED - analyze nothing and repair the specified violations as they are, which can't be combined with "
+                            + Constants.ARG_STATS_OUTPUT_FILE
+                            + ". Only applies to violations specified with "
+                            + Constants.ARG_RULE_VIOLATION_SPECIFIERS
+                            + " or "
+                            + Constants.ARG_RULE_VIOLATION_SPECIFIERS_FILE
+                            + ".")
+    ViolationSpecVerification violationSpecVerification = ViolationSpecVerification.PROJECT;
+
     @CommandLine.Option(
             names = {Constants.ARG_PRETTY_PRINTING_STRATEGY},
             description =
@@ -97,117 +139,342 @@ class RepairCommand extends BaseCommand {
                     "Max number of files per loaded segment for segmented repair. It should be >= 3000 files per segment.")
     int maxFilesPerSegment = 6500;
 
+    @CommandLine.Option(
+            names = Constants.ARG_SEGMENTATION_STRATEGY,
+            description =
+                    "How to split the folder into segments for segmented repair. FILE_COUNT - at most "
+                            + Constants.ARG_MAX_FILES_PER_SEGMENT
+                            + " files per segment, "
+                            + "SOURCE_SIZE - segments sized by the byte size of the source files, such that "
+                            + Constants.ARG_MAX_SEGMENTS_IN_MEMORY
+                            + " segments fit in the available heap as estimated with "
+                            + Constants.ARG_HEAP_BYTES_PER_SOURCE_BYTE
+                            + ", "
+                            + "VIOLATED_FILES - only files with violations are loaded, along with the files in the same packages and the files they import, with other source files loaded from the source roots when referenced.")
+    SegmentationStrategy segmentationStrategy = SegmentationStrategy.FILE_COUNT;
+
+    @CommandLine.Option(
+            names = Constants.ARG_SEGMENT_THREADS,
+            description =
+                    "Amount of threads to parse segments with for segmented repair. Segments are still repaired one at a time, in order.")
+    int segmentThreads = 1;
+
+    @CommandLine.Option(
+            names = Constants.ARG_MAX_SEGMENTS_IN_MEMORY,
+            description =
+                    "Max number of segments that are kept in memory at once for segmented repair, including the segment being repaired. Any value above 1 lets subsequent segments be parsed while the current one is repaired and printed, at the cost of memory.")
+    int maxSegmentsInMemory = 1;
+
+    @CommandLine.Option(
+            names = Constants.ARG_HEAP_BYTES_PER_SOURCE_BYTE,
+            description =
+                    "Estimated amount of heap that the model of a segment uses per byte of source code, which the SOURCE_SIZE segmentation strategy sizes segments by. Raise it if segments run out of memory, or lower it for fewer and larger segments.")
+    int heapBytesPerSourceByte = FirstFitSegmentationAlgorithm.DEFAULT_HEAP_BYTES_PER_SOURCE_BYTE;
+
+    @CommandLine.Option(
+            names = Constants.ARG_PRINT_THREADS,
+            description =
+                    "Amount of threads to print and write the repaired files with. Files whose printed content is identical to their original content are not written.")
+    int printThreads = 1;
+
+    @CommandLine.Option(
+            names = Constants.ARG_OUTPUT_MODE,
+            description =
+                    "Where to write the repaired files: INPLACE - overwrite the source files, "
+                            + "DIR - write the repaired files to the directory given by "
+                            + Constants.ARG_OUTPUT_PATH
+                            + ", mirroring the layout of the source directory, "
+                            + "PATCH - write a unified diff of each repaired file to the file given by "
+                            + Constants.ARG_OUTPUT_PATH
+                            + ", or to stdout if it is unspecified or '-'. The source files are only modified in INPLACE mode.")
+    OutputMode outputMode = OutputMode.INPLACE;
+
+    @CommandLine.Option(
+            names = Constants.ARG_OUTPUT_PATH,
+            description =
+                    "Path to the shadow directory or patch file to write to, depending on "
+                            + Constants.ARG_OUTPUT_MODE
+                            + ".")
+    File outputPath;
+
     @Override
     public Integer call() throws IOException {
+        // paths are interned for the duration of the command only
+        CanonicalPaths.Run pathsRun = CanonicalPaths.internForRun();
+        try (pathsRun) {
+            return callWithInternedPaths();
+        }
+    }
+
+    private int callWithInternedPaths() throws IOException {
         postprocessArgs();
+        if (ruleKeys.isEmpty()) {
+            getReportStream()
+                    .println(
+                            "No repairable rule violations in "
+                                    + rules.ruleViolationSpecifiersFile
+                                    + ", nothing to repair ...");
+            return 0;
+        }
         validateArgs();
+        enableJfrEventsIfRequested();
         SoraldConfig config = createConfig();
 
-        var statsCollector = new RepairStatisticsCollector();
-        List<SoraldEventHandler> eventHandlers =
-                statsOutputFile == null ? List.of() : List.of(statsCollector);
+        Path projectPath =
+                FileUtils.getClosestDirectory(source).toPath().toAbsolutePath().normalize();
+        var metricsCollector = new PhaseMetricsCollector();
+        // the analysis and the segmentation share a single discovery of the source files
+        SourceDiscovery.Run discoveryRun = SourceDiscovery.cacheForRun();
+        try (discoveryRun;
+                JsonLinesStatisticsWriter statsWriter = createStatsWriter(projectPath)) {
+            if (statsWriter != null) {
+                repair(config, List.of(statsWriter, metricsCollector));
+                statsWriter.writePhaseMetrics(metricsCollector);
+            } else {
+                var statsCollector = new RepairStatisticsCollector();
+                repair(
+                        config,
+                        statsOutputFile == null
+                                ? List.of()
+                                : List.of(statsCollector, metricsCollector));
+                if (statsOutputFile != null) {
+                    writeStatisticsOutput(statsCollector, metricsCollector, projectPath);
+                }
+            }
+        }
+
+        return 0;
+    }
+
+    /**
+     * Repair the source, and verify which violations remain after repair if statistics are
+     * gathered.
+     *
+     * @param config The configuration for the repair.
+     * @param eventHandlers Event handlers to use for events.
+     */
+    private void repair(SoraldConfig config, List<SoraldEventHandler> eventHandlers) {
         EventHelper.fireEvent(EventType.EXEC_START, eventHandlers);
 
         List<String> classpath = resolveClasspath();
 
-        Set<RuleViolation> ruleViolations = resolveRuleViolations(eventHandlers, classpath);
+        Set<RuleViolation> minedViolations = mineViolations(eventHandlers, classpath);
+        Set<RuleViolation> ruleViolations = filterSpecifiedViolations(minedViolations);
+        Set<Path> rewrittenFiles = Set.of();
         if (ruleViolations.isEmpty()) {
-            System.out.println("No rule violations found, nothing to do ...");
+            getReportStream().println("No rule violations found, nothing to do ...");
         } else {
-            SoraldAbstractProcessor<?> proc =
-                    new Repair(config, classpath, eventHandlers).repair(ruleViolations);
-            printEndProcess(proc);
+            var repair = new Repair(config, classpath, eventHandlers);
+            List<SoraldAbstractProcessor<?>> processors = repair.repairAll(ruleViolations);
+            rewrittenFiles = repair.getRewrittenFiles();
+            printEndProcess(processors, getReportStream());
         }
 
-        EventHelper.fireEvent(EventType.EXEC_END, List.of(statsCollector));
+        EventHelper.fireEvent(EventType.EXEC_END, eventHandlers);
 
         if (statsOutputFile != null) {
             // mine violations to trigger stats collection
-            mineViolations(source, ruleKey, eventHandlers, classpath);
-            writeStatisticsOutput(
-                    statsCollector,
-                    FileUtils.getClosestDirectory(source).toPath().toAbsolutePath().normalize());
+            verifyRepairs(minedViolations, rewrittenFiles, eventHandlers, classpath);
         }
-
-        return 0;
     }
 
     private List<String> resolveClasspath() {
         if (resolveClasspathFrom != null) {
-            return MavenUtils.resolveClasspath(resolveClasspathFrom.toPath());
+            return MavenUtils.resolveClasspath(resolveClasspathFrom.toPath(), getClasspathCache());
         } else if (repairStrategy == RepairStrategy.MAVEN) {
-            return MavenUtils.resolveClasspath(source.toPath());
+            return MavenUtils.resolveClasspath(source.toPath(), getClasspathCache());
         } else {
             return List.of();
         }
     }
 
-    private Set<RuleViolation> resolveRuleViolations(
-            List<SoraldEventHandler> eventHandlers, List<String> classpath) {
-        Set<RuleViolation> minedViolations =
-                mineViolations(source, ruleKey, eventHandlers, classpath);
-
-        if (!specifiedRuleViolations.isEmpty()) {
-            specifiedRuleViolations.forEach(
-                    specifiedViolation ->
-                            checkSpecifiedViolationExists(specifiedViolation, minedViolations));
-
-            return minedViolations.stream()
-                    .filter(specifiedRuleViolations::contains)
-                    .collect(Collectors.toSet());
-        } else {
+    private Set<RuleViolation> filterSpecifiedViolations(Set<RuleViolation> minedViolations) {
+        if (specifiedRuleViolations.isEmpty()) {
             return minedViolations;
         }
+
+        var minedViolationIndex = new ViolationIndex(minedViolations);
+        Set<RuleViolation> ruleViolations = new HashSet<>();
+        for (RuleViolation specifiedViolation : specifiedRuleViolations) {
+            Optional<RuleViolation> minedViolation = minedViolationIndex.find(specifiedViolation);
+            if (minedViolation.isEmpty()) {
+                String violationSpecifier = specifiedViolation.relativeSpecifier(source.toPath());
+                throw new CommandLine.ParameterException(
+                        spec.commandLine(),
+                        String.format(
+                                "No actual violation matching violation spec: '%s'",
+                                violationSpecifier));
+            }
+            ruleViolations.add(minedViolation.get());
+        }
+        return ruleViolations;
     }
 
-    private void checkSpecifiedViolationExists(
-            RuleViolation specifiedViolation, Collection<RuleViolation> minedViolations) {
-        if (!minedViolations.contains(specifiedViolation)) {
-            String violationSpecifier = specifiedViolation.relativeSpecifier(source.toPath());
-            throw new CommandLine.ParameterException(
-                    spec.commandLine(),
-                    String.format(
-                            "No actual violation matching violation spec: '%s'",
-                            violationSpecifier));
+    /**
+     * Mine the violations to repair from, which are the violations in the source, in the files of
+     * the specified violations, or the specified violations themselves, depending on how
+     * specified violations are verified.
+     *
+     * @param eventHandlers Event handlers to use for events.
+     * @param classpath Classpath to fetch type information from.
+     * @return The mined violations.
+     */
+    private Set<RuleViolation> mineViolations(
+            List<SoraldEventHandler> eventHandlers, List<String> classpath) {
+        if (specifiedRuleViolations.isEmpty()
+                || violationSpecVerification == ViolationSpecVerification.PROJECT) {
+            return mineViolations(source, ruleKeys, eventHandlers, classpath);
+        } else if (violationSpecVerification == ViolationSpecVerification.TRUSTED) {
+            return new HashSet<>(specifiedRuleViolations);
         }
+
+        List<File> specifiedFiles =
+                specifiedRuleViolations.stream()
+                        .map(RuleViolation::getAbsolutePath)
+                        .distinct()
+                        .sorted()
+                        .map(Path::toFile)
+                        .collect(Collectors.toList());
+        Set<RuleViolation> violations =
+                analyze(
+                        ruleKeys,
+                        eventHandlers,
+                        rules ->
+                                ProjectScanner.scanFiles(
+                                        specifiedFiles,
+                                        FileUtils.getClosestDirectory(source),
+                                        rules,
+                                        classpath,
+                                        createScanOptions()));
+        fireMinedViolations(violations, source, eventHandlers);
+        return violations;
     }
 
     /**
-     * Mine violations from the target directory and the given rule key.
+     * Mine violations from the target directory and the given rule keys.
      *
      * @param target A target directory.
-     * @param ruleKey Key of the rule to mine violations of.
+     * @param ruleKeys Keys of the rules to mine violations of.
      * @param eventHandlers Event handlers to use for events.
-     * @param classpath
+     * @param classpath Classpath to fetch type information from.
      * @return All found warnings.
      */
-    private static Set<RuleViolation> mineViolations(
+    private Set<RuleViolation> mineViolations(
             File target,
-            String ruleKey,
+            List<String> ruleKeys,
             List<SoraldEventHandler> eventHandlers,
             List<String> classpath) {
-        Rule rule = Rule.of(ruleKey);
-        Path projectPath = target.toPath().toAbsolutePath().normalize();
         Set<RuleViolation> violations =
-                ProjectScanner.scanProject(
-                        target, FileUtils.getClosestDirectory(target), List.of(rule), classpath);
+                analyze(
+                        ruleKeys,
+                        eventHandlers,
+                        rules ->
+                                ProjectScanner.scanProject(
+                                        target,
+                                        FileUtils.getClosestDirectory(target),
+                                        rules,
+                                        classpath,
+                                        createScanOptions().setChangedSince(changedSince)));
+        fireMinedViolations(violations, target, eventHandlers);
+        return violations;
+    }
+
+    /**
+     * Determine the violations that remain after repair, without analyzing the entire source
+     * again. Only the rewritten files are analyzed, and the violations mined before repair are
+     * carried forward for all other files, as they have not changed. If the repaired files were
+     * written to a shadow directory, the shadow files are analyzed in their place.
+     *
+     * @param minedViolations Violations that were mined before repair.
+     * @param rewrittenFiles Canonical paths to the files that were rewritten by the repair.
+     * @param eventHandlers Event handlers to use for events.
+     * @param classpath Classpath to fetch type information from.
+     */
+    private void verifyRepairs(
+            Set<RuleViolation> minedViolations,
+            Set<Path> rewrittenFiles,
+            List<SoraldEventHandler> eventHandlers,
+            List<String> classpath) {
+        Path sourceRoot =
+                CanonicalPaths.canonicalize(FileUtils.getClosestDirectory(source).toPath());
+        Path outputRoot =
+                outputMode == OutputMode.DIR
+                        ? CanonicalPaths.canonicalize(outputPath.toPath())
+                        : sourceRoot;
+        Set<RuleViolation> remainingViolations =
+                analyze(
+                        ruleKeys,
+                        eventHandlers,
+                        rules ->
+                                ProjectScanner.scanFiles(
+                                        rewrittenFiles.stream()
+                                                .map(file -> relocate(file, sourceRoot, outputRoot))
+                                                .map(Path::toFile)
+                                                .collect(Collectors.toList()),
+                                        outputRoot.toFile(),
+                                        rules,
+                                        classpath,
+                                        createScanOptions()));
+        if (!outputRoot.equals(sourceRoot)) {
+            remainingViolations =
+                    remainingViolations.stream()
+                            .map(violation -> relocate(violation, outputRoot, sourceRoot))
+                            .collect(Collectors.toSet());
+        }
+        minedViolations.stream()
+                .filter(violation -> !rewrittenFiles.contains(violation.getAbsolutePath()))
+                .forEach(remainingViolations::add);
+        fireMinedViolations(remainingViolations, source, eventHandlers);
+    }
+
+    private static Path relocate(Path file, Path fromRoot, Path toRoot) {
+        return toRoot.resolve(fromRoot.relativize(file));
+    }
+
+    private static RuleViolation relocate(RuleViolation violation, Path fromRoot, Path toRoot) {
+        return new SpecifiedViolation(
+                violation.getRuleKey(),
+                relocate(
+                        CanonicalPaths.canonicalize(violation.getAbsolutePath()), fromRoot, toRoot),
+                violation.getStartLine(),
+                violation.getStartCol(),
+                violation.getEndLine(),
+                violation.getEndCol());
+    }
+
+    private Set<RuleViolation> analyze(
+            List<String> ruleKeys,
+            List<SoraldEventHandler> eventHandlers,
+            Function<List<Rule>, Set<RuleViolation>> scanner) {
+        List<Rule> rules = ruleKeys.stream().map(Rule::of).collect(Collectors.toList());
+        long analysisStart = System.nanoTime();
+        var jfrEvent = new AnalyzeJfrEvent();
+        jfrEvent.start();
+        Set<RuleViolation> violations = scanner.apply(rules);
+        EventHelper.fireEvent(
+                PhaseEvent.endingNow(
+                        PhaseEvent.Phase.ANALYSIS, String.join(",", ruleKeys), analysisStart),
+                eventHandlers);
+        jfrEvent.setRuleKey(String.join(",", ruleKeys))
+                .setViolationCount(violations.size())
+                .finish();
+        return violations;
+    }
+
+    private static void fireMinedViolations(
+            Set<RuleViolation> violations, File target, List<SoraldEventHandler> eventHandlers) {
+        Path projectPath = target.toPath().toAbsolutePath().normalize();
         violations.forEach(
                 warn ->
                         EventHelper.fireEvent(
                                 new MinedViolationEvent(warn, projectPath), eventHandlers));
-        return violations;
     }
 
-    private void writeStatisticsOutput(RepairStatisticsCollector statsCollector, Path projectPath)
+    private void writeStatisticsOutput(
+            RepairStatisticsCollector statsCollector,
+            PhaseMetricsCollector metricsCollector,
+            Path projectPath)
             throws IOException {
-        var executionInfo =
-                new ExecutionInfo(
-                        spec.commandLine().getParseResult().originalArgs(),
-                        SoraldVersionProvider.getVersionFromPropertiesResource(
-                                SoraldVersionProvider.DEFAULT_RESOURCE_NAME),
-                        System.getProperty(Constants.JAVA_VERSION_SYSTEM_PROPERTY),
-                        target);
-
         List<RuleRepairStatistics> repairStats =
                 RuleRepairStatistics.createRepairStatsList(statsCollector, projectPath);
 
@@ -216,25 +483,146 @@ class RepairCommand extends BaseCommand {
                 statsCollector,
                 Map.of(
                         StatsMetadataKeys.EXECUTION_INFO,
-                        executionInfo,
+                        createExecutionInfo(),
                         StatsMetadataKeys.REPAIRS,
-                        repairStats));
+                        repairStats,
+                        StatsMetadataKeys.PHASE_METRICS,
+                        metricsCollector.getPhaseMetrics()));
     }
 
     private void validateArgs() {
+        validateBaseArgs();
+        validateChangedSince(source);
+
         if (maxFilesPerSegment <= 0) {
             throw new CommandLine.ParameterException(
                     spec.commandLine(),
                     Constants.ARG_MAX_FILES_PER_SEGMENT + " must be greater than 0");
         }
 
-        validateRuleKey();
+        if (segmentThreads <= 0) {
+            throw new CommandLine.ParameterException(
+                    spec.commandLine(), Constants.ARG_SEGMENT_THREADS + " must be greater than 0");
+        }
+
+        if (maxSegmentsInMemory <= 0) {
+            throw new CommandLine.ParameterException(
+                    spec.commandLine(),
+                    Constants.ARG_MAX_SEGMENTS_IN_MEMORY + " must be greater than 0");
+        }
+
+        if (heapBytesPerSourceByte <= 0) {
+            throw new CommandLine.ParameterException(
+                    spec.commandLine(),
+                    Constants.ARG_HEAP_BYTES_PER_SOURCE_BYTE + " must be greater than 0");
+        }
+
+        if (printThreads <= 0) {
+            throw new CommandLine.ParameterException(
+                    spec.commandLine(), Constants.ARG_PRINT_THREADS + " must be greater than 0");
+        }
+
+        validateOutputArgs();
+        validateChangedSinceStrategies();
+        validateRuleKeys();
+        validateViolationSpecVerification();
+    }
+
+    private void validateViolationSpecVerification() {
+        if (specifiedRuleViolations.isEmpty()
+                || violationSpecVerification != ViolationSpecVerification.TRUSTED) {
+            return;
+        }
+
+        if (statsOutputFile != null) {
+            throw new CommandLine.ParameterException(
+                    spec.commandLine(),
+                    Constants.ARG_STATS_OUTPUT_FILE
+                            + " can't be used with "
+                            + Constants.ARG_VIOLATION_SPECS_VERIFICATION
+                            + " TRUSTED, as the violations before repair are never analyzed");
+        }
+
+        for (String ruleKey : ruleKeys) {
+            if (Processors.getProcessor(ruleKey)
+                    .isAnnotationPresent(RequiresViolationMessage.class)) {
+                throw new CommandLine.ParameterException(
+                        spec.commandLine(),
+                        "Rule "
+                                + ruleKey
+                                + " needs the messages of the analysis to be repaired, and can't be used with "
+                                + Constants.ARG_VIOLATION_SPECS_VERIFICATION
+                                + " TRUSTED");
+            }
+        }
+    }
+
+    private void validateChangedSinceStrategies() {
+        if (changedSince == null) {
+            return;
+        }
+
+        CommandLine.ParseResult parseResult = spec.commandLine().getParseResult();
+        if (parseResult.hasMatchedOption(Constants.ARG_REPAIR_STRATEGY)
+                && repairStrategy != RepairStrategy.SEGMENT) {
+            throw new CommandLine.ParameterException(
+                    spec.commandLine(),
+                    String.format(
+                            "%s can't be used with %s %s, as only the changed files and their context are loaded with %s SEGMENT",
+                            Constants.ARG_CHANGED_SINCE,
+                            Constants.ARG_REPAIR_STRATEGY,
+                            repairStrategy,
+                            Constants.ARG_REPAIR_STRATEGY));
+        }
+
+        if (parseResult.hasMatchedOption(Constants.ARG_SEGMENTATION_STRATEGY)
+                && segmentationStrategy != SegmentationStrategy.VIOLATED_FILES) {
+            throw new CommandLine.ParameterException(
+                    spec.commandLine(),
+                    String.format(
+                            "%s can't be used with %s %s, as only the changed files and their context are loaded with %s VIOLATED_FILES",
+                            Constants.ARG_CHANGED_SINCE,
+                            Constants.ARG_SEGMENTATION_STRATEGY,
+                            segmentationStrategy,
+                            Constants.ARG_SEGMENTATION_STRATEGY));
+        }
+    }
+
+    private void validateOutputArgs() {
+        if (outputMode == OutputMode.DIR && outputPath == null) {
+            throw new CommandLine.ParameterException(
+                    spec.commandLine(),
+                    Constants.ARG_OUTPUT_MODE + " DIR requires " + Constants.ARG_OUTPUT_PATH);
+        }
+
+        if (outputMode == OutputMode.INPLACE && outputPath != null) {
+            throw new CommandLine.ParameterException(
+                    spec.commandLine(),
+                    Constants.ARG_OUTPUT_PATH
+                            + " can't be used with "
+                            + Constants.ARG_OUTPUT_MODE
+                            + " INPLACE");
+        }
+
+        if (outputMode == OutputMode.PATCH && statsOutputFile != null) {
+            throw new CommandLine.ParameterException(
+                    spec.commandLine(),
+                    Constants.ARG_STATS_OUTPUT_FILE
+                            + " can't be used with "
+                            + Constants.ARG_OUTPUT_MODE
+                            + " PATCH, as the repaired files are never written to be verified");
+        }
     }
 
     /** Perform further processing of raw command line args. */
     private void postprocessArgs() throws IOException {
+        if (outputMode == OutputMode.PATCH
+                && outputPath != null
+                && outputPath.getPath().equals("-")) {
+            outputPath = null;
+        }
         specifiedRuleViolations = parseRuleViolations(rules);
-        ruleKey = parseRuleKey(rules, specifiedRuleViolations);
+        ruleKeys = parseRuleKeys(rules, specifiedRuleViolations);
     }
 
     private List<RuleViolation> parseRuleViolations(Rules rules) throws IOException {
@@ -242,37 +630,87 @@ class RepairCommand extends BaseCommand {
         for (var spec : rules.ruleViolationSpecifiers) {
             violations.add(parseRuleViolation(spec));
         }
+
+        if (rules.ruleViolationSpecifiersFile != null) {
+            // a statistics file of the mine command may contain violations of any rule, so
+            // violations of rules that can't be repaired are skipped rather than rejected
+            Map<String, Integer> ruleKeyToSkippedCount = new TreeMap<>();
+            try {
+                ViolationSpecsFileReader.readSpecifiers(
+                        rules.ruleViolationSpecifiersFile.toPath(),
+                        specifier -> {
+                            RuleViolation violation = parseRuleViolation(specifier);
+                            if (Processors.getProcessor(violation.getRuleKey()) == null) {
+                                ruleKeyToSkippedCount.merge(
+                                        violation.getRuleKey(), 1, Integer::sum);
+                            } else {
+                                violations.add(violation);
+                            }
+                        });
+            } catch (JSONException e) {
+                throw new CommandLine.ParameterException(
+                        spec.commandLine(),
+                        "Invalid "
+                                + Constants.ARG_RULE_VIOLATION_SPECIFIERS_FILE
+                                + ": "
+                                + e.getMessage());
+            }
+            ruleKeyToSkippedCount.forEach(
+                    (ruleKey, count) ->
+                            getErr().println(
+                                            "Warning: skipping "
+                                                    + count
+                                                    + " violation(s) of rule "
+                                                    + ruleKey
+                                                    + ", as repair is not available for it"));
+        }
         return violations;
     }
 
-    private String parseRuleKey(Rules rules, List<RuleViolation> ruleViolations) {
-        return withSonarPrefix(
+    private List<String> parseRuleKeys(Rules rules, List<RuleViolation> ruleViolations) {
+        List<String> keys =
                 ruleViolations.isEmpty()
-                        ? rules.ruleKey
+                        ? rules.ruleKeys
                         : ruleViolations.stream()
                                 .map(RuleViolation::getRuleKey)
-                                .findFirst()
-                                .orElseThrow(
-                                        () ->
-                                                new IllegalStateException(
-                                                        "no valid rule key in input, should not happen!")));
+                                .collect(Collectors.toList());
+        if (keys.isEmpty() && rules.ruleViolationSpecifiersFile == null) {
+            throw new IllegalStateException("no valid rule key in input, should not happen!");
+        }
+        return keys.stream()
+                .map(this::withSonarPrefix)
+                .distinct()
+                .sorted()
+                .collect(Collectors.toList());
     }
 
-    private void validateRuleKey() {
-        if (Processors.getProcessor(ruleKey) == null) {
-            throw new CommandLine.ParameterException(
-                    spec.commandLine(),
-                    "Sorry, repair not available for rule "
-                            + ruleKey
-                            + ". See the available rules below.");
+    private void validateRuleKeys() {
+        for (String ruleKey : ruleKeys) {
+            if (Processors.getProcessor(ruleKey) == null) {
+                throw new CommandLine.ParameterException(
+                        spec.commandLine(),
+                        "Sorry, repair not available for rule "
+                                + ruleKey
+                                + ". See the available rules below.");
+            }
         }
     }
 
-    private RuleViolation parseRuleViolation(String violationSpecifier) throws IOException {
+    private RuleViolation parseRuleViolation(String violationSpecifier) {
         String[] parts = violationSpecifier.split(Constants.VIOLATION_SPECIFIER_SEP);
         String key = parts[0];
         String rawFilename = parts[1];
-        Path absPath = source.toPath().resolve(rawFilename).toRealPath();
+        // real paths are cached, as many violations may be specified in the same file
+        Path filePath = source.toPath().resolve(rawFilename);
+        Path absPath =
+                CanonicalPaths.toRealPath(filePath)
+                        .orElseThrow(
+                                () ->
+                                        new CommandLine.ParameterException(
+                                                spec.commandLine(),
+                                                String.format(
+                                                        "No such file for violation spec: '%s'",
+                                                        violationSpecifier)));
         int startLine = Integer.parseInt(parts[2]);
         int startCol = Integer.parseInt(parts[3]);
         int endLine = Integer.parseInt(parts[4]);
@@ -287,10 +725,18 @@ class RepairCommand extends BaseCommand {
         return key.startsWith("S") ? key : "S" + key;
     }
 
-    private static void printEndProcess(SoraldAbstractProcessor<?> processor) {
-        System.out.println("-----Number of fixes------");
-        System.out.println(processor.getClass().getSimpleName() + ": " + processor.getNbFixes());
-        System.out.println("-----End of report------");
+    private static void printEndProcess(
+            List<SoraldAbstractProcessor<?>> processors, PrintStream out) {
+        out.println("-----Number of fixes------");
+        for (SoraldAbstractProcessor<?> processor : processors) {
+            out.println(processor.getClass().getSimpleName() + ": " + processor.getNbFixes());
+        }
+        out.println("-----End of report------");
+    }
+
+    /** @return The stream to report to, which is stderr if a patch is streamed to stdout. */
+    private PrintStream getReportStream() {
+        return outputMode == OutputMode.PATCH && outputPath == null ? getErr() : getOut();
     }
 
     private SoraldConfig createConfig() {
@@ -299,8 +745,26 @@ class RepairCommand extends BaseCommand {
         config.setPrettyPrintingStrategy(prettyPrintingStrategy);
         config.setMaxFixesPerRule(maxFixesPerRule);
         config.setMaxFilesPerSegment(maxFilesPerSegment);
+        config.setSegmentationStrategy(segmentationStrategy);
+        config.setSegmentThreads(segmentThreads);
+        config.setMaxSegmentsInMemory(maxSegmentsInMemory);
+        config.setHeapBytesPerSourceByte(heapBytesPerSourceByte);
+        config.setPrintThreads(printThreads);
+        config.setOutputMode(outputMode);
+        config.setOutputPath(outputPath);
+        config.setStandardOutput(getOut());
         config.setRepairStrategy(repairStrategy);
         config.setStatsOutputFile(statsOutputFile);
+
+        if (changedSince != null) {
+            // only changed files have violations, so only they and their context are parsed.
+            // conflicting strategies are rejected during validation, so these are defaults only
+            config.setRepairStrategy(RepairStrategy.SEGMENT);
+            config.setSegmentationStrategy(SegmentationStrategy.VIOLATED_FILES);
+            if (repairStrategy != RepairStrategy.SEGMENT) {
+                config.setMaxFilesPerSegment(Integer.MAX_VALUE);
+            }
+        }
         return config;
     }
 }
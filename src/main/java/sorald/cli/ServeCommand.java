@@ -0,0 +1,107 @@
+package sorald.cli;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import picocli.CommandLine;
+import sorald.Constants;
+
+/** CLI Command for running Sorald as a daemon that serves repair and mine requests. */
+@CommandLine.Command(
+        name = Constants.SERVE_COMMAND_NAME,
+        mixinStandardHelpOptions = true,
+        description =
+                "Serve repair and mine requests from a long-running process on a local socket. "
+                        + "The first line of each connection must be the token of the daemon, which is written to a file readable only by its owner. "
+                        + "Each request is a single line with a JSON array of the command line arguments of a Sorald invocation, "
+                        + "and is answered with a single line with a JSON object with the exit code and output of the invocation. "
+                        + "Connections are served one at a time. "
+                        + "Loaded classes, the violation cache and resolved classpaths are kept between requests, but Spoon models are built anew for every repair, as a repair modifies its model. "
+                        + "Send [\""
+                        + SoraldDaemon.SHUTDOWN_REQUEST
+                        + "\"] to stop the daemon.")
+class ServeCommand implements Callable<Integer> {
+    @CommandLine.Spec CommandLine.Model.CommandSpec spec;
+
+    @CommandLine.Option(
+            names = Constants.ARG_PORT,
+            description =
+                    "Port to listen on at the loopback address. If 0, a free port is chosen and printed on startup.")
+    int port = 0;
+
+    @CommandLine.Option(
+            names = Constants.ARG_VIOLATION_CACHE_DIR,
+            description =
+                    "Path to a directory to cache violations in, shared between all requests that don't specify their own. If left unspecified, a temporary directory is used.")
+    File violationCacheDir;
+
+    @CommandLine.Option(
+            names = Constants.ARG_TOKEN_FILE,
+            description =
+                    "Path to write the token that clients must send to, readable only by its owner. It is deleted when the daemon stops. If left unspecified, a file in a new temporary directory is used.")
+    File tokenFile;
+
+    @CommandLine.Option(
+            names = Constants.ARG_READ_TIMEOUT,
+            description =
+                    "Seconds to wait for the next line of a connection before closing it, such that an idle client does not block other clients.")
+    int readTimeout = 60;
+
+    @Override
+    public Integer call() throws Exception {
+        if (port < 0 || port > 65535) {
+            throw new CommandLine.ParameterException(
+                    spec.commandLine(), Constants.ARG_PORT + " must be between 0 and 65535");
+        }
+        if (readTimeout <= 0) {
+            throw new CommandLine.ParameterException(
+                    spec.commandLine(), Constants.ARG_READ_TIMEOUT + " must be greater than 0");
+        }
+
+        Path cacheDir =
+                violationCacheDir != null
+                        ? violationCacheDir.toPath()
+                        : Files.createTempDirectory("sorald-violation-cache");
+        String token = SoraldDaemon.createToken();
+        Path tokenPath =
+                tokenFile != null
+                        ? tokenFile.toPath()
+                        : Files.createTempDirectory("sorald-daemon").resolve("token");
+        writeOwnerOnlyFile(tokenPath, token);
+        try (var serverSocket = new ServerSocket(port, 0, InetAddress.getLoopbackAddress())) {
+            System.out.println("Token file: " + tokenPath.toAbsolutePath());
+            System.out.println("Listening on port " + serverSocket.getLocalPort());
+            new SoraldDaemon(
+                            serverSocket,
+                            cacheDir,
+                            token,
+                            (int) TimeUnit.SECONDS.toMillis(readTimeout))
+                    .serve();
+        } finally {
+            Files.deleteIfExists(tokenPath);
+        }
+        return 0;
+    }
+
+    /** Write a file that only its owner can read, where the file system supports permissions. */
+    private static void writeOwnerOnlyFile(Path path, String content) throws IOException {
+        // the file is created anew, so no one can have opened it with the old permissions
+        Files.deleteIfExists(path);
+        if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            Files.createFile(
+                    path,
+                    PosixFilePermissions.asFileAttribute(
+                            PosixFilePermissions.fromString("rw-------")));
+        } else {
+            Files.createFile(path);
+        }
+        Files.writeString(path, content);
+    }
+}
@@ -0,0 +1,177 @@
+package sorald.cli;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.List;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import sorald.Constants;
+
+/**
+ * A long-running Sorald process that executes repair and mine requests received over a socket. All
+ * requests are executed in the same JVM, such that the checks, processors and Spoon are loaded
+ * and warmed up only once. The state that is kept per project between requests is limited to the
+ * shared violation cache, such that unchanged files of a project are not analyzed again, and the
+ * classpath cache, such that the classpath of a project is not resolved again.
+ *
+ * <p>The protocol is line-based. The first line of every connection must be the token of the
+ * daemon, as any local user can connect to the socket. A request is a JSON array with the command
+ * line arguments of a single Sorald invocation, and the response is a JSON object with the exit
+ * code of the invocation and everything it printed. Connections are served one at a time, in the
+ * order they are accepted, and a connection that sends nothing for longer than the read timeout is
+ * closed, such that an idle client can't keep other clients waiting indefinitely. Diagnostics that
+ * are not part of the output of a command, such as stack traces of crashed segments, are printed by
+ * the daemon itself.
+ *
+ * <p>Parsed Spoon models are not kept between requests. A repair modifies its model, and a model
+ * that was repaired no longer reflects the source unless every repaired file is written in place,
+ * so a cached model would have to be rebuilt after almost every repair. Instead, the violation
+ * cache skips the analysis of files whose content is unchanged, and all paths and discovered
+ * source files are forgotten at the end of each request.
+ */
+class SoraldDaemon {
+    static final String SHUTDOWN_REQUEST = "shutdown";
+    static final String EXIT_CODE = "exitCode";
+    static final String OUTPUT = "output";
+
+    static final int BAD_REQUEST_EXIT_CODE = 2;
+    static final int UNAUTHORIZED_EXIT_CODE = 3;
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final ServerSocket serverSocket;
+    private final Path violationCacheDir;
+    private final byte[] token;
+    private final int readTimeoutMillis;
+
+    /**
+     * @param serverSocket A bound server socket to accept requests from.
+     * @param violationCacheDir Directory for the violation cache shared between all requests.
+     * @param token Token that clients must send before their requests.
+     * @param readTimeoutMillis Max time to wait for the next line of a connection before closing
+     *     it. Must be greater than 0.
+     */
+    SoraldDaemon(
+            ServerSocket serverSocket,
+            Path violationCacheDir,
+            String token,
+            int readTimeoutMillis) {
+        if (readTimeoutMillis <= 0) {
+            throw new IllegalArgumentException(
+                    "read timeout must be greater than 0, got: " + readTimeoutMillis);
+        }
+        this.serverSocket = serverSocket;
+        this.violationCacheDir = violationCacheDir;
+        this.token = token.getBytes(StandardCharsets.UTF_8);
+        this.readTimeoutMillis = readTimeoutMillis;
+    }
+
+    /** @return A new random token in hexadecimal form. */
+    static String createToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        new SecureRandom().nextBytes(bytes);
+        var token = new StringBuilder();
+        for (byte b : bytes) {
+            token.append(String.format("%02x", b));
+        }
+        return token.toString();
+    }
+
+    /**
+     * Serve requests until a shutdown request is received.
+     *
+     * @throws IOException If the server socket can't accept connections.
+     */
+    void serve() throws IOException {
+        boolean running = true;
+        while (running) {
+            try (Socket socket = serverSocket.accept()) {
+                socket.setSoTimeout(readTimeoutMillis);
+                running = handleConnection(socket);
+            } catch (SocketTimeoutException e) {
+                System.err.println(
+                        "closing connection that was idle for " + readTimeoutMillis + "ms");
+            } catch (IOException e) {
+                // a broken connection only affects the client on the other end
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /** @return false if the connection requested a shutdown, true otherwise. */
+    private boolean handleConnection(Socket socket) throws IOException {
+        var reader =
+                new BufferedReader(
+                        new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        Writer writer = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8);
+
+        String clientToken = reader.readLine();
+        if (clientToken == null) {
+            return true;
+        } else if (!MessageDigest.isEqual(token, clientToken.getBytes(StandardCharsets.UTF_8))) {
+            respond(writer, UNAUTHORIZED_EXIT_CODE, "invalid token");
+            return true;
+        }
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            List<String> args;
+            try {
+                args = parseRequest(line);
+            } catch (JSONException e) {
+                respond(writer, BAD_REQUEST_EXIT_CODE, "malformed request: " + e.getMessage());
+                continue;
+            }
+
+            if (args.equals(List.of(SHUTDOWN_REQUEST))) {
+                respond(writer, 0, "");
+                return false;
+            } else if (!args.isEmpty() && args.get(0).equals(Constants.SERVE_COMMAND_NAME)) {
+                respond(writer, BAD_REQUEST_EXIT_CODE, "can't serve from within a daemon");
+            } else {
+                execute(args, writer);
+            }
+        }
+        return true;
+    }
+
+    private void execute(List<String> args, Writer writer) throws IOException {
+        var output = new ByteArrayOutputStream();
+        int exitCode;
+        try (var capture = new PrintStream(output, true, StandardCharsets.UTF_8)) {
+            exitCode =
+                    Cli.createCli(capture, capture, violationCacheDir.toFile())
+                            .execute(args.toArray(String[]::new));
+        }
+        respond(writer, exitCode, output.toString(StandardCharsets.UTF_8));
+    }
+
+    private static List<String> parseRequest(String line) {
+        JSONArray request = new JSONArray(line);
+        List<String> args = new ArrayList<>();
+        for (int i = 0; i < request.length(); i++) {
+            args.add(request.getString(i));
+        }
+        return args;
+    }
+
+    private static void respond(Writer writer, int exitCode, String output) throws IOException {
+        writer.write(new JSONObject().put(EXIT_CODE, exitCode).put(OUTPUT, output).toString());
+        writer.write(System.lineSeparator());
+        writer.flush();
+    }
+}
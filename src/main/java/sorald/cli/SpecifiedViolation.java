@@ -2,6 +2,7 @@ package sorald.cli;
 
 import java.nio.file.Path;
 import sorald.rule.RuleViolation;
+import sorald.support.CanonicalPaths;
 
 /** Rule violation specified from the CLI. */
 class SpecifiedViolation extends RuleViolation {
@@ -15,7 +16,7 @@ class SpecifiedViolation extends RuleViolation {
     SpecifiedViolation(
             String ruleKey, Path absPath, int startLine, int startCol, int endLine, int endCol) {
         this.ruleKey = ruleKey;
-        this.absPath = absPath;
+        this.absPath = CanonicalPaths.canonicalize(absPath);
         this.startLine = startLine;
         this.endLine = endLine;
         this.startCol = startCol;
@@ -0,0 +1,38 @@
+package sorald.cli;
+
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import sorald.rule.RuleViolation;
+
+/**
+ * Index of rule violations by the file they are in, such that looking up a violation only
+ * considers the violations in the same file.
+ */
+class ViolationIndex {
+    private final Map<Path, Map<RuleViolation, RuleViolation>> fileToViolations = new HashMap<>();
+
+    /** @param violations Violations to index. */
+    ViolationIndex(Collection<? extends RuleViolation> violations) {
+        for (RuleViolation violation : violations) {
+            fileToViolations
+                    .computeIfAbsent(violation.getAbsolutePath(), file -> new HashMap<>())
+                    .putIfAbsent(violation, violation);
+        }
+    }
+
+    /**
+     * Find the indexed violation that is equal to the given violation.
+     *
+     * @param violation A violation, such as one specified on the command line.
+     * @return The indexed violation that is equal to the given one, or an empty optional if there
+     *     is none.
+     */
+    Optional<RuleViolation> find(RuleViolation violation) {
+        Map<RuleViolation, RuleViolation> violationsInFile =
+                fileToViolations.getOrDefault(violation.getAbsolutePath(), Map.of());
+        return Optional.ofNullable(violationsInFile.get(violation));
+    }
+}
@@ -0,0 +1,149 @@
+package sorald.cli;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.json.JSONTokener;
+import sorald.event.EventType;
+import sorald.event.StatsMetadataKeys;
+
+/**
+ * Streaming reader of the violation specifiers in a statistics file of the mine command, in either
+ * the JSON or the JSON Lines format. The file is tokenized as it is read, and each warning location
+ * is parsed on its own, so the file is never held in memory as a whole.
+ *
+ * <p>In the JSON format, the specifiers are those of the warning locations of all mined rules. In
+ * the JSON Lines format, they are those of the locations of the mined violation events. Should the
+ * file come from the repair command, mined violation events after the end of the execution are
+ * violations that remain after repair, and are therefore skipped.
+ */
+class ViolationSpecsFileReader {
+    private final JSONTokener tokener;
+    private final Consumer<String> specifierConsumer;
+    private boolean afterExecEnd = false;
+
+    // type and location of the current top-level object, which are only set for streamed events
+    private String eventType;
+    private JSONObject eventLocation;
+
+    private ViolationSpecsFileReader(JSONTokener tokener, Consumer<String> specifierConsumer) {
+        this.tokener = tokener;
+        this.specifierConsumer = specifierConsumer;
+    }
+
+    /**
+     * Read all violation specifiers in a statistics file, in the order they appear in the file.
+     *
+     * @param statsFile Path to a statistics file of the mine command.
+     * @param specifierConsumer Consumer that is given each violation specifier as it is read.
+     * @throws IOException If the file can't be read.
+     * @throws JSONException If the file is not a valid statistics file.
+     */
+    static void readSpecifiers(Path statsFile, Consumer<String> specifierConsumer)
+            throws IOException {
+        try (Reader reader = Files.newBufferedReader(statsFile)) {
+            var specsReader =
+                    new ViolationSpecsFileReader(new JSONTokener(reader), specifierConsumer);
+            // a JSON file has a single top-level object, and a JSON Lines file has one per line
+            while (specsReader.tokener.nextClean() != 0) {
+                specsReader.tokener.back();
+                specsReader.readTopLevelObject();
+            }
+        }
+    }
+
+    private void readTopLevelObject() {
+        eventType = null;
+        eventLocation = null;
+        forEachMember(
+                key -> {
+                    switch (key) {
+                        case StatsMetadataKeys.MINED_RULES:
+                            forEachElement(() -> forEachMember(this::readMinedRuleMember));
+                            break;
+                        case StatsMetadataKeys.EVENT_TYPE:
+                            eventType = tokener.nextValue().toString();
+                            break;
+                        case StatsMetadataKeys.EVENT_LOCATION:
+                            eventLocation = (JSONObject) tokener.nextValue();
+                            break;
+                        default:
+                            tokener.nextValue();
+                    }
+                });
+
+        if (EventType.EXEC_END.name().equals(eventType)) {
+            afterExecEnd = true;
+        } else if (EventType.MINED.name().equals(eventType)
+                && eventLocation != null
+                && !afterExecEnd) {
+            specifierConsumer.accept(
+                    eventLocation.getString(StatsMetadataKeys.VIOLATION_SPECIFIER));
+        }
+    }
+
+    private void readMinedRuleMember(String key) {
+        if (key.equals(StatsMetadataKeys.WARNING_LOCATIONS)) {
+            forEachElement(
+                    () -> {
+                        var location = (JSONObject) tokener.nextValue();
+                        specifierConsumer.accept(
+                                location.getString(StatsMetadataKeys.VIOLATION_SPECIFIER));
+                    });
+        } else {
+            tokener.nextValue();
+        }
+    }
+
+    /** Read an object, calling the member reader with each key to read the value that follows. */
+    private void forEachMember(Consumer<String> memberReader) {
+        expect('{');
+        if (isEmpty('}')) {
+            return;
+        }
+        do {
+            String key = tokener.nextValue().toString();
+            expect(':');
+            memberReader.accept(key);
+        } while (hasNext('}'));
+    }
+
+    /** Read an array, calling the element reader to read each element. */
+    private void forEachElement(Runnable elementReader) {
+        expect('[');
+        if (isEmpty(']')) {
+            return;
+        }
+        do {
+            elementReader.run();
+        } while (hasNext(']'));
+    }
+
+    private void expect(char expected) {
+        if (tokener.nextClean() != expected) {
+            throw tokener.syntaxError("expected '" + expected + "'");
+        }
+    }
+
+    private boolean isEmpty(char closing) {
+        if (tokener.nextClean() == closing) {
+            return true;
+        }
+        tokener.back();
+        return false;
+    }
+
+    private boolean hasNext(char closing) {
+        char c = tokener.nextClean();
+        if (c == ',') {
+            return true;
+        } else if (c == closing) {
+            return false;
+        }
+        throw tokener.syntaxError("expected ',' or '" + closing + "'");
+    }
+}
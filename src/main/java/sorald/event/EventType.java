@@ -11,5 +11,6 @@ public enum EventType {
     MINING_START,
     MINING_END,
     MINED,
+    PHASE,
     CRASH
 }
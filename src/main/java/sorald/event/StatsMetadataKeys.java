@@ -13,6 +13,7 @@ public class StatsMetadataKeys {
     public static final String END_TIME_MS = "endTimeMs";
     public static final String VIOLATION_SPECIFIER = "violationSpecifier";
     public static final String CRASHES = "crashes";
+    public static final String PHASE_METRICS = "phaseMetrics";
 
     public static final String EXECUTION_INFO = "executionInfo";
     public static final String SORALD_VERSION = "soraldVersion";
@@ -32,5 +33,15 @@ public class StatsMetadataKeys {
     public static final String MINING_START_TIME = "miningStartTime";
     public static final String MINING_END_TIME = "miningEndTime";
     public static final String MINED_RULES = "minedRules";
+    public static final String WARNING_LOCATIONS = "warningLocations";
     public static final String TOTAL_MINING_TIME = "totalMiningTime";
+
+    // Streamed event data
+    public static final String EVENT_TYPE = "type";
+    public static final String EVENT_TIME_MS = "timeMs";
+    public static final String EVENT_FAILURE = "failure";
+    public static final String EVENT_LOCATION = "location";
+    public static final String EVENT_PHASE = "phase";
+    public static final String EVENT_LABEL = "label";
+    public static final String EVENT_DURATION_NANOS = "durationNanos";
 }
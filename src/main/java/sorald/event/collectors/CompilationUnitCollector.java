@@ -10,6 +10,7 @@ import sorald.event.EventType;
 import sorald.event.SoraldEvent;
 import sorald.event.SoraldEventHandler;
 import sorald.event.models.RepairEvent;
+import sorald.support.CanonicalPaths;
 import spoon.reflect.declaration.CtCompilationUnit;
 import spoon.reflect.declaration.CtElement;
 import spoon.reflect.declaration.CtType;
@@ -45,7 +46,7 @@ public class CompilationUnitCollector implements SoraldEventHandler {
      * @param element An element from which to collect the compilation unit.
      */
     void collectCompilationUnit(CtElement element) {
-        Path filePath = element.getPosition().getFile().toPath().toAbsolutePath();
+        Path filePath = CanonicalPaths.canonicalize(element.getPosition().getFile().toPath());
         CtType<?> type =
                 (element instanceof CtType) ? (CtType<?>) element : element.getParent(CtType.class);
         CtCompilationUnit cu = getCompilationUnit(type);
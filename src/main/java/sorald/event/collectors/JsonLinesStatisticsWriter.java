@@ -0,0 +1,123 @@
+package sorald.event.collectors;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.json.JSONObject;
+import sorald.event.SoraldEvent;
+import sorald.event.SoraldEventHandler;
+import sorald.event.StatsMetadataKeys;
+import sorald.event.models.CrashEvent;
+import sorald.event.models.PhaseEvent;
+import sorald.event.models.RepairEvent;
+import sorald.event.models.WarningLocation;
+import sorald.event.models.miner.MinedViolationEvent;
+import sorald.rule.Rule;
+
+/**
+ * Event handler that streams events to a file in the JSON Lines format, with one JSON object per
+ * line. Unlike the statistics collectors, it keeps no events in memory, and each line is flushed
+ * as soon as it is written so that a run that crashes still leaves the statistics of everything
+ * that happened before the crash.
+ *
+ * <p>Each line has the type of the event and the time at which it was registered. Repairs, mined
+ * violations and crashes also carry their data. In the repair command, violations that are mined
+ * after the EXEC_END event are the violations that remain after repair.
+ */
+public class JsonLinesStatisticsWriter implements SoraldEventHandler, Closeable {
+    private final Writer writer;
+    private final Path projectPath;
+
+    /**
+     * @param file The file to write to. Any previous content is overwritten.
+     * @param projectPath Root path of the project, which locations of repairs are relative to.
+     * @throws IOException If the file can't be opened for writing.
+     */
+    public JsonLinesStatisticsWriter(Path file, Path projectPath) throws IOException {
+        this.writer = Files.newBufferedWriter(file);
+        this.projectPath = projectPath;
+    }
+
+    /**
+     * Write a line that is not an event, such as information about the execution.
+     *
+     * @param type The type of the line.
+     * @param data An object whose getters produce the data of the line.
+     */
+    public synchronized void writeRecord(String type, Object data) {
+        writeLine(new JSONObject(data).put(StatsMetadataKeys.EVENT_TYPE, type));
+    }
+
+    /**
+     * Write one line with the metrics of each measured phase.
+     *
+     * @param metricsCollector A collector of phase metrics.
+     */
+    public void writePhaseMetrics(PhaseMetricsCollector metricsCollector) {
+        metricsCollector
+                .getPhaseMetrics()
+                .forEach(metrics -> writeRecord(StatsMetadataKeys.PHASE_METRICS, metrics));
+    }
+
+    @Override
+    public synchronized void registerEvent(SoraldEvent event) {
+        writeLine(
+                toJSON(event)
+                        .put(StatsMetadataKeys.EVENT_TYPE, event.type().name())
+                        .put(StatsMetadataKeys.EVENT_TIME_MS, System.currentTimeMillis()));
+    }
+
+    private JSONObject toJSON(SoraldEvent event) {
+        switch (event.type()) {
+            case REPAIR:
+                var repair = (RepairEvent) event;
+                return new JSONObject()
+                        .put(StatsMetadataKeys.REPAIR_RULE_KEY, repair.getRuleKey())
+                        .put(
+                                StatsMetadataKeys.REPAIR_RULE_NAME,
+                                Rule.of(repair.getRuleKey()).getName())
+                        .put(StatsMetadataKeys.EVENT_FAILURE, repair.isFailure())
+                        .put(
+                                StatsMetadataKeys.EVENT_LOCATION,
+                                new JSONObject(
+                                        new WarningLocation(
+                                                repair.getRuleViolation(), projectPath)));
+            case MINED:
+                var mined = (MinedViolationEvent) event;
+                return new JSONObject()
+                        .put(StatsMetadataKeys.REPAIR_RULE_KEY, mined.getRuleKey())
+                        .put(StatsMetadataKeys.REPAIR_RULE_NAME, mined.getRuleName())
+                        .put(
+                                StatsMetadataKeys.EVENT_LOCATION,
+                                new JSONObject(mined.getWarningLocation()));
+            case PHASE:
+                var phase = (PhaseEvent) event;
+                return new JSONObject()
+                        .put(StatsMetadataKeys.EVENT_PHASE, phase.getPhase().name())
+                        .put(StatsMetadataKeys.EVENT_LABEL, phase.getLabel())
+                        .put(StatsMetadataKeys.EVENT_DURATION_NANOS, phase.getDurationNanos());
+            case CRASH:
+                return event instanceof CrashEvent ? new JSONObject(event) : new JSONObject();
+            default:
+                return new JSONObject();
+        }
+    }
+
+    private void writeLine(JSONObject line) {
+        try {
+            writer.write(line.toString());
+            writer.write('\n');
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        writer.close();
+    }
+}
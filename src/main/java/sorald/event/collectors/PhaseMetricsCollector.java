@@ -0,0 +1,34 @@
+package sorald.event.collectors;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import sorald.event.SoraldEvent;
+import sorald.event.SoraldEventHandler;
+import sorald.event.models.PhaseEvent;
+import sorald.event.models.metrics.PhaseMetrics;
+
+/**
+ * Event handler that aggregates the spans of {@link PhaseEvent}s into latency histograms per
+ * phase, with a breakdown of each phase by label.
+ */
+public class PhaseMetricsCollector implements SoraldEventHandler {
+    private final Map<PhaseEvent.Phase, PhaseMetrics> phaseToMetrics =
+            new EnumMap<>(PhaseEvent.Phase.class);
+
+    @Override
+    public synchronized void registerEvent(SoraldEvent event) {
+        if (event instanceof PhaseEvent) {
+            var phaseEvent = (PhaseEvent) event;
+            phaseToMetrics
+                    .computeIfAbsent(phaseEvent.getPhase(), PhaseMetrics::new)
+                    .record(phaseEvent.getLabel(), phaseEvent.getDurationNanos());
+        }
+    }
+
+    /** @return Metrics of all phases that have been measured, in order of execution. */
+    public synchronized List<PhaseMetrics> getPhaseMetrics() {
+        return phaseToMetrics.values().stream().collect(Collectors.toList());
+    }
+}
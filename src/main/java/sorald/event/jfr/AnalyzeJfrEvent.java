@@ -0,0 +1,11 @@
+package sorald.event.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** Event for analyzing a project with Sonar. */
+@Name("sorald.Analyze")
+@Label("Analyze")
+@Description("Analyzing source files with Sonar checks")
+public class AnalyzeJfrEvent extends SoraldJfrEvent {}
@@ -0,0 +1,11 @@
+package sorald.event.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** Event for matching the violations of a rule to the elements of a model. */
+@Name("sorald.BestFit")
+@Label("Best Fit")
+@Description("Matching rule violations to the elements of a Spoon model")
+public class BestFitJfrEvent extends SoraldJfrEvent {}
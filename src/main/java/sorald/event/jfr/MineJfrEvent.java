@@ -0,0 +1,11 @@
+package sorald.event.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** Event for mining the violations of a project. */
+@Name("sorald.Mine")
+@Label("Mine")
+@Description("Mining the rule violations of a project")
+public class MineJfrEvent extends SoraldJfrEvent {}
@@ -0,0 +1,11 @@
+package sorald.event.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** Event for building a Spoon model of a project or segment. */
+@Name("sorald.Parse")
+@Label("Parse")
+@Description("Building a Spoon model of source files")
+public class ParseJfrEvent extends SoraldJfrEvent {}
@@ -0,0 +1,11 @@
+package sorald.event.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** Event for printing and writing the changed compilation units of a model. */
+@Name("sorald.Print")
+@Label("Print")
+@Description("Printing and writing changed compilation units")
+public class PrintJfrEvent extends SoraldJfrEvent {}
@@ -0,0 +1,11 @@
+package sorald.event.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** Event for running the processors of all repaired rules over a model. */
+@Name("sorald.Repair")
+@Label("Repair")
+@Description("Running repair processors over a Spoon model")
+public class RepairJfrEvent extends SoraldJfrEvent {}
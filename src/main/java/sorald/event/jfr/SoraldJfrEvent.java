@@ -0,0 +1,94 @@
+package sorald.event.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+import spoon.reflect.CtModel;
+
+/**
+ * Base class of the Java Flight Recorder events of Sorald's phases, which make it possible to line
+ * up e.g. GC pauses and allocation spikes with the phases in a recording.
+ *
+ * <p>Events are only emitted once {@link SoraldJfrEvent#setEmitting(boolean)} has been called with
+ * true, and are then captured by any running recording, such as one started with {@code
+ * -XX:StartFlightRecording}. Fields that don't apply to a phase are left at their defaults.
+ */
+@Category("Sorald")
+@StackTrace(false)
+public abstract class SoraldJfrEvent extends Event {
+    private static volatile boolean emitting = false;
+
+    @Label("Rule Key")
+    @Description("Key of the rule, or comma-separated keys of the rules, that the phase concerns")
+    String ruleKey;
+
+    @Label("Segment Id")
+    @Description(
+            "Sequence number of the segment, starting at 1, or 0 if the project is not segmented")
+    int segmentId;
+
+    @Label("File Count")
+    @Description("Amount of source files that the phase concerns")
+    int fileCount;
+
+    @Label("Violation Count")
+    @Description("Amount of rule violations that the phase concerns")
+    int violationCount;
+
+    /** @param emitting Whether Sorald's events are emitted to running recordings. */
+    public static void setEmitting(boolean emitting) {
+        SoraldJfrEvent.emitting = emitting;
+    }
+
+    /** @return Whether Sorald's events are emitted to running recordings. */
+    public static boolean isEmitting() {
+        return emitting;
+    }
+
+    /** Start the timing of the event, if events are emitted. */
+    public void start() {
+        if (emitting) {
+            begin();
+        }
+    }
+
+    /** End the timing of the event and commit it, if events are emitted. */
+    public void finish() {
+        if (emitting && shouldCommit()) {
+            commit();
+        }
+    }
+
+    public SoraldJfrEvent setRuleKey(String ruleKey) {
+        this.ruleKey = ruleKey;
+        return this;
+    }
+
+    public SoraldJfrEvent setSegmentId(int segmentId) {
+        this.segmentId = segmentId;
+        return this;
+    }
+
+    public SoraldJfrEvent setFileCount(int fileCount) {
+        this.fileCount = fileCount;
+        return this;
+    }
+
+    /**
+     * Set the file count to the amount of compilation units in a model.
+     *
+     * @param model A model.
+     * @return This event.
+     */
+    public SoraldJfrEvent setFileCount(CtModel model) {
+        return setFileCount(
+                model.getUnnamedModule().getFactory().CompilationUnit().getMap().size());
+    }
+
+    public SoraldJfrEvent setViolationCount(int violationCount) {
+        this.violationCount = violationCount;
+        return this;
+    }
+}
@@ -0,0 +1,71 @@
+package sorald.event.models;
+
+import sorald.event.EventType;
+import sorald.event.SoraldEvent;
+
+/**
+ * Event recording the duration of a single span of a phase of execution. The duration is measured
+ * with {@link System#nanoTime()}, and the event is fired when the span ends.
+ */
+public class PhaseEvent implements SoraldEvent {
+    /** The phases of execution that are measured. */
+    public enum Phase {
+        /** Sonar analysis of the source files, labeled with the analyzed rule keys. */
+        ANALYSIS,
+        /** Building a Spoon model, labeled with the built segment. */
+        MODEL_BUILD,
+        /** Matching violations to Spoon elements, labeled with the rule key. */
+        BEST_FIT,
+        /** A single call to a processor's process method, labeled with the processor. */
+        PROCESS,
+        /** Pretty-printing a compilation unit, labeled with the file. */
+        PRINT,
+        /** Writing a printed compilation unit to disk, labeled with the file. */
+        WRITE
+    }
+
+    private final Phase phase;
+    private final String label;
+    private final long durationNanos;
+
+    /**
+     * @param phase The phase that the span belongs to.
+     * @param label The label of the span, such as a rule key or a file, which the phase is broken
+     *     down by.
+     * @param durationNanos The duration of the span in nanoseconds.
+     */
+    public PhaseEvent(Phase phase, String label, long durationNanos) {
+        this.phase = phase;
+        this.label = label;
+        this.durationNanos = durationNanos;
+    }
+
+    /**
+     * Create an event for a span that started at the given time and ends now.
+     *
+     * @param phase The phase that the span belongs to.
+     * @param label The label of the span.
+     * @param startNanos The start of the span, as given by {@link System#nanoTime()}.
+     * @return An event for the span.
+     */
+    public static PhaseEvent endingNow(Phase phase, String label, long startNanos) {
+        return new PhaseEvent(phase, label, System.nanoTime() - startNanos);
+    }
+
+    @Override
+    public EventType type() {
+        return EventType.PHASE;
+    }
+
+    public Phase getPhase() {
+        return phase;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+}
@@ -0,0 +1,114 @@
+package sorald.event.models.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Histogram of latencies in nanoseconds, with one bucket per power of two. Recording a latency is
+ * constant time and the histogram has a fixed size, at the cost of percentiles only being accurate
+ * to within a factor of two.
+ */
+public class LatencyHistogram {
+    private static final int NUM_BUCKETS = Long.SIZE;
+
+    /** Bucket i holds latencies in [2^(i-1), 2^i), with bucket 0 holding latencies of 0. */
+    private final long[] bucketCounts = new long[NUM_BUCKETS];
+
+    private long count = 0;
+    private long totalNanos = 0;
+    private long minNanos = Long.MAX_VALUE;
+    private long maxNanos = 0;
+
+    /** @param nanos A latency in nanoseconds. Negative latencies are recorded as 0. */
+    public void record(long nanos) {
+        long latency = Math.max(0, nanos);
+        bucketCounts[Long.SIZE - Long.numberOfLeadingZeros(latency)]++;
+        count++;
+        totalNanos += latency;
+        minNanos = Math.min(minNanos, latency);
+        maxNanos = Math.max(maxNanos, latency);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    public long getMinNanos() {
+        return count == 0 ? 0 : minNanos;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    public long getMeanNanos() {
+        return count == 0 ? 0 : totalNanos / count;
+    }
+
+    public long getP50Nanos() {
+        return percentile(0.5);
+    }
+
+    public long getP90Nanos() {
+        return percentile(0.9);
+    }
+
+    public long getP99Nanos() {
+        return percentile(0.99);
+    }
+
+    /** @return The non-empty buckets of the histogram, in order of increasing latency. */
+    public List<Bucket> getBuckets() {
+        List<Bucket> buckets = new ArrayList<>();
+        for (int i = 0; i < NUM_BUCKETS; i++) {
+            if (bucketCounts[i] > 0) {
+                buckets.add(new Bucket(upperBound(i), bucketCounts[i]));
+            }
+        }
+        return buckets;
+    }
+
+    /**
+     * @param fraction A fraction in (0, 1].
+     * @return The upper bound of the bucket that contains the given percentile, capped by the max
+     *     recorded latency.
+     */
+    long percentile(double fraction) {
+        long threshold = (long) Math.ceil(fraction * count);
+        long cumulative = 0;
+        for (int i = 0; i < NUM_BUCKETS; i++) {
+            cumulative += bucketCounts[i];
+            if (cumulative >= threshold && cumulative > 0) {
+                return Math.min(upperBound(i), maxNanos);
+            }
+        }
+        return 0;
+    }
+
+    private static long upperBound(int bucket) {
+        return bucket >= Long.SIZE - 1 ? Long.MAX_VALUE : 1L << bucket;
+    }
+
+    /** A bucket of latencies below an upper bound. */
+    public static class Bucket {
+        private final long upperBoundNanos;
+        private final long count;
+
+        Bucket(long upperBoundNanos, long count) {
+            this.upperBoundNanos = upperBoundNanos;
+            this.count = count;
+        }
+
+        public long getUpperBoundNanos() {
+            return upperBoundNanos;
+        }
+
+        public long getCount() {
+            return count;
+        }
+    }
+}
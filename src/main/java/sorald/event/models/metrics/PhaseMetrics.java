@@ -0,0 +1,81 @@
+package sorald.event.models.metrics;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import sorald.event.models.PhaseEvent;
+
+/**
+ * Metrics of all spans of a single phase. Latencies of the phase as a whole are kept in a
+ * histogram, while the breakdown by label only keeps totals so that phases with one label per
+ * file stay small.
+ */
+public class PhaseMetrics {
+    private final PhaseEvent.Phase phase;
+    private final LatencyHistogram histogram = new LatencyHistogram();
+    private final Map<String, LabelMetrics> labelToMetrics = new HashMap<>();
+
+    public PhaseMetrics(PhaseEvent.Phase phase) {
+        this.phase = phase;
+    }
+
+    /**
+     * @param label The label of a span.
+     * @param nanos The duration of the span in nanoseconds.
+     */
+    public void record(String label, long nanos) {
+        histogram.record(nanos);
+        labelToMetrics.computeIfAbsent(label, LabelMetrics::new).record(nanos);
+    }
+
+    public String getPhase() {
+        return phase.name();
+    }
+
+    public LatencyHistogram getHistogram() {
+        return histogram;
+    }
+
+    /** @return Metrics per label, ordered by decreasing total time. */
+    public List<LabelMetrics> getBreakdown() {
+        return labelToMetrics.values().stream()
+                .sorted(Comparator.comparingLong(LabelMetrics::getTotalNanos).reversed())
+                .collect(Collectors.toList());
+    }
+
+    /** Totals of all spans with the same label. */
+    public static class LabelMetrics {
+        private final String label;
+        private long count = 0;
+        private long totalNanos = 0;
+        private long maxNanos = 0;
+
+        LabelMetrics(String label) {
+            this.label = label;
+        }
+
+        void record(long nanos) {
+            count++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+    }
+}
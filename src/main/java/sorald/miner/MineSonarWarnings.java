@@ -1,73 +1,204 @@
 package sorald.miner;
 
 import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import org.eclipse.jgit.api.Git;
 import sorald.FileUtils;
 import sorald.event.EventHelper;
 import sorald.event.EventType;
+import sorald.event.SoraldEvent;
 import sorald.event.SoraldEventHandler;
+import sorald.event.jfr.AnalyzeJfrEvent;
+import sorald.event.jfr.MineJfrEvent;
+import sorald.event.models.PhaseEvent;
 import sorald.event.models.miner.MinedViolationEvent;
 import sorald.rule.Rule;
 import sorald.rule.RuleViolation;
 import sorald.sonar.ProjectScanner;
+import sorald.sonar.ScanOptions;
+import sorald.support.CanonicalPaths;
 
 public class MineSonarWarnings {
     final List<SoraldEventHandler> eventHandlers;
     private final List<String> classpath;
+    private final ScanOptions scanOptions;
 
     public MineSonarWarnings(
             List<? extends SoraldEventHandler> eventHandlers, List<String> classpath) {
+        this(eventHandlers, classpath, new ScanOptions());
+    }
+
+    /**
+     * @param eventHandlers Event handlers to fire mining events to.
+     * @param classpath Classpath to fetch type information from.
+     * @param scanOptions Options for scanning the mined projects.
+     */
+    public MineSonarWarnings(
+            List<? extends SoraldEventHandler> eventHandlers,
+            List<String> classpath,
+            ScanOptions scanOptions) {
         this.eventHandlers = Collections.unmodifiableList(eventHandlers);
         this.classpath = classpath;
+        this.scanOptions = scanOptions;
     }
 
     public void mineGitRepos(
             List<Rule> rules, String outputPath, List<String> reposList, File repoDir)
             throws IOException {
-        // stats on a list of git repos
-        for (String repo : reposList) {
-            String repoName = repo.substring(repo.lastIndexOf('/') + 1, repo.lastIndexOf("."));
-
-            org.apache.commons.io.FileUtils.cleanDirectory(repoDir);
+        mineGitRepos(rules, outputPath, reposList, repoDir, 1);
+    }
 
-            boolean isCloned = false;
+    /**
+     * Mine a list of git repos, of which up to repoThreads are cloned and analyzed concurrently.
+     * Each repo is shallowly cloned into its own temporary directory inside of the repo directory,
+     * which is deleted once the repo has been analyzed. Repos may be given as any URL that git
+     * understands, including file:// URLs to local bare mirrors.
+     *
+     * <p>The results of each repo are appended to the output file as a single block as soon as the
+     * repo has been mined. With more than one thread, the blocks are therefore in order of
+     * completion rather than in the order of the repos list. The mined violations of each repo are
+     * likewise fired as a single block, and the mining start and end events span all repos.
+     *
+     * @param rules Rules to find violations of.
+     * @param outputPath Path to the file to append the results to.
+     * @param reposList URLs of the repos to mine.
+     * @param repoDir Directory to clone repos into.
+     * @param repoThreads Amount of repos to mine concurrently. Must be at least 1.
+     * @throws IOException If the output file could not be written to.
+     */
+    public void mineGitRepos(
+            List<Rule> rules,
+            String outputPath,
+            List<String> reposList,
+            File repoDir,
+            int repoThreads)
+            throws IOException {
+        if (repoThreads < 1) {
+            throw new IllegalArgumentException(
+                    "repo threads must be at least 1, got: " + repoThreads);
+        }
+        Files.createDirectories(repoDir.toPath());
 
-            try {
-                Git git = Git.cloneRepository().setURI(repo).setDirectory(repoDir).call();
-                git.close();
-                isCloned = true;
-            } catch (Exception e) {
-                e.printStackTrace();
+        fireEvent(() -> EventType.MINING_START);
+        ExecutorService executor = Executors.newFixedThreadPool(repoThreads);
+        try (PrintWriter output = new PrintWriter(new FileWriter(outputPath, true))) {
+            List<Future<?>> minedRepos = new ArrayList<>();
+            for (String repo : reposList) {
+                minedRepos.add(
+                        executor.submit(
+                                () -> {
+                                    mineGitRepo(rules, repo, repoDir.toPath(), output);
+                                    return null;
+                                }));
             }
+            for (Future<?> minedRepo : minedRepos) {
+                awaitMinedRepo(minedRepo);
+            }
+            fireEvent(() -> EventType.MINING_END);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 
-            Map<String, Integer> warnings = extractWarnings(repoDir.getAbsolutePath(), rules);
-
-            PrintWriter pw = new PrintWriter(new FileWriter(outputPath, true));
-
-            if (isCloned) {
-                pw.println("RepoName: " + repoName);
-
-                warnings.entrySet().stream()
+    private void mineGitRepo(List<Rule> rules, String repo, Path repoDir, PrintWriter output)
+            throws IOException {
+        String repoName = getRepoName(repo);
+        Path cloneDir = Files.createTempDirectory(repoDir, repoName + "-");
+        try {
+            List<String> lines = new ArrayList<>();
+            if (shallowClone(repo, cloneDir)) {
+                lines.add("RepoName: " + repoName);
+                extractWarnings(cloneDir.toString(), rules).entrySet().stream()
                         .sorted(Collections.reverseOrder(Map.Entry.comparingByValue()))
-                        .forEach(pw::println);
+                        .map(Object::toString)
+                        .forEach(lines::add);
             } else {
-                pw.println("RepoName: " + repoName + " not_cloned");
+                lines.add("RepoName: " + repoName + " not_cloned");
             }
+            writeLines(output, lines);
+        } finally {
+            org.apache.commons.io.FileUtils.deleteQuietly(cloneDir.toFile());
+            // the paths of a deleted clone are never requested again
+            CanonicalPaths.forgetAllIn(cloneDir);
+        }
+    }
+
+    private static boolean shallowClone(String repo, Path dir) {
+        try {
+            Git.cloneRepository()
+                    .setURI(repo)
+                    .setDirectory(dir.toFile())
+                    .setDepth(1)
+                    .setNoTags()
+                    .call()
+                    .close();
+            return true;
+        } catch (Exception e) {
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    /** Write the lines as a single block, such that the output of concurrent repos never mixes. */
+    private static void writeLines(PrintWriter output, List<String> lines) {
+        synchronized (output) {
+            lines.forEach(output::println);
+            output.flush();
+        }
+    }
 
-            pw.flush();
-            pw.close();
+    private static void awaitMinedRepo(Future<?> minedRepo) throws IOException {
+        try {
+            minedRepo.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("interrupted while mining repos");
         }
     }
 
+    /** @return The name of the repo, which is the last path segment without the .git suffix. */
+    static String getRepoName(String repo) {
+        String path = repo.endsWith("/") ? repo.substring(0, repo.length() - 1) : repo;
+        String name = path.substring(path.lastIndexOf('/') + 1);
+        return name.endsWith(".git") ? name.substring(0, name.length() - ".git".length()) : name;
+    }
+
     public void mineLocalProject(List<Rule> rules, String projectPath) {
+        mineLocalProject(rules, projectPath, System.out);
+    }
+
+    /**
+     * Mine a local project and print the amount of violations per rule.
+     *
+     * @param rules Rules to find violations of.
+     * @param projectPath The root path to a Java project.
+     * @param out Stream to print the amount of violations per rule to.
+     */
+    public void mineLocalProject(List<Rule> rules, String projectPath, PrintStream out) {
+        fireEvent(() -> EventType.MINING_START);
         Map<String, Integer> warnings = extractWarnings(projectPath, rules);
+        fireEvent(() -> EventType.MINING_END);
 
         warnings.entrySet().stream()
                 .sorted(Collections.reverseOrder(Map.Entry.comparingByValue()))
-                .forEach(System.out::println);
+                .forEach(out::println);
     }
 
     /**
@@ -83,21 +214,31 @@ public class MineSonarWarnings {
 
         Consumer<Rule> incrementWarningCount = (rule) -> warnings.put(rule, warnings.get(rule) + 1);
 
-        EventHelper.fireEvent(EventType.MINING_START, eventHandlers);
+        var mineJfrEvent = new MineJfrEvent();
+        mineJfrEvent.start();
+        long analysisStart = System.nanoTime();
+        var analyzeJfrEvent = new AnalyzeJfrEvent();
+        analyzeJfrEvent.start();
         Set<RuleViolation> ruleViolations =
                 ProjectScanner.scanProject(
-                        target, FileUtils.getClosestDirectory(target), rules, classpath);
-        EventHelper.fireEvent(EventType.MINING_END, eventHandlers);
+                        target,
+                        FileUtils.getClosestDirectory(target),
+                        rules,
+                        classpath,
+                        scanOptions);
+        fireEvent(PhaseEvent.endingNow(PhaseEvent.Phase.ANALYSIS, projectPath, analysisStart));
+        String ruleKeys = rules.stream().map(Rule::getKey).collect(Collectors.joining(","));
+        analyzeJfrEvent.setRuleKey(ruleKeys).setViolationCount(ruleViolations.size()).finish();
 
         ruleViolations.stream()
                 .map(RuleViolation::getRuleKey)
                 .map(Rule::of)
                 .forEach(incrementWarningCount);
 
-        ruleViolations.forEach(
-                v ->
-                        EventHelper.fireEvent(
-                                new MinedViolationEvent(v, Paths.get(projectPath)), eventHandlers));
+        fireEvents(
+                ruleViolations.stream()
+                        .map(v -> new MinedViolationEvent(v, Paths.get(projectPath)))
+                        .collect(Collectors.toList()));
 
         Map<String, Integer> warningsWithUpdateKeys = new HashMap<>();
         warnings.forEach(
@@ -105,6 +246,19 @@ public class MineSonarWarnings {
                         warningsWithUpdateKeys.put(
                                 rule.getName() + "Check" + "<" + rule.getKey() + ">", count));
 
+        mineJfrEvent.setRuleKey(ruleKeys).setViolationCount(ruleViolations.size()).finish();
         return warningsWithUpdateKeys;
     }
+
+    /** Fire an event. Events of concurrently mined repos are handed to the handlers one by one. */
+    private void fireEvent(SoraldEvent event) {
+        fireEvents(List.of(event));
+    }
+
+    /** Fire events as a single block, such that the events of concurrently mined repos never mix. */
+    private void fireEvents(List<? extends SoraldEvent> events) {
+        synchronized (eventHandlers) {
+            events.forEach(event -> EventHelper.fireEvent(event, eventHandlers));
+        }
+    }
 }
@@ -9,11 +9,13 @@ import java.util.stream.Stream;
 import org.apache.commons.lang3.tuple.Pair;
 import sorald.Constants;
 import sorald.annotations.ProcessorAnnotation;
+import sorald.annotations.RequiresViolationMessage;
 import sorald.rule.RuleViolation;
 import spoon.reflect.code.*;
 import spoon.reflect.factory.TypeFactory;
 import spoon.reflect.reference.CtTypeReference;
 
+@RequiresViolationMessage
 @ProcessorAnnotation(key = "S2184", description = "Math operands should be cast before assignment")
 public class CastArithmeticOperandProcessor extends SoraldAbstractProcessor<CtBinaryOperator> {
 
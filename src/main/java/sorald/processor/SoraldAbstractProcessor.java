@@ -11,6 +11,7 @@ import sorald.annotations.ProcessorAnnotation;
 import sorald.event.EventHelper;
 import sorald.event.SoraldEventHandler;
 import sorald.event.models.CrashEvent;
+import sorald.event.models.PhaseEvent;
 import sorald.event.models.RepairEvent;
 import sorald.rule.RuleViolation;
 import spoon.processing.AbstractProcessor;
@@ -23,6 +24,7 @@ public abstract class SoraldAbstractProcessor<E extends CtElement> extends Abstr
     private final List<RuleViolation> processedViolations;
 
     private Map<CtElement, RuleViolation> bestFits;
+    private String ruleKey;
 
     @SuppressWarnings("unchecked")
     public SoraldAbstractProcessor() {
@@ -156,6 +158,18 @@ public abstract class SoraldAbstractProcessor<E extends CtElement> extends Abstr
 
     @Override
     public final void process(E element) {
+        long start = System.nanoTime();
+        try {
+            processBestFit(element);
+        } finally {
+            EventHelper.fireEvent(
+                    PhaseEvent.endingNow(
+                            PhaseEvent.Phase.PROCESS, getClass().getSimpleName(), start),
+                    eventHandlers);
+        }
+    }
+
+    private void processBestFit(E element) {
         CtElement elementClone = element.clone();
         elementClone.setParent(element.getParent());
         try {
@@ -184,14 +198,18 @@ public abstract class SoraldAbstractProcessor<E extends CtElement> extends Abstr
 
     /** @return The numerical identifier of the rule this processor is related to */
     public String getRuleKey() {
-        return Arrays.stream(getClass().getAnnotationsByType(ProcessorAnnotation.class))
-                .map(ProcessorAnnotation::key)
-                .findFirst()
-                .orElseThrow(
-                        () ->
-                                new IllegalStateException(
-                                        getClass().getName() + " does not have a key"))
-                .toString();
+        if (ruleKey == null) {
+            ruleKey =
+                    Arrays.stream(getClass().getAnnotationsByType(ProcessorAnnotation.class))
+                            .map(ProcessorAnnotation::key)
+                            .findFirst()
+                            .orElseThrow(
+                                    () ->
+                                            new IllegalStateException(
+                                                    getClass().getName() + " does not have a key"))
+                            .toString();
+        }
+        return ruleKey;
     }
 
     /** @return The concrete type that this processor accepts. */
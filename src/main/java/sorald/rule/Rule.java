@@ -15,12 +15,12 @@ public interface Rule {
     RuleType getType();
 
     /**
-     * Create a rule based on the key.
+     * Get the rule with the given key. Rules are cached, so this does not allocate.
      *
-     * @param key A key for which to create a rule.
+     * @param key A key for which to get a rule.
      * @return A rule based on the key.
      */
     static Rule of(String key) {
-        return new SonarRule(key);
+        return SonarRule.of(key);
     }
 }
@@ -1,7 +1,6 @@
 package sorald.rule;
 
 import java.nio.file.Path;
-import java.util.Objects;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import sorald.Constants;
@@ -54,6 +53,9 @@ public abstract class RuleViolation implements Comparable<RuleViolation> {
 
     @Override
     public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
         if (!(obj instanceof RuleViolation)) {
             return false;
         }
@@ -61,39 +63,59 @@ public abstract class RuleViolation implements Comparable<RuleViolation> {
 
         // IMPORTANT: The message is intentionally not part of the equality check to allow for
         // comparing message-less implementations with those that do carry messages
-        return getAbsolutePath().equals(other.getAbsolutePath())
-                && getRuleKey().equals(other.getRuleKey())
-                && getStartLine() == other.getStartLine()
+        return getStartLine() == other.getStartLine()
                 && getEndLine() == other.getEndLine()
                 && getStartCol() == other.getStartCol()
-                && getEndCol() == other.getEndCol();
+                && getEndCol() == other.getEndCol()
+                && samePath(getAbsolutePath(), other.getAbsolutePath())
+                && getRuleKey().equals(other.getRuleKey());
     }
 
     @Override
     public int hashCode() {
         // IMPORTANT: The message is intentionally not part of the hash code to allow for
         // comparing message-less implementations with those that do carry messages
-        return Objects.hash(
-                getAbsolutePath(),
-                getRuleKey(),
-                getStartLine(),
-                getEndLine(),
-                getStartCol(),
-                getEndCol());
+
+        // computed by hand rather than with Objects.hash to avoid boxing and varargs allocation
+        int hash = getAbsolutePath().hashCode();
+        hash = 31 * hash + getRuleKey().hashCode();
+        hash = 31 * hash + getStartLine();
+        hash = 31 * hash + getEndLine();
+        hash = 31 * hash + getStartCol();
+        hash = 31 * hash + getEndCol();
+        return hash;
     }
 
+    /**
+     * Violations are ordered by path, rule key, start line, start column, end line and end column,
+     * such that only equal violations compare as equal. The end line is compared by itself, so
+     * violations that only differ in end line are kept apart in sorted collections.
+     */
     @Override
     public int compareTo(RuleViolation violation) {
-        int fileCmp = getAbsolutePath().compareTo(violation.getAbsolutePath());
-        int ruleCmp = getRuleKey().compareTo(violation.getRuleKey());
-        int startLineCmp = Integer.compare(getStartLine(), violation.getStartLine());
-        int startColCmp = Integer.compare(getStartCol(), violation.getStartCol());
-        int endLineCmp = Integer.compare(getEndCol(), violation.getEndCol());
-        int endColCmp = Integer.compare(getEndCol(), violation.getEndCol());
-
-        return Stream.of(fileCmp, ruleCmp, startLineCmp, startColCmp, endLineCmp, endColCmp)
-                .filter(i -> i != 0)
-                .findFirst()
-                .orElse(0);
+        Path path = getAbsolutePath();
+        Path otherPath = violation.getAbsolutePath();
+        int cmp = path == otherPath ? 0 : path.compareTo(otherPath);
+        if (cmp == 0) {
+            cmp = getRuleKey().compareTo(violation.getRuleKey());
+        }
+        if (cmp == 0) {
+            cmp = Integer.compare(getStartLine(), violation.getStartLine());
+        }
+        if (cmp == 0) {
+            cmp = Integer.compare(getStartCol(), violation.getStartCol());
+        }
+        if (cmp == 0) {
+            cmp = Integer.compare(getEndLine(), violation.getEndLine());
+        }
+        if (cmp == 0) {
+            cmp = Integer.compare(getEndCol(), violation.getEndCol());
+        }
+        return cmp;
+    }
+
+    /** Paths are typically interned, so an identity check usually avoids a full comparison. */
+    private static boolean samePath(Path lhs, Path rhs) {
+        return lhs == rhs || lhs.equals(rhs);
     }
 }
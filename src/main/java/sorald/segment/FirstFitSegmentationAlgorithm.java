@@ -1,51 +1,208 @@
 package sorald.segment;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.ToLongFunction;
 
 public class FirstFitSegmentationAlgorithm {
+    /**
+     * Default estimate of the amount of heap used by the Spoon model per byte of parsed source
+     * code, including the JDT compilation that the model is built from. Building the model of the
+     * JDK 17 java.util sources (8.6 MiB) needs a heap of between 240 and 320 MiB, or 28 to 37 bytes
+     * per source byte, and the built model retains 18 to 25 bytes per source byte. The estimate
+     * doubles the former to leave room for repairing and printing the model, and for the fixed
+     * overhead of a model, which weighs more per byte in smaller segments.
+     */
+    public static final int DEFAULT_HEAP_BYTES_PER_SOURCE_BYTE = 64;
+
+    /** Fraction of the heap that segments may occupy, leaving room for everything else. */
+    static final double USABLE_HEAP_FRACTION = 0.5;
+
     private FirstFitSegmentationAlgorithm() {}
 
     public static LinkedList<LinkedList<Node>> segment(Node startNode, int maxFiles) {
         LinkedList<Node> resources4Repair = new LinkedList<Node>();
         resources4Repair.add(startNode);
-        return segmentHelper(resources4Repair, maxFiles);
+        return segmentHelper(resources4Repair, maxFiles, Node::getJavaFilesNbs, file -> 1);
+    }
+
+    /**
+     * Segment the given nodes, in order, such that each segment contains at most the given amount
+     * of files.
+     *
+     * @param nodes Nodes to segment.
+     * @param maxFiles The max amount of files per segment.
+     * @return The segments.
+     */
+    public static LinkedList<LinkedList<Node>> segmentAll(List<Node> nodes, int maxFiles) {
+        return segmentHelper(new LinkedList<>(nodes), maxFiles, Node::getJavaFilesNbs, file -> 1);
+    }
+
+    /**
+     * Segment by the size of the source files, such that the sum of the sizes of the files in each
+     * segment does not exceed the given maximum. A single file that exceeds the maximum is put in a
+     * segment of its own.
+     *
+     * @param startNode The root node of the tree to segment.
+     * @param maxSourceBytes The max amount of bytes of source code per segment.
+     * @return The segments.
+     */
+    public static LinkedList<LinkedList<Node>> segmentBySourceSize(
+            Node startNode, long maxSourceBytes) {
+        Map<String, Long> fileSizes = new HashMap<>();
+        ToLongFunction<String> fileWeight =
+                file -> fileSizes.computeIfAbsent(file, FirstFitSegmentationAlgorithm::sizeOf);
+        Map<Node, Long> nodeWeights = new IdentityHashMap<>();
+
+        LinkedList<Node> resources4Repair = new LinkedList<Node>();
+        resources4Repair.add(startNode);
+        return segmentHelper(
+                resources4Repair,
+                maxSourceBytes,
+                node -> weigh(node, fileWeight, nodeWeights),
+                fileWeight);
+    }
+
+    /**
+     * Compute the max amount of source code per segment that can be parsed without running out of
+     * memory. The size of the model of a segment is estimated from the size of its source code.
+     *
+     * @param maxHeapBytes The max size of the heap, typically {@link Runtime#maxMemory()}.
+     * @param maxSegmentsInMemory The max amount of segments that are kept in memory at once.
+     * @param heapBytesPerSourceByte The estimated amount of heap used per byte of source code, see
+     *     {@link #DEFAULT_HEAP_BYTES_PER_SOURCE_BYTE}.
+     * @return The max amount of bytes of source code per segment.
+     */
+    public static long maxSourceBytesPerSegment(
+            long maxHeapBytes, int maxSegmentsInMemory, int heapBytesPerSourceByte) {
+        long usableHeapBytes = (long) (maxHeapBytes * USABLE_HEAP_FRACTION);
+        return Math.max(1, usableHeapBytes / maxSegmentsInMemory / heapBytesPerSourceByte);
+    }
+
+    /**
+     * Split a segment into smaller segments that together contain the same files. Directory nodes
+     * are split into their children, and file nodes into two halves.
+     *
+     * @param segment A segment.
+     * @return The smaller segments, or a list with only the given segment if it consists of a
+     *     single file and can't be split.
+     */
+    public static List<LinkedList<Node>> split(LinkedList<Node> segment) {
+        if (segment.size() > 1) {
+            int middle = segment.size() / 2;
+            return List.of(
+                    new LinkedList<>(segment.subList(0, middle)),
+                    new LinkedList<>(segment.subList(middle, segment.size())));
+        } else if (segment.isEmpty()) {
+            return List.of(segment);
+        }
+
+        Node node = segment.getFirst();
+        if (node.isDirNode() && !node.getChildren().isEmpty()) {
+            return split(new LinkedList<>(node.getChildren()));
+        } else if (node.isFileNode() && node.getJavaFiles().size() > 1) {
+            Pair<Node, Node> halves = splitFileNode(node, node.getJavaFiles().size() / 2);
+            return List.of(
+                    new LinkedList<>(List.of(halves.getFirst())),
+                    new LinkedList<>(List.of(halves.getSecond())));
+        }
+        return List.of(segment);
     }
 
     private static LinkedList<LinkedList<Node>> segmentHelper(
-            LinkedList<Node> resources4Repair, int maxFiles) {
+            LinkedList<Node> resources4Repair,
+            long maxWeight,
+            ToLongFunction<Node> nodeWeight,
+            ToLongFunction<String> fileWeight) {
         LinkedList<LinkedList<Node>> segments = new LinkedList<LinkedList<Node>>();
         LinkedList<Node> segment = new LinkedList<Node>();
-        int currentAddedFiles = 0;
+        long currentWeight = 0;
         while (!resources4Repair.isEmpty()) {
             Node node = resources4Repair.pop();
-            if (currentAddedFiles + node.getJavaFilesNbs() > maxFiles) {
+            boolean splittable = node.isFileNode() || node.getChildren().size() != 0;
+            if (splittable && currentWeight + nodeWeight.applyAsLong(node) > maxWeight) {
                 // keep splitting dir node if does not fit until not-splittable
-                if (node.isDirNode() && node.getChildren().size() != 0) {
+                if (node.isDirNode()) {
                     resources4Repair.addAll(0, node.getChildren());
                 } else {
                     // it's a file node , need to be splitted.
-                    int index = maxFiles - currentAddedFiles;
-                    Pair<Node, Node> splitted = splitFileNode(node, index);
+                    int index = countFittingFiles(node, maxWeight - currentWeight, fileWeight);
+                    if (index == 0 && !segment.isEmpty()) {
+                        // not even the first file fits, retry with a fresh segment
+                        resources4Repair.addFirst(node);
+                        segments.add(segment);
+                        currentWeight = 0;
+                        segment = new LinkedList<Node>();
+                        continue;
+                    }
+                    // a single file that exceeds the max weight gets a segment of its own
+                    Pair<Node, Node> splitted = splitFileNode(node, Math.max(index, 1));
                     segment.add(splitted.getFirst());
-                    resources4Repair.addFirst(splitted.getSecond());
+                    if (splitted.getSecond() != null) {
+                        resources4Repair.addFirst(splitted.getSecond());
+                    }
                     segments.add(segment);
-                    currentAddedFiles = 0;
+                    currentWeight = 0;
                     segment = new LinkedList<Node>();
                 }
             } else {
                 segment.add(node);
-                currentAddedFiles += node.getJavaFilesNbs();
+                currentWeight += nodeWeight.applyAsLong(node);
             }
-            if (resources4Repair.isEmpty() || maxFiles - currentAddedFiles == 0) {
+            boolean full = resources4Repair.isEmpty() || currentWeight >= maxWeight;
+            if (full && !segment.isEmpty()) {
                 segments.add(segment);
-                currentAddedFiles = 0;
+                currentWeight = 0;
                 segment = new LinkedList<Node>();
             }
         }
         return segments;
     }
 
+    private static int countFittingFiles(
+            Node fileNode, long remainingWeight, ToLongFunction<String> fileWeight) {
+        int count = 0;
+        long weight = 0;
+        for (String file : fileNode.getJavaFiles()) {
+            weight += fileWeight.applyAsLong(file);
+            if (weight > remainingWeight) {
+                break;
+            }
+            count++;
+        }
+        return count;
+    }
+
+    private static long weigh(
+            Node node, ToLongFunction<String> fileWeight, Map<Node, Long> nodeWeights) {
+        Long cached = nodeWeights.get(node);
+        if (cached != null) {
+            return cached;
+        }
+
+        long weight = node.getJavaFiles().stream().mapToLong(fileWeight).sum();
+        for (Node child : node.getChildren()) {
+            weight += weigh(child, fileWeight, nodeWeights);
+        }
+        nodeWeights.put(node, weight);
+        return weight;
+    }
+
+    private static long sizeOf(String file) {
+        try {
+            return Files.size(Path.of(file));
+        } catch (IOException e) {
+            // an unreadable file will fail to parse regardless of which segment it is in
+            return 0;
+        }
+    }
+
     public static Pair<Node, Node> splitFileNode(Node fileNode, int index) {
         if (!(index > 0 || index < fileNode.getJavaFiles().size())) {
             System.out.println(
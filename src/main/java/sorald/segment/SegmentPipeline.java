@@ -0,0 +1,240 @@
+package sorald.segment;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import sorald.event.jfr.ParseJfrEvent;
+import spoon.reflect.CtModel;
+
+/**
+ * Pipeline that parses segments on a pool of worker threads ahead of their consumption. While the
+ * consumer of the pipeline repairs and prints one segment, the subsequent segments are parsed in
+ * the background.
+ *
+ * <p>Parsed segments are always handed out one at a time in segment order on the consuming thread,
+ * so whatever is done with the parsed models (e.g. running processors and firing events) is never
+ * done concurrently. Parsing is the only concurrent stage.
+ */
+public class SegmentPipeline {
+    private final int numThreads;
+    private final int maxSegmentsInMemory;
+
+    /**
+     * @param numThreads The amount of worker threads to parse segments with. Must be at least 1.
+     * @param maxSegmentsInMemory The memory budget of the pipeline, expressed as the maximum amount
+     *     of segments that are parsed or being parsed at any given time, including the segment
+     *     currently being consumed. With a budget of 1, no segment is parsed ahead of time. Must be
+     *     at least 1.
+     */
+    public SegmentPipeline(int numThreads, int maxSegmentsInMemory) {
+        if (numThreads < 1) {
+            throw new IllegalArgumentException(
+                    "segment threads must be at least 1, got: " + numThreads);
+        }
+        if (maxSegmentsInMemory < 1) {
+            throw new IllegalArgumentException(
+                    "max segments in memory must be at least 1, got: " + maxSegmentsInMemory);
+        }
+        this.numThreads = numThreads;
+        this.maxSegmentsInMemory = maxSegmentsInMemory;
+    }
+
+    /**
+     * Lazily parse the given segments. A segment is not parsed before the stream is consumed, and
+     * the pipeline stops as soon as the budget is exhausted, at which point any segments that are
+     * still being parsed ahead of time are cancelled.
+     *
+     * @param segments Segments to parse.
+     * @param parseSegment Function that parses a segment into a model. This function is invoked
+     *     concurrently from the worker threads.
+     * @param hasRemainingBudget Predicate that is checked on the consuming thread before each
+     *     segment is handed out. Once it returns false, no further segments are parsed or handed
+     *     out.
+     * @return A stream of parsed segments in segment order.
+     */
+    public Stream<ParsedSegment> parse(
+            List<LinkedList<Node>> segments,
+            Function<LinkedList<Node>, CtModel> parseSegment,
+            BooleanSupplier hasRemainingBudget) {
+        var iterator = new ParsingIterator(segments.iterator(), parseSegment, hasRemainingBudget);
+        return StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .onClose(iterator::shutdown);
+    }
+
+    /** A segment whose model is parsed, or is being parsed, in the background. */
+    public static class ParsedSegment {
+        private final int id;
+        private final LinkedList<Node> segment;
+        private final Deque<LinkedList<Node>> retries;
+        private Future<CtModel> model;
+        private volatile long parseNanos;
+
+        private ParsedSegment(int id, LinkedList<Node> segment, Deque<LinkedList<Node>> retries) {
+            this.id = id;
+            this.segment = segment;
+            this.retries = retries;
+        }
+
+        private CtModel parse(Function<LinkedList<Node>, CtModel> parseSegment) {
+            long start = System.nanoTime();
+            var jfrEvent = new ParseJfrEvent();
+            jfrEvent.start();
+            try {
+                CtModel parsed = parseSegment.apply(segment);
+                jfrEvent.setFileCount(parsed);
+                return parsed;
+            } finally {
+                parseNanos = System.nanoTime() - start;
+                jfrEvent.setSegmentId(id).finish();
+            }
+        }
+
+        /**
+         * @return The sequence number of the segment in the order that segments are scheduled for
+         *     parsing, starting at 1. A retried segment gets a new number.
+         */
+        public int getId() {
+            return id;
+        }
+
+        /** @return The segment. */
+        public LinkedList<Node> getSegment() {
+            return segment;
+        }
+
+        /**
+         * Wait for the model of the segment to be parsed.
+         *
+         * @return The model of the segment.
+         * @throws Exception If parsing the segment crashed, or the wait was interrupted.
+         * @throws OutOfMemoryError If parsing the segment ran out of memory, in which case it may
+         *     be retried with {@link ParsedSegment#retryAs(List)}.
+         */
+        public CtModel awaitModel() throws Exception {
+            try {
+                return model.get();
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof Exception) {
+                    throw (Exception) cause;
+                } else if (cause instanceof OutOfMemoryError) {
+                    throw (OutOfMemoryError) cause;
+                }
+                throw e;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw e;
+            }
+        }
+
+        /**
+         * @return The time it took to parse the segment in nanoseconds. Only valid after {@link
+         *     ParsedSegment#awaitModel()} has returned.
+         */
+        public long getParseNanos() {
+            return parseNanos;
+        }
+
+        /**
+         * Schedule the given segments to be parsed in place of this segment. They are parsed
+         * before any other segment that is not yet being parsed.
+         *
+         * @param replacements Segments that together replace this segment.
+         */
+        public void retryAs(List<LinkedList<Node>> replacements) {
+            for (int i = replacements.size() - 1; i >= 0; i--) {
+                retries.addFirst(replacements.get(i));
+            }
+        }
+    }
+
+    private class ParsingIterator implements Iterator<ParsedSegment> {
+        private final Iterator<LinkedList<Node>> pending;
+        private final Function<LinkedList<Node>, CtModel> parseSegment;
+        private final BooleanSupplier hasRemainingBudget;
+        private final Deque<ParsedSegment> parsedAhead = new ArrayDeque<>();
+        private final Deque<LinkedList<Node>> retries = new ArrayDeque<>();
+        private int submittedSegments = 0;
+        private ExecutorService executor;
+
+        ParsingIterator(
+                Iterator<LinkedList<Node>> pending,
+                Function<LinkedList<Node>, CtModel> parseSegment,
+                BooleanSupplier hasRemainingBudget) {
+            this.pending = pending;
+            this.parseSegment = parseSegment;
+            this.hasRemainingBudget = hasRemainingBudget;
+        }
+
+        @Override
+        public boolean hasNext() {
+            boolean exhausted = parsedAhead.isEmpty() && !hasUnparsed();
+            if (exhausted || !hasRemainingBudget.getAsBoolean()) {
+                shutdown();
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        public ParsedSegment next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (parsedAhead.isEmpty()) {
+                submitNext();
+            }
+            ParsedSegment next = parsedAhead.poll();
+
+            // the segment handed out counts towards the budget until the next call to this method
+            while (parsedAhead.size() < maxSegmentsInMemory - 1 && hasUnparsed()) {
+                submitNext();
+            }
+            return next;
+        }
+
+        private boolean hasUnparsed() {
+            return !retries.isEmpty() || pending.hasNext();
+        }
+
+        private void submitNext() {
+            LinkedList<Node> segment = retries.isEmpty() ? pending.next() : retries.poll();
+            if (executor == null) {
+                executor = Executors.newFixedThreadPool(numThreads, SegmentPipeline::newDaemon);
+            }
+            var parsed = new ParsedSegment(++submittedSegments, segment, retries);
+            parsed.model = executor.submit(() -> parsed.parse(parseSegment));
+            parsedAhead.add(parsed);
+        }
+
+        void shutdown() {
+            parsedAhead.forEach(parsed -> parsed.model.cancel(true));
+            parsedAhead.clear();
+            if (executor != null) {
+                executor.shutdownNow();
+                executor = null;
+            }
+        }
+    }
+
+    private static Thread newDaemon(Runnable runnable) {
+        Thread thread = new Thread(runnable, "sorald-segment-parser");
+        // a consumer that abandons the stream must not keep the JVM alive
+        thread.setDaemon(true);
+        return thread;
+    }
+}
@@ -1,7 +1,13 @@
 package sorald.segment;
 
 import java.io.File;
-import sorald.Constants;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import sorald.util.SourceDiscovery;
 
 public class SoraldTreeBuilderAlgorithm {
     private SoraldTreeBuilderAlgorithm() {}
@@ -12,33 +18,43 @@ public class SoraldTreeBuilderAlgorithm {
         if (file.isFile()) {
             startNode.getJavaFiles().add(file.getAbsolutePath());
         } else {
-            construct4CurrentNode(startNode);
+            construct4Files(startNode, SourceDiscovery.findJavaFiles(file.toPath()));
         }
         return startNode;
     }
 
-    // return list of dir nodes and a files node from current dir node.
-    private static void construct4CurrentNode(Node node) {
-        if (node.isDirNode()) {
-            File currentDir = new File(node.getRootPath());
-            File[] filesList = currentDir.listFiles();
-            Node fileNode = new Node(node);
-            for (File f : filesList) {
-                if (f.isDirectory()) {
-                    node.getChildren().add(new Node(node, f.getAbsolutePath()));
-                } else if (f.isFile() && f.getPath().endsWith(Constants.JAVA_EXT)) {
-                    fileNode.getJavaFiles().add(f.getAbsolutePath());
-                }
-            }
-            if (fileNode.getJavaFiles().size() != 0) {
-                node.getChildren().add(fileNode);
-            }
+    // build the dir nodes and file nodes below the start node from the discovered java files.
+    // directories without any java files are not part of the tree.
+    private static void construct4Files(Node startNode, List<Path> javaFiles) {
+        Map<Path, List<String>> dirToFiles = new TreeMap<>();
+        for (Path javaFile : javaFiles) {
+            dirToFiles
+                    .computeIfAbsent(javaFile.getParent(), dir -> new ArrayList<>())
+                    .add(javaFile.toString());
         }
-        if (node.getJavaFiles().size() != 0) {
-            node.updateJavaFileNbs(node.getJavaFiles().size());
-        }
-        for (Node child : node.getChildren()) {
-            construct4CurrentNode(child);
+
+        Path root = Path.of(startNode.getRootPath()).toAbsolutePath().normalize();
+        Map<Path, Node> dirToNode = new HashMap<>();
+        dirToNode.put(root, startNode);
+        // all dir nodes are created first, as the file node of a directory is its last child
+        dirToFiles.keySet().forEach(dir -> getOrCreateDirNode(dir, dirToNode));
+        dirToFiles.forEach(
+                (dir, files) -> {
+                    Node fileNode = new Node(dirToNode.get(dir));
+                    fileNode.getJavaFiles().addAll(files);
+                    fileNode.getParent().getChildren().add(fileNode);
+                    fileNode.updateJavaFileNbs(files.size());
+                });
+    }
+
+    private static Node getOrCreateDirNode(Path dir, Map<Path, Node> dirToNode) {
+        Node node = dirToNode.get(dir);
+        if (node == null) {
+            Node parent = getOrCreateDirNode(dir.getParent(), dirToNode);
+            node = new Node(parent, dir.toString());
+            parent.getChildren().add(node);
+            dirToNode.put(dir, node);
         }
+        return node;
     }
 }
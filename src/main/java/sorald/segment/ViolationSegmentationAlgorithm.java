@@ -0,0 +1,170 @@
+package sorald.segment;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import sorald.Constants;
+import sorald.rule.RuleViolation;
+
+/**
+ * Segmentation that only includes the source files that need repair, instead of all source files
+ * in a directory. Each file with a violation is accompanied by the files in the same package and
+ * the source files that it imports, which are the files most likely to be needed for type
+ * resolution. Any other source file can be put on the classpath by way of its source root with
+ * {@link ViolationSegmentationAlgorithm#findSourceRoots(Collection)}, from which the compiler loads
+ * it only if it is referenced.
+ */
+public class ViolationSegmentationAlgorithm {
+    private static final Pattern PACKAGE_DECLARATION =
+            Pattern.compile("^\\s*package\\s+([\\w.]+)\\s*;", Pattern.MULTILINE);
+    private static final Pattern SINGLE_TYPE_IMPORT =
+            Pattern.compile("^\\s*import\\s+(?:static\\s+)?([\\w.]+)\\s*;", Pattern.MULTILINE);
+
+    private ViolationSegmentationAlgorithm() {}
+
+    /**
+     * Segment the files that are needed to repair the given violations.
+     *
+     * @param violations Violations to repair.
+     * @param maxFiles Max amount of files per segment.
+     * @return The segments, consisting only of file nodes.
+     */
+    public static LinkedList<LinkedList<Node>> segment(
+            Collection<RuleViolation> violations, int maxFiles) {
+        Set<Path> violatedFiles =
+                violations.stream()
+                        .map(RuleViolation::getAbsolutePath)
+                        .collect(Collectors.toCollection(TreeSet::new));
+
+        // files in the same directory are grouped in the same file node, like in the tree
+        Map<Path, List<String>> dirToFiles = new TreeMap<>();
+        for (Path file : findRequiredFiles(violatedFiles)) {
+            dirToFiles
+                    .computeIfAbsent(file.getParent(), dir -> new ArrayList<>())
+                    .add(file.toString());
+        }
+        List<Node> fileNodes =
+                dirToFiles.values().stream()
+                        .map(files -> new Node(null, files))
+                        .collect(Collectors.toList());
+        return FirstFitSegmentationAlgorithm.segmentAll(fileNodes, maxFiles);
+    }
+
+    /**
+     * Find the source roots of the given files, based on their package declarations.
+     *
+     * @param files Java source files.
+     * @return The source roots of the files. For a file that does not declare a package matching
+     *     its location, the directory of the file is considered to be its source root.
+     */
+    public static Set<Path> findSourceRoots(Collection<Path> files) {
+        return files.stream()
+                .map(ViolationSegmentationAlgorithm::findSourceRoot)
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    private static Set<Path> findRequiredFiles(Set<Path> violatedFiles) {
+        Set<Path> requiredFiles = new TreeSet<>(violatedFiles);
+        for (Path file : violatedFiles) {
+            requiredFiles.addAll(listSamePackageFiles(file));
+            requiredFiles.addAll(findImportedFiles(file));
+        }
+        return requiredFiles;
+    }
+
+    private static List<Path> listSamePackageFiles(Path file) {
+        try (Stream<Path> siblings = Files.list(file.getParent())) {
+            return siblings.filter(ViolationSegmentationAlgorithm::isJavaFile)
+                    .map(Path::toAbsolutePath)
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            return List.of();
+        }
+    }
+
+    /**
+     * Find the source files of single-type imports that are located in the same source root as the
+     * importing file. Wildcard imports are not resolved, as they may pull in entire packages.
+     */
+    private static Set<Path> findImportedFiles(Path file) {
+        Optional<String> content = readSource(file);
+        if (content.isEmpty()) {
+            return Set.of();
+        }
+
+        Path sourceRoot = findSourceRoot(file);
+        Set<Path> importedFiles = new LinkedHashSet<>();
+        Matcher matcher = SINGLE_TYPE_IMPORT.matcher(content.get());
+        while (matcher.find()) {
+            resolveImport(sourceRoot, matcher.group(1)).ifPresent(importedFiles::add);
+        }
+        return importedFiles;
+    }
+
+    /**
+     * Resolve an import to a source file. As static imports name members, and imports may name
+     * nested types, the longest qualifying prefix of the import that names a file is used.
+     */
+    private static Optional<Path> resolveImport(Path sourceRoot, String qualifiedName) {
+        String[] parts = qualifiedName.split("\\.");
+        for (int end = parts.length; end > 0; end--) {
+            Path candidate = sourceRoot;
+            for (int i = 0; i < end - 1; i++) {
+                candidate = candidate.resolve(parts[i]);
+            }
+            candidate = candidate.resolve(parts[end - 1] + Constants.JAVA_EXT);
+            if (Files.isRegularFile(candidate)) {
+                return Optional.of(candidate.toAbsolutePath());
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static Path findSourceRoot(Path file) {
+        Path dir = file.toAbsolutePath().getParent();
+        Optional<String> packageName =
+                readSource(file)
+                        .map(PACKAGE_DECLARATION::matcher)
+                        .filter(Matcher::find)
+                        .map(matcher -> matcher.group(1));
+        if (packageName.isEmpty()) {
+            return dir;
+        }
+
+        Path packagePath = Path.of(packageName.get().replace('.', '/'));
+        if (!dir.endsWith(packagePath)) {
+            return dir;
+        }
+        Path root = dir;
+        for (int i = 0; i < packagePath.getNameCount(); i++) {
+            root = root.getParent();
+        }
+        return root;
+    }
+
+    private static Optional<String> readSource(Path file) {
+        try {
+            return Optional.of(Files.readString(file));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static boolean isJavaFile(Path path) {
+        return Files.isRegularFile(path) && path.toString().endsWith(Constants.JAVA_EXT);
+    }
+}
@@ -1,8 +1,8 @@
 package sorald.sonar;
 
-import java.io.File;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -11,12 +11,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import sorald.FileUtils;
 import sorald.processor.SoraldAbstractProcessor;
 import sorald.rule.RuleViolation;
+import sorald.support.CanonicalPaths;
 import spoon.reflect.declaration.CtCompilationUnit;
 import spoon.reflect.declaration.CtElement;
 import spoon.reflect.declaration.CtType;
@@ -26,13 +27,13 @@ import spoon.reflect.visitor.CtScanner;
 
 /** Scanner for matching rule violations against Spoon elements. */
 public class BestFitScanner<E extends CtElement> extends CtScanner {
-    private final List<RuleViolation> violations;
     private final SoraldAbstractProcessor<E> processor;
 
     private final Map<RuleViolation, List<E>> onSameLine;
     private final Map<RuleViolation, List<E>> intersecting;
 
-    private final Set<File> filesWithViolations;
+    private final Map<Path, List<RuleViolation>> realPathToViolations;
+    private final Map<CtCompilationUnit, ViolationIndex> cuToViolationIndex;
 
     public static final double INTERSECTION_FRACTION_TOLERANCE = 0.005;
 
@@ -75,17 +76,31 @@ public class BestFitScanner<E extends CtElement> extends CtScanner {
     }
 
     private BestFitScanner(Set<RuleViolation> violations, SoraldAbstractProcessor<E> processor) {
-        var tmpViolations = new ArrayList<>(violations);
-        Collections.sort(tmpViolations);
-        this.violations = Collections.unmodifiableList(tmpViolations);
         this.processor = processor;
         onSameLine = new HashMap<>();
         intersecting = new HashMap<>();
-        filesWithViolations =
-                violations.stream()
-                        .map(RuleViolation::getAbsolutePath)
-                        .map(Path::toFile)
-                        .collect(Collectors.toSet());
+        realPathToViolations = groupByRealPath(violations);
+        cuToViolationIndex = new IdentityHashMap<>();
+    }
+
+    /**
+     * Group the violations by the real path of the file they occur in. Violations in files that
+     * don't exist are dropped, as they can't be matched to any element.
+     */
+    private static Map<Path, List<RuleViolation>> groupByRealPath(Set<RuleViolation> violations) {
+        Map<Path, List<RuleViolation>> absPathToViolations =
+                violations.stream().collect(Collectors.groupingBy(RuleViolation::getAbsolutePath));
+        Map<Path, List<RuleViolation>> realPathToViolations = new HashMap<>();
+        absPathToViolations.forEach(
+                (absPath, fileViolations) ->
+                        CanonicalPaths.toRealPath(absPath)
+                                .ifPresent(
+                                        realPath ->
+                                                realPathToViolations
+                                                        .computeIfAbsent(
+                                                                realPath, p -> new ArrayList<>())
+                                                        .addAll(fileViolations)));
+        return realPathToViolations;
     }
 
     @Override
@@ -98,39 +113,49 @@ public class BestFitScanner<E extends CtElement> extends CtScanner {
     private boolean isTypeInFileWithoutViolations(CtElement element) {
         return element instanceof CtType
                 && element.getPosition().isValidPosition()
-                && filesWithViolations.stream()
-                        .noneMatch(
-                                fileWithViolation ->
-                                        FileUtils.realPathEquals(
-                                                fileWithViolation.toPath(),
-                                                element.getPosition().getFile().toPath()));
+                && getViolationIndex(element).isEmpty();
     }
 
     @Override
     protected void enter(CtElement e) {
-        if (processor.getTargetType().isAssignableFrom(e.getClass())) {
+        if (processor.getTargetType().isAssignableFrom(e.getClass())
+                && e.getPosition().isValidPosition()) {
             E candidate = processor.getTargetType().cast(e);
-            for (RuleViolation violation : violations) {
-                if (!inSameFile(e, violation)) {
-                    continue;
-                }
-
-                if (startOnSameLine(candidate, violation)) {
-                    var elementsOnSameLine = onSameLine.getOrDefault(violation, new ArrayList<>());
-                    elementsOnSameLine.add(candidate);
-                    onSameLine.putIfAbsent(violation, elementsOnSameLine);
-                }
+            ViolationIndex index = getViolationIndex(e);
 
-                if (elementIntersectsViolation(candidate, violation)) {
-                    var intersectingElements =
-                            intersecting.getOrDefault(violation, new ArrayList<>());
-                    intersectingElements.add(candidate);
-                    intersecting.putIfAbsent(violation, intersectingElements);
-                }
+            for (RuleViolation violation : index.startingOnLine(e.getPosition().getLine())) {
+                onSameLine.computeIfAbsent(violation, v -> new ArrayList<>()).add(candidate);
             }
+
+            index.forEachIntersecting(
+                    e.getPosition().getSourceStart(),
+                    e.getPosition().getSourceEnd(),
+                    violation ->
+                            intersecting
+                                    .computeIfAbsent(violation, v -> new ArrayList<>())
+                                    .add(candidate));
         }
     }
 
+    /**
+     * Get the index of the violations in the file of the given element, which must have a valid
+     * position. Indexes are created lazily, once per compilation unit.
+     */
+    private ViolationIndex getViolationIndex(CtElement element) {
+        CtCompilationUnit cu = element.getPosition().getCompilationUnit();
+        return cuToViolationIndex.computeIfAbsent(
+                cu,
+                unit ->
+                        CanonicalPaths.toRealPath(element.getPosition().getFile().toPath())
+                                .map(realPathToViolations::get)
+                                .map(
+                                        violations ->
+                                                new ViolationIndex(
+                                                        violations,
+                                                        unit.getLineSeparatorPositions()))
+                                .orElse(ViolationIndex.EMPTY));
+    }
+
     /**
      * Get the best fit Spoon element for the given violation s.t. the element does not already
      * appear in the best fits map. Intersections are prioritized over same-line elements.
@@ -232,20 +257,6 @@ public class BestFitScanner<E extends CtElement> extends CtScanner {
         return searchPos;
     }
 
-    private static boolean elementIntersectsViolation(CtElement element, RuleViolation violation) {
-        int[] lineSeps = element.getPosition().getCompilationUnit().getLineSeparatorPositions();
-        int violationSourceStart =
-                calculateSourcePos(violation.getStartLine(), violation.getStartCol(), lineSeps);
-        int violationSourceEnd =
-                calculateSourcePos(violation.getEndLine(), violation.getEndCol(), lineSeps);
-
-        int elemSourceStart = element.getPosition().getSourceStart();
-        int elemSourceEnd = element.getPosition().getSourceEnd();
-
-        return pointsIntersect(
-                violationSourceStart, violationSourceEnd, elemSourceStart, elemSourceEnd);
-    }
-
     private static int calculateSourcePos(int line, int column, int[] lineSeps) {
         return (line == 1 ? 0 : lineSeps[line - 2]) + column;
     }
@@ -318,16 +329,6 @@ public class BestFitScanner<E extends CtElement> extends CtScanner {
         return element.getPosition().getSourceEnd() - element.getPosition().getSourceStart();
     }
 
-    private static boolean startOnSameLine(CtElement element, RuleViolation violation) {
-        return element.getPosition().getLine() == violation.getStartLine();
-    }
-
-    private static boolean inSameFile(CtElement element, RuleViolation violation) {
-        return element.getPosition().isValidPosition()
-                && FileUtils.realPathEquals(
-                        violation.getAbsolutePath(), element.getPosition().getFile().toPath());
-    }
-
     /** All rule violations must concern the same rule as the processor. */
     private static void checkRuleViolationsConcernProcessorRule(
             Set<RuleViolation> ruleViolations, SoraldAbstractProcessor<?> processor) {
@@ -344,4 +345,83 @@ public class BestFitScanner<E extends CtElement> extends CtScanner {
                                             procKey, vKey));
                         });
     }
+
+    /**
+     * Index of the violations in a single file. Violations are kept sorted by their start offset in
+     * the source, along with a running maximum of their end offsets, such that the violations
+     * intersecting an element can be found without visiting all violations in the file.
+     */
+    private static class ViolationIndex {
+        static final ViolationIndex EMPTY = new ViolationIndex(List.of(), new int[0]);
+
+        private final Map<Integer, List<RuleViolation>> startLineToViolations;
+        private final RuleViolation[] sortedByStart;
+        private final int[] starts;
+        private final int[] ends;
+        private final int[] maxEnds;
+
+        ViolationIndex(List<RuleViolation> violations, int[] lineSeps) {
+            startLineToViolations =
+                    violations.stream().collect(Collectors.groupingBy(RuleViolation::getStartLine));
+
+            int[][] positions = new int[violations.size()][];
+            for (int i = 0; i < violations.size(); i++) {
+                RuleViolation violation = violations.get(i);
+                positions[i] =
+                        new int[] {
+                            calculateSourcePos(
+                                    violation.getStartLine(), violation.getStartCol(), lineSeps),
+                            calculateSourcePos(
+                                    violation.getEndLine(), violation.getEndCol(), lineSeps),
+                            i
+                        };
+            }
+            Arrays.sort(positions, Comparator.comparingInt(pos -> pos[0]));
+
+            sortedByStart = new RuleViolation[positions.length];
+            starts = new int[positions.length];
+            ends = new int[positions.length];
+            maxEnds = new int[positions.length];
+            for (int i = 0; i < positions.length; i++) {
+                sortedByStart[i] = violations.get(positions[i][2]);
+                starts[i] = positions[i][0];
+                ends[i] = positions[i][1];
+                maxEnds[i] = i == 0 ? ends[i] : Math.max(maxEnds[i - 1], ends[i]);
+            }
+        }
+
+        boolean isEmpty() {
+            return sortedByStart.length == 0;
+        }
+
+        List<RuleViolation> startingOnLine(int line) {
+            return startLineToViolations.getOrDefault(line, List.of());
+        }
+
+        /** Apply the action to all violations that intersect the given source range. */
+        void forEachIntersecting(int sourceStart, int sourceEnd, Consumer<RuleViolation> action) {
+            // index of the last violation that starts at or before the end of the range
+            int last = upperBound(starts, sourceEnd) - 1;
+            for (int i = last; i >= 0 && maxEnds[i] >= sourceStart; i--) {
+                if (pointsIntersect(starts[i], ends[i], sourceStart, sourceEnd)) {
+                    action.accept(sortedByStart[i]);
+                }
+            }
+        }
+
+        /** @return The index of the first value strictly greater than the key. */
+        private static int upperBound(int[] sortedValues, int key) {
+            int low = 0;
+            int high = sortedValues.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (sortedValues[mid] <= key) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
 }
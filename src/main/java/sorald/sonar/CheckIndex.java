@@ -0,0 +1,1179 @@
+package sorald.sonar;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import sorald.rule.RuleType;
+
+/**
+ * Index of the Sonar-Java checks that Sorald keeps track of, by rule key. The index refers to
+ * checks by class name, such that checks can be looked up without loading any check class.
+ *
+ * <p>This class is partially generated by {@link CheckIndexGenerator}. It is fine to edit
+ * non-generated code as per usual, but don't change any of the generated fields by hand.
+ */
+class CheckIndex {
+    private CheckIndex() {}
+
+    // GENERATED FIELD
+    private static final Map<String, String> KEY_TO_CHECK_NAME =
+            new java.util.HashMap<>() {
+                {
+                    put("S106", "org.sonar.java.checks.SystemOutOrErrUsageCheck");
+                    put("S1065", "org.sonar.java.checks.unused.UnusedLabelCheck");
+                    put("S1066", "org.sonar.java.checks.CollapsibleIfCandidateCheck");
+                    put("S1067", "org.sonar.java.checks.ExpressionComplexityCheck");
+                    put("S1068", "org.sonar.java.checks.unused.UnusedPrivateFieldCheck");
+                    put("S1075", "org.sonar.java.checks.HardcodedURICheck");
+                    put("S109", "org.sonar.java.checks.MagicNumberCheck");
+                    put("S1118", "org.sonar.java.checks.UtilityClassWithPublicConstructorCheck");
+                    put("S1125", "org.sonar.java.checks.BooleanLiteralCheck");
+                    put("S1126", "org.sonar.java.checks.ReturnOfBooleanExpressionsCheck");
+                    put("S1132", "org.sonar.java.checks.StringLiteralInsideEqualsCheck");
+                    put("S1133", "org.sonar.java.checks.DeprecatedTagPresenceCheck");
+                    put("S1134", "org.sonar.java.checks.FixmeTagPresenceCheck");
+                    put("S1135", "org.sonar.java.checks.TodoTagPresenceCheck");
+                    put("S1141", "org.sonar.java.checks.NestedTryCatchCheck");
+                    put("S1142", "org.sonar.java.checks.MethodWithExcessiveReturnsCheck");
+                    put("S1143", "org.sonar.java.checks.ReturnInFinallyCheck");
+                    put("S1145", "org.sonar.java.checks.IfConditionAlwaysTrueOrFalseCheck");
+                    put("S1147", "org.sonar.java.checks.SystemExitCalledCheck");
+                    put("S1148", "org.sonar.java.checks.PrintStackTraceCalledWithoutArgumentCheck");
+                    put("S1149", "org.sonar.java.checks.SynchronizedClassUsageCheck");
+                    put("S1150", "org.sonar.java.checks.ImplementsEnumerationCheck");
+                    put("S1151", "org.sonar.java.checks.SwitchCaseTooBigCheck");
+                    put("S1153", "org.sonar.java.checks.ConcatenationWithStringValueOfCheck");
+                    put("S1155", "org.sonar.java.checks.CollectionIsEmptyCheck");
+                    put("S1157", "org.sonar.java.checks.CaseInsensitiveComparisonCheck");
+                    put("S1158", "org.sonar.java.checks.ToStringUsingBoxingCheck");
+                    put("S1160", "org.sonar.java.checks.ThrowsSeveralCheckedExceptionCheck");
+                    put("S1161", "org.sonar.java.checks.OverrideAnnotationCheck");
+                    put("S1162", "org.sonar.java.checks.ThrowCheckedExceptionCheck");
+                    put("S1163", "org.sonar.java.checks.ThrowsFromFinallyCheck");
+                    put("S1165", "org.sonar.java.checks.ExceptionsShouldBeImmutableCheck");
+                    put("S1166", "org.sonar.java.checks.CatchUsesExceptionWithContextCheck");
+                    put("S1168", "org.sonar.java.checks.ReturnEmptyArrayNotNullCheck");
+                    put("S1170", "org.sonar.java.checks.ConstantsShouldBeStaticFinalCheck");
+                    put("S1171", "org.sonar.java.checks.NonStaticClassInitializerCheck");
+                    put("S1172", "org.sonar.java.checks.unused.UnusedMethodParameterCheck");
+                    put("S1174", "org.sonar.java.checks.ObjectFinalizeOverridenNotPublicCheck");
+                    put("S1175", "org.sonar.java.checks.ObjectFinalizeOverloadedCheck");
+                    put("S1181", "org.sonar.java.checks.CatchOfThrowableOrErrorCheck");
+                    put("S1182", "org.sonar.java.checks.CloneMethodCallsSuperCloneCheck");
+                    put("S1185", "org.sonar.java.checks.MethodOnlyCallsSuperCheck");
+                    put("S1186", "org.sonar.java.checks.EmptyMethodsCheck");
+                    put("S1188", "org.sonar.java.checks.AnonymousClassesTooBigCheck");
+                    put("S1190", "org.sonar.java.checks.naming.KeywordAsIdentifierCheck");
+                    put("S1191", "org.sonar.java.checks.SunPackagesUsedCheck");
+                    put("S1192", "org.sonar.java.checks.StringLiteralDuplicatedCheck");
+                    put("S1193", "org.sonar.java.checks.InstanceofUsedOnExceptionCheck");
+                    put("S1194", "org.sonar.java.checks.ErrorClassExtendedCheck");
+                    put("S1195", "org.sonar.java.checks.ArrayDesignatorAfterTypeCheck");
+                    put("S1197", "org.sonar.java.checks.ArrayDesignatorOnVariableCheck");
+                    put("S1199", "org.sonar.java.checks.NestedBlocksCheck");
+                    put("S1200", "org.sonar.java.checks.ClassCouplingCheck");
+                    put("S1201", "org.sonar.java.checks.naming.MethodNamedEqualsCheck");
+                    put("S1206", "org.sonar.java.checks.EqualsOverridenWithHashCodeCheck");
+                    put("S1210", "org.sonar.java.checks.EqualsNotOverridenWithCompareToCheck");
+                    put("S1213", "org.sonar.java.checks.IncorrectOrderOfMembersCheck");
+                    put("S1214", "org.sonar.java.checks.InterfaceAsConstantContainerCheck");
+                    put("S1215", "org.sonar.java.checks.GarbageCollectorCalledCheck");
+                    put("S1217", "org.sonar.java.checks.ThreadRunCheck");
+                    put("S1219", "org.sonar.java.checks.SwitchWithLabelsCheck");
+                    put("S1221", "org.sonar.java.checks.naming.MethodNamedHashcodeOrEqualCheck");
+                    put("S1223", "org.sonar.java.checks.naming.MethodNameSameAsClassCheck");
+                    put("S1226", "org.sonar.java.checks.ParameterReassignedToCheck");
+                    put("S1228", "org.sonar.java.checks.PackageInfoCheck");
+                    put("S124", "org.sonar.java.checks.CommentRegularExpressionCheck");
+                    put("S1244", "org.sonar.java.checks.FloatEqualityCheck");
+                    put("S1258", "org.sonar.java.checks.AtLeastOneConstructorCheck");
+                    put("S126", "org.sonar.java.checks.IfElseIfStatementEndsWithElseCheck");
+                    put("S1264", "org.sonar.java.checks.ForLoopUsedAsWhileLoopCheck");
+                    put("S128", "org.sonar.java.checks.SwitchCaseWithoutBreakCheck");
+                    put("S1301", "org.sonar.java.checks.SwitchAtLeastThreeCasesCheck");
+                    put("S1309", "org.sonar.java.checks.SuppressWarningsCheck");
+                    put("S1310", "org.sonar.java.checks.NoPmdTagPresenceCheck");
+                    put("S1312", "org.sonar.java.checks.LoggersDeclarationCheck");
+                    put("S1313", "org.sonar.java.checks.HardcodedIpCheck");
+                    put("S1314", "org.sonar.java.checks.OctalValuesCheck");
+                    put("S1315", "org.sonar.java.checks.NoCheckstyleTagPresenceCheck");
+                    put("S1317", "org.sonar.java.checks.StringBufferAndBuilderWithCharCheck");
+                    put("S1319", "org.sonar.java.checks.CollectionImplementationReferencedCheck");
+                    put("S134", "org.sonar.java.checks.NestedIfStatementsCheck");
+                    put("S135", "org.sonar.java.checks.SeveralBreakOrContinuePerLoopCheck");
+                    put("S138", "org.sonar.java.checks.MethodTooBigCheck");
+                    put("S1444", "org.sonar.java.checks.PublicStaticFieldShouldBeFinalCheck");
+                    put("S1448", "org.sonar.java.checks.TooManyMethodsCheck");
+                    put("S1449", "org.sonar.java.checks.StringMethodsWithLocaleCheck");
+                    put("S1450", "org.sonar.java.checks.PrivateFieldUsedLocallyCheck");
+                    put("S1452", "org.sonar.java.checks.WildcardReturnParameterTypeCheck");
+                    put("S1479", "org.sonar.java.checks.SwitchWithTooManyCasesCheck");
+                    put("S1481", "org.sonar.java.checks.unused.UnusedLocalVariableCheck");
+                    put("S1488", "org.sonar.java.checks.ImmediatelyReturnedVariableCheck");
+                    put("S1596", "org.sonar.java.checks.CollectionsEmptyConstantsCheck");
+                    put("S1598", "org.sonar.java.checks.MismatchPackageDirectoryCheck");
+                    put("S1602", "org.sonar.java.checks.LambdaSingleExpressionCheck");
+                    put("S1604", "org.sonar.java.checks.AnonymousClassShouldBeLambdaCheck");
+                    put("S1607", "org.sonar.java.checks.tests.IgnoredTestsCheck");
+                    put("S1609", "org.sonar.java.checks.SAMAnnotatedCheck");
+                    put(
+                            "S1610",
+                            "org.sonar.java.checks.AbstractClassNoFieldShouldBeInterfaceCheck");
+                    put("S1611", "org.sonar.java.checks.LambdaOptionalParenthesisCheck");
+                    put("S1612", "org.sonar.java.checks.ReplaceLambdaByMethodRefCheck");
+                    put("S1640", "org.sonar.java.checks.EnumMapCheck");
+                    put("S1641", "org.sonar.java.checks.EnumSetCheck");
+                    put("S1643", "org.sonar.java.checks.StringConcatenationInLoopCheck");
+                    put("S1656", "org.sonar.java.checks.SelfAssignementCheck");
+                    put("S1659", "org.sonar.java.checks.OneDeclarationPerLineCheck");
+                    put("S1694", "org.sonar.java.checks.AbstractClassWithoutAbstractMethodCheck");
+                    put("S1695", "org.sonar.java.checks.NPEThrowCheck");
+                    put("S1696", "org.sonar.java.checks.CatchNPECheck");
+                    put("S1697", "org.sonar.java.checks.NullDereferenceInConditionalCheck");
+                    put("S1698", "org.sonar.java.checks.CompareObjectWithEqualsCheck");
+                    put("S1699", "org.sonar.java.checks.ConstructorCallingOverridableCheck");
+                    put("S1700", "org.sonar.java.checks.naming.FieldNameMatchingTypeNameCheck");
+                    put("S1710", "org.sonar.java.checks.RepeatAnnotationCheck");
+                    put("S1711", "org.sonar.java.checks.StandardFunctionalInterfaceCheck");
+                    put("S1751", "org.sonar.java.checks.LoopExecutingAtMostOnceCheck");
+                    put("S1764", "org.sonar.java.checks.IdenticalOperandOnBinaryExpressionCheck");
+                    put("S1774", "org.sonar.java.checks.TernaryOperatorCheck");
+                    put("S1820", "org.sonar.java.checks.ClassFieldCountCheck");
+                    put("S1821", "org.sonar.java.checks.NestedSwitchStatementCheck");
+                    put("S1844", "org.sonar.java.checks.WaitOnConditionCheck");
+                    put("S1845", "org.sonar.java.checks.MembersDifferOnlyByCapitalizationCheck");
+                    put("S1849", "org.sonar.java.checks.HasNextCallingNextCheck");
+                    put("S1850", "org.sonar.java.checks.InstanceOfAlwaysTrueCheck");
+                    put("S1854", "org.sonar.java.checks.DeadStoreCheck");
+                    put("S1858", "org.sonar.java.checks.StringToStringCheck");
+                    put("S1860", "org.sonar.java.checks.SynchronizationOnStringOrBoxedCheck");
+                    put("S1862", "org.sonar.java.checks.DuplicateConditionIfElseIfCheck");
+                    put("S1871", "org.sonar.java.checks.IdenticalCasesInSwitchCheck");
+                    put("S1872", "org.sonar.java.checks.ClassComparedByNameCheck");
+                    put("S1905", "org.sonar.java.checks.RedundantTypeCastCheck");
+                    put("S1939", "org.sonar.java.checks.UselessExtendsCheck");
+                    put("S1940", "org.sonar.java.checks.BooleanInversionCheck");
+                    put("S1941", "org.sonar.java.checks.VariableDeclarationScopeCheck");
+                    put("S1942", "org.sonar.java.checks.SimpleClassNameCheck");
+                    put("S1943", "org.sonar.java.checks.DefaultEncodingUsageCheck");
+                    put(
+                            "S1948",
+                            "org.sonar.java.checks.serialization.SerializableFieldInSerializableClassCheck");
+                    put("S1989", "org.sonar.java.checks.ServletMethodsExceptionsThrownCheck");
+                    put("S1994", "org.sonar.java.checks.ForLoopIncrementAndUpdateCheck");
+                    put("S1996", "org.sonar.java.checks.OneClassInterfacePerFileCheck");
+                    put("S2039", "org.sonar.java.checks.FieldModifierCheck");
+                    put("S2047", "org.sonar.java.checks.naming.BooleanMethodNameCheck");
+                    put(
+                            "S2055",
+                            "org.sonar.java.checks.serialization.SerializableSuperConstructorCheck");
+                    put("S2057", "org.sonar.java.checks.serialization.SerialVersionUidCheck");
+                    put("S2059", "org.sonar.java.checks.InnerClassOfSerializableCheck");
+                    put(
+                            "S2060",
+                            "org.sonar.java.checks.serialization.ExternalizableClassConstructorCheck");
+                    put(
+                            "S2061",
+                            "org.sonar.java.checks.serialization.CustomSerializationMethodCheck");
+                    put("S2062", "org.sonar.java.checks.serialization.PrivateReadResolveCheck");
+                    put("S2063", "org.sonar.java.checks.serialization.SerializableComparatorCheck");
+                    put("S2065", "org.sonar.java.checks.TransientFieldInNonSerializableCheck");
+                    put("S2066", "org.sonar.java.checks.InnerClassOfNonSerializableCheck");
+                    put("S2068", "org.sonar.java.checks.HardCodedCredentialsCheck");
+                    put("S2070", "org.sonar.java.checks.DeprecatedHashAlgorithmCheck");
+                    put("S2077", "org.sonar.java.checks.SQLInjectionCheck");
+                    put("S2089", "org.sonar.java.checks.HttpRefererCheck");
+                    put("S2092", "org.sonar.java.checks.security.SecureCookieCheck");
+                    put("S2093", "org.sonar.java.checks.TryWithResourcesCheck");
+                    put("S2094", "org.sonar.java.checks.EmptyClassCheck");
+                    put("S2095", "org.sonar.java.se.checks.UnclosedResourcesCheck");
+                    put("S2096", "org.sonar.java.checks.MainMethodThrowsExceptionCheck");
+                    put("S2097", "org.sonar.java.checks.EqualsArgumentTypeCheck");
+                    put("S2109", "org.sonar.java.checks.ReflectionOnNonRuntimeAnnotationCheck");
+                    put("S2110", "org.sonar.java.checks.InvalidDateValuesCheck");
+                    put("S2111", "org.sonar.java.checks.BigDecimalDoubleConstructorCheck");
+                    put("S2112", "org.sonar.java.checks.URLHashCodeAndEqualsCheck");
+                    put("S2114", "org.sonar.java.checks.CollectionCallingItselfCheck");
+                    put("S2115", "org.sonar.java.checks.security.EmptyDatabasePasswordCheck");
+                    put("S2116", "org.sonar.java.checks.ArrayHashCodeAndToStringCheck");
+                    put("S2118", "org.sonar.java.checks.serialization.NonSerializableWriteCheck");
+                    put("S2119", "org.sonar.java.checks.ReuseRandomCheck");
+                    put("S2121", "org.sonar.java.checks.SillyStringOperationsCheck");
+                    put("S2122", "org.sonar.java.checks.ScheduledThreadPoolExecutorZeroCheck");
+                    put("S2123", "org.sonar.java.checks.UselessIncrementCheck");
+                    put("S2127", "org.sonar.java.checks.LongBitsToDoubleOnIntCheck");
+                    put("S2129", "org.sonar.java.checks.StringPrimitiveConstructorCheck");
+                    put("S2130", "org.sonar.java.checks.StringToPrimitiveConversionCheck");
+                    put("S2131", "org.sonar.java.checks.PrimitiveTypeBoxingWithToStringCheck");
+                    put("S2133", "org.sonar.java.checks.ObjectCreatedOnlyToCallGetClassCheck");
+                    put("S2134", "org.sonar.java.checks.ThreadOverridesRunCheck");
+                    put("S2139", "org.sonar.java.checks.LoggedRethrownExceptionsCheck");
+                    put("S2140", "org.sonar.java.checks.RandomFloatToIntCheck");
+                    put("S2141", "org.sonar.java.checks.ClassWithoutHashCodeInHashStructureCheck");
+                    put("S2142", "org.sonar.java.checks.InterruptedExceptionCheck");
+                    put("S2143", "org.sonar.java.checks.DateAndTimesCheck");
+                    put("S2147", "org.sonar.java.checks.CombineCatchCheck");
+                    put("S2148", "org.sonar.java.checks.UnderscoreOnNumberCheck");
+                    put("S2151", "org.sonar.java.checks.RunFinalizersCheck");
+                    put("S2153", "org.sonar.java.checks.ImmediateReverseBoxingCheck");
+                    put("S2154", "org.sonar.java.checks.PrimitiveWrappersInTernaryOperatorCheck");
+                    put("S2156", "org.sonar.java.checks.ProtectedMemberInFinalClassCheck");
+                    put("S2157", "org.sonar.java.checks.CloneableImplementingCloneCheck");
+                    put("S2159", "org.sonar.java.checks.SillyEqualsCheck");
+                    put("S2160", "org.sonar.java.checks.EqualsNotOverriddenInSubclassCheck");
+                    put("S2162", "org.sonar.java.checks.SymmetricEqualsCheck");
+                    put("S2164", "org.sonar.java.checks.MathOnFloatCheck");
+                    put("S2165", "org.sonar.java.checks.FinalizeFieldsSetCheck");
+                    put("S2166", "org.sonar.java.checks.naming.ClassNamedLikeExceptionCheck");
+                    put("S2167", "org.sonar.java.checks.CompareToReturnValueCheck");
+                    put("S2168", "org.sonar.java.checks.synchronization.DoubleCheckedLockingCheck");
+                    put("S2175", "org.sonar.java.checks.CollectionInappropriateCallsCheck");
+                    put("S2176", "org.sonar.java.checks.InterfaceOrSuperclassShadowingCheck");
+                    put("S2177", "org.sonar.java.checks.ConfusingOverloadCheck");
+                    put("S2178", "org.sonar.java.checks.NonShortCircuitLogicCheck");
+                    put("S2183", "org.sonar.java.checks.ShiftOnIntOrLongCheck");
+                    put("S2184", "org.sonar.java.checks.CastArithmeticOperandCheck");
+                    put("S2185", "org.sonar.java.checks.ConstantMathCheck");
+                    put("S2186", "org.sonar.java.checks.tests.AssertionInThreadRunCheck");
+                    put("S2187", "org.sonar.java.checks.tests.NoTestInTestClassCheck");
+                    put("S2188", "org.sonar.java.checks.tests.CallSuperInTestCaseCheck");
+                    put("S2189", "org.sonar.java.se.checks.NoWayOutLoopCheck");
+                    put("S2196", "org.sonar.java.checks.SwitchInsteadOfIfSequenceCheck");
+                    put("S2197", "org.sonar.java.checks.ModulusEqualityCheck");
+                    put("S2200", "org.sonar.java.checks.CompareToResultTestCheck");
+                    put("S2201", "org.sonar.java.checks.IgnoredReturnValueCheck");
+                    put("S2203", "org.sonar.java.checks.CollectInsteadOfForeachCheck");
+                    put("S2204", "org.sonar.java.checks.EqualsOnAtomicClassCheck");
+                    put("S2208", "org.sonar.java.checks.WildcardImportsShouldNotBeUsedCheck");
+                    put("S2209", "org.sonar.java.checks.StaticMembersAccessCheck");
+                    put("S2211", "org.sonar.java.checks.LambdaTypeParameterCheck");
+                    put("S2221", "org.sonar.java.checks.CatchExceptionCheck");
+                    put("S2222", "org.sonar.java.se.checks.LocksNotUnlockedCheck");
+                    put("S2225", "org.sonar.java.checks.ToStringReturningNullCheck");
+                    put("S2226", "org.sonar.java.checks.ServletInstanceFieldCheck");
+                    put(
+                            "S2229",
+                            "org.sonar.java.checks.spring.SpringIncompatibleTransactionalCheck");
+                    put("S2230", "org.sonar.java.checks.TransactionalMethodVisibilityCheck");
+                    put("S2232", "org.sonar.java.checks.ResultSetIsLastCheck");
+                    put("S2234", "org.sonar.java.checks.MethodParametersOrderCheck");
+                    put("S2235", "org.sonar.java.checks.CatchIllegalMonitorStateExceptionCheck");
+                    put("S2236", "org.sonar.java.checks.ThreadWaitCallCheck");
+                    put("S2245", "org.sonar.java.checks.PseudoRandomCheck");
+                    put(
+                            "S2250",
+                            "org.sonar.java.checks.CollectionMethodsWithLinearComplexityCheck");
+                    put("S2251", "org.sonar.java.checks.ForLoopIncrementSignCheck");
+                    put("S2252", "org.sonar.java.checks.ForLoopFalseConditionCheck");
+                    put("S2253", "org.sonar.java.checks.DisallowedMethodCheck");
+                    put("S2254", "org.sonar.java.checks.GetRequestedSessionIdCheck");
+                    put(
+                            "S2255",
+                            "org.sonar.java.checks.security.CookieShouldNotContainSensitiveDataCheck");
+                    put("S2257", "org.sonar.java.checks.CustomCryptographicAlgorithmCheck");
+                    put("S2258", "org.sonar.java.checks.NullCipherCheck");
+                    put("S2259", "org.sonar.java.se.checks.NullDereferenceCheck");
+                    put("S2272", "org.sonar.java.checks.IteratorNextExceptionCheck");
+                    put("S2273", "org.sonar.java.checks.WaitInSynchronizeCheck");
+                    put("S2274", "org.sonar.java.checks.WaitInWhileLoopCheck");
+                    put("S2275", "org.sonar.java.checks.PrintfFailCheck");
+                    put("S2276", "org.sonar.java.checks.ThreadSleepCheck");
+                    put("S2277", "org.sonar.java.checks.RSAUsesOAEPCheck");
+                    put("S2278", "org.sonar.java.checks.AvoidDESCheck");
+                    put("S2293", "org.sonar.java.checks.DiamondOperatorCheck");
+                    put("S2301", "org.sonar.java.checks.SelectorMethodArgumentCheck");
+                    put("S2325", "org.sonar.java.checks.StaticMethodCheck");
+                    put("S2326", "org.sonar.java.checks.unused.UnusedTypeParameterCheck");
+                    put("S2333", "org.sonar.java.checks.RedundantModifierCheck");
+                    put("S2384", "org.sonar.java.checks.MutableMembersUsageCheck");
+                    put("S2386", "org.sonar.java.checks.PublicStaticMutableMembersCheck");
+                    put("S2387", "org.sonar.java.checks.ChildClassShadowFieldCheck");
+                    put("S2388", "org.sonar.java.checks.CallSuperMethodFromInnerClassCheck");
+                    put("S2390", "org.sonar.java.checks.SubClassStaticReferenceCheck");
+                    put("S2391", "org.sonar.java.checks.tests.JunitMethodDeclarationCheck");
+                    put("S2437", "org.sonar.java.checks.SillyBitOperationCheck");
+                    put("S2438", "org.sonar.java.checks.ThreadAsRunnableArgumentCheck");
+                    put(
+                            "S2440",
+                            "org.sonar.java.checks.ClassWithOnlyStaticMethodsInstantiationCheck");
+                    put(
+                            "S2441",
+                            "org.sonar.java.checks.serialization.SerializableObjectInSessionCheck");
+                    put("S2442", "org.sonar.java.checks.SynchronizedLockCheck");
+                    put("S2444", "org.sonar.java.checks.StaticFieldInitializationCheck");
+                    put("S2445", "org.sonar.java.checks.SynchronizedFieldAssignmentCheck");
+                    put("S2446", "org.sonar.java.checks.NotifyCheck");
+                    put("S2447", "org.sonar.java.checks.BooleanMethodReturnCheck");
+                    put("S2479", "org.sonar.java.checks.ControlCharacterInLiteralCheck");
+                    put("S2583", "org.sonar.java.se.checks.ConditionalUnreachableCodeCheck");
+                    put("S2589", "org.sonar.java.se.checks.BooleanGratuitousExpressionsCheck");
+                    put("S2612", "org.sonar.java.checks.security.FilePermissionsCheck");
+                    put("S2629", "org.sonar.java.checks.LazyArgEvaluationCheck");
+                    put("S2637", "org.sonar.java.se.checks.NonNullSetToNullCheck");
+                    put("S2638", "org.sonar.java.checks.ChangeMethodContractCheck");
+                    put("S2639", "org.sonar.java.checks.InappropriateRegexpCheck");
+                    put("S2647", "org.sonar.java.checks.BasicAuthCheck");
+                    put("S2653", "org.sonar.java.checks.MainInServletCheck");
+                    put("S2658", "org.sonar.java.checks.DynamicClassLoadCheck");
+                    put("S2674", "org.sonar.java.checks.IgnoredStreamReturnValueCheck");
+                    put("S2675", "org.sonar.java.checks.ReadObjectSynchronizedCheck");
+                    put("S2676", "org.sonar.java.checks.AbsOnNegativeCheck");
+                    put("S2677", "org.sonar.java.checks.unused.UnusedReturnedDataCheck");
+                    put("S2681", "org.sonar.java.checks.MultilineBlocksCurlyBracesCheck");
+                    put("S2689", "org.sonar.java.se.checks.ObjectOutputStreamCheck");
+                    put("S2692", "org.sonar.java.checks.IndexOfWithPositiveNumberCheck");
+                    put("S2693", "org.sonar.java.checks.ThreadStartedInConstructorCheck");
+                    put("S2694", "org.sonar.java.checks.InnerStaticClassesCheck");
+                    put("S2695", "org.sonar.java.checks.PreparedStatementAndResultSetCheck");
+                    put("S2696", "org.sonar.java.checks.StaticFieldUpateCheck");
+                    put("S2698", "org.sonar.java.checks.tests.AssertionsWithoutMessageCheck");
+                    put("S2699", "org.sonar.java.checks.tests.AssertionsInTestsCheck");
+                    put(
+                            "S2701",
+                            "org.sonar.java.checks.tests.BooleanOrNullLiteralInAssertionsCheck");
+                    put("S2718", "org.sonar.java.checks.DateUtilsTruncateCheck");
+                    put("S2737", "org.sonar.java.checks.CatchRethrowingCheck");
+                    put("S2755", "org.sonar.java.se.checks.XxeProcessingCheck");
+                    put("S2757", "org.sonar.java.checks.WrongAssignmentOperatorCheck");
+                    put("S2761", "org.sonar.java.checks.DoublePrefixOperatorCheck");
+                    put("S2786", "org.sonar.java.checks.NestedEnumStaticCheck");
+                    put("S2789", "org.sonar.java.checks.NullShouldNotBeUsedWithOptionalCheck");
+                    put("S2864", "org.sonar.java.checks.KeySetInsteadOfEntrySetCheck");
+                    put("S2885", "org.sonar.java.checks.StaticMultithreadedUnsafeFieldsCheck");
+                    put("S2886", "org.sonar.java.checks.SyncGetterAndSetterCheck");
+                    put("S2912", "org.sonar.java.checks.IndexOfStartPositionCheck");
+                    put("S2924", "org.sonar.java.checks.unused.UnusedTestRuleCheck");
+                    put("S2925", "org.sonar.java.checks.tests.ThreadSleepInTestsCheck");
+                    put("S2959", "org.sonar.java.checks.UnnecessarySemicolonCheck");
+                    put("S2970", "org.sonar.java.checks.tests.AssertionsCompletenessCheck");
+                    put("S2972", "org.sonar.java.checks.InnerClassTooManyLinesCheck");
+                    put("S2973", "org.sonar.java.checks.EscapedUnicodeCharactersCheck");
+                    put("S2974", "org.sonar.java.checks.FinalClassCheck");
+                    put("S2975", "org.sonar.java.checks.CloneOverrideCheck");
+                    put("S2976", "org.sonar.java.checks.FileCreateTempFileCheck");
+                    put("S3008", "org.sonar.java.checks.naming.BadFieldNameStaticNonFinalCheck");
+                    put("S3010", "org.sonar.java.checks.StaticFieldUpdateInConstructorCheck");
+                    put("S3011", "org.sonar.java.checks.AccessibilityChangeCheck");
+                    put("S3012", "org.sonar.java.checks.ArrayCopyLoopCheck");
+                    put("S3014", "org.sonar.java.checks.DisallowedThreadGroupCheck");
+                    put("S3020", "org.sonar.java.checks.ToArrayCheck");
+                    put("S3027", "org.sonar.java.checks.StringMethodsOnSingleCharCheck");
+                    put("S3030", "org.sonar.java.checks.StaticImportCountCheck");
+                    put("S3032", "org.sonar.java.checks.GetClassLoaderCheck");
+                    put("S3034", "org.sonar.java.checks.RawByteBitwiseOperationsCheck");
+                    put("S3038", "org.sonar.java.checks.RedundantAbstractMethodCheck");
+                    put("S3039", "org.sonar.java.checks.StringCallsBeyondBoundsCheck");
+                    put(
+                            "S3042",
+                            "org.sonar.java.checks.synchronization.WriteObjectTheOnlySynchronizedMethodCheck");
+                    put("S3046", "org.sonar.java.checks.synchronization.TwoLocksWaitCheck");
+                    put("S3047", "org.sonar.java.checks.LoopsOnSameSetCheck");
+                    put("S3052", "org.sonar.java.checks.DefaultInitializedFieldCheck");
+                    put("S3064", "org.sonar.java.checks.DoubleCheckedLockingAssignmentCheck");
+                    put("S3065", "org.sonar.java.se.checks.MinMaxRangeCheck");
+                    put("S3066", "org.sonar.java.checks.EnumMutableFieldCheck");
+                    put(
+                            "S3067",
+                            "org.sonar.java.checks.synchronization.SynchronizationOnGetClassCheck");
+                    put("S3077", "org.sonar.java.checks.VolatileNonPrimitiveFieldCheck");
+                    put("S3078", "org.sonar.java.checks.VolatileVariablesOperationsCheck");
+                    put("S3242", "org.sonar.java.checks.LeastSpecificTypeCheck");
+                    put("S3252", "org.sonar.java.checks.StaticMemberAccessCheck");
+                    put("S3254", "org.sonar.java.checks.AnnotationDefaultArgumentCheck");
+                    put(
+                            "S3305",
+                            "org.sonar.java.checks.spring.SpringConfigurationWithAutowiredFieldsCheck");
+                    put("S3306", "org.sonar.java.checks.ConstructorInjectionCheck");
+                    put("S3329", "org.sonar.java.checks.security.CipherBlockChainingCheck");
+                    put("S3330", "org.sonar.java.checks.security.CookieHttpOnlyCheck");
+                    put("S3331", "org.sonar.java.checks.CookieDomainCheck");
+                    put("S3346", "org.sonar.java.checks.AssertOnBooleanVariableCheck");
+                    put("S3358", "org.sonar.java.checks.NestedTernaryOperatorsCheck");
+                    put("S3366", "org.sonar.java.checks.ThisExposedFromConstructorCheck");
+                    put("S3398", "org.sonar.java.checks.CallOuterPrivateMethodCheck");
+                    put("S3400", "org.sonar.java.checks.ConstantMethodCheck");
+                    put("S3414", "org.sonar.java.checks.TestsInSeparateFolderCheck");
+                    put("S3415", "org.sonar.java.checks.tests.AssertionArgumentOrderCheck");
+                    put("S3416", "org.sonar.java.checks.LoggerClassCheck");
+                    put(
+                            "S3436",
+                            "org.sonar.java.checks.synchronization.ValueBasedObjectUsedForLockCheck");
+                    put(
+                            "S3437",
+                            "org.sonar.java.checks.ValueBasedObjectsShouldNotBeSerializedCheck");
+                    put("S3457", "org.sonar.java.checks.PrintfMisuseCheck");
+                    put(
+                            "S3510",
+                            "org.sonar.java.checks.security.HostnameVerifierImplementationCheck");
+                    put("S3516", "org.sonar.java.se.checks.InvariantReturnCheck");
+                    put("S3518", "org.sonar.java.se.checks.DivisionByZeroCheck");
+                    put("S3546", "org.sonar.java.se.checks.CustomUnclosedResourcesCheck");
+                    put("S3551", "org.sonar.java.checks.SynchronizedOverrideCheck");
+                    put("S3553", "org.sonar.java.checks.OptionalAsParameterCheck");
+                    put("S3577", "org.sonar.java.checks.naming.BadTestClassNameCheck");
+                    put("S3578", "org.sonar.java.checks.naming.BadTestMethodNameCheck");
+                    put("S3599", "org.sonar.java.checks.DoubleBraceInitializationCheck");
+                    put("S3626", "org.sonar.java.checks.RedundantJumpCheck");
+                    put("S3631", "org.sonar.java.checks.ArraysAsListOfPrimitiveToStreamCheck");
+                    put("S3655", "org.sonar.java.se.checks.OptionalGetBeforeIsPresentCheck");
+                    put("S3658", "org.sonar.java.checks.tests.AssertionFailInCatchBlockCheck");
+                    put("S3688", "org.sonar.java.checks.DisallowedClassCheck");
+                    put("S3725", "org.sonar.java.checks.FilesExistsJDK8Check");
+                    put("S3740", "org.sonar.java.checks.RawTypeCheck");
+                    put(
+                            "S3749",
+                            "org.sonar.java.checks.spring.SpringComponentWithNonAutowiredMembersCheck");
+                    put("S3750", "org.sonar.java.checks.spring.SpringComponentWithWrongScopeCheck");
+                    put("S3751", "org.sonar.java.checks.spring.RequestMappingMethodPublicCheck");
+                    put("S3752", "org.sonar.java.checks.spring.SpringRequestMappingMethodCheck");
+                    put(
+                            "S3753",
+                            "org.sonar.java.checks.spring.ControllerWithSessionAttributesCheck");
+                    put("S3776", "org.sonar.java.checks.CognitiveComplexityMethodCheck");
+                    put("S3824", "org.sonar.java.se.checks.MapComputeIfAbsentOrPresentCheck");
+                    put("S3864", "org.sonar.java.checks.StreamPeekCheck");
+                    put("S3878", "org.sonar.java.checks.ArrayForVarArgCheck");
+                    put("S3923", "org.sonar.java.checks.AllBranchesAreIdenticalCheck");
+                    put("S3937", "org.sonar.java.checks.UnderscoreMisplacedOnNumberCheck");
+                    put("S3958", "org.sonar.java.se.checks.StreamNotConsumedCheck");
+                    put("S3959", "org.sonar.java.se.checks.StreamConsumedCheck");
+                    put("S3972", "org.sonar.java.checks.ConditionalOnNewLineCheck");
+                    put("S3973", "org.sonar.java.checks.IndentationAfterConditionalCheck");
+                    put("S3981", "org.sonar.java.checks.CollectionSizeAndArrayLengthCheck");
+                    put("S3984", "org.sonar.java.checks.unused.UnusedThrowableCheck");
+                    put("S3986", "org.sonar.java.checks.DateFormatWeekYearCheck");
+                    put("S4011", "org.sonar.java.checks.DisallowedConstructorCheck");
+                    put("S4032", "org.sonar.java.checks.UselessPackageInfoCheck");
+                    put("S4034", "org.sonar.java.checks.PreferStreamAnyMatchCheck");
+                    put("S4042", "org.sonar.java.checks.NioFileDeleteCheck");
+                    put("S4065", "org.sonar.java.checks.ThreadLocalWithInitialCheck");
+                    put("S4087", "org.sonar.java.checks.RedundantCloseCheck");
+                    put("S4142", "org.sonar.java.checks.DuplicateArgumentCheck");
+                    put("S4143", "org.sonar.java.checks.OverwrittenKeyCheck");
+                    put("S4144", "org.sonar.java.checks.MethodIdenticalImplementationsCheck");
+                    put("S4165", "org.sonar.java.se.checks.RedundantAssignmentsCheck");
+                    put("S4174", "org.sonar.java.checks.naming.BadLocalConstantNameCheck");
+                    put("S4201", "org.sonar.java.checks.NullCheckWithInstanceofCheck");
+                    put("S4248", "org.sonar.java.checks.RegexPatternsNeedlesslyCheck");
+                    put("S4266", "org.sonar.java.checks.RedundantStreamCollectCheck");
+                    put("S4274", "org.sonar.java.checks.AssertsOnParametersOfPublicMethodCheck");
+                    put("S4275", "org.sonar.java.checks.GettersSettersOnRightFieldCheck");
+                    put("S4276", "org.sonar.java.checks.SpecializedFunctionalInterfacesCheck");
+                    put("S4288", "org.sonar.java.checks.SpringConstructorInjectionCheck");
+                    put("S4347", "org.sonar.java.checks.PredictableSeedCheck");
+                    put("S4348", "org.sonar.java.checks.IterableIteratorCheck");
+                    put("S4349", "org.sonar.java.checks.OutputStreamOverrideWriteCheck");
+                    put("S4351", "org.sonar.java.checks.CompareToNotOverloadedCheck");
+                    put("S4423", "org.sonar.java.checks.WeakSSLContextCheck");
+                    put("S4425", "org.sonar.java.checks.security.IntegerToHexStringCheck");
+                    put("S4426", "org.sonar.java.checks.security.CryptographicKeySizeCheck");
+                    put("S4432", "org.sonar.java.checks.security.AESAlgorithmCheck");
+                    put("S4433", "org.sonar.java.checks.security.LDAPAuthenticatedConnectionCheck");
+                    put("S4434", "org.sonar.java.checks.security.LDAPDeserializationCheck");
+                    put("S4435", "org.sonar.java.checks.security.SecureXmlTransformerCheck");
+                    put("S4449", "org.sonar.java.se.checks.ParameterNullnessCheck");
+                    put("S4454", "org.sonar.java.checks.EqualsParametersMarkedNonNullCheck");
+                    put("S4488", "org.sonar.java.checks.spring.SpringComposedRequestMappingCheck");
+                    put("S4499", "org.sonar.java.checks.security.SMTPSSLServerIdentityCheck");
+                    put("S4502", "org.sonar.java.checks.spring.SpringSecurityDisableCSRFCheck");
+                    put("S4507", "org.sonar.java.checks.security.DebugFeatureEnabledCheck");
+                    put("S4508", "org.sonar.java.checks.ObjectDeserializationCheck");
+                    put("S4510", "org.sonar.java.checks.XmlDeserializationCheck");
+                    put("S4512", "org.sonar.java.checks.PopulateBeansCheck");
+                    put("S4517", "org.sonar.java.checks.InputStreamReadCheck");
+                    put("S4524", "org.sonar.java.checks.SwitchDefaultLastCaseCheck");
+                    put("S4530", "org.sonar.java.checks.Struts1EndpointCheck");
+                    put("S4531", "org.sonar.java.checks.Struts2EndpointCheck");
+                    put("S4544", "org.sonar.java.checks.JacksonDeserializationCheck");
+                    put("S4551", "org.sonar.java.checks.EnumEqualCheck");
+                    put("S4601", "org.sonar.java.checks.spring.SpringAntMatcherOrderCheck");
+                    put("S4602", "org.sonar.java.checks.spring.SpringScanDefaultPackageCheck");
+                    put("S4603", "org.sonar.java.checks.spring.SpringComponentScanCheck");
+                    put("S4604", "org.sonar.java.checks.spring.SpringAutoConfigurationCheck");
+                    put("S4605", "org.sonar.java.checks.spring.SpringBeansShouldBeAccessibleCheck");
+                    put("S4635", "org.sonar.java.checks.StringOffsetMethodsCheck");
+                    put("S4682", "org.sonar.java.checks.PrimitivesMarkedNullableCheck");
+                    put(
+                            "S4684",
+                            "org.sonar.java.checks.spring.PersistentEntityUsedAsRequestParameterCheck");
+                    put("S4719", "org.sonar.java.checks.StandardCharsetsConstantsCheck");
+                    put("S4738", "org.sonar.java.checks.ReplaceGuavaWithJava8Check");
+                    put("S4784", "org.sonar.java.checks.security.RegexHotspotCheck");
+                    put("S4787", "org.sonar.java.checks.security.DataEncryptionCheck");
+                    put("S4790", "org.sonar.java.checks.security.DataHashingCheck");
+                    put("S4792", "org.sonar.java.checks.security.LogConfigurationCheck");
+                    put("S4818", "org.sonar.java.checks.security.SocketUsageCheck");
+                    put("S4823", "org.sonar.java.checks.security.CommandLineArgumentsCheck");
+                    put("S4829", "org.sonar.java.checks.security.StandardInputReadCheck");
+                    put("S4834", "org.sonar.java.checks.security.ControllingPermissionsCheck");
+                    put("S4838", "org.sonar.java.checks.ForLoopVariableTypeCheck");
+                    put("S4925", "org.sonar.java.checks.JdbcDriverExplicitLoadingCheck");
+                    put("S4926", "org.sonar.java.checks.serialization.BlindSerialVersionUidCheck");
+                    put("S4929", "org.sonar.java.checks.InputStreamOverrideReadCheck");
+                    put("S4970", "org.sonar.java.checks.UnreachableCatchCheck");
+                    put("S4973", "org.sonar.java.checks.CompareStringsBoxedTypesWithEqualsCheck");
+                    put("S5042", "org.sonar.java.checks.security.ZipEntryCheck");
+                    put("S5122", "org.sonar.java.checks.CORSCheck");
+                    put("S5128", "org.sonar.java.checks.MissingBeanValidationCheck");
+                    put("S5164", "org.sonar.java.checks.ThreadLocalCleanupCheck");
+                    put("S5194", "org.sonar.java.checks.UseSwitchExpressionCheck");
+                    put("S5261", "org.sonar.java.checks.DanglingElseStatementsCheck");
+                    put("S5300", "org.sonar.java.checks.security.EmailHotspotCheck");
+                    put("S5301", "org.sonar.java.checks.security.XxeActiveMQCheck");
+                    put("S5304", "org.sonar.java.checks.security.EnvVariablesHotspotCheck");
+                    put("S5320", "org.sonar.java.checks.security.AndroidBroadcastingCheck");
+                    put("S5322", "org.sonar.java.checks.security.ReceivingIntentsCheck");
+                    put("S5324", "org.sonar.java.checks.security.AndroidExternalStorageCheck");
+                    put("S5326", "org.sonar.java.checks.security.AndroidSSLConnectionCheck");
+                    put("S5344", "org.sonar.java.checks.security.PasswordEncoderCheck");
+                    put("S5361", "org.sonar.java.checks.regex.StringReplaceCheck");
+                    put("S5411", "org.sonar.java.checks.BoxedBooleanExpressionsCheck");
+                    put("S5413", "org.sonar.java.checks.SuspiciousListRemoveCheck");
+                    put("S5527", "org.sonar.java.checks.security.VerifiedServerHostnamesCheck");
+                    put("S5542", "org.sonar.java.checks.security.EncryptionAlgorithmCheck");
+                    put("S5547", "org.sonar.java.checks.StrongCipherAlgorithmCheck");
+                    put("S5612", "org.sonar.java.checks.LambdaTooBigCheck");
+                    put("S5669", "org.sonar.java.checks.ConfusingVarargCheck");
+                    put(
+                            "S5679",
+                            "org.sonar.java.checks.security.OpenSAML2AuthenticationBypassCheck");
+                    put("S5776", "org.sonar.java.checks.tests.ExpectedExceptionCheck");
+                    put(
+                            "S5777",
+                            "org.sonar.java.checks.tests.TestAnnotationWithExpectedExceptionCheck");
+                    put("S5778", "org.sonar.java.checks.tests.OneExpectedRuntimeExceptionCheck");
+                    put("S5779", "org.sonar.java.checks.tests.AssertionInTryCatchCheck");
+                    put("S5783", "org.sonar.java.checks.tests.OneExpectedCheckedExceptionCheck");
+                    put(
+                            "S5785",
+                            "org.sonar.java.checks.tests.AssertTrueInsteadOfDedicatedAssertCheck");
+                    put(
+                            "S5786",
+                            "org.sonar.java.checks.tests.JUnit5DefaultPackageClassAndMethodCheck");
+                    put("S5790", "org.sonar.java.checks.tests.JunitNestedAnnotationCheck");
+                    put("S5793", "org.sonar.java.checks.tests.JUnit4AnnotationsCheck");
+                    put("S5803", "org.sonar.java.checks.VisibleForTestingUsageCheck");
+                    put("S5804", "org.sonar.java.checks.security.UserEnumerationCheck");
+                    put(
+                            "S5808",
+                            "org.sonar.java.checks.security.AuthorizationsStrongDecisionsCheck");
+                    put(
+                            "S5810",
+                            "org.sonar.java.checks.tests.JUnit5SilentlyIgnoreClassAndMethodCheck");
+                    put("S5826", "org.sonar.java.checks.tests.JUnit45MethodAnnotationCheck");
+                    put("S5831", "org.sonar.java.checks.tests.AssertJApplyConfigurationCheck");
+                    put("S5833", "org.sonar.java.checks.tests.AssertJContextBeforeAssertionCheck");
+                    put("S5838", "org.sonar.java.checks.tests.AssertJChainSimplificationCheck");
+                    put("S5840", "org.sonar.java.checks.regex.ImpossibleRegexCheck");
+                    put("S5841", "org.sonar.java.checks.tests.AssertJTestForEmptinessCheck");
+                    put("S5842", "org.sonar.java.checks.regex.EmptyStringRepetitionCheck");
+                    put("S5843", "org.sonar.java.checks.regex.RegexComplexityCheck");
+                    put("S5845", "org.sonar.java.checks.tests.AssertionTypesCheck");
+                    put("S5846", "org.sonar.java.checks.regex.EmptyLineRegexCheck");
+                    put("S5850", "org.sonar.java.checks.regex.AnchorPrecedenceCheck");
+                    put("S5852", "org.sonar.java.checks.regex.RedosCheck");
+                    put("S5853", "org.sonar.java.checks.tests.AssertJConsecutiveAssertionCheck");
+                    put("S5854", "org.sonar.java.checks.regex.CanonEqFlagInRegexCheck");
+                    put("S5856", "org.sonar.java.checks.regex.InvalidRegexCheck");
+                    put("S5857", "org.sonar.java.checks.regex.ReluctantQuantifierCheck");
+                    put("S5860", "org.sonar.java.checks.regex.UnusedGroupNamesCheck");
+                    put("S5863", "org.sonar.java.checks.tests.AssertionCompareToSelfCheck");
+                    put("S5866", "org.sonar.java.checks.regex.UnicodeCaseCheck");
+                    put("S5867", "org.sonar.java.checks.regex.UnicodeAwareCharClassesCheck");
+                    put("S5868", "org.sonar.java.checks.regex.GraphemeClustersInClassesCheck");
+                    put("S5869", "org.sonar.java.checks.regex.DuplicatesInCharacterClassCheck");
+                    put("S5876", "org.sonar.java.checks.spring.SpringSessionFixationCheck");
+                    put("S5958", "org.sonar.java.checks.tests.AssertThatThrownByAloneCheck");
+                    put("S5960", "org.sonar.java.checks.AssertionsInProductionCodeCheck");
+                    put("S5961", "org.sonar.java.checks.tests.TooManyAssertionsCheck");
+                    put("S5967", "org.sonar.java.checks.tests.JUnitCompatibleAnnotationsCheck");
+                    put("S5969", "org.sonar.java.checks.tests.MockingAllMethodsCheck");
+                    put("S5970", "org.sonar.java.checks.tests.SpringAssertionsSimplificationCheck");
+                    put("S5973", "org.sonar.java.checks.tests.TestsStabilityCheck");
+                    put("S5976", "org.sonar.java.checks.tests.ParameterizedTestCheck");
+                    put("S5977", "org.sonar.java.checks.tests.RandomizedTestDataCheck");
+                    put("S5993", "org.sonar.java.checks.PublicConstructorInAbstractClassCheck");
+                    put("S818", "org.sonar.java.checks.UppercaseSuffixesCheck");
+                    put("S864", "org.sonar.java.checks.OperatorPrecedenceCheck");
+                    put("S881", "org.sonar.java.checks.IncrementDecrementInSubExpressionCheck");
+                    put("S888", "org.sonar.java.checks.ForLoopTerminationConditionCheck");
+                    put("S899", "org.sonar.java.checks.IgnoredOperationStatusCheck");
+                    put("S923", "org.sonar.java.checks.VarArgCheck");
+                }
+            };
+
+    // GENERATED FIELD
+    private static final Map<String, RuleType> KEY_TO_TYPE =
+            new java.util.HashMap<>() {
+                {
+                    put("S106", RuleType.CODE_SMELL);
+                    put("S1065", RuleType.CODE_SMELL);
+                    put("S1066", RuleType.CODE_SMELL);
+                    put("S1067", RuleType.CODE_SMELL);
+                    put("S1068", RuleType.CODE_SMELL);
+                    put("S1075", RuleType.CODE_SMELL);
+                    put("S109", RuleType.CODE_SMELL);
+                    put("S1118", RuleType.CODE_SMELL);
+                    put("S1125", RuleType.CODE_SMELL);
+                    put("S1126", RuleType.CODE_SMELL);
+                    put("S1132", RuleType.CODE_SMELL);
+                    put("S1133", RuleType.CODE_SMELL);
+                    put("S1134", RuleType.CODE_SMELL);
+                    put("S1135", RuleType.CODE_SMELL);
+                    put("S1141", RuleType.CODE_SMELL);
+                    put("S1142", RuleType.CODE_SMELL);
+                    put("S1143", RuleType.BUG);
+                    put("S1145", RuleType.BUG);
+                    put("S1147", RuleType.CODE_SMELL);
+                    put("S1148", RuleType.VULNERABILITY);
+                    put("S1149", RuleType.CODE_SMELL);
+                    put("S1150", RuleType.CODE_SMELL);
+                    put("S1151", RuleType.CODE_SMELL);
+                    put("S1153", RuleType.CODE_SMELL);
+                    put("S1155", RuleType.CODE_SMELL);
+                    put("S1157", RuleType.CODE_SMELL);
+                    put("S1158", RuleType.CODE_SMELL);
+                    put("S1160", RuleType.CODE_SMELL);
+                    put("S1161", RuleType.CODE_SMELL);
+                    put("S1162", RuleType.CODE_SMELL);
+                    put("S1163", RuleType.CODE_SMELL);
+                    put("S1165", RuleType.CODE_SMELL);
+                    put("S1166", RuleType.CODE_SMELL);
+                    put("S1168", RuleType.CODE_SMELL);
+                    put("S1170", RuleType.CODE_SMELL);
+                    put("S1171", RuleType.CODE_SMELL);
+                    put("S1172", RuleType.CODE_SMELL);
+                    put("S1174", RuleType.CODE_SMELL);
+                    put("S1175", RuleType.BUG);
+                    put("S1181", RuleType.CODE_SMELL);
+                    put("S1182", RuleType.CODE_SMELL);
+                    put("S1185", RuleType.CODE_SMELL);
+                    put("S1186", RuleType.CODE_SMELL);
+                    put("S1188", RuleType.CODE_SMELL);
+                    put("S1190", RuleType.CODE_SMELL);
+                    put("S1191", RuleType.CODE_SMELL);
+                    put("S1192", RuleType.CODE_SMELL);
+                    put("S1193", RuleType.CODE_SMELL);
+                    put("S1194", RuleType.CODE_SMELL);
+                    put("S1195", RuleType.CODE_SMELL);
+                    put("S1197", RuleType.CODE_SMELL);
+                    put("S1199", RuleType.CODE_SMELL);
+                    put("S1200", RuleType.CODE_SMELL);
+                    put("S1201", RuleType.BUG);
+                    put("S1206", RuleType.BUG);
+                    put("S1210", RuleType.CODE_SMELL);
+                    put("S1213", RuleType.CODE_SMELL);
+                    put("S1214", RuleType.CODE_SMELL);
+                    put("S1215", RuleType.CODE_SMELL);
+                    put("S1217", RuleType.BUG);
+                    put("S1219", RuleType.CODE_SMELL);
+                    put("S1221", RuleType.BUG);
+                    put("S1223", RuleType.CODE_SMELL);
+                    put("S1226", RuleType.BUG);
+                    put("S1228", RuleType.CODE_SMELL);
+                    put("S124", RuleType.CODE_SMELL);
+                    put("S1244", RuleType.BUG);
+                    put("S1258", RuleType.CODE_SMELL);
+                    put("S126", RuleType.CODE_SMELL);
+                    put("S1264", RuleType.CODE_SMELL);
+                    put("S128", RuleType.CODE_SMELL);
+                    put("S1301", RuleType.CODE_SMELL);
+                    put("S1309", RuleType.CODE_SMELL);
+                    put("S1310", RuleType.CODE_SMELL);
+                    put("S1312", RuleType.CODE_SMELL);
+                    put("S1313", RuleType.SECURITY_HOTSPOT);
+                    put("S1314", RuleType.CODE_SMELL);
+                    put("S1315", RuleType.CODE_SMELL);
+                    put("S1317", RuleType.BUG);
+                    put("S1319", RuleType.CODE_SMELL);
+                    put("S134", RuleType.CODE_SMELL);
+                    put("S135", RuleType.CODE_SMELL);
+                    put("S138", RuleType.CODE_SMELL);
+                    put("S1444", RuleType.CODE_SMELL);
+                    put("S1448", RuleType.CODE_SMELL);
+                    put("S1449", RuleType.CODE_SMELL);
+                    put("S1450", RuleType.CODE_SMELL);
+                    put("S1452", RuleType.CODE_SMELL);
+                    put("S1479", RuleType.CODE_SMELL);
+                    put("S1481", RuleType.CODE_SMELL);
+                    put("S1488", RuleType.CODE_SMELL);
+                    put("S1596", RuleType.CODE_SMELL);
+                    put("S1598", RuleType.CODE_SMELL);
+                    put("S1602", RuleType.CODE_SMELL);
+                    put("S1604", RuleType.CODE_SMELL);
+                    put("S1607", RuleType.CODE_SMELL);
+                    put("S1609", RuleType.CODE_SMELL);
+                    put("S1610", RuleType.CODE_SMELL);
+                    put("S1611", RuleType.CODE_SMELL);
+                    put("S1612", RuleType.CODE_SMELL);
+                    put("S1640", RuleType.CODE_SMELL);
+                    put("S1641", RuleType.CODE_SMELL);
+                    put("S1643", RuleType.CODE_SMELL);
+                    put("S1656", RuleType.BUG);
+                    put("S1659", RuleType.CODE_SMELL);
+                    put("S1694", RuleType.CODE_SMELL);
+                    put("S1695", RuleType.CODE_SMELL);
+                    put("S1696", RuleType.CODE_SMELL);
+                    put("S1697", RuleType.BUG);
+                    put("S1698", RuleType.CODE_SMELL);
+                    put("S1699", RuleType.CODE_SMELL);
+                    put("S1700", RuleType.CODE_SMELL);
+                    put("S1710", RuleType.CODE_SMELL);
+                    put("S1711", RuleType.CODE_SMELL);
+                    put("S1751", RuleType.BUG);
+                    put("S1764", RuleType.BUG);
+                    put("S1774", RuleType.CODE_SMELL);
+                    put("S1820", RuleType.CODE_SMELL);
+                    put("S1821", RuleType.CODE_SMELL);
+                    put("S1844", RuleType.CODE_SMELL);
+                    put("S1845", RuleType.CODE_SMELL);
+                    put("S1849", RuleType.BUG);
+                    put("S1850", RuleType.BUG);
+                    put("S1854", RuleType.CODE_SMELL);
+                    put("S1858", RuleType.CODE_SMELL);
+                    put("S1860", RuleType.BUG);
+                    put("S1862", RuleType.BUG);
+                    put("S1871", RuleType.CODE_SMELL);
+                    put("S1872", RuleType.BUG);
+                    put("S1905", RuleType.CODE_SMELL);
+                    put("S1939", RuleType.CODE_SMELL);
+                    put("S1940", RuleType.CODE_SMELL);
+                    put("S1941", RuleType.CODE_SMELL);
+                    put("S1942", RuleType.CODE_SMELL);
+                    put("S1943", RuleType.CODE_SMELL);
+                    put("S1948", RuleType.CODE_SMELL);
+                    put("S1989", RuleType.VULNERABILITY);
+                    put("S1994", RuleType.CODE_SMELL);
+                    put("S1996", RuleType.CODE_SMELL);
+                    put("S2039", RuleType.CODE_SMELL);
+                    put("S2047", RuleType.CODE_SMELL);
+                    put("S2055", RuleType.BUG);
+                    put("S2057", RuleType.CODE_SMELL);
+                    put("S2059", RuleType.CODE_SMELL);
+                    put("S2060", RuleType.BUG);
+                    put("S2061", RuleType.BUG);
+                    put("S2062", RuleType.CODE_SMELL);
+                    put("S2063", RuleType.CODE_SMELL);
+                    put("S2065", RuleType.CODE_SMELL);
+                    put("S2066", RuleType.BUG);
+                    put("S2068", RuleType.SECURITY_HOTSPOT);
+                    put("S2070", RuleType.VULNERABILITY);
+                    put("S2077", RuleType.SECURITY_HOTSPOT);
+                    put("S2089", RuleType.VULNERABILITY);
+                    put("S2092", RuleType.SECURITY_HOTSPOT);
+                    put("S2093", RuleType.CODE_SMELL);
+                    put("S2094", RuleType.CODE_SMELL);
+                    put("S2095", RuleType.BUG);
+                    put("S2096", RuleType.CODE_SMELL);
+                    put("S2097", RuleType.BUG);
+                    put("S2109", RuleType.BUG);
+                    put("S2110", RuleType.BUG);
+                    put("S2111", RuleType.BUG);
+                    put("S2112", RuleType.CODE_SMELL);
+                    put("S2114", RuleType.BUG);
+                    put("S2115", RuleType.VULNERABILITY);
+                    put("S2116", RuleType.BUG);
+                    put("S2118", RuleType.BUG);
+                    put("S2119", RuleType.BUG);
+                    put("S2121", RuleType.BUG);
+                    put("S2122", RuleType.BUG);
+                    put("S2123", RuleType.BUG);
+                    put("S2127", RuleType.BUG);
+                    put("S2129", RuleType.CODE_SMELL);
+                    put("S2130", RuleType.CODE_SMELL);
+                    put("S2131", RuleType.CODE_SMELL);
+                    put("S2133", RuleType.CODE_SMELL);
+                    put("S2134", RuleType.BUG);
+                    put("S2139", RuleType.CODE_SMELL);
+                    put("S2140", RuleType.CODE_SMELL);
+                    put("S2141", RuleType.BUG);
+                    put("S2142", RuleType.BUG);
+                    put("S2143", RuleType.CODE_SMELL);
+                    put("S2147", RuleType.CODE_SMELL);
+                    put("S2148", RuleType.CODE_SMELL);
+                    put("S2151", RuleType.BUG);
+                    put("S2153", RuleType.BUG);
+                    put("S2154", RuleType.BUG);
+                    put("S2156", RuleType.CODE_SMELL);
+                    put("S2157", RuleType.CODE_SMELL);
+                    put("S2159", RuleType.BUG);
+                    put("S2160", RuleType.CODE_SMELL);
+                    put("S2162", RuleType.BUG);
+                    put("S2164", RuleType.BUG);
+                    put("S2165", RuleType.CODE_SMELL);
+                    put("S2166", RuleType.CODE_SMELL);
+                    put("S2167", RuleType.BUG);
+                    put("S2168", RuleType.BUG);
+                    put("S2175", RuleType.BUG);
+                    put("S2176", RuleType.CODE_SMELL);
+                    put("S2177", RuleType.BUG);
+                    put("S2178", RuleType.CODE_SMELL);
+                    put("S2183", RuleType.BUG);
+                    put("S2184", RuleType.BUG);
+                    put("S2185", RuleType.CODE_SMELL);
+                    put("S2186", RuleType.CODE_SMELL);
+                    put("S2187", RuleType.CODE_SMELL);
+                    put("S2188", RuleType.CODE_SMELL);
+                    put("S2189", RuleType.BUG);
+                    put("S2196", RuleType.CODE_SMELL);
+                    put("S2197", RuleType.CODE_SMELL);
+                    put("S2200", RuleType.BUG);
+                    put("S2201", RuleType.BUG);
+                    put("S2203", RuleType.CODE_SMELL);
+                    put("S2204", RuleType.BUG);
+                    put("S2208", RuleType.CODE_SMELL);
+                    put("S2209", RuleType.CODE_SMELL);
+                    put("S2211", RuleType.CODE_SMELL);
+                    put("S2221", RuleType.CODE_SMELL);
+                    put("S2222", RuleType.BUG);
+                    put("S2225", RuleType.BUG);
+                    put("S2226", RuleType.BUG);
+                    put("S2229", RuleType.BUG);
+                    put("S2230", RuleType.BUG);
+                    put("S2232", RuleType.CODE_SMELL);
+                    put("S2234", RuleType.CODE_SMELL);
+                    put("S2235", RuleType.CODE_SMELL);
+                    put("S2236", RuleType.BUG);
+                    put("S2245", RuleType.SECURITY_HOTSPOT);
+                    put("S2250", RuleType.CODE_SMELL);
+                    put("S2251", RuleType.BUG);
+                    put("S2252", RuleType.BUG);
+                    put("S2253", RuleType.CODE_SMELL);
+                    put("S2254", RuleType.VULNERABILITY);
+                    put("S2255", RuleType.SECURITY_HOTSPOT);
+                    put("S2257", RuleType.SECURITY_HOTSPOT);
+                    put("S2258", RuleType.VULNERABILITY);
+                    put("S2259", RuleType.BUG);
+                    put("S2272", RuleType.BUG);
+                    put("S2273", RuleType.BUG);
+                    put("S2274", RuleType.CODE_SMELL);
+                    put("S2275", RuleType.BUG);
+                    put("S2276", RuleType.BUG);
+                    put("S2277", RuleType.VULNERABILITY);
+                    put("S2278", RuleType.VULNERABILITY);
+                    put("S2293", RuleType.CODE_SMELL);
+                    put("S2301", RuleType.CODE_SMELL);
+                    put("S2325", RuleType.CODE_SMELL);
+                    put("S2326", RuleType.CODE_SMELL);
+                    put("S2333", RuleType.CODE_SMELL);
+                    put("S2384", RuleType.VULNERABILITY);
+                    put("S2386", RuleType.CODE_SMELL);
+                    put("S2387", RuleType.CODE_SMELL);
+                    put("S2388", RuleType.CODE_SMELL);
+                    put("S2390", RuleType.CODE_SMELL);
+                    put("S2391", RuleType.CODE_SMELL);
+                    put("S2437", RuleType.CODE_SMELL);
+                    put("S2438", RuleType.CODE_SMELL);
+                    put("S2440", RuleType.CODE_SMELL);
+                    put("S2441", RuleType.BUG);
+                    put("S2442", RuleType.CODE_SMELL);
+                    put("S2444", RuleType.CODE_SMELL);
+                    put("S2445", RuleType.BUG);
+                    put("S2446", RuleType.BUG);
+                    put("S2447", RuleType.CODE_SMELL);
+                    put("S2479", RuleType.CODE_SMELL);
+                    put("S2583", RuleType.BUG);
+                    put("S2589", RuleType.CODE_SMELL);
+                    put("S2612", RuleType.SECURITY_HOTSPOT);
+                    put("S2629", RuleType.CODE_SMELL);
+                    put("S2637", RuleType.BUG);
+                    put("S2638", RuleType.CODE_SMELL);
+                    put("S2639", RuleType.BUG);
+                    put("S2647", RuleType.VULNERABILITY);
+                    put("S2653", RuleType.VULNERABILITY);
+                    put("S2658", RuleType.VULNERABILITY);
+                    put("S2674", RuleType.BUG);
+                    put("S2675", RuleType.CODE_SMELL);
+                    put("S2676", RuleType.BUG);
+                    put("S2677", RuleType.BUG);
+                    put("S2681", RuleType.CODE_SMELL);
+                    put("S2689", RuleType.BUG);
+                    put("S2692", RuleType.CODE_SMELL);
+                    put("S2693", RuleType.CODE_SMELL);
+                    put("S2694", RuleType.CODE_SMELL);
+                    put("S2695", RuleType.BUG);
+                    put("S2696", RuleType.CODE_SMELL);
+                    put("S2698", RuleType.CODE_SMELL);
+                    put("S2699", RuleType.CODE_SMELL);
+                    put("S2701", RuleType.CODE_SMELL);
+                    put("S2718", RuleType.CODE_SMELL);
+                    put("S2737", RuleType.CODE_SMELL);
+                    put("S2755", RuleType.VULNERABILITY);
+                    put("S2757", RuleType.BUG);
+                    put("S2761", RuleType.BUG);
+                    put("S2786", RuleType.CODE_SMELL);
+                    put("S2789", RuleType.BUG);
+                    put("S2864", RuleType.CODE_SMELL);
+                    put("S2885", RuleType.BUG);
+                    put("S2886", RuleType.BUG);
+                    put("S2912", RuleType.CODE_SMELL);
+                    put("S2924", RuleType.CODE_SMELL);
+                    put("S2925", RuleType.CODE_SMELL);
+                    put("S2959", RuleType.CODE_SMELL);
+                    put("S2970", RuleType.CODE_SMELL);
+                    put("S2972", RuleType.CODE_SMELL);
+                    put("S2973", RuleType.CODE_SMELL);
+                    put("S2974", RuleType.CODE_SMELL);
+                    put("S2975", RuleType.CODE_SMELL);
+                    put("S2976", RuleType.VULNERABILITY);
+                    put("S3008", RuleType.CODE_SMELL);
+                    put("S3010", RuleType.CODE_SMELL);
+                    put("S3011", RuleType.CODE_SMELL);
+                    put("S3012", RuleType.CODE_SMELL);
+                    put("S3014", RuleType.CODE_SMELL);
+                    put("S3020", RuleType.BUG);
+                    put("S3027", RuleType.CODE_SMELL);
+                    put("S3030", RuleType.CODE_SMELL);
+                    put("S3032", RuleType.BUG);
+                    put("S3034", RuleType.BUG);
+                    put("S3038", RuleType.CODE_SMELL);
+                    put("S3039", RuleType.BUG);
+                    put("S3042", RuleType.CODE_SMELL);
+                    put("S3046", RuleType.BUG);
+                    put("S3047", RuleType.CODE_SMELL);
+                    put("S3052", RuleType.CODE_SMELL);
+                    put("S3064", RuleType.BUG);
+                    put("S3065", RuleType.BUG);
+                    put("S3066", RuleType.VULNERABILITY);
+                    put("S3067", RuleType.BUG);
+                    put("S3077", RuleType.BUG);
+                    put("S3078", RuleType.BUG);
+                    put("S3242", RuleType.CODE_SMELL);
+                    put("S3252", RuleType.CODE_SMELL);
+                    put("S3254", RuleType.CODE_SMELL);
+                    put("S3305", RuleType.CODE_SMELL);
+                    put("S3306", RuleType.BUG);
+                    put("S3329", RuleType.VULNERABILITY);
+                    put("S3330", RuleType.SECURITY_HOTSPOT);
+                    put("S3331", RuleType.SECURITY_HOTSPOT);
+                    put("S3346", RuleType.BUG);
+                    put("S3358", RuleType.CODE_SMELL);
+                    put("S3366", RuleType.CODE_SMELL);
+                    put("S3398", RuleType.CODE_SMELL);
+                    put("S3400", RuleType.CODE_SMELL);
+                    put("S3414", RuleType.CODE_SMELL);
+                    put("S3415", RuleType.CODE_SMELL);
+                    put("S3416", RuleType.CODE_SMELL);
+                    put("S3436", RuleType.BUG);
+                    put("S3437", RuleType.CODE_SMELL);
+                    put("S3457", RuleType.CODE_SMELL);
+                    put("S3510", RuleType.VULNERABILITY);
+                    put("S3516", RuleType.CODE_SMELL);
+                    put("S3518", RuleType.BUG);
+                    put("S3546", RuleType.BUG);
+                    put("S3551", RuleType.BUG);
+                    put("S3553", RuleType.CODE_SMELL);
+                    put("S3577", RuleType.CODE_SMELL);
+                    put("S3578", RuleType.CODE_SMELL);
+                    put("S3599", RuleType.BUG);
+                    put("S3626", RuleType.CODE_SMELL);
+                    put("S3631", RuleType.CODE_SMELL);
+                    put("S3655", RuleType.BUG);
+                    put("S3658", RuleType.CODE_SMELL);
+                    put("S3688", RuleType.CODE_SMELL);
+                    put("S3725", RuleType.CODE_SMELL);
+                    put("S3740", RuleType.CODE_SMELL);
+                    put("S3749", RuleType.VULNERABILITY);
+                    put("S3750", RuleType.BUG);
+                    put("S3751", RuleType.VULNERABILITY);
+                    put("S3752", RuleType.SECURITY_HOTSPOT);
+                    put("S3753", RuleType.BUG);
+                    put("S3776", RuleType.CODE_SMELL);
+                    put("S3824", RuleType.CODE_SMELL);
+                    put("S3864", RuleType.CODE_SMELL);
+                    put("S3878", RuleType.CODE_SMELL);
+                    put("S3923", RuleType.BUG);
+                    put("S3937", RuleType.CODE_SMELL);
+                    put("S3958", RuleType.BUG);
+                    put("S3959", RuleType.BUG);
+                    put("S3972", RuleType.CODE_SMELL);
+                    put("S3973", RuleType.CODE_SMELL);
+                    put("S3981", RuleType.BUG);
+                    put("S3984", RuleType.BUG);
+                    put("S3986", RuleType.BUG);
+                    put("S4011", RuleType.CODE_SMELL);
+                    put("S4032", RuleType.CODE_SMELL);
+                    put("S4034", RuleType.CODE_SMELL);
+                    put("S4042", RuleType.CODE_SMELL);
+                    put("S4065", RuleType.CODE_SMELL);
+                    put("S4087", RuleType.CODE_SMELL);
+                    put("S4142", RuleType.CODE_SMELL);
+                    put("S4143", RuleType.BUG);
+                    put("S4144", RuleType.CODE_SMELL);
+                    put("S4165", RuleType.CODE_SMELL);
+                    put("S4174", RuleType.CODE_SMELL);
+                    put("S4201", RuleType.CODE_SMELL);
+                    put("S4248", RuleType.CODE_SMELL);
+                    put("S4266", RuleType.CODE_SMELL);
+                    put("S4274", RuleType.CODE_SMELL);
+                    put("S4275", RuleType.BUG);
+                    put("S4276", RuleType.CODE_SMELL);
+                    put("S4288", RuleType.CODE_SMELL);
+                    put("S4347", RuleType.VULNERABILITY);
+                    put("S4348", RuleType.BUG);
+                    put("S4349", RuleType.CODE_SMELL);
+                    put("S4351", RuleType.BUG);
+                    put("S4423", RuleType.VULNERABILITY);
+                    put("S4425", RuleType.CODE_SMELL);
+                    put("S4426", RuleType.VULNERABILITY);
+                    put("S4432", RuleType.VULNERABILITY);
+                    put("S4433", RuleType.VULNERABILITY);
+                    put("S4434", RuleType.VULNERABILITY);
+                    put("S4435", RuleType.VULNERABILITY);
+                    put("S4449", RuleType.CODE_SMELL);
+                    put("S4454", RuleType.CODE_SMELL);
+                    put("S4488", RuleType.CODE_SMELL);
+                    put("S4499", RuleType.VULNERABILITY);
+                    put("S4502", RuleType.SECURITY_HOTSPOT);
+                    put("S4507", RuleType.SECURITY_HOTSPOT);
+                    put("S4508", RuleType.SECURITY_HOTSPOT);
+                    put("S4510", RuleType.SECURITY_HOTSPOT);
+                    put("S4512", RuleType.SECURITY_HOTSPOT);
+                    put("S4517", RuleType.BUG);
+                    put("S4524", RuleType.CODE_SMELL);
+                    put("S4530", RuleType.SECURITY_HOTSPOT);
+                    put("S4531", RuleType.SECURITY_HOTSPOT);
+                    put("S4544", RuleType.SECURITY_HOTSPOT);
+                    put("S4551", RuleType.CODE_SMELL);
+                    put("S4601", RuleType.VULNERABILITY);
+                    put("S4602", RuleType.BUG);
+                    put("S4603", RuleType.CODE_SMELL);
+                    put("S4604", RuleType.CODE_SMELL);
+                    put("S4605", RuleType.CODE_SMELL);
+                    put("S4635", RuleType.CODE_SMELL);
+                    put("S4682", RuleType.CODE_SMELL);
+                    put("S4684", RuleType.VULNERABILITY);
+                    put("S4719", RuleType.CODE_SMELL);
+                    put("S4738", RuleType.CODE_SMELL);
+                    put("S4784", RuleType.SECURITY_HOTSPOT);
+                    put("S4787", RuleType.SECURITY_HOTSPOT);
+                    put("S4790", RuleType.SECURITY_HOTSPOT);
+                    put("S4792", RuleType.SECURITY_HOTSPOT);
+                    put("S4818", RuleType.SECURITY_HOTSPOT);
+                    put("S4823", RuleType.SECURITY_HOTSPOT);
+                    put("S4829", RuleType.SECURITY_HOTSPOT);
+                    put("S4834", RuleType.SECURITY_HOTSPOT);
+                    put("S4838", RuleType.CODE_SMELL);
+                    put("S4925", RuleType.CODE_SMELL);
+                    put("S4926", RuleType.CODE_SMELL);
+                    put("S4929", RuleType.CODE_SMELL);
+                    put("S4970", RuleType.CODE_SMELL);
+                    put("S4973", RuleType.BUG);
+                    put("S5042", RuleType.SECURITY_HOTSPOT);
+                    put("S5122", RuleType.SECURITY_HOTSPOT);
+                    put("S5128", RuleType.CODE_SMELL);
+                    put("S5164", RuleType.BUG);
+                    put("S5194", RuleType.CODE_SMELL);
+                    put("S5261", RuleType.CODE_SMELL);
+                    put("S5300", RuleType.SECURITY_HOTSPOT);
+                    put("S5301", RuleType.VULNERABILITY);
+                    put("S5304", RuleType.SECURITY_HOTSPOT);
+                    put("S5320", RuleType.SECURITY_HOTSPOT);
+                    put("S5322", RuleType.SECURITY_HOTSPOT);
+                    put("S5324", RuleType.SECURITY_HOTSPOT);
+                    put("S5326", RuleType.SECURITY_HOTSPOT);
+                    put("S5344", RuleType.VULNERABILITY);
+                    put("S5361", RuleType.CODE_SMELL);
+                    put("S5411", RuleType.CODE_SMELL);
+                    put("S5413", RuleType.CODE_SMELL);
+                    put("S5527", RuleType.VULNERABILITY);
+                    put("S5542", RuleType.VULNERABILITY);
+                    put("S5547", RuleType.VULNERABILITY);
+                    put("S5612", RuleType.CODE_SMELL);
+                    put("S5669", RuleType.CODE_SMELL);
+                    put("S5679", RuleType.VULNERABILITY);
+                    put("S5776", RuleType.CODE_SMELL);
+                    put("S5777", RuleType.CODE_SMELL);
+                    put("S5778", RuleType.CODE_SMELL);
+                    put("S5779", RuleType.BUG);
+                    put("S5783", RuleType.BUG);
+                    put("S5785", RuleType.CODE_SMELL);
+                    put("S5786", RuleType.CODE_SMELL);
+                    put("S5790", RuleType.BUG);
+                    put("S5793", RuleType.CODE_SMELL);
+                    put("S5803", RuleType.CODE_SMELL);
+                    put("S5804", RuleType.SECURITY_HOTSPOT);
+                    put("S5808", RuleType.VULNERABILITY);
+                    put("S5810", RuleType.BUG);
+                    put("S5826", RuleType.CODE_SMELL);
+                    put("S5831", RuleType.BUG);
+                    put("S5833", RuleType.BUG);
+                    put("S5838", RuleType.CODE_SMELL);
+                    put("S5840", RuleType.BUG);
+                    put("S5841", RuleType.BUG);
+                    put("S5842", RuleType.BUG);
+                    put("S5843", RuleType.CODE_SMELL);
+                    put("S5845", RuleType.BUG);
+                    put("S5846", RuleType.CODE_SMELL);
+                    put("S5850", RuleType.BUG);
+                    put("S5852", RuleType.SECURITY_HOTSPOT);
+                    put("S5853", RuleType.CODE_SMELL);
+                    put("S5854", RuleType.CODE_SMELL);
+                    put("S5856", RuleType.BUG);
+                    put("S5857", RuleType.CODE_SMELL);
+                    put("S5860", RuleType.CODE_SMELL);
+                    put("S5863", RuleType.BUG);
+                    put("S5866", RuleType.BUG);
+                    put("S5867", RuleType.CODE_SMELL);
+                    put("S5868", RuleType.BUG);
+                    put("S5869", RuleType.CODE_SMELL);
+                    put("S5876", RuleType.VULNERABILITY);
+                    put("S5958", RuleType.CODE_SMELL);
+                    put("S5960", RuleType.BUG);
+                    put("S5961", RuleType.CODE_SMELL);
+                    put("S5967", RuleType.BUG);
+                    put("S5969", RuleType.CODE_SMELL);
+                    put("S5970", RuleType.CODE_SMELL);
+                    put("S5973", RuleType.CODE_SMELL);
+                    put("S5976", RuleType.CODE_SMELL);
+                    put("S5977", RuleType.CODE_SMELL);
+                    put("S5993", RuleType.CODE_SMELL);
+                    put("S818", RuleType.CODE_SMELL);
+                    put("S864", RuleType.CODE_SMELL);
+                    put("S881", RuleType.CODE_SMELL);
+                    put("S888", RuleType.CODE_SMELL);
+                    put("S899", RuleType.BUG);
+                    put("S923", RuleType.CODE_SMELL);
+                }
+            };
+
+    // GENERATED FIELD
+    private static final Set<String> TEST_CODE_CHECK_KEYS =
+            java.util.Set.of(
+                    "S1607", "S2186", "S2187", "S2188", "S2391", "S2698", "S2699", "S2701", "S2924",
+                    "S2925", "S2970", "S3415", "S3577", "S3578", "S3658", "S5776", "S5777", "S5778",
+                    "S5779", "S5783", "S5785", "S5786", "S5790", "S5793", "S5810", "S5826", "S5831",
+                    "S5833", "S5838", "S5841", "S5845", "S5853", "S5863", "S5958", "S5961", "S5967",
+                    "S5969", "S5970", "S5973", "S5976", "S5977");
+
+    /** @return The keys of all indexed checks. */
+    static Set<String> getRuleKeys() {
+        return Collections.unmodifiableSet(KEY_TO_CHECK_NAME.keySet());
+    }
+
+    /**
+     * @param key A rule key.
+     * @return The fully qualified name of the check class of the rule, or null if there is no
+     *     indexed check with the key.
+     */
+    static String getCheckName(String key) {
+        return KEY_TO_CHECK_NAME.get(key);
+    }
+
+    /**
+     * @param key A rule key.
+     * @return The type of the rule, or null if there is no indexed check with the key.
+     */
+    static RuleType getRuleType(String key) {
+        return KEY_TO_TYPE.get(key);
+    }
+
+    /**
+     * @param key A rule key.
+     * @return true iff Sonar only runs the check of the rule on test code, which Sorald does not
+     *     analyze.
+     */
+    static boolean isTestCodeCheck(String key) {
+        return TEST_CODE_CHECK_KEYS.contains(key);
+    }
+}
@@ -0,0 +1,663 @@
+package sorald.sonar;
+
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.sonar.check.Rule;
+import org.sonar.java.checks.*;
+import org.sonar.java.checks.naming.*;
+import org.sonar.java.checks.regex.*;
+import org.sonar.java.checks.security.*;
+import org.sonar.java.checks.serialization.*;
+import org.sonar.java.checks.spring.*;
+import org.sonar.java.checks.synchronization.DoubleCheckedLockingCheck;
+import org.sonar.java.checks.synchronization.SynchronizationOnGetClassCheck;
+import org.sonar.java.checks.synchronization.TwoLocksWaitCheck;
+import org.sonar.java.checks.synchronization.ValueBasedObjectUsedForLockCheck;
+import org.sonar.java.checks.synchronization.WriteObjectTheOnlySynchronizedMethodCheck;
+import org.sonar.java.checks.tests.*;
+import org.sonar.java.checks.unused.*;
+import org.sonar.java.se.checks.*;
+import org.sonar.plugins.java.api.JavaFileScanner;
+import sorald.rule.RuleType;
+import spoon.processing.AbstractProcessor;
+import spoon.reflect.code.CtExpression;
+import spoon.reflect.declaration.CtClass;
+import spoon.reflect.declaration.CtField;
+
+/**
+ * Generator of the generated fields of {@link CheckIndex}, which index the Sonar-Java checks that
+ * Sorald keeps track of by rule key. This is the only class that refers to the check classes
+ * directly, and it is only used for code generation with {@link sorald.CodeGenerator}. To add or
+ * remove a check, edit the lists of checks in this class and regenerate the index.
+ */
+@SuppressWarnings({"unchecked", "rawtypes", "UnstableApiUsage"})
+public class CheckIndexGenerator extends AbstractProcessor<CtClass<?>> {
+
+    @Override
+    public boolean isToBeProcessed(CtClass<?> candidate) {
+        return CheckIndex.class.getName().equals(candidate.getQualifiedName());
+    }
+
+    @Override
+    public void process(CtClass<?> checkIndex) {
+        SortedMap<String, String> keyToCheckName = new TreeMap<>();
+        SortedMap<String, RuleType> keyToType = new TreeMap<>();
+        Set<String> testCodeKeys = new TreeSet<>();
+        Set<Class<?>> mainCodeChecks = new HashSet<>(CheckList.getJavaChecks());
+
+        for (var typeAndChecks : createTypeToChecks().entrySet()) {
+            for (Class<? extends JavaFileScanner> check : typeAndChecks.getValue()) {
+                String key = check.getAnnotation(Rule.class).key();
+                if (keyToCheckName.putIfAbsent(key, check.getName()) != null) {
+                    continue;
+                }
+                keyToType.put(key, typeAndChecks.getKey());
+                if (!mainCodeChecks.contains(check)) {
+                    testCodeKeys.add(key);
+                }
+            }
+        }
+
+        setInitializer(
+                checkIndex,
+                "KEY_TO_CHECK_NAME",
+                generateMapInitializer(keyToCheckName, name -> "\"" + name + "\""));
+        setInitializer(
+                checkIndex,
+                "KEY_TO_TYPE",
+                generateMapInitializer(keyToType, type -> "RuleType." + type.name()));
+        setInitializer(
+                checkIndex,
+                "TEST_CODE_CHECK_KEYS",
+                getFactory()
+                        .createCodeSnippetExpression(
+                                "java.util.Set.of(\n"
+                                        + testCodeKeys.stream()
+                                                .map(key -> "\"" + key + "\"")
+                                                .collect(Collectors.joining(",\n"))
+                                        + ")"));
+    }
+
+    private static void setInitializer(
+            CtClass<?> type, String fieldName, CtExpression<?> initializer) {
+        CtField field = type.getField(fieldName);
+        field.setDefaultExpression(initializer);
+    }
+
+    private <V> CtExpression<?> generateMapInitializer(
+            Map<String, V> map, Function<V, String> valueToSource) {
+        return getFactory()
+                .createCodeSnippetExpression(
+                        "new java.util.HashMap<>() {{\n"
+                                + map.entrySet().stream()
+                                        .map(
+                                                entry ->
+                                                        "put(\""
+                                                                + entry.getKey()
+                                                                + "\","
+                                                                + valueToSource.apply(
+                                                                        entry.getValue())
+                                                                + ");")
+                                        .collect(Collectors.joining("\n"))
+                                + "\n}}\n");
+    }
+
+    private static Map<RuleType, List<Class<? extends JavaFileScanner>>> createTypeToChecks() {
+        Map<RuleType, List<Class<? extends JavaFileScanner>>> typeToChecks =
+                new EnumMap<>(RuleType.class);
+
+        typeToChecks.put(
+                RuleType.BUG,
+                List.of(
+                        AbsOnNegativeCheck.class,
+                        AllBranchesAreIdenticalCheck.class,
+                        AnchorPrecedenceCheck.class,
+                        ArrayHashCodeAndToStringCheck.class,
+                        AssertionCompareToSelfCheck.class,
+                        AssertionInTryCatchCheck.class,
+                        AssertionsInProductionCodeCheck.class,
+                        AssertionTypesCheck.class,
+                        AssertJApplyConfigurationCheck.class,
+                        AssertJContextBeforeAssertionCheck.class,
+                        AssertJTestForEmptinessCheck.class,
+                        AssertOnBooleanVariableCheck.class,
+                        BigDecimalDoubleConstructorCheck.class,
+                        CastArithmeticOperandCheck.class,
+                        ClassComparedByNameCheck.class,
+                        ClassWithoutHashCodeInHashStructureCheck.class,
+                        CollectionCallingItselfCheck.class,
+                        CollectionInappropriateCallsCheck.class,
+                        CollectionSizeAndArrayLengthCheck.class,
+                        CompareStringsBoxedTypesWithEqualsCheck.class,
+                        CompareToNotOverloadedCheck.class,
+                        CompareToResultTestCheck.class,
+                        CompareToReturnValueCheck.class,
+                        ConditionalUnreachableCodeCheck.class,
+                        ConfusingOverloadCheck.class,
+                        ConstructorInjectionCheck.class,
+                        ControllerWithSessionAttributesCheck.class,
+                        CustomSerializationMethodCheck.class,
+                        CustomUnclosedResourcesCheck.class,
+                        DateFormatWeekYearCheck.class,
+                        DivisionByZeroCheck.class,
+                        DoubleBraceInitializationCheck.class,
+                        DoubleCheckedLockingAssignmentCheck.class,
+                        DoubleCheckedLockingCheck.class,
+                        DoublePrefixOperatorCheck.class,
+                        DuplicateConditionIfElseIfCheck.class,
+                        EmptyStringRepetitionCheck.class,
+                        EqualsArgumentTypeCheck.class,
+                        EqualsOnAtomicClassCheck.class,
+                        EqualsOverridenWithHashCodeCheck.class,
+                        ExternalizableClassConstructorCheck.class,
+                        FloatEqualityCheck.class,
+                        ForLoopFalseConditionCheck.class,
+                        ForLoopIncrementSignCheck.class,
+                        GetClassLoaderCheck.class,
+                        GettersSettersOnRightFieldCheck.class,
+                        GraphemeClustersInClassesCheck.class,
+                        HasNextCallingNextCheck.class,
+                        IdenticalOperandOnBinaryExpressionCheck.class,
+                        IfConditionAlwaysTrueOrFalseCheck.class,
+                        IgnoredOperationStatusCheck.class,
+                        IgnoredReturnValueCheck.class,
+                        IgnoredStreamReturnValueCheck.class,
+                        ImmediateReverseBoxingCheck.class,
+                        ImpossibleRegexCheck.class,
+                        InappropriateRegexpCheck.class,
+                        InnerClassOfNonSerializableCheck.class,
+                        InputStreamReadCheck.class,
+                        InstanceOfAlwaysTrueCheck.class,
+                        InterruptedExceptionCheck.class,
+                        InvalidDateValuesCheck.class,
+                        InvalidRegexCheck.class,
+                        IterableIteratorCheck.class,
+                        IteratorNextExceptionCheck.class,
+                        JUnit5SilentlyIgnoreClassAndMethodCheck.class,
+                        JUnitCompatibleAnnotationsCheck.class,
+                        JunitNestedAnnotationCheck.class,
+                        LocksNotUnlockedCheck.class,
+                        LongBitsToDoubleOnIntCheck.class,
+                        LoopExecutingAtMostOnceCheck.class,
+                        MathOnFloatCheck.class,
+                        MethodNamedEqualsCheck.class,
+                        MethodNamedHashcodeOrEqualCheck.class,
+                        MinMaxRangeCheck.class,
+                        NonNullSetToNullCheck.class,
+                        NonSerializableWriteCheck.class,
+                        NotifyCheck.class,
+                        NoWayOutLoopCheck.class,
+                        NullDereferenceCheck.class,
+                        NullDereferenceInConditionalCheck.class,
+                        NullShouldNotBeUsedWithOptionalCheck.class,
+                        ObjectFinalizeOverloadedCheck.class,
+                        ObjectOutputStreamCheck.class,
+                        OneExpectedCheckedExceptionCheck.class,
+                        OptionalGetBeforeIsPresentCheck.class,
+                        OverwrittenKeyCheck.class,
+                        ParameterReassignedToCheck.class,
+                        PreparedStatementAndResultSetCheck.class,
+                        PrimitiveWrappersInTernaryOperatorCheck.class,
+                        PrintfFailCheck.class,
+                        RawByteBitwiseOperationsCheck.class,
+                        ReflectionOnNonRuntimeAnnotationCheck.class,
+                        ReturnInFinallyCheck.class,
+                        ReuseRandomCheck.class,
+                        RunFinalizersCheck.class,
+                        ScheduledThreadPoolExecutorZeroCheck.class,
+                        SelfAssignementCheck.class,
+                        SerializableObjectInSessionCheck.class,
+                        SerializableSuperConstructorCheck.class,
+                        ServletInstanceFieldCheck.class,
+                        ShiftOnIntOrLongCheck.class,
+                        SillyEqualsCheck.class,
+                        SillyStringOperationsCheck.class,
+                        SpringComponentWithWrongScopeCheck.class,
+                        SpringIncompatibleTransactionalCheck.class,
+                        SpringScanDefaultPackageCheck.class,
+                        StaticMultithreadedUnsafeFieldsCheck.class,
+                        StreamConsumedCheck.class,
+                        StreamNotConsumedCheck.class,
+                        StringBufferAndBuilderWithCharCheck.class,
+                        StringCallsBeyondBoundsCheck.class,
+                        SymmetricEqualsCheck.class,
+                        SyncGetterAndSetterCheck.class,
+                        SynchronizationOnGetClassCheck.class,
+                        SynchronizationOnStringOrBoxedCheck.class,
+                        SynchronizedFieldAssignmentCheck.class,
+                        SynchronizedOverrideCheck.class,
+                        ThreadLocalCleanupCheck.class,
+                        ThreadOverridesRunCheck.class,
+                        ThreadRunCheck.class,
+                        ThreadSleepCheck.class,
+                        ThreadWaitCallCheck.class,
+                        ToArrayCheck.class,
+                        ToStringReturningNullCheck.class,
+                        TransactionalMethodVisibilityCheck.class,
+                        TwoLocksWaitCheck.class,
+                        UnclosedResourcesCheck.class,
+                        UnicodeCaseCheck.class,
+                        UnusedReturnedDataCheck.class,
+                        UnusedThrowableCheck.class,
+                        UselessIncrementCheck.class,
+                        ValueBasedObjectUsedForLockCheck.class,
+                        VolatileNonPrimitiveFieldCheck.class,
+                        VolatileVariablesOperationsCheck.class,
+                        WaitInSynchronizeCheck.class,
+                        WrongAssignmentOperatorCheck.class));
+
+        typeToChecks.put(
+                RuleType.VULNERABILITY,
+                List.of(
+                        AESAlgorithmCheck.class,
+                        AuthorizationsStrongDecisionsCheck.class,
+                        AvoidDESCheck.class,
+                        BasicAuthCheck.class,
+                        CipherBlockChainingCheck.class,
+                        CryptographicKeySizeCheck.class,
+                        DeprecatedHashAlgorithmCheck.class,
+                        DynamicClassLoadCheck.class,
+                        EmptyDatabasePasswordCheck.class,
+                        EncryptionAlgorithmCheck.class,
+                        EnumMutableFieldCheck.class,
+                        FileCreateTempFileCheck.class,
+                        GetRequestedSessionIdCheck.class,
+                        HostnameVerifierImplementationCheck.class,
+                        HttpRefererCheck.class,
+                        LDAPAuthenticatedConnectionCheck.class,
+                        LDAPDeserializationCheck.class,
+                        MainInServletCheck.class,
+                        MutableMembersUsageCheck.class,
+                        NullCipherCheck.class,
+                        OpenSAML2AuthenticationBypassCheck.class,
+                        PasswordEncoderCheck.class,
+                        PersistentEntityUsedAsRequestParameterCheck.class,
+                        PredictableSeedCheck.class,
+                        PrintStackTraceCalledWithoutArgumentCheck.class,
+                        RequestMappingMethodPublicCheck.class,
+                        RSAUsesOAEPCheck.class,
+                        SecureXmlTransformerCheck.class,
+                        ServletMethodsExceptionsThrownCheck.class,
+                        SMTPSSLServerIdentityCheck.class,
+                        SpringAntMatcherOrderCheck.class,
+                        SpringComponentWithNonAutowiredMembersCheck.class,
+                        SpringSessionFixationCheck.class,
+                        StrongCipherAlgorithmCheck.class,
+                        VerifiedServerHostnamesCheck.class,
+                        WeakSSLContextCheck.class,
+                        XxeActiveMQCheck.class,
+                        XxeProcessingCheck.class));
+
+        typeToChecks.put(
+                RuleType.SECURITY_HOTSPOT,
+                List.of(
+                        AndroidBroadcastingCheck.class,
+                        AndroidExternalStorageCheck.class,
+                        AndroidSSLConnectionCheck.class,
+                        CommandLineArgumentsCheck.class,
+                        ControllingPermissionsCheck.class,
+                        CookieDomainCheck.class,
+                        CookieHttpOnlyCheck.class,
+                        CookieShouldNotContainSensitiveDataCheck.class,
+                        CORSCheck.class,
+                        CustomCryptographicAlgorithmCheck.class,
+                        DataEncryptionCheck.class,
+                        DataHashingCheck.class,
+                        DebugFeatureEnabledCheck.class,
+                        EmailHotspotCheck.class,
+                        EnvVariablesHotspotCheck.class,
+                        FilePermissionsCheck.class,
+                        HardCodedCredentialsCheck.class,
+                        HardcodedIpCheck.class,
+                        JacksonDeserializationCheck.class,
+                        LogConfigurationCheck.class,
+                        ObjectDeserializationCheck.class,
+                        PopulateBeansCheck.class,
+                        PseudoRandomCheck.class,
+                        ReceivingIntentsCheck.class,
+                        RedosCheck.class,
+                        RegexHotspotCheck.class,
+                        SecureCookieCheck.class,
+                        SocketUsageCheck.class,
+                        SpringRequestMappingMethodCheck.class,
+                        SpringSecurityDisableCSRFCheck.class,
+                        SQLInjectionCheck.class,
+                        StandardInputReadCheck.class,
+                        Struts1EndpointCheck.class,
+                        Struts2EndpointCheck.class,
+                        UserEnumerationCheck.class,
+                        XmlDeserializationCheck.class,
+                        ZipEntryCheck.class));
+
+        typeToChecks.put(
+                RuleType.CODE_SMELL,
+                List.of(
+                        AbstractClassNoFieldShouldBeInterfaceCheck.class,
+                        AbstractClassWithoutAbstractMethodCheck.class,
+                        AccessibilityChangeCheck.class,
+                        AnnotationDefaultArgumentCheck.class,
+                        AnonymousClassesTooBigCheck.class,
+                        AnonymousClassShouldBeLambdaCheck.class,
+                        ArrayCopyLoopCheck.class,
+                        ArrayDesignatorAfterTypeCheck.class,
+                        ArrayDesignatorOnVariableCheck.class,
+                        ArrayForVarArgCheck.class,
+                        ArraysAsListOfPrimitiveToStreamCheck.class,
+                        AssertionArgumentOrderCheck.class,
+                        AssertionFailInCatchBlockCheck.class,
+                        AssertionInThreadRunCheck.class,
+                        AssertionsCompletenessCheck.class,
+                        AssertionsInTestsCheck.class,
+                        AssertionsWithoutMessageCheck.class,
+                        AssertJChainSimplificationCheck.class,
+                        AssertJConsecutiveAssertionCheck.class,
+                        AssertsOnParametersOfPublicMethodCheck.class,
+                        AssertThatThrownByAloneCheck.class,
+                        AssertTrueInsteadOfDedicatedAssertCheck.class,
+                        AtLeastOneConstructorCheck.class,
+                        BadFieldNameStaticNonFinalCheck.class,
+                        BadLocalConstantNameCheck.class,
+                        BadTestClassNameCheck.class,
+                        BadTestMethodNameCheck.class,
+                        BlindSerialVersionUidCheck.class,
+                        BooleanGratuitousExpressionsCheck.class,
+                        BooleanInversionCheck.class,
+                        BooleanLiteralCheck.class,
+                        BooleanMethodNameCheck.class,
+                        BooleanMethodReturnCheck.class,
+                        BooleanOrNullLiteralInAssertionsCheck.class,
+                        BoxedBooleanExpressionsCheck.class,
+                        CallOuterPrivateMethodCheck.class,
+                        CallSuperInTestCaseCheck.class,
+                        CallSuperMethodFromInnerClassCheck.class,
+                        CanonEqFlagInRegexCheck.class,
+                        CaseInsensitiveComparisonCheck.class,
+                        CatchExceptionCheck.class,
+                        CatchIllegalMonitorStateExceptionCheck.class,
+                        CatchNPECheck.class,
+                        CatchOfThrowableOrErrorCheck.class,
+                        CatchRethrowingCheck.class,
+                        CatchUsesExceptionWithContextCheck.class,
+                        ChangeMethodContractCheck.class,
+                        ChildClassShadowFieldCheck.class,
+                        ClassCouplingCheck.class,
+                        ClassFieldCountCheck.class,
+                        ClassNamedLikeExceptionCheck.class,
+                        ClassWithOnlyStaticMethodsInstantiationCheck.class,
+                        CloneableImplementingCloneCheck.class,
+                        CloneMethodCallsSuperCloneCheck.class,
+                        CloneOverrideCheck.class,
+                        CognitiveComplexityMethodCheck.class,
+                        CollapsibleIfCandidateCheck.class,
+                        CollectInsteadOfForeachCheck.class,
+                        CollectionImplementationReferencedCheck.class,
+                        CollectionIsEmptyCheck.class,
+                        CollectionMethodsWithLinearComplexityCheck.class,
+                        CollectionsEmptyConstantsCheck.class,
+                        CombineCatchCheck.class,
+                        CommentRegularExpressionCheck.class,
+                        CompareObjectWithEqualsCheck.class,
+                        ConcatenationWithStringValueOfCheck.class,
+                        ConditionalOnNewLineCheck.class,
+                        ConfusingVarargCheck.class,
+                        ConstantMathCheck.class,
+                        ConstantMethodCheck.class,
+                        ConstantsShouldBeStaticFinalCheck.class,
+                        ConstructorCallingOverridableCheck.class,
+                        ControlCharacterInLiteralCheck.class,
+                        DanglingElseStatementsCheck.class,
+                        DateAndTimesCheck.class,
+                        DateUtilsTruncateCheck.class,
+                        DeadStoreCheck.class,
+                        DefaultEncodingUsageCheck.class,
+                        DefaultInitializedFieldCheck.class,
+                        DeprecatedTagPresenceCheck.class,
+                        DiamondOperatorCheck.class,
+                        DisallowedClassCheck.class,
+                        DisallowedConstructorCheck.class,
+                        DisallowedMethodCheck.class,
+                        DisallowedThreadGroupCheck.class,
+                        DuplicateArgumentCheck.class,
+                        DuplicatesInCharacterClassCheck.class,
+                        EmptyClassCheck.class,
+                        EmptyLineRegexCheck.class,
+                        EmptyMethodsCheck.class,
+                        EnumEqualCheck.class,
+                        EnumMapCheck.class,
+                        EnumSetCheck.class,
+                        EqualsNotOverriddenInSubclassCheck.class,
+                        EqualsNotOverridenWithCompareToCheck.class,
+                        EqualsParametersMarkedNonNullCheck.class,
+                        ErrorClassExtendedCheck.class,
+                        EscapedUnicodeCharactersCheck.class,
+                        ExceptionsShouldBeImmutableCheck.class,
+                        ExpectedExceptionCheck.class,
+                        ExpressionComplexityCheck.class,
+                        FieldModifierCheck.class,
+                        FieldNameMatchingTypeNameCheck.class,
+                        FilesExistsJDK8Check.class,
+                        FinalClassCheck.class,
+                        FinalizeFieldsSetCheck.class,
+                        FixmeTagPresenceCheck.class,
+                        ForLoopIncrementAndUpdateCheck.class,
+                        ForLoopTerminationConditionCheck.class,
+                        ForLoopUsedAsWhileLoopCheck.class,
+                        ForLoopVariableTypeCheck.class,
+                        GarbageCollectorCalledCheck.class,
+                        HardcodedURICheck.class,
+                        IdenticalCasesInSwitchCheck.class,
+                        IfElseIfStatementEndsWithElseCheck.class,
+                        IgnoredTestsCheck.class,
+                        ImmediatelyReturnedVariableCheck.class,
+                        ImplementsEnumerationCheck.class,
+                        IncorrectOrderOfMembersCheck.class,
+                        IncrementDecrementInSubExpressionCheck.class,
+                        IndentationAfterConditionalCheck.class,
+                        IndexOfStartPositionCheck.class,
+                        IndexOfWithPositiveNumberCheck.class,
+                        InnerClassOfSerializableCheck.class,
+                        InnerClassTooManyLinesCheck.class,
+                        InnerStaticClassesCheck.class,
+                        InputStreamOverrideReadCheck.class,
+                        InstanceofUsedOnExceptionCheck.class,
+                        IntegerToHexStringCheck.class,
+                        InterfaceAsConstantContainerCheck.class,
+                        InterfaceOrSuperclassShadowingCheck.class,
+                        InvariantReturnCheck.class,
+                        JdbcDriverExplicitLoadingCheck.class,
+                        JUnit45MethodAnnotationCheck.class,
+                        JUnit4AnnotationsCheck.class,
+                        JUnit5DefaultPackageClassAndMethodCheck.class,
+                        JunitMethodDeclarationCheck.class,
+                        KeySetInsteadOfEntrySetCheck.class,
+                        KeywordAsIdentifierCheck.class,
+                        LambdaOptionalParenthesisCheck.class,
+                        LambdaSingleExpressionCheck.class,
+                        LambdaTooBigCheck.class,
+                        LambdaTypeParameterCheck.class,
+                        LazyArgEvaluationCheck.class,
+                        LeastSpecificTypeCheck.class,
+                        LoggedRethrownExceptionsCheck.class,
+                        LoggerClassCheck.class,
+                        LoggersDeclarationCheck.class,
+                        LoopsOnSameSetCheck.class,
+                        MagicNumberCheck.class,
+                        MainMethodThrowsExceptionCheck.class,
+                        MapComputeIfAbsentOrPresentCheck.class,
+                        MembersDifferOnlyByCapitalizationCheck.class,
+                        MethodIdenticalImplementationsCheck.class,
+                        MethodNameSameAsClassCheck.class,
+                        MethodOnlyCallsSuperCheck.class,
+                        MethodParametersOrderCheck.class,
+                        MethodTooBigCheck.class,
+                        MethodWithExcessiveReturnsCheck.class,
+                        MismatchPackageDirectoryCheck.class,
+                        MissingBeanValidationCheck.class,
+                        MockingAllMethodsCheck.class,
+                        ModulusEqualityCheck.class,
+                        MultilineBlocksCurlyBracesCheck.class,
+                        NestedBlocksCheck.class,
+                        NestedEnumStaticCheck.class,
+                        NestedIfStatementsCheck.class,
+                        NestedSwitchStatementCheck.class,
+                        NestedTernaryOperatorsCheck.class,
+                        NestedTryCatchCheck.class,
+                        NioFileDeleteCheck.class,
+                        NoCheckstyleTagPresenceCheck.class,
+                        NonShortCircuitLogicCheck.class,
+                        NonStaticClassInitializerCheck.class,
+                        NoPmdTagPresenceCheck.class,
+                        NoTestInTestClassCheck.class,
+                        NPEThrowCheck.class,
+                        NullCheckWithInstanceofCheck.class,
+                        ObjectCreatedOnlyToCallGetClassCheck.class,
+                        ObjectFinalizeOverridenNotPublicCheck.class,
+                        OctalValuesCheck.class,
+                        OneClassInterfacePerFileCheck.class,
+                        OneDeclarationPerLineCheck.class,
+                        OneExpectedRuntimeExceptionCheck.class,
+                        OperatorPrecedenceCheck.class,
+                        OptionalAsParameterCheck.class,
+                        OutputStreamOverrideWriteCheck.class,
+                        OverrideAnnotationCheck.class,
+                        PackageInfoCheck.class,
+                        ParameterizedTestCheck.class,
+                        ParameterNullnessCheck.class,
+                        PreferStreamAnyMatchCheck.class,
+                        PrimitivesMarkedNullableCheck.class,
+                        PrimitiveTypeBoxingWithToStringCheck.class,
+                        PrintfMisuseCheck.class,
+                        PrivateFieldUsedLocallyCheck.class,
+                        PrivateReadResolveCheck.class,
+                        ProtectedMemberInFinalClassCheck.class,
+                        PublicConstructorInAbstractClassCheck.class,
+                        PublicStaticFieldShouldBeFinalCheck.class,
+                        PublicStaticMutableMembersCheck.class,
+                        RandomFloatToIntCheck.class,
+                        RandomizedTestDataCheck.class,
+                        RawTypeCheck.class,
+                        ReadObjectSynchronizedCheck.class,
+                        RedundantAbstractMethodCheck.class,
+                        RedundantAssignmentsCheck.class,
+                        RedundantCloseCheck.class,
+                        RedundantJumpCheck.class,
+                        RedundantModifierCheck.class,
+                        RedundantStreamCollectCheck.class,
+                        RedundantTypeCastCheck.class,
+                        RegexComplexityCheck.class,
+                        RegexPatternsNeedlesslyCheck.class,
+                        ReluctantQuantifierCheck.class,
+                        RepeatAnnotationCheck.class,
+                        ReplaceGuavaWithJava8Check.class,
+                        ReplaceLambdaByMethodRefCheck.class,
+                        ResultSetIsLastCheck.class,
+                        ReturnEmptyArrayNotNullCheck.class,
+                        ReturnOfBooleanExpressionsCheck.class,
+                        SAMAnnotatedCheck.class,
+                        SelectorMethodArgumentCheck.class,
+                        SerializableComparatorCheck.class,
+                        SerializableFieldInSerializableClassCheck.class,
+                        SerialVersionUidCheck.class,
+                        SeveralBreakOrContinuePerLoopCheck.class,
+                        SillyBitOperationCheck.class,
+                        SimpleClassNameCheck.class,
+                        SpecializedFunctionalInterfacesCheck.class,
+                        SpringAssertionsSimplificationCheck.class,
+                        SpringAutoConfigurationCheck.class,
+                        SpringBeansShouldBeAccessibleCheck.class,
+                        SpringComponentScanCheck.class,
+                        SpringComposedRequestMappingCheck.class,
+                        SpringConfigurationWithAutowiredFieldsCheck.class,
+                        SpringConstructorInjectionCheck.class,
+                        StandardCharsetsConstantsCheck.class,
+                        StandardFunctionalInterfaceCheck.class,
+                        StaticFieldInitializationCheck.class,
+                        StaticFieldUpateCheck.class,
+                        StaticFieldUpdateInConstructorCheck.class,
+                        StaticImportCountCheck.class,
+                        StaticMemberAccessCheck.class,
+                        StaticMembersAccessCheck.class,
+                        StaticMethodCheck.class,
+                        StreamPeekCheck.class,
+                        StringConcatenationInLoopCheck.class,
+                        StringLiteralDuplicatedCheck.class,
+                        StringLiteralInsideEqualsCheck.class,
+                        StringMethodsOnSingleCharCheck.class,
+                        StringMethodsWithLocaleCheck.class,
+                        StringOffsetMethodsCheck.class,
+                        StringPrimitiveConstructorCheck.class,
+                        StringReplaceCheck.class,
+                        StringToPrimitiveConversionCheck.class,
+                        StringToStringCheck.class,
+                        SubClassStaticReferenceCheck.class,
+                        SunPackagesUsedCheck.class,
+                        SuppressWarningsCheck.class,
+                        SuspiciousListRemoveCheck.class,
+                        SwitchAtLeastThreeCasesCheck.class,
+                        SwitchCaseTooBigCheck.class,
+                        SwitchCaseWithoutBreakCheck.class,
+                        SwitchDefaultLastCaseCheck.class,
+                        SwitchInsteadOfIfSequenceCheck.class,
+                        SwitchWithLabelsCheck.class,
+                        SwitchWithTooManyCasesCheck.class,
+                        SynchronizedClassUsageCheck.class,
+                        SynchronizedLockCheck.class,
+                        SystemExitCalledCheck.class,
+                        SystemOutOrErrUsageCheck.class,
+                        TernaryOperatorCheck.class,
+                        TestAnnotationWithExpectedExceptionCheck.class,
+                        TestsInSeparateFolderCheck.class,
+                        TestsStabilityCheck.class,
+                        ThisExposedFromConstructorCheck.class,
+                        ThreadAsRunnableArgumentCheck.class,
+                        ThreadLocalWithInitialCheck.class,
+                        ThreadSleepInTestsCheck.class,
+                        ThreadStartedInConstructorCheck.class,
+                        ThrowCheckedExceptionCheck.class,
+                        ThrowsFromFinallyCheck.class,
+                        ThrowsSeveralCheckedExceptionCheck.class,
+                        TodoTagPresenceCheck.class,
+                        TooManyAssertionsCheck.class,
+                        TooManyMethodsCheck.class,
+                        ToStringUsingBoxingCheck.class,
+                        TransientFieldInNonSerializableCheck.class,
+                        TryWithResourcesCheck.class,
+                        UnderscoreMisplacedOnNumberCheck.class,
+                        UnderscoreOnNumberCheck.class,
+                        UnicodeAwareCharClassesCheck.class,
+                        UnnecessarySemicolonCheck.class,
+                        UnreachableCatchCheck.class,
+                        UnusedGroupNamesCheck.class,
+                        UnusedLabelCheck.class,
+                        UnusedLocalVariableCheck.class,
+                        UnusedMethodParameterCheck.class,
+                        UnusedPrivateFieldCheck.class,
+                        UnusedTestRuleCheck.class,
+                        UnusedTypeParameterCheck.class,
+                        UppercaseSuffixesCheck.class,
+                        URLHashCodeAndEqualsCheck.class,
+                        UselessExtendsCheck.class,
+                        UselessPackageInfoCheck.class,
+                        UseSwitchExpressionCheck.class,
+                        UtilityClassWithPublicConstructorCheck.class,
+                        ValueBasedObjectsShouldNotBeSerializedCheck.class,
+                        VarArgCheck.class,
+                        VariableDeclarationScopeCheck.class,
+                        VisibleForTestingUsageCheck.class,
+                        WaitInWhileLoopCheck.class,
+                        WaitOnConditionCheck.class,
+                        WildcardImportsShouldNotBeUsedCheck.class,
+                        WildcardReturnParameterTypeCheck.class,
+                        WriteObjectTheOnlySynchronizedMethodCheck.class));
+
+        return typeToChecks;
+    }
+}
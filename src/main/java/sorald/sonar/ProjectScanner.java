@@ -2,14 +2,16 @@ package sorald.sonar;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import sorald.Constants;
-import sorald.FileUtils;
+import java.util.stream.Collectors;
 import sorald.rule.Rule;
 import sorald.rule.RuleViolation;
+import sorald.util.GitUtils;
+import sorald.util.SourceDiscovery;
 
 /** Helper class that uses Sonar to scan projects for rule violations. */
 public class ProjectScanner {
@@ -51,20 +53,74 @@ public class ProjectScanner {
      */
     public static Set<RuleViolation> scanProject(
             File target, File baseDir, List<Rule> rules, List<String> classpath) {
+        return scanProject(target, baseDir, rules, classpath, new ScanOptions());
+    }
+
+    /**
+     * Scan a project for rule violations, with additional type information collected from the
+     * provided classpath. If the options specify a git revision, only the Java files that have
+     * changed since that revision are scanned.
+     *
+     * @param target Targeted file or directory of the project.
+     * @param baseDir Base directory of the project.
+     * @param rules Rules to scan for.
+     * @param classpath Classpath to fetch type information from.
+     * @param options Options for the scan.
+     * @return All violations in the scanned files of the target.
+     */
+    public static Set<RuleViolation> scanProject(
+            File target,
+            File baseDir,
+            List<Rule> rules,
+            List<String> classpath,
+            ScanOptions options) {
         List<File> filesToScan = new ArrayList<>();
-        if (target.isFile()) {
-            filesToScan.add(target);
-        } else {
-            try {
-                filesToScan = FileUtils.findFilesByExtension(target, Constants.JAVA_EXT);
-            } catch (IOException e) {
-                e.printStackTrace();
+        try {
+            if (options.getChangedSince().isPresent()) {
+                filesToScan =
+                        GitUtils.findChangedJavaFiles(
+                                target.toPath(), options.getChangedSince().get());
+            } else if (target.isFile()) {
+                filesToScan.add(target);
+            } else {
+                filesToScan =
+                        SourceDiscovery.findJavaFiles(target.toPath(), options.getAnalysisThreads())
+                                .stream()
+                                .map(Path::toFile)
+                                .collect(Collectors.toList());
             }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+
+        return scanFiles(filesToScan, baseDir, rules, classpath, options);
+    }
+
+    /**
+     * Scan the given files of a project for rule violations, with additional type information
+     * collected from the provided classpath. All given files are scanned, regardless of the git
+     * revision of the options.
+     *
+     * @param files Java files of the project to scan.
+     * @param baseDir Base directory of the project.
+     * @param rules Rules to scan for.
+     * @param classpath Classpath to fetch type information from.
+     * @param options Options for the scan.
+     * @return All violations in the given files.
+     */
+    public static Set<RuleViolation> scanFiles(
+            List<File> files,
+            File baseDir,
+            List<Rule> rules,
+            List<String> classpath,
+            ScanOptions options) {
+        if (files.isEmpty()) {
+            return new HashSet<>();
         }
 
         // TODO generalize to not directly use the SonarStaticAnalyzer
         var violations =
-                new SonarStaticAnalyzer(baseDir).findViolations(filesToScan, rules, classpath);
+                new SonarStaticAnalyzer(baseDir, options).findViolations(files, rules, classpath);
         return new HashSet<>(violations);
     }
 }
@@ -8,8 +8,13 @@ import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import org.sonar.api.batch.fs.InputFile;
 import org.sonar.api.batch.fs.internal.DefaultFileSystem;
@@ -67,23 +72,9 @@ class RuleVerifier {
      * @param checks Sonar checks to use.
      * @return All messages produced by the analyzer, for all files and all checks.
      */
-    @SuppressWarnings("UnstableApiUsage")
     static Set<RuleViolation> analyze(
             List<String> filesToScan, File baseDir, List<? extends JavaFileScanner> checks) {
-        SoraldSonarComponents components = createSonarComponents(baseDir, checks, List.of());
-
-        components.registerCheckClasses(CheckList.REPOSITORY_KEY, CheckList.getJavaChecks());
-        components.registerTestCheckClasses(
-                CheckList.REPOSITORY_KEY, CheckList.getJavaTestChecks());
-
-        scanFiles(
-                filesToScan.stream().map(f -> toInputFile(baseDir, f)).collect(Collectors.toList()),
-                components);
-
-        return components.getMessages().stream()
-                .filter(message -> message.primaryLocation() != null)
-                .map(ScannedViolation::new)
-                .collect(Collectors.toSet());
+        return analyze(filesToScan, baseDir, checks, List.of());
     }
 
     /**
@@ -102,11 +93,69 @@ class RuleVerifier {
             File baseDir,
             List<? extends JavaFileScanner> checks,
             List<String> classpath) {
+        return analyze(filesToScan, baseDir, checks, classpath, 1);
+    }
+
+    /**
+     * Analyze the files with all of the provided checks, sharding the files across the given
+     * amount of worker threads. Only the classes of the checks are used, and each shard is analyzed
+     * with its own Sonar components, which instantiate the checks of the shard from their classes.
+     * No check instances are therefore shared between concurrent scans.
+     *
+     * @param filesToScan A list of paths to files.
+     * @param baseDir The base directory of the current project.
+     * @param checks Sonar checks to use.
+     * @param classpath The source classpath to use.
+     * @param analysisThreads The amount of threads to analyze files with. Must be at least 1.
+     * @return All messages produced by the analyzer, for all files and all checks.
+     */
+    static Set<RuleViolation> analyze(
+            List<String> filesToScan,
+            File baseDir,
+            List<? extends JavaFileScanner> checks,
+            List<String> classpath,
+            int analysisThreads) {
+        if (analysisThreads < 1) {
+            throw new IllegalArgumentException(
+                    "analysis threads must be at least 1, got: " + analysisThreads);
+        }
+
+        List<List<String>> shards = shard(filesToScan, analysisThreads);
+        if (shards.size() <= 1) {
+            return analyzeShard(filesToScan, baseDir, checks, classpath);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(shards.size());
+        try {
+            List<Future<Set<RuleViolation>>> futures = new ArrayList<>();
+            for (List<String> shard : shards) {
+                futures.add(executor.submit(() -> analyzeShard(shard, baseDir, checks, classpath)));
+            }
+
+            Set<RuleViolation> violations = new HashSet<>();
+            for (Future<Set<RuleViolation>> future : futures) {
+                violations.addAll(future.get());
+            }
+            return violations;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while analyzing files", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("failed to analyze files", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @SuppressWarnings("UnstableApiUsage")
+    private static Set<RuleViolation> analyzeShard(
+            List<String> filesToScan,
+            File baseDir,
+            List<? extends JavaFileScanner> checks,
+            List<String> classpath) {
         SoraldSonarComponents components = createSonarComponents(baseDir, checks, classpath);
 
-        components.registerCheckClasses(CheckList.REPOSITORY_KEY, CheckList.getJavaChecks());
-        components.registerTestCheckClasses(
-                CheckList.REPOSITORY_KEY, CheckList.getJavaTestChecks());
+        registerChecks(components, checks);
 
         scanFiles(
                 filesToScan.stream().map(f -> toInputFile(baseDir, f)).collect(Collectors.toList()),
@@ -118,6 +167,37 @@ class RuleVerifier {
                 .collect(Collectors.toSet());
     }
 
+    /**
+     * Register the classes of the given checks, such that Sonar runs them. Only the given checks
+     * are registered, instead of all of Sonar-Java's checks, so that no other check classes need to
+     * be loaded. Checks that Sonar only runs on test code are left out, as Sorald does not analyze
+     * test code.
+     *
+     * @throws IllegalArgumentException If Sorald does not keep track of one of the checks, as its
+     *     rule would be activated without the check ever running.
+     */
+    @SuppressWarnings("UnstableApiUsage")
+    private static void registerChecks(
+            SoraldSonarComponents components, List<? extends JavaFileScanner> checks) {
+        components.registerCheckClasses(
+                CheckList.REPOSITORY_KEY,
+                checks.stream()
+                        .map(JavaFileScanner::getClass)
+                        .filter(check -> !Checks.isTestCodeCheck(check))
+                        .distinct()
+                        .collect(Collectors.toList()));
+    }
+
+    /** Split the files into at most numShards contiguous shards of roughly equal size. */
+    private static List<List<String>> shard(List<String> files, int numShards) {
+        int shardSize = (int) Math.ceil((double) files.size() / Math.max(1, numShards));
+        List<List<String>> shards = new ArrayList<>();
+        for (int i = 0; i < files.size(); i += shardSize) {
+            shards.add(files.subList(i, Math.min(i + shardSize, files.size())));
+        }
+        return shards;
+    }
+
     @SuppressWarnings("UnstableApiUsage")
     private static void scanFiles(List<InputFile> sourceFiles, SoraldSonarComponents components) {
         Measurer measurer = new Measurer(components.getContext(), new NoSonarFilter());
@@ -0,0 +1,51 @@
+package sorald.sonar;
+
+import java.util.Optional;
+
+/**
+ * Options for scanning a project for rule violations. The defaults scan all files with a single
+ * thread and without a violation cache.
+ */
+public class ScanOptions {
+    private int analysisThreads = 1;
+    private ViolationCache violationCache;
+    private String changedSince;
+
+    public ScanOptions() {}
+
+    /** @param analysisThreads Amount of threads to shard the analyzed files across. */
+    public ScanOptions setAnalysisThreads(int analysisThreads) {
+        this.analysisThreads = analysisThreads;
+        return this;
+    }
+
+    public int getAnalysisThreads() {
+        return analysisThreads;
+    }
+
+    /**
+     * @param violationCache Cache to replay the violations of unchanged files from, or null to
+     *     always analyze all files.
+     */
+    public ScanOptions setViolationCache(ViolationCache violationCache) {
+        this.violationCache = violationCache;
+        return this;
+    }
+
+    public Optional<ViolationCache> getViolationCache() {
+        return Optional.ofNullable(violationCache);
+    }
+
+    /**
+     * @param changedSince A git revision to only scan the Java files changed since, or null to scan
+     *     all files. Only applies when scanning a project, as given files are always scanned.
+     */
+    public ScanOptions setChangedSince(String changedSince) {
+        this.changedSince = changedSince;
+        return this;
+    }
+
+    public Optional<String> getChangedSince() {
+        return Optional.ofNullable(changedSince);
+    }
+}
@@ -1,15 +1,16 @@
 package sorald.sonar;
 
 import java.nio.file.Path;
-import java.nio.file.Paths;
 import org.sonar.java.AnalyzerMessage;
 import org.sonar.plugins.java.api.JavaCheck;
 import sorald.rule.RuleViolation;
+import sorald.support.CanonicalPaths;
 
 /** Facade around {@link org.sonar.java.AnalyzerMessage} */
 class ScannedViolation extends RuleViolation {
     private final AnalyzerMessage message;
     private final AnalyzerMessage.TextSpan primaryLocation;
+    private final Path absolutePath;
 
     ScannedViolation(AnalyzerMessage message) {
         if (message.primaryLocation() == null) {
@@ -20,6 +21,8 @@ class ScannedViolation extends RuleViolation {
         }
         this.message = message;
         this.primaryLocation = message.primaryLocation();
+        this.absolutePath =
+                CanonicalPaths.canonicalize(message.getInputComponent().key().replace(":", ""));
     }
 
     @Override
@@ -44,9 +47,7 @@ class ScannedViolation extends RuleViolation {
 
     @Override
     public Path getAbsolutePath() {
-        return Paths.get(message.getInputComponent().key().replace(":", ""))
-                .toAbsolutePath()
-                .normalize();
+        return absolutePath;
     }
 
     @Override
@@ -1,19 +1,35 @@
 package sorald.sonar;
 
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import sorald.rule.Rule;
 import sorald.rule.RuleType;
 
 public class SonarRule implements Rule {
+    private static final Map<String, SonarRule> KEY_TO_RULE = new ConcurrentHashMap<>();
+
     private final String key;
     private final String name;
     private final RuleType type;
 
     public SonarRule(String key) {
         this.key = key;
-        var check = Checks.getCheck(key);
-        this.name = check.getSimpleName().replaceFirst("Check$", "");
-        this.type = Checks.getRuleType(check);
+        this.name = Checks.getCheckSimpleName(key).replaceFirst("Check$", "");
+        this.type = Checks.getRuleType(key);
+    }
+
+    /**
+     * Get the rule with the given key. Rules are immutable, so there is a single shared instance
+     * per key.
+     *
+     * @param key The key of a rule.
+     * @return The rule with the key.
+     * @throws IllegalArgumentException If there is no rule with the key.
+     */
+    public static SonarRule of(String key) {
+        SonarRule rule = KEY_TO_RULE.get(key);
+        return rule != null ? rule : KEY_TO_RULE.computeIfAbsent(key, SonarRule::new);
     }
 
     @Override
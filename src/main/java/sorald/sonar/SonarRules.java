@@ -14,9 +14,6 @@ public class SonarRules {
      * @return All SonarJava rules.
      */
     public static Collection<Rule> getAllRules() {
-        return Checks.getAllChecks().stream()
-                .map(Checks::getRuleKey)
-                .map(Rule::of)
-                .collect(Collectors.toList());
+        return Checks.getAllRuleKeys().stream().map(SonarRule::of).collect(Collectors.toList());
     }
 }
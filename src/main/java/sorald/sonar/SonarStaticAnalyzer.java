@@ -1,8 +1,13 @@
 package sorald.sonar;
 
 import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import sorald.rule.Rule;
 import sorald.rule.RuleViolation;
@@ -10,20 +15,72 @@ import sorald.rule.StaticAnalyzer;
 
 public class SonarStaticAnalyzer implements StaticAnalyzer {
     private final File projectRoot;
+    private final int analysisThreads;
+    private final ViolationCache violationCache;
 
     public SonarStaticAnalyzer(File projectRoot) {
+        this(projectRoot, new ScanOptions());
+    }
+
+    /**
+     * @param projectRoot The root directory of the project to analyze.
+     * @param options Options for the analysis, of which the amount of threads and the violation
+     *     cache apply.
+     */
+    public SonarStaticAnalyzer(File projectRoot, ScanOptions options) {
         this.projectRoot = projectRoot;
+        this.analysisThreads = options.getAnalysisThreads();
+        this.violationCache = options.getViolationCache().orElse(null);
     }
 
     @Override
     public Collection<RuleViolation> findViolations(
             List<File> files, List<Rule> rules, List<String> classpath) {
+        if (violationCache == null) {
+            return analyze(files, rules, classpath);
+        }
+
+        String configKey = ViolationCache.configKey(rules, classpath);
+        List<RuleViolation> violations = new ArrayList<>();
+        Map<Path, String> uncachedFileToEntryKey = new HashMap<>();
+        List<File> filesToAnalyze = new ArrayList<>();
+
+        for (File file : files) {
+            Path path = file.toPath().toAbsolutePath().normalize();
+            Optional<String> entryKey = violationCache.entryKey(path, configKey);
+            Optional<List<RuleViolation>> cached =
+                    entryKey.flatMap(key -> violationCache.lookup(key, path));
+            if (cached.isPresent()) {
+                violations.addAll(cached.get());
+            } else {
+                filesToAnalyze.add(file);
+                entryKey.ifPresent(key -> uncachedFileToEntryKey.put(path, key));
+            }
+        }
+
+        if (!filesToAnalyze.isEmpty()) {
+            Collection<RuleViolation> analyzed = analyze(filesToAnalyze, rules, classpath);
+            Map<Path, List<RuleViolation>> pathToViolations =
+                    analyzed.stream()
+                            .collect(Collectors.groupingBy(RuleViolation::getAbsolutePath));
+            uncachedFileToEntryKey.forEach(
+                    (path, key) ->
+                            violationCache.store(
+                                    key, pathToViolations.getOrDefault(path, List.of())));
+            violations.addAll(analyzed);
+        }
+
+        return violations;
+    }
+
+    private Collection<RuleViolation> analyze(
+            List<File> files, List<Rule> rules, List<String> classpath) {
         var checks =
                 rules.stream()
                         .map(Rule::getKey)
                         .map(Checks::getCheckInstance)
                         .collect(Collectors.toList());
         var filepaths = files.stream().map(File::toString).collect(Collectors.toList());
-        return RuleVerifier.analyze(filepaths, projectRoot, checks, classpath);
+        return RuleVerifier.analyze(filepaths, projectRoot, checks, classpath, analysisThreads);
     }
 }
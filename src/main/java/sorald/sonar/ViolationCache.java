@@ -0,0 +1,256 @@
+package sorald.sonar;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.stream.Collectors;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import sorald.rule.Rule;
+import sorald.rule.RuleViolation;
+import sorald.support.CanonicalPaths;
+
+/**
+ * On-disk cache of the violations found in individual source files. An entry is keyed by the
+ * content hash of the file, the analyzed rule keys, a fingerprint of the classpath and the version
+ * of sonar-java, such that a file that has not changed since the last analysis can have its
+ * violations replayed without being analyzed again.
+ *
+ * <p>The classpath fingerprint is computed from the path, size and modification time of each
+ * classpath entry, and so does not detect changes deep inside of directory entries.
+ */
+public class ViolationCache {
+    static final String SONAR_JAVA_POM_PROPERTIES =
+            "META-INF/maven/org.sonarsource.java/java-checks/pom.properties";
+    static final String UNKNOWN_VERSION = "UNKNOWN";
+
+    private static final String RULE_KEY = "ruleKey";
+    private static final String START_LINE = "startLine";
+    private static final String START_COL = "startCol";
+    private static final String END_LINE = "endLine";
+    private static final String END_COL = "endCol";
+    private static final String MESSAGE = "message";
+
+    private final Path cacheDir;
+
+    /** @param cacheDir Directory to store cache entries in. Created if it does not exist. */
+    public ViolationCache(Path cacheDir) {
+        this.cacheDir = cacheDir;
+    }
+
+    /**
+     * Compute a key for the analysis configuration. Cache entries are only valid for the exact
+     * configuration they were computed with.
+     *
+     * @param rules The rules to analyze for.
+     * @param classpath The classpath used during analysis.
+     * @return A key for the analysis configuration.
+     */
+    static String configKey(List<Rule> rules, List<String> classpath) {
+        String ruleKeys =
+                rules.stream()
+                        .map(Rule::getKey)
+                        .sorted()
+                        .distinct()
+                        .collect(Collectors.joining(","));
+        String classpathFingerprint =
+                classpath.stream()
+                        .map(File::new)
+                        .map(f -> f.getAbsolutePath() + "@" + f.length() + "@" + f.lastModified())
+                        .collect(Collectors.joining(File.pathSeparator));
+        return sha256(
+                String.join("\n", getSonarJavaVersion(), ruleKeys, classpathFingerprint)
+                        .getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Compute the key of the cache entry for the given file.
+     *
+     * @param file A source file.
+     * @param configKey A key computed with {@link ViolationCache#configKey(List, List)}.
+     * @return The key of the cache entry for the file, or an empty optional if the file could not
+     *     be read.
+     */
+    Optional<String> entryKey(Path file, String configKey) {
+        try {
+            String contentHash = sha256(Files.readAllBytes(file));
+            return Optional.of(sha256((configKey + contentHash).getBytes(StandardCharsets.UTF_8)));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Look up the cached violations for a file.
+     *
+     * @param entryKey The key of the cache entry.
+     * @param file The file that the entry belongs to. The returned violations are placed in this
+     *     file.
+     * @return The cached violations, or an empty optional if there is no valid entry.
+     */
+    Optional<List<RuleViolation>> lookup(String entryKey, Path file) {
+        Path entryFile = entryPath(entryKey);
+        if (!Files.isRegularFile(entryFile)) {
+            return Optional.empty();
+        }
+
+        try {
+            JSONArray entries = new JSONArray(Files.readString(entryFile));
+            List<RuleViolation> violations = new ArrayList<>();
+            for (int i = 0; i < entries.length(); i++) {
+                JSONObject entry = entries.getJSONObject(i);
+                violations.add(
+                        new CachedViolation(
+                                entry.getString(RULE_KEY),
+                                file,
+                                entry.getInt(START_LINE),
+                                entry.getInt(START_COL),
+                                entry.getInt(END_LINE),
+                                entry.getInt(END_COL),
+                                entry.optString(MESSAGE)));
+            }
+            return Optional.of(violations);
+        } catch (IOException | JSONException e) {
+            // a corrupt entry is treated as a cache miss, and is overwritten after analysis
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Store the violations of a file.
+     *
+     * @param entryKey The key of the cache entry.
+     * @param violations All violations found in the file, possibly none.
+     */
+    void store(String entryKey, Collection<RuleViolation> violations) {
+        JSONArray entries = new JSONArray();
+        for (RuleViolation violation : violations) {
+            entries.put(
+                    new JSONObject()
+                            .put(RULE_KEY, violation.getRuleKey())
+                            .put(START_LINE, violation.getStartLine())
+                            .put(START_COL, violation.getStartCol())
+                            .put(END_LINE, violation.getEndLine())
+                            .put(END_COL, violation.getEndCol())
+                            .put(MESSAGE, violation.getMessage()));
+        }
+
+        try {
+            Files.createDirectories(cacheDir);
+            Path tmpFile = Files.createTempFile(cacheDir, entryKey, ".tmp");
+            try {
+                Files.writeString(tmpFile, entries.toString());
+                Files.move(tmpFile, entryPath(entryKey), StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(tmpFile);
+            }
+        } catch (IOException e) {
+            // failing to write to the cache should never fail the analysis
+            e.printStackTrace();
+        }
+    }
+
+    private Path entryPath(String entryKey) {
+        return cacheDir.resolve(entryKey + ".json");
+    }
+
+    /** @return The version of sonar-java on the classpath. */
+    static String getSonarJavaVersion() {
+        Properties props = new Properties();
+        try (InputStream in =
+                ViolationCache.class.getResourceAsStream("/" + SONAR_JAVA_POM_PROPERTIES)) {
+            if (in == null) {
+                return UNKNOWN_VERSION;
+            }
+            props.load(in);
+        } catch (IOException e) {
+            return UNKNOWN_VERSION;
+        }
+        return props.getProperty("version", UNKNOWN_VERSION);
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            return String.format("%064x", new BigInteger(1, digest));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported by this JVM", e);
+        }
+    }
+
+    /** A violation that is replayed from the cache. */
+    private static class CachedViolation extends RuleViolation {
+        private final String ruleKey;
+        private final Path absPath;
+        private final int startLine;
+        private final int startCol;
+        private final int endLine;
+        private final int endCol;
+        private final String message;
+
+        CachedViolation(
+                String ruleKey,
+                Path absPath,
+                int startLine,
+                int startCol,
+                int endLine,
+                int endCol,
+                String message) {
+            this.ruleKey = ruleKey;
+            this.absPath = CanonicalPaths.canonicalize(absPath);
+            this.startLine = startLine;
+            this.startCol = startCol;
+            this.endLine = endLine;
+            this.endCol = endCol;
+            this.message = message;
+        }
+
+        @Override
+        public int getStartLine() {
+            return startLine;
+        }
+
+        @Override
+        public int getEndLine() {
+            return endLine;
+        }
+
+        @Override
+        public int getStartCol() {
+            return startCol;
+        }
+
+        @Override
+        public int getEndCol() {
+            return endCol;
+        }
+
+        @Override
+        public Path getAbsolutePath() {
+            return absPath;
+        }
+
+        @Override
+        public String getRuleKey() {
+            return ruleKey;
+        }
+
+        @Override
+        public String getMessage() {
+            return message;
+        }
+    }
+}
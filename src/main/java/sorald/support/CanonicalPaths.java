@@ -0,0 +1,123 @@
+package sorald.support;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import sorald.FileUtils;
+
+/**
+ * Support class for interning source file paths. While a run is active, as started by {@link
+ * CanonicalPaths#internForRun()}, each distinct path is canonicalized once, and all subsequent
+ * requests for the same path get the same immutable {@link Path} instance. This makes hashing,
+ * comparing and sorting paths of rule violations cheap, as no new paths are created and identical
+ * paths can be compared by identity. Outside of a run, every call canonicalizes the path anew, as
+ * the file system may have changed in between.
+ */
+public class CanonicalPaths {
+    private static final Map<String, Path> RAW_TO_CANONICAL = new ConcurrentHashMap<>();
+    private static final Map<Path, Path> CANONICAL_TO_REAL = new ConcurrentHashMap<>();
+    private static final AtomicInteger ACTIVE_RUNS = new AtomicInteger();
+
+    private CanonicalPaths() {}
+
+    /**
+     * Intern paths until the returned run is closed. Runs may be nested or overlap, in which case
+     * the interned paths are forgotten when the last of them is closed.
+     *
+     * @return The run, which must be closed when it is done.
+     */
+    public static Run internForRun() {
+        ACTIVE_RUNS.incrementAndGet();
+        return new Run();
+    }
+
+    /**
+     * @param rawPath A path in string form.
+     * @return The shared absolute and normalized path instance for the given path.
+     */
+    public static Path canonicalize(String rawPath) {
+        if (ACTIVE_RUNS.get() == 0) {
+            return Paths.get(rawPath).toAbsolutePath().normalize();
+        }
+
+        Path interned = RAW_TO_CANONICAL.get(rawPath);
+        if (interned != null) {
+            return interned;
+        }
+
+        // a raw path that is not canonical shares its instance with the canonical form
+        Path canonical = Paths.get(rawPath).toAbsolutePath().normalize();
+        Path shared = RAW_TO_CANONICAL.computeIfAbsent(canonical.toString(), raw -> canonical);
+        Path previous = RAW_TO_CANONICAL.putIfAbsent(rawPath, shared);
+        return previous == null ? shared : previous;
+    }
+
+    /**
+     * @param path A path.
+     * @return The shared absolute and normalized path instance for the given path.
+     */
+    public static Path canonicalize(Path path) {
+        return canonicalize(path.toString());
+    }
+
+    /**
+     * Resolve the real path of the given path, resolving any symbolic links. While a run is active,
+     * real paths are only resolved once per path, but paths that don't exist are not cached and
+     * are resolved again on the next request.
+     *
+     * @param path A path.
+     * @return The shared real path instance, or an empty optional if the path does not exist.
+     */
+    public static Optional<Path> toRealPath(Path path) {
+        Path canonical = canonicalize(path);
+        Path cached = CANONICAL_TO_REAL.get(canonical);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<Path> realPath = FileUtils.toRealPath(canonical).map(CanonicalPaths::canonicalize);
+        if (ACTIVE_RUNS.get() > 0) {
+            realPath.ifPresent(real -> CANONICAL_TO_REAL.put(canonical, real));
+        }
+        return realPath;
+    }
+
+    /**
+     * Forget all interned paths in the given directory, such as those of a project that is deleted
+     * while the run goes on.
+     *
+     * @param dir A directory.
+     */
+    public static void forgetAllIn(Path dir) {
+        Path canonicalDir = Paths.get(dir.toString()).toAbsolutePath().normalize();
+        RAW_TO_CANONICAL.values().removeIf(path -> path.startsWith(canonicalDir));
+        CANONICAL_TO_REAL
+                .entrySet()
+                .removeIf(
+                        entry ->
+                                entry.getKey().startsWith(canonicalDir)
+                                        || entry.getValue().startsWith(canonicalDir));
+    }
+
+    /** A run during which paths are interned. */
+    public static class Run implements AutoCloseable {
+        private boolean closed = false;
+
+        private Run() {}
+
+        /** End the run, forgetting all interned paths if no other run is active. */
+        @Override
+        public synchronized void close() {
+            if (!closed) {
+                closed = true;
+                if (ACTIVE_RUNS.decrementAndGet() == 0) {
+                    RAW_TO_CANONICAL.clear();
+                    CANONICAL_TO_REAL.clear();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package sorald.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import org.w3c.dom.Document;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
+
+/**
+ * Cache of the resolved classpaths of Maven projects, both in memory and on disk. An entry is keyed
+ * by the path of the project, the content of all pom files of its reactor and the location of the
+ * local Maven repository, such that a classpath is only resolved again after a pom file has
+ * changed.
+ *
+ * <p>The pom files of the reactor are the pom file of the project and, recursively, the pom files of
+ * the modules that it declares, along with the pom files of all parent directories. The local
+ * repository is located like Maven does, from the maven.repo.local property or the user or global
+ * settings.xml. A cached classpath that contains entries that no longer exist, for example after
+ * the local repository has been cleaned, is resolved again.
+ */
+public class ClasspathCache {
+    static final String POM_FILE = "pom.xml";
+    static final String LOCAL_REPOSITORY_PROPERTY = "maven.repo.local";
+    static final String SETTINGS_FILE = "settings.xml";
+
+    private static final String ENTRY_EXTENSION = ".classpath";
+    private static final String MAVEN_HOME_PROPERTY = "maven.home";
+    private static final List<String> MAVEN_HOME_ENV_VARS = List.of("MAVEN_HOME", "M2_HOME");
+
+    private final Path cacheDir;
+    private final Map<String, List<String>> keyToClasspath = new ConcurrentHashMap<>();
+
+    /** @param cacheDir Directory to store cache entries in. Created if it does not exist. */
+    public ClasspathCache(Path cacheDir) {
+        this.cacheDir = cacheDir;
+    }
+
+    /**
+     * Get the classpath of a Maven project from the cache, or resolve and cache it if there is no
+     * valid entry.
+     *
+     * @param project Path to the root of a Maven project.
+     * @param resolver Function that resolves the classpath of a project.
+     * @return The classpath of the project.
+     */
+    public List<String> getOrResolve(Path project, Function<Path, List<String>> resolver) {
+        String key = key(project);
+        List<String> inMemory = keyToClasspath.get(key);
+        if (inMemory != null) {
+            return inMemory;
+        }
+
+        List<String> classpath =
+                lookup(key).orElseGet(() -> store(key, List.copyOf(resolver.apply(project))));
+        keyToClasspath.put(key, classpath);
+        return classpath;
+    }
+
+    /**
+     * Compute the key of the cache entry for a project.
+     *
+     * @param project Path to the root of a Maven project.
+     * @return The key of the cache entry for the project.
+     */
+    static String key(Path project) {
+        Path root = project.toAbsolutePath().normalize();
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            update(digest, root.toString());
+            update(digest, getLocalRepository().toString());
+            for (Path pom : findReactorPoms(root)) {
+                update(digest, pom.toString());
+                digest.update(Files.readAllBytes(pom));
+            }
+            return String.format("%064x", new BigInteger(1, digest.digest()));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported by this JVM", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** @return The location of the local Maven repository. */
+    static Path getLocalRepository() {
+        String localRepository = System.getProperty(LOCAL_REPOSITORY_PROPERTY);
+        if (localRepository != null) {
+            return Path.of(localRepository).toAbsolutePath().normalize();
+        }
+        return getLocalRepository(Path.of(System.getProperty("user.home")), getMavenHome());
+    }
+
+    /**
+     * Locate the local Maven repository from the user settings, then the global settings, and
+     * otherwise the default location in the user home directory.
+     *
+     * @param userHome The home directory of the user.
+     * @param mavenHome The installation directory of Maven, if known.
+     * @return The location of the local Maven repository.
+     */
+    static Path getLocalRepository(Path userHome, Optional<Path> mavenHome) {
+        Path userM2 = userHome.resolve(".m2");
+        return readLocalRepository(userM2.resolve(SETTINGS_FILE), userHome)
+                .or(
+                        () ->
+                                mavenHome.flatMap(
+                                        home ->
+                                                readLocalRepository(
+                                                        home.resolve("conf").resolve(SETTINGS_FILE),
+                                                        userHome)))
+                .orElse(userM2.resolve("repository"));
+    }
+
+    private static Optional<Path> readLocalRepository(Path settingsFile, Path userHome) {
+        return parseXml(settingsFile)
+                .map(settings -> settings.getElementsByTagName("localRepository"))
+                .filter(elements -> elements.getLength() > 0)
+                .map(elements -> elements.item(0).getTextContent().trim())
+                .filter(localRepository -> !localRepository.isEmpty())
+                .map(
+                        localRepository ->
+                                Path.of(
+                                                localRepository.replace(
+                                                        "${user.home}", userHome.toString()))
+                                        .toAbsolutePath()
+                                        .normalize());
+    }
+
+    private static Optional<Path> getMavenHome() {
+        String mavenHome = System.getProperty(MAVEN_HOME_PROPERTY);
+        if (mavenHome != null) {
+            return Optional.of(Path.of(mavenHome));
+        }
+        return MAVEN_HOME_ENV_VARS.stream()
+                .map(System::getenv)
+                .filter(dir -> dir != null && !dir.isBlank())
+                .map(Path::of)
+                .findFirst();
+    }
+
+    private Optional<List<String>> lookup(String key) {
+        Path entryFile = entryPath(key);
+        if (!Files.isRegularFile(entryFile)) {
+            return Optional.empty();
+        }
+
+        try {
+            List<String> classpath = Files.readAllLines(entryFile);
+            boolean allEntriesExist = classpath.stream().map(Path::of).allMatch(Files::exists);
+            return allEntriesExist ? Optional.of(List.copyOf(classpath)) : Optional.empty();
+        } catch (IOException e) {
+            // an unreadable entry is treated as a cache miss, and is overwritten after resolution
+            return Optional.empty();
+        }
+    }
+
+    private List<String> store(String key, List<String> classpath) {
+        if (classpath.isEmpty()) {
+            // an empty classpath most likely means that resolution failed, so it is retried
+            return classpath;
+        }
+
+        try {
+            Files.createDirectories(cacheDir);
+            Path tmpFile = Files.createTempFile(cacheDir, key, ".tmp");
+            try {
+                Files.write(tmpFile, classpath);
+                Files.move(tmpFile, entryPath(key), StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(tmpFile);
+            }
+        } catch (IOException e) {
+            // failing to write to the cache should never fail the resolution
+            e.printStackTrace();
+        }
+        return classpath;
+    }
+
+    private Path entryPath(String key) {
+        return cacheDir.resolve(key + ENTRY_EXTENSION);
+    }
+
+    private static List<Path> findReactorPoms(Path root) {
+        List<Path> poms = new ArrayList<>();
+        for (Path dir = root.getParent(); dir != null; dir = dir.getParent()) {
+            Path parentPom = dir.resolve(POM_FILE);
+            if (!Files.isRegularFile(parentPom)) {
+                break;
+            }
+            poms.add(parentPom);
+        }
+
+        collectModulePoms(root.resolve(POM_FILE), poms, new HashSet<>());
+        poms.sort(null);
+        return poms;
+    }
+
+    /** Collect the given pom file and, recursively, the pom files of the modules it declares. */
+    private static void collectModulePoms(Path pom, List<Path> poms, Set<Path> visited) {
+        Path normalizedPom = pom.normalize();
+        if (!Files.isRegularFile(normalizedPom) || !visited.add(normalizedPom)) {
+            return;
+        }
+        poms.add(normalizedPom);
+
+        for (String module : readModules(normalizedPom)) {
+            Path modulePath = normalizedPom.getParent().resolve(module);
+            collectModulePoms(
+                    Files.isDirectory(modulePath) ? modulePath.resolve(POM_FILE) : modulePath,
+                    poms,
+                    visited);
+        }
+    }
+
+    /** @return The modules declared in a pom file, including those declared in profiles. */
+    private static List<String> readModules(Path pom) {
+        List<String> modules = new ArrayList<>();
+        parseXml(pom)
+                .ifPresent(
+                        document -> {
+                            NodeList moduleElements = document.getElementsByTagName("module");
+                            for (int i = 0; i < moduleElements.getLength(); i++) {
+                                Node module = moduleElements.item(i);
+                                if (module.getParentNode().getNodeName().equals("modules")) {
+                                    modules.add(module.getTextContent().trim());
+                                }
+                            }
+                        });
+        return modules;
+    }
+
+    /**
+     * Parse a Maven XML file, such as a pom file or settings file.
+     *
+     * @return The parsed document, or an empty optional if the file is missing or malformed. The
+     *     content of a malformed pom file is still part of the key, so it's resolved again once
+     *     it's fixed.
+     */
+    private static Optional<Document> parseXml(Path file) {
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+
+        try {
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+            return Optional.of(factory.newDocumentBuilder().parse(file.toFile()));
+        } catch (ParserConfigurationException | SAXException | IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+}
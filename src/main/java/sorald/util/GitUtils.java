@@ -0,0 +1,116 @@
+package sorald.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.eclipse.jgit.dircache.DirCacheIterator;
+import org.eclipse.jgit.lib.FileMode;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.storage.file.FileRepositoryBuilder;
+import org.eclipse.jgit.treewalk.FileTreeIterator;
+import org.eclipse.jgit.treewalk.TreeWalk;
+import org.eclipse.jgit.treewalk.filter.AndTreeFilter;
+import org.eclipse.jgit.treewalk.filter.PathSuffixFilter;
+import org.eclipse.jgit.treewalk.filter.TreeFilter;
+import sorald.Constants;
+
+/** Utility methods for working with git repositories. */
+public class GitUtils {
+    private static final int REVISION_TREE = 0;
+    private static final int INDEX_TREE = 1;
+    private static final int WORKING_TREE = 2;
+
+    private GitUtils() {}
+
+    /**
+     * Test whether the given path is inside of a git repository in which the given revision can be
+     * resolved.
+     *
+     * @param path A file or directory.
+     * @param revision A git revision, such as a commit hash, branch name or expression like
+     *     HEAD~3.
+     * @return true iff the path is in a git repository in which the revision resolves to a commit
+     *     or tree.
+     */
+    public static boolean isResolvableRevision(Path path, String revision) {
+        try (Repository repo = openRepository(path)) {
+            return repo.resolve(revision + "^{tree}") != null;
+        } catch (IOException | RuntimeException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Find the Java files that have changed since the given revision, comparing the tree of the
+     * revision with the working tree. This includes committed, staged and unstaged changes, as well
+     * as untracked files that are not ignored. Deleted files are not included.
+     *
+     * <p>Files in the working tree are compared by way of the index, so only files that git
+     * considers modified are read.
+     *
+     * @param target A file or directory in a git repository. Only changed files in the target are
+     *     returned.
+     * @param revision A git revision, such as a commit hash, branch name or expression like
+     *     HEAD~3.
+     * @return Absolute paths to the changed Java files in the target.
+     * @throws IOException If the repository can't be read.
+     * @throws IllegalArgumentException If the revision can't be resolved.
+     */
+    public static List<File> findChangedJavaFiles(Path target, String revision) throws IOException {
+        Path absTarget = target.toAbsolutePath().normalize();
+        List<File> changedFiles = new ArrayList<>();
+        try (Repository repo = openRepository(absTarget);
+                TreeWalk treeWalk = new TreeWalk(repo)) {
+            ObjectId revisionTree = repo.resolve(revision + "^{tree}");
+            if (revisionTree == null) {
+                throw new IllegalArgumentException("unknown revision: " + revision);
+            }
+
+            treeWalk.setRecursive(true);
+            treeWalk.addTree(revisionTree);
+            treeWalk.addTree(new DirCacheIterator(repo.readDirCache()));
+            var workingTree = new FileTreeIterator(repo);
+            workingTree.setDirCacheIterator(treeWalk, INDEX_TREE);
+            treeWalk.addTree(workingTree);
+            treeWalk.setFilter(
+                    AndTreeFilter.create(
+                            PathSuffixFilter.create(Constants.JAVA_EXT), TreeFilter.ANY_DIFF));
+
+            Path workTree = repo.getWorkTree().toPath().toAbsolutePath().normalize();
+            while (treeWalk.next()) {
+                if (isDeleted(treeWalk) || isIgnored(treeWalk)) {
+                    continue;
+                }
+                Path file = workTree.resolve(treeWalk.getPathString());
+                if (file.startsWith(absTarget)) {
+                    changedFiles.add(file.toFile());
+                }
+            }
+        }
+        return changedFiles;
+    }
+
+    private static boolean isDeleted(TreeWalk treeWalk) {
+        return treeWalk.getFileMode(WORKING_TREE) == FileMode.MISSING;
+    }
+
+    private static boolean isIgnored(TreeWalk treeWalk) throws IOException {
+        boolean isTracked =
+                treeWalk.getFileMode(REVISION_TREE) != FileMode.MISSING
+                        || treeWalk.getFileMode(INDEX_TREE) != FileMode.MISSING;
+        return !isTracked
+                && treeWalk.getTree(WORKING_TREE, FileTreeIterator.class).isEntryIgnored();
+    }
+
+    private static Repository openRepository(Path path) throws IOException {
+        File start = path.toFile().isDirectory() ? path.toFile() : path.toFile().getParentFile();
+        FileRepositoryBuilder builder = new FileRepositoryBuilder().findGitDir(start);
+        if (builder.getGitDir() == null) {
+            throw new IOException("not in a git repository: " + path);
+        }
+        return builder.setMustExist(true).build();
+    }
+}
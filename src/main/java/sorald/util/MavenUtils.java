@@ -2,10 +2,15 @@ package sorald.util;
 
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import spoon.MavenLauncher;
 
 /** Utility methods for working with Maven projects */
 public class MavenUtils {
+    private static final Map<Path, ClasspathCache> DIR_TO_CLASSPATH_CACHE =
+            new ConcurrentHashMap<>();
+
     private MavenUtils() {}
 
     /**
@@ -15,9 +20,59 @@ public class MavenUtils {
      * @return The full source classpath
      */
     public static List<String> resolveClasspath(Path source) {
-        MavenLauncher launcher =
-                new MavenLauncher(source.toString(), MavenLauncher.SOURCE_TYPE.ALL_SOURCE);
-        return List.of(launcher.getEnvironment().getSourceClasspath());
+        return resolveClasspathWithMaven(source);
+    }
+
+    /**
+     * Resolve the full classpath for a Maven project with a classpath cache, such that Maven is
+     * only invoked to resolve it again after a pom file of the project changes.
+     *
+     * @param source Path to the root of a Maven project
+     * @param classpathCache Cache to get the classpath from, or null to always resolve it with
+     *     Maven
+     * @return The full source classpath
+     */
+    public static List<String> resolveClasspath(Path source, ClasspathCache classpathCache) {
+        return classpathCache == null
+                ? resolveClasspathWithMaven(source)
+                : classpathCache.getOrResolve(source, MavenUtils::resolveClasspathWithMaven);
+    }
+
+    /**
+     * Create a launcher for a Maven project with an already resolved classpath, such that Maven is
+     * not invoked to resolve it again.
+     *
+     * @param source Path to the root of a Maven project
+     * @param classpath The classpath of the project, or an empty list to resolve it with Maven
+     * @return A launcher for all sources of the project
+     */
+    public static MavenLauncher createLauncher(Path source, List<String> classpath) {
+        return classpath.isEmpty()
+                ? new MavenLauncher(source.toString(), MavenLauncher.SOURCE_TYPE.ALL_SOURCE)
+                : new MavenLauncher(
+                        source.toString(),
+                        MavenLauncher.SOURCE_TYPE.ALL_SOURCE,
+                        classpath.toArray(String[]::new));
+    }
+
+    /**
+     * Get the classpath cache for a cache directory. There is a single cache per directory in the
+     * process, such that resolved classpaths are also kept in memory between invocations.
+     *
+     * @param cacheDir Directory to store cache entries in.
+     * @return The classpath cache for the directory.
+     */
+    public static ClasspathCache getClasspathCache(Path cacheDir) {
+        return DIR_TO_CLASSPATH_CACHE.computeIfAbsent(
+                cacheDir.toAbsolutePath().normalize(), ClasspathCache::new);
+    }
+
+    /**
+     * @return The default directory of the classpath cache, which is sorald/classpath in the user
+     *     cache directory ($XDG_CACHE_HOME or ~/.cache).
+     */
+    public static Path getDefaultClasspathCacheDir() {
+        return getUserCacheDir().resolve("sorald").resolve("classpath");
     }
 
     /**
@@ -29,4 +84,17 @@ public class MavenUtils {
     public static boolean isMavenProjectRoot(Path source) {
         return source.resolve("pom.xml").toFile().isFile();
     }
+
+    private static List<String> resolveClasspathWithMaven(Path source) {
+        MavenLauncher launcher =
+                new MavenLauncher(source.toString(), MavenLauncher.SOURCE_TYPE.ALL_SOURCE);
+        return List.of(launcher.getEnvironment().getSourceClasspath());
+    }
+
+    private static Path getUserCacheDir() {
+        String xdgCacheHome = System.getenv("XDG_CACHE_HOME");
+        return xdgCacheHome != null && !xdgCacheHome.isBlank()
+                ? Path.of(xdgCacheHome)
+                : Path.of(System.getProperty("user.home"), ".cache");
+    }
 }
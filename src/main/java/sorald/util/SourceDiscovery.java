@@ -0,0 +1,226 @@
+package sorald.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import sorald.Constants;
+
+/**
+ * Discovery of the Java source files in a directory tree. The tree is walked once with file
+ * attributes, such that no additional file system calls are needed per file, and directories that
+ * contain build output, version control data or dependencies are pruned from the walk. Build output
+ * directories are only recognized at the root of the walk or next to a build file, as source
+ * packages may have the same names.
+ *
+ * <p>While a run is active, as started by {@link SourceDiscovery#cacheForRun()}, the discovered
+ * files of each directory are cached, such that the scanner and the segmentation of a run share a
+ * single walk. Outside of a run, every call walks the tree anew, as the file system may have
+ * changed in between.
+ */
+public class SourceDiscovery {
+    /** Names of directories that are never searched for source files. */
+    public static final Set<String> PRUNED_DIRECTORIES = Set.of(".git", "node_modules");
+
+    /**
+     * Names of build output directories, which are not searched for source files if they are at
+     * the root of the walk or next to one of the {@link #BUILD_FILES}.
+     */
+    public static final Set<String> BUILD_OUTPUT_DIRECTORIES = Set.of("target", "build");
+
+    /** Names of the build files of the build tools whose output directories are pruned. */
+    public static final Set<String> BUILD_FILES =
+            Set.of("pom.xml", "build.gradle", "build.gradle.kts");
+
+    private static final Map<Path, List<Path>> ROOT_TO_JAVA_FILES = new ConcurrentHashMap<>();
+    private static final AtomicInteger ACTIVE_RUNS = new AtomicInteger();
+
+    private SourceDiscovery() {}
+
+    /**
+     * Cache the discovered source files until the returned run is closed. Runs may be nested or
+     * overlap, in which case the cache is cleared when the last of them is closed.
+     *
+     * @return The run, which must be closed when it is done.
+     */
+    public static Run cacheForRun() {
+        ACTIVE_RUNS.incrementAndGet();
+        return new Run();
+    }
+
+    /**
+     * Find all Java source files in the given directory and its subdirectories, except for those in
+     * pruned directories.
+     *
+     * @param root A directory, or a single file.
+     * @return Absolute and normalized paths to all discovered Java files, in sorted order.
+     */
+    public static List<Path> findJavaFiles(Path root) {
+        return findJavaFiles(root, 1);
+    }
+
+    /**
+     * Find all Java source files in the given directory and its subdirectories, except for those in
+     * pruned directories. With a parallelism greater than 1, subtrees are walked in parallel.
+     *
+     * @param root A directory, or a single file.
+     * @param parallelism Amount of threads to walk the tree with.
+     * @return Absolute and normalized paths to all discovered Java files, in sorted order.
+     */
+    public static List<Path> findJavaFiles(Path root, int parallelism) {
+        Path normalizedRoot = root.toAbsolutePath().normalize();
+        if (ACTIVE_RUNS.get() > 0) {
+            return ROOT_TO_JAVA_FILES.computeIfAbsent(
+                    normalizedRoot, dir -> discover(dir, parallelism));
+        }
+        return discover(normalizedRoot, parallelism);
+    }
+
+    private static List<Path> discover(Path root, int parallelism) {
+        List<Path> javaFiles;
+        if (parallelism > 1 && Files.isDirectory(root)) {
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                javaFiles = pool.invoke(new DiscoveryTask(root, root));
+            } finally {
+                pool.shutdown();
+            }
+        } else {
+            javaFiles = new ArrayList<>();
+            walk(root, root, Integer.MAX_VALUE, javaFiles, null);
+        }
+        Collections.sort(javaFiles);
+        return Collections.unmodifiableList(javaFiles);
+    }
+
+    /**
+     * Walk the tree rooted at the given directory to the given depth, collecting the Java files in
+     * it. If a list of subdirectories is given, directories at the max depth are collected into it
+     * instead of being walked. The root of the entire discovery may be an ancestor of the walked
+     * directory.
+     */
+    private static void walk(
+            Path discoveryRoot,
+            Path root,
+            int maxDepth,
+            List<Path> javaFiles,
+            List<Path> subdirectories) {
+        try {
+            Files.walkFileTree(
+                    root,
+                    Set.of(),
+                    maxDepth,
+                    new SimpleFileVisitor<>() {
+                        @Override
+                        public FileVisitResult preVisitDirectory(
+                                Path dir, BasicFileAttributes attrs) {
+                            return !dir.equals(root) && isPruned(discoveryRoot, dir)
+                                    ? FileVisitResult.SKIP_SUBTREE
+                                    : FileVisitResult.CONTINUE;
+                        }
+
+                        @Override
+                        public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                            // the attributes are those of a symbolic link itself, so the link
+                            // is followed to include symbolically linked source files
+                            if (Files.isRegularFile(file)
+                                    && file.toString().endsWith(Constants.JAVA_EXT)) {
+                                javaFiles.add(file);
+                            } else if (attrs.isDirectory()
+                                    && subdirectories != null
+                                    && !isPruned(discoveryRoot, file)) {
+                                subdirectories.add(file);
+                            }
+                            return FileVisitResult.CONTINUE;
+                        }
+
+                        @Override
+                        public FileVisitResult visitFileFailed(Path file, IOException exc) {
+                            // unreadable files and directories are skipped, like with File.list
+                            return FileVisitResult.CONTINUE;
+                        }
+                    });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static boolean isPruned(Path discoveryRoot, Path dir) {
+        Path name = dir.getFileName();
+        if (name == null) {
+            return false;
+        } else if (PRUNED_DIRECTORIES.contains(name.toString())) {
+            return true;
+        } else if (BUILD_OUTPUT_DIRECTORIES.contains(name.toString())) {
+            Path parent = dir.getParent();
+            return parent.equals(discoveryRoot) || hasBuildFile(parent);
+        }
+        return false;
+    }
+
+    private static boolean hasBuildFile(Path dir) {
+        return BUILD_FILES.stream()
+                .anyMatch(buildFile -> Files.isRegularFile(dir.resolve(buildFile)));
+    }
+
+    /** Task that collects the Java files of a directory, and forks a task per subdirectory. */
+    private static class DiscoveryTask extends RecursiveTask<List<Path>> {
+        private static final long serialVersionUID = 1L;
+
+        private final Path discoveryRoot;
+        private final Path dir;
+
+        DiscoveryTask(Path discoveryRoot, Path dir) {
+            this.discoveryRoot = discoveryRoot;
+            this.dir = dir;
+        }
+
+        @Override
+        protected List<Path> compute() {
+            List<Path> javaFiles = new ArrayList<>();
+            List<Path> subdirectories = new ArrayList<>();
+            walk(discoveryRoot, dir, 1, javaFiles, subdirectories);
+
+            List<DiscoveryTask> subtasks = new ArrayList<>();
+            for (Path subdirectory : subdirectories) {
+                var subtask = new DiscoveryTask(discoveryRoot, subdirectory);
+                subtask.fork();
+                subtasks.add(subtask);
+            }
+            for (DiscoveryTask subtask : subtasks) {
+                javaFiles.addAll(subtask.join());
+            }
+            return javaFiles;
+        }
+    }
+
+    /** A run during which discovered source files are cached. */
+    public static class Run implements AutoCloseable {
+        private boolean closed = false;
+
+        private Run() {}
+
+        /** End the run, clearing the cache if no other run is active. */
+        @Override
+        public synchronized void close() {
+            if (!closed) {
+                closed = true;
+                if (ACTIVE_RUNS.decrementAndGet() == 0) {
+                    ROOT_TO_JAVA_FILES.clear();
+                }
+            }
+        }
+    }
+}
@@ -24,7 +24,23 @@ public class CodeGeneratorTest {
         CodeGenerator.generateSources(generatedSourceDir.toPath());
 
         CtType<?> committed = parseJavaFile(sourceDir.resolve("sorald/Processors.java"));
-        CtType<?> generated = parseJavaFile(generatedSourceDir.toPath().resolve("sorald/"));
+        CtType<?> generated =
+                parseJavaFile(generatedSourceDir.toPath().resolve("sorald/Processors.java"));
+
+        assertThat(printType(generated), equalTo(printType(committed)));
+    }
+
+    /** Test that there is no difference between the generated check index and the committed one. */
+    @Test
+    public void generateSources_generatesCommittedCheckIndexClass(
+            @TempDir File generatedSourceDir) {
+        Path sourceDir = Paths.get("src/main/java");
+
+        CodeGenerator.generateSources(generatedSourceDir.toPath());
+
+        CtType<?> committed = parseJavaFile(sourceDir.resolve("sorald/sonar/CheckIndex.java"));
+        CtType<?> generated =
+                parseJavaFile(generatedSourceDir.toPath().resolve("sorald/sonar/CheckIndex.java"));
 
         assertThat(printType(generated), equalTo(printType(committed)));
     }
@@ -0,0 +1,266 @@
+package sorald;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFilePermission;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.eclipse.jgit.api.Git;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import sorald.rule.Rule;
+import sorald.sonar.ProjectScanner;
+
+class CompilationUnitWriterTest {
+
+    @Test
+    void writeIfChanged_onlyWritesFile_whenContentDiffers(@TempDir Path workdir) throws Exception {
+        Path file = Files.writeString(workdir.resolve("A.java"), "class A {}");
+        FileTime originalModified = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(file, originalModified);
+        Set<PosixFilePermission> permissions =
+                Set.of(
+                        PosixFilePermission.OWNER_READ,
+                        PosixFilePermission.OWNER_WRITE,
+                        PosixFilePermission.GROUP_READ,
+                        PosixFilePermission.OTHERS_READ);
+        Files.setPosixFilePermissions(file, permissions);
+
+        boolean writtenSame =
+                CompilationUnitWriter.writeIfChanged(
+                        file, "class A {}".getBytes(StandardCharsets.UTF_8));
+        boolean writtenDifferent =
+                CompilationUnitWriter.writeIfChanged(
+                        file, "class A { int a; }".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(writtenSame, equalTo(false));
+        assertThat(writtenDifferent, equalTo(true));
+        assertThat(Files.readString(file), equalTo("class A { int a; }"));
+        assertThat(Files.getPosixFilePermissions(file), equalTo(permissions));
+        try (var files = Files.list(workdir)) {
+            assertThat("temporary files must be cleaned up", files.count(), equalTo(1L));
+        }
+    }
+
+    @Test
+    void repair_printsSameOutput_withParallelPrinting(@TempDir Path workdir) throws Exception {
+        Path serialDir = Files.createDirectories(workdir.resolve("serial"));
+        Path parallelDir = Files.createDirectories(workdir.resolve("parallel"));
+        List<String> classNames = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            String className = "Violating" + i;
+            String source = "public class " + className + " { double a = 1f / " + i + "f; }";
+            Files.writeString(serialDir.resolve(className + Constants.JAVA_EXT), source);
+            Files.writeString(parallelDir.resolve(className + Constants.JAVA_EXT), source);
+            classNames.add(className);
+        }
+        Files.writeString(
+                parallelDir.resolve("Compliant.java"), "public class Compliant { int a = 1; }");
+
+        repair(serialDir, 1);
+        repair(parallelDir, 4);
+
+        for (String className : classNames) {
+            String fileName = className + Constants.JAVA_EXT;
+            assertThat(
+                    Files.readString(parallelDir.resolve(fileName)),
+                    equalTo(Files.readString(serialDir.resolve(fileName))));
+        }
+    }
+
+    @Test
+    void repair_printsSameOutput_withParallelSniperPrintingOfManyFiles(@TempDir Path workdir)
+            throws Exception {
+        // many compilation units whose imports are all touched by the printer's preprocessors,
+        // to expose races on the model shared by concurrently printed compilation units
+        Path serialDir = Files.createDirectories(workdir.resolve("serial"));
+        Path parallelDir = Files.createDirectories(workdir.resolve("parallel"));
+        int numFiles = 200;
+        int numPackages = 10;
+        List<String> fileNames = new ArrayList<>();
+        for (int i = 0; i < numFiles; i++) {
+            int next = (i + 1) % numFiles;
+            String packageName = "pkg" + i % numPackages;
+            String nextQualifiedName = "pkg" + next % numPackages + ".Violating" + next;
+            String source =
+                    String.join(
+                            "\n",
+                            "package " + packageName + ";",
+                            "",
+                            "import java.util.ArrayList;",
+                            "import java.util.List;",
+                            "import java.util.Map;",
+                            "",
+                            "public class Violating" + i + " {",
+                            "    // a comment the sniper printer must keep",
+                            "    java.util.List<String> names = new ArrayList<>();",
+                            "    double a = 1f / " + i + "f;",
+                            "    " + nextQualifiedName + " next;",
+                            "    List<java.util.Set<String>> sets;",
+                            "}",
+                            "");
+            String fileName = packageName + "/Violating" + i + Constants.JAVA_EXT;
+            for (Path dir : List.of(serialDir, parallelDir)) {
+                Path file = dir.resolve(fileName);
+                Files.createDirectories(file.getParent());
+                Files.writeString(file, source);
+            }
+            fileNames.add(fileName);
+        }
+
+        repair(serialDir, 1, OutputMode.INPLACE, null, numFiles);
+        repair(parallelDir, 8, OutputMode.INPLACE, null, numFiles);
+
+        assertThat(readFiles(parallelDir, fileNames), equalTo(readFiles(serialDir, fileNames)));
+    }
+
+    @Test
+    void repair_writesPatchThatAppliesToSource_withPatchOutputMode(@TempDir Path workdir)
+            throws Exception {
+        Path inplaceDir = Files.createDirectories(workdir.resolve("inplace"));
+        Path patchedDir = Files.createDirectories(workdir.resolve("patched"));
+        Path patchFile = workdir.resolve("repair.patch");
+        List<String> fileNames = createViolatingFiles(inplaceDir, patchedDir);
+        Map<String, String> originalSources = readFiles(patchedDir, fileNames);
+
+        repair(inplaceDir, 1);
+        repair(patchedDir, 4, OutputMode.PATCH, patchFile);
+
+        assertThat(
+                "the source must not be modified",
+                readFiles(patchedDir, fileNames),
+                equalTo(originalSources));
+        try (Git git = Git.init().setDirectory(patchedDir.toFile()).call();
+                InputStream patch = Files.newInputStream(patchFile)) {
+            git.apply().setPatch(patch).call();
+        }
+        assertThat(readFiles(patchedDir, fileNames), equalTo(readFiles(inplaceDir, fileNames)));
+    }
+
+    @Test
+    void repair_writesRepairedFilesToShadowDirectory_withDirOutputMode(@TempDir Path workdir)
+            throws Exception {
+        Path inplaceDir = Files.createDirectories(workdir.resolve("inplace"));
+        Path sourceDir = Files.createDirectories(workdir.resolve("source"));
+        Path shadowDir = workdir.resolve("shadow");
+        List<String> fileNames = createViolatingFiles(inplaceDir, sourceDir);
+        Files.writeString(
+                sourceDir.resolve("Compliant.java"), "public class Compliant { int a = 1; }");
+        Map<String, String> originalSources = readFiles(sourceDir, fileNames);
+
+        repair(inplaceDir, 1);
+        repair(sourceDir, 4, OutputMode.DIR, shadowDir);
+
+        assertThat(
+                "the source must not be modified",
+                readFiles(sourceDir, fileNames),
+                equalTo(originalSources));
+        assertThat(readFiles(shadowDir, fileNames), equalTo(readFiles(inplaceDir, fileNames)));
+        try (var files = Files.list(shadowDir)) {
+            assertThat(
+                    "only repaired files must be written",
+                    files.count(),
+                    equalTo((long) fileNames.size()));
+        }
+    }
+
+    @Test
+    void repair_writesLinkedFileToPathOfLink_whenTargetIsOutsideSource(@TempDir Path workdir)
+            throws Exception {
+        Path inplaceDir = Files.createDirectories(workdir.resolve("inplace"));
+        Path outsideDir = Files.createDirectories(workdir.resolve("outside"));
+        Path sourceDir = Files.createDirectories(workdir.resolve("source"));
+        Path shadowDir = workdir.resolve("shadow");
+        Path patchFile = workdir.resolve("repair.patch");
+        String fileName = "Linked.java";
+        String source = "public class Linked { double a = 1f / 2f; }";
+        Files.writeString(inplaceDir.resolve(fileName), source);
+        Path target = Files.writeString(outsideDir.resolve(fileName), source);
+        Files.createSymbolicLink(sourceDir.resolve(fileName), target);
+
+        repair(inplaceDir, 1, OutputMode.INPLACE, null, 1);
+        repair(sourceDir, 1, OutputMode.DIR, shadowDir, 1);
+        repair(sourceDir, 1, OutputMode.PATCH, patchFile, 1);
+
+        assertThat("the target must not be modified", Files.readString(target), equalTo(source));
+        assertThat(
+                Files.readString(shadowDir.resolve(fileName)),
+                equalTo(Files.readString(inplaceDir.resolve(fileName))));
+        assertThat(
+                Files.readString(patchFile),
+                containsString("diff --git a/" + fileName + " b/" + fileName));
+    }
+
+    @Test
+    void unifiedDiff_isEmpty_whenContentIsIdentical() {
+        byte[] content = "class A {}\n".getBytes(StandardCharsets.UTF_8);
+
+        byte[] patch = CompilationUnitWriter.unifiedDiff(Path.of("A.java"), content, content);
+
+        assertThat(patch.length, equalTo(0));
+    }
+
+    private static List<String> createViolatingFiles(Path... dirs) throws IOException {
+        List<String> fileNames = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            String className = "Violating" + i;
+            String source = "public class " + className + " { double a = 1f / " + i + "f; }";
+            for (Path dir : dirs) {
+                Files.writeString(dir.resolve(className + Constants.JAVA_EXT), source);
+            }
+            fileNames.add(className + Constants.JAVA_EXT);
+        }
+        return fileNames;
+    }
+
+    private static Map<String, String> readFiles(Path dir, List<String> fileNames)
+            throws IOException {
+        Map<String, String> fileNameToContent = new HashMap<>();
+        for (String fileName : fileNames) {
+            fileNameToContent.put(fileName, Files.readString(dir.resolve(fileName)));
+        }
+        return fileNameToContent;
+    }
+
+    private static void repair(Path dir, int printThreads) {
+        repair(dir, printThreads, OutputMode.INPLACE, null);
+    }
+
+    private static void repair(Path dir, int printThreads, OutputMode outputMode, Path outputPath) {
+        repair(dir, printThreads, outputMode, outputPath, 10);
+    }
+
+    private static void repair(
+            Path dir,
+            int printThreads,
+            OutputMode outputMode,
+            Path outputPath,
+            int expectedRewrittenFiles) {
+        SoraldConfig config = new SoraldConfig();
+        config.setSource(dir.toString());
+        config.setRepairStrategy(RepairStrategy.DEFAULT);
+        config.setPrettyPrintingStrategy(PrettyPrintingStrategy.SNIPER);
+        config.setMaxFixesPerRule(Integer.MAX_VALUE);
+        config.setPrintThreads(printThreads);
+        config.setOutputMode(outputMode);
+        if (outputPath != null) {
+            config.setOutputPath(outputPath.toFile());
+        }
+
+        var repair = new Repair(config, List.of(), List.of());
+        repair.repairAll(ProjectScanner.scanProject(dir.toFile(), dir.toFile(), Rule.of("S2164")));
+
+        assertThat(repair.getRewrittenFiles().size(), equalTo(expectedRewrittenFiles));
+    }
+}
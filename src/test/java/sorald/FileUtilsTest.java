@@ -51,6 +51,21 @@ public class FileUtilsTest {
         assertTrue(files.stream().allMatch(isJavaFile));
     }
 
+    @Test
+    public void findFilesByExtension_returnsSymbolicallyLinkedFiles(@TempDir Path workdir)
+            throws IOException {
+        // arrange
+        Path target = Files.writeString(workdir.resolve("Target.java"), "class Target {}");
+        Path sourceDir = Files.createDirectory(workdir.resolve("src"));
+        Path link = Files.createSymbolicLink(sourceDir.resolve("Link.java"), target);
+
+        // act
+        List<File> files = FileUtils.findFilesByExtension(sourceDir.toFile(), Constants.JAVA_EXT);
+
+        // assert
+        assertThat(files, equalTo(List.of(link.toFile())));
+    }
+
     @Test
     public void findFilesByExtension_throws_whenDirectoryIsNotADirectory() {
         File notADirectory = new File("definitely/not/a/directory.nope");
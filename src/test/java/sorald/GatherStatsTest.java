@@ -4,18 +4,27 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.startsWith;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 import org.json.JSONArray;
 import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
+import sorald.event.EventType;
 import sorald.event.StatsMetadataKeys;
+import sorald.event.models.PhaseEvent;
 import sorald.processor.ProcessorTestHelper;
 import sorald.processor.XxeProcessingProcessor;
 import sorald.rule.Rule;
@@ -84,6 +93,94 @@ public class GatherStatsTest {
         assertThat(jo.getLong(StatsMetadataKeys.TOTAL_TIME_MS), greaterThan(0L));
     }
 
+    @Test
+    public void statisticsFile_containsOneLinePerEvent_whenStreamingJsonLines(@TempDir File tempDir)
+            throws Exception {
+        ProcessorTestHelper.ProcessorTestCase testCase =
+                ProcessorTestHelper.getTestCasesInTemporaryDirectory()
+                        .filter(tc -> tc.ruleKey.equals(new XxeProcessingProcessor().getRuleKey()))
+                        .findFirst()
+                        .get();
+        org.apache.commons.io.FileUtils.copyFile(
+                testCase.nonCompliantFile,
+                tempDir.toPath().resolve(testCase.nonCompliantFile.getName()).toFile());
+        Path statsFile = tempDir.toPath().resolve("stats.jsonl");
+
+        ProcessorTestHelper.runSorald(
+                tempDir,
+                testCase.getRule(),
+                Constants.ARG_STATS_OUTPUT_FILE,
+                statsFile.toString(),
+                Constants.ARG_STATS_OUTPUT_FORMAT,
+                StatsOutputFormat.JSON_LINES.name());
+
+        List<JSONObject> lines =
+                Files.readAllLines(statsFile).stream()
+                        .map(JSONObject::new)
+                        .collect(Collectors.toList());
+        List<String> types =
+                lines.stream()
+                        .map(line -> line.getString(StatsMetadataKeys.EVENT_TYPE))
+                        .collect(Collectors.toList());
+
+        assertThat(types.get(0), equalTo(StatsMetadataKeys.EXECUTION_INFO));
+        assertThat(
+                lines.get(0).getJSONArray(StatsMetadataKeys.ORIGINAL_ARGS).length(),
+                greaterThan(0));
+        assertThat(types.get(1), equalTo(EventType.EXEC_START.name()));
+        assertThat(
+                types,
+                hasItems(
+                        EventType.MINED.name(),
+                        EventType.PARSE_START.name(),
+                        EventType.REPAIR.name(),
+                        EventType.EXEC_END.name()));
+
+        JSONObject repair = lines.get(types.indexOf(EventType.REPAIR.name()));
+        assertThat(repair.getString(StatsMetadataKeys.REPAIR_RULE_KEY), equalTo(testCase.ruleKey));
+        assertThat(repair.getBoolean(StatsMetadataKeys.EVENT_FAILURE), equalTo(false));
+        assertThat(
+                repair.getJSONObject(StatsMetadataKeys.EVENT_LOCATION)
+                        .getString(StatsMetadataKeys.VIOLATION_SPECIFIER),
+                startsWith(testCase.ruleKey));
+    }
+
+    @Test
+    public void statisticsFile_containsMetricsOfAllPhases(@TempDir File tempDir) throws Exception {
+        ProcessorTestHelper.ProcessorTestCase testCase =
+                ProcessorTestHelper.getTestCasesInTemporaryDirectory()
+                        .filter(tc -> tc.ruleKey.equals(new XxeProcessingProcessor().getRuleKey()))
+                        .findFirst()
+                        .get();
+        org.apache.commons.io.FileUtils.copyFile(
+                testCase.nonCompliantFile,
+                tempDir.toPath().resolve(testCase.nonCompliantFile.getName()).toFile());
+        File statsFile = tempDir.toPath().resolve("stats.json").toFile();
+
+        ProcessorTestHelper.runSorald(
+                tempDir,
+                testCase.getRule(),
+                Constants.ARG_STATS_OUTPUT_FILE,
+                statsFile.getAbsolutePath());
+
+        JSONArray phaseMetrics =
+                FileUtils.readJSON(statsFile.toPath())
+                        .getJSONArray(StatsMetadataKeys.PHASE_METRICS);
+        List<String> phases = new ArrayList<>();
+        for (int i = 0; i < phaseMetrics.length(); i++) {
+            JSONObject metrics = phaseMetrics.getJSONObject(i);
+            phases.add(metrics.getString("phase"));
+            assertThat(metrics.getJSONObject("histogram").getLong("count"), greaterThan(0L));
+            assertThat(metrics.getJSONArray("breakdown").length(), greaterThan(0));
+        }
+        assertThat(
+                phases,
+                containsInAnyOrder(
+                        Arrays.stream(PhaseEvent.Phase.values())
+                                .map(PhaseEvent.Phase::name)
+                                .toArray()));
+    }
+
     /** Check that the amount of violations is correct when using targeted repair. */
     @ParameterizedTest
     @EnumSource(value = RepairStrategy.class)
@@ -136,8 +233,68 @@ public class GatherStatsTest {
                 equalTo(specifier));
     }
 
+    /**
+     * Check that the violations after repair are counted correctly when only some files are
+     * rewritten, as the violations of the other files are carried forward from before the repair.
+     */
+    @Test
+    public void statisticsFile_countsViolationsOfUnrepairedFilesAfterRepair(@TempDir File tmpDir)
+            throws IOException {
+        // arrange
+        TargetedRepairInfo targetedRepairInfo =
+                performTargetedRepair(tmpDir, RepairStrategy.DEFAULT);
+        Path repairedFile = targetedRepairInfo.targetViolation.getAbsolutePath();
+
+        // assert
+        assertThat(
+                "there must be violations in files that were not repaired",
+                targetedRepairInfo.violationsAfter.stream()
+                        .anyMatch(violation -> !violation.getAbsolutePath().equals(repairedFile)));
+
+        JSONObject xxeRepairStats =
+                FileUtils.readJSON(targetedRepairInfo.statsFile)
+                        .getJSONArray(StatsMetadataKeys.REPAIRS)
+                        .getJSONObject(0);
+        assertThat(
+                xxeRepairStats.getInt(StatsMetadataKeys.REPAIR_NB_VIOLATIONS_AFTER),
+                equalTo(targetedRepairInfo.violationsAfter.size()));
+    }
+
+    @Test
+    public void statisticsFile_countsViolationsOfShadowFiles_withDirOutputMode(@TempDir File tmpDir)
+            throws IOException {
+        // arrange
+        Path shadowDir = tmpDir.toPath().resolve("shadow");
+        TargetedRepairInfo targetedRepairInfo =
+                performTargetedRepair(
+                        tmpDir,
+                        RepairStrategy.DEFAULT,
+                        Constants.ARG_OUTPUT_MODE,
+                        OutputMode.DIR.name(),
+                        Constants.ARG_OUTPUT_PATH,
+                        shadowDir.toString());
+
+        // assert
+        assertThat(
+                "the source must not be repaired",
+                targetedRepairInfo.violationsAfter,
+                equalTo(targetedRepairInfo.violationsBefore));
+        Path repairedFile =
+                targetedRepairInfo.projectPath.relativize(
+                        targetedRepairInfo.targetViolation.getAbsolutePath());
+        assertThat(Files.isRegularFile(shadowDir.resolve(repairedFile)), equalTo(true));
+
+        JSONObject xxeRepairStats =
+                FileUtils.readJSON(targetedRepairInfo.statsFile)
+                        .getJSONArray(StatsMetadataKeys.REPAIRS)
+                        .getJSONObject(0);
+        assertThat(
+                xxeRepairStats.getInt(StatsMetadataKeys.REPAIR_NB_VIOLATIONS_AFTER),
+                equalTo(targetedRepairInfo.violationsBefore.size() - 1));
+    }
+
     private static TargetedRepairInfo performTargetedRepair(
-            File tmpDir, RepairStrategy repairStrategy) throws IOException {
+            File tmpDir, RepairStrategy repairStrategy, String... extraArgs) throws IOException {
         File statsFile = tmpDir.toPath().resolve("stats.json").toFile();
         File processorTestFiles = ProcessorTestHelper.TEST_FILES_ROOT.toFile();
         File project = tmpDir.toPath().resolve("project").toFile();
@@ -156,18 +313,20 @@ public class GatherStatsTest {
         String specifier = targetViolation.relativeSpecifier(project.toPath());
 
         // act
-        Main.main(
-                new String[] {
-                    Constants.REPAIR_COMMAND_NAME,
-                    Constants.ARG_SOURCE,
-                    project.getAbsolutePath(),
-                    Constants.ARG_STATS_OUTPUT_FILE,
-                    statsFile.getAbsolutePath(),
-                    Constants.ARG_RULE_VIOLATION_SPECIFIERS,
-                    specifier,
-                    Constants.ARG_REPAIR_STRATEGY,
-                    repairStrategy.name()
-                });
+        List<String> args =
+                new ArrayList<>(
+                        List.of(
+                                Constants.REPAIR_COMMAND_NAME,
+                                Constants.ARG_SOURCE,
+                                project.getAbsolutePath(),
+                                Constants.ARG_STATS_OUTPUT_FILE,
+                                statsFile.getAbsolutePath(),
+                                Constants.ARG_RULE_VIOLATION_SPECIFIERS,
+                                specifier,
+                                Constants.ARG_REPAIR_STRATEGY,
+                                repairStrategy.name()));
+        args.addAll(Arrays.asList(extraArgs));
+        Main.main(args.toArray(String[]::new));
 
         Set<RuleViolation> violationsAfter =
                 ProjectScanner.scanProject(project, project, targetRule);
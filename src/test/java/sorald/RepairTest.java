@@ -2,14 +2,25 @@ package sorald;
 
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static sorald.Assertions.assertNoRuleViolations;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
+import org.eclipse.jgit.api.Git;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import sorald.event.EventType;
+import sorald.event.SoraldEventHandler;
+import sorald.processor.SoraldAbstractProcessor;
+import sorald.rule.Rule;
 import sorald.rule.RuleViolation;
 import sorald.sonar.ProjectScanner;
 import sorald.sonar.SonarRule;
@@ -43,4 +54,138 @@ public class RepairTest {
             assertThat(msg, containsString("expected rule violations for precisely 1 rule key"));
         }
     }
+
+    @Test
+    public void repair_onlyRepairsChangedFiles_whenChangedSinceGiven(@TempDir File workdir)
+            throws Exception {
+        // arrange
+        Path repoDir = workdir.toPath();
+        String violatingSource = "public class %s { double a = 1f / 2f; }";
+        Path changedFile = repoDir.resolve("Changed.java");
+        Path unchangedFile = repoDir.resolve("Unchanged.java");
+        Files.writeString(changedFile, String.format(violatingSource, "Changed"));
+        Files.writeString(unchangedFile, String.format(violatingSource, "Unchanged"));
+        try (Git git = Git.init().setDirectory(workdir).call()) {
+            git.add().addFilepattern(".").call();
+            git.commit().setMessage("Initial commit").setSign(false).call();
+        }
+        Files.writeString(
+                changedFile, String.format(violatingSource, "Changed") + System.lineSeparator());
+        Rule rule = new SonarRule("S2164");
+
+        // act
+        Main.main(
+                new String[] {
+                    Constants.REPAIR_COMMAND_NAME,
+                    Constants.ARG_SOURCE,
+                    workdir.getAbsolutePath(),
+                    Constants.ARG_RULE_KEY,
+                    rule.getKey(),
+                    Constants.ARG_CHANGED_SINCE,
+                    "HEAD"
+                });
+
+        // assert
+        assertNoRuleViolations(changedFile.toFile(), rule);
+        assertThat(
+                ProjectScanner.scanProject(unchangedFile.toFile(), workdir, rule).size(),
+                equalTo(1));
+    }
+
+    /** The CLI should refuse a repair strategy that would be overridden by --changed-since. */
+    @Test
+    public void repair_rejectsNonSegmentRepairStrategy_whenChangedSinceGiven(@TempDir File workdir)
+            throws Exception {
+        // arrange
+        Files.writeString(
+                workdir.toPath().resolve("Changed.java"),
+                "public class Changed { double a = 1f / 2f; }");
+        try (Git git = Git.init().setDirectory(workdir).call()) {
+            git.add().addFilepattern(".").call();
+            git.commit().setMessage("Initial commit").setSign(false).call();
+        }
+        var args =
+                new String[] {
+                    Constants.REPAIR_COMMAND_NAME,
+                    Constants.ARG_SOURCE,
+                    workdir.getAbsolutePath(),
+                    Constants.ARG_RULE_KEY,
+                    "S2164",
+                    Constants.ARG_CHANGED_SINCE,
+                    "HEAD",
+                    Constants.ARG_REPAIR_STRATEGY,
+                    RepairStrategy.DEFAULT.name()
+                };
+
+        // act/assert
+        assertThrows(SystemExitHandler.NonZeroExit.class, () -> Main.main(args));
+    }
+
+    @Test
+    public void repairAll_repairsMultipleRules_withSingleParse(@TempDir File workdir)
+            throws IOException {
+        // arrange
+        File origFile =
+                TestHelper.PATH_TO_RESOURCES_FOLDER.resolve("MultipleProcessors.java").toFile();
+        File targetFile = workdir.toPath().resolve(origFile.getName()).toFile();
+        org.apache.commons.io.FileUtils.copyFile(origFile, targetFile);
+        SoraldConfig config = new SoraldConfig();
+        config.setSource(workdir.getAbsolutePath());
+        config.setRepairStrategy(RepairStrategy.DEFAULT);
+        config.setPrettyPrintingStrategy(PrettyPrintingStrategy.NORMAL);
+        config.setMaxFixesPerRule(Integer.MAX_VALUE);
+
+        List<Rule> rules = List.of(Rule.of("S2184"), Rule.of("S2111"));
+        Set<RuleViolation> violations =
+                ProjectScanner.scanProject(targetFile, workdir, rules, List.of());
+        List<EventType> parseEvents = new ArrayList<>();
+        SoraldEventHandler parseEventRecorder =
+                event -> {
+                    if (event.type() == EventType.PARSE_START) {
+                        parseEvents.add(event.type());
+                    }
+                };
+
+        // act
+        var processors =
+                new Repair(config, List.of(), List.of(parseEventRecorder)).repairAll(violations);
+
+        // assert
+        assertThat(parseEvents.size(), equalTo(1));
+        assertThat(
+                processors.stream()
+                        .map(SoraldAbstractProcessor::getRuleKey)
+                        .collect(Collectors.toList()),
+                equalTo(List.of("S2111", "S2184")));
+        for (Rule rule : rules) {
+            assertNoRuleViolations(targetFile, rule);
+        }
+    }
+
+    @Test
+    public void getRewrittenFiles_containsOnlyRepairedFiles(@TempDir File workdir)
+            throws IOException {
+        // arrange
+        Path violatingFile = workdir.toPath().resolve("Violating.java");
+        Path compliantFile = workdir.toPath().resolve("Compliant.java");
+        Files.writeString(violatingFile, "public class Violating { double a = 1f / 2f; }");
+        Files.writeString(compliantFile, "public class Compliant { double a = 1d / 2d; }");
+        SoraldConfig config = new SoraldConfig();
+        config.setSource(workdir.getAbsolutePath());
+        config.setRepairStrategy(RepairStrategy.DEFAULT);
+        config.setPrettyPrintingStrategy(PrettyPrintingStrategy.NORMAL);
+        config.setMaxFixesPerRule(Integer.MAX_VALUE);
+
+        Rule rule = Rule.of("S2164");
+        Set<RuleViolation> violations = ProjectScanner.scanProject(workdir, workdir, rule);
+
+        // act
+        var repair = new Repair(config, List.of(), List.of());
+        repair.repairAll(violations);
+
+        // assert
+        assertThat(
+                repair.getRewrittenFiles(),
+                equalTo(Set.of(violatingFile.toAbsolutePath().normalize())));
+    }
 }
@@ -1,6 +1,7 @@
 package sorald;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -10,6 +11,7 @@ import static sorald.Assertions.assertNoRuleViolations;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
@@ -17,6 +19,8 @@ import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
+import sorald.event.EventType;
+import sorald.event.SoraldEventHandler;
 import sorald.processor.ArrayHashCodeAndToStringProcessor;
 import sorald.processor.ProcessorTestHelper;
 import sorald.processor.SoraldAbstractProcessor;
@@ -81,6 +85,47 @@ public class SegmentStrategyTest {
         assertThrows(SystemExitHandler.NonZeroExit.class, () -> Main.main(args));
     }
 
+    @Test
+    public void segmentStrategy_onlyParsesFilesNearViolations_whenSegmentingByViolatedFiles()
+            throws IOException {
+        // arrange
+        Path workspace = TestHelper.createTemporaryProcessorTestFilesWorkspace();
+
+        SoraldConfig config = createSegmentConfig(workspace);
+        config.setSegmentationStrategy(SegmentationStrategy.VIOLATED_FILES);
+        config.setMaxFilesPerSegment(Integer.MAX_VALUE);
+
+        SoraldAbstractProcessor<?> processor =
+                new ArrayHashCodeAndToStringProcessor().setEventHandlers(List.of());
+        Set<RuleViolation> violations =
+                ProjectScanner.scanProject(
+                        workspace.toFile(), workspace.toFile(), Rule.of(processor.getRuleKey()));
+        Set<Path> violatedDirs =
+                violations.stream()
+                        .map(violation -> violation.getAbsolutePath().getParent())
+                        .collect(Collectors.toSet());
+
+        Repair repair = new Repair(config, List.of(), List.of());
+
+        // act
+        List<CtModel> models =
+                repair.segmentRepair(
+                                workspace,
+                                processor,
+                                violations,
+                                segment -> repair.createSegmentLauncher(segment).getModel())
+                        .collect(Collectors.toList());
+
+        // assert
+        assertThat(models.size(), equalTo(1));
+        assertThat(processor.getNbFixes(), equalTo(violations.size()));
+        Set<Path> parsedDirs =
+                models.get(0).getAllTypes().stream()
+                        .map(type -> type.getPosition().getFile().toPath().getParent())
+                        .collect(Collectors.toSet());
+        assertThat(parsedDirs, equalTo(violatedDirs));
+    }
+
     @Test
     public void segmentStrategy_doesNotFail_onCrashInParsingSegment() throws IOException {
         // arrange
@@ -122,6 +167,110 @@ public class SegmentStrategyTest {
                         .anyMatch(typeName -> typeName.equals(crashingClass)));
     }
 
+    @Test
+    public void segmentStrategy_repairsUpToMaxFixes_whenParsingSegmentsAhead() throws IOException {
+        // arrange
+        Path workspace = TestHelper.createTemporaryProcessorTestFilesWorkspace();
+
+        SoraldConfig config = createSegmentConfig(workspace);
+        config.setPrettyPrintingStrategy(PrettyPrintingStrategy.NORMAL);
+        config.setSegmentThreads(4);
+        config.setMaxSegmentsInMemory(4);
+        int maxFixes = 2;
+        config.setMaxFixesPerRule(maxFixes);
+
+        Rule rule = Rule.of(new ArrayHashCodeAndToStringProcessor().getRuleKey());
+        Set<RuleViolation> violationsBefore =
+                ProjectScanner.scanProject(workspace.toFile(), workspace.toFile(), rule);
+
+        // act
+        SoraldAbstractProcessor<?> processor =
+                new Repair(config, List.of(), List.of()).repair(violationsBefore);
+
+        // assert
+        Set<RuleViolation> violationsAfter =
+                ProjectScanner.scanProject(workspace.toFile(), workspace.toFile(), rule);
+        assertThat(violationsBefore.size(), greaterThan(maxFixes));
+        assertThat(processor.getNbFixes(), equalTo(maxFixes));
+        assertThat(violationsAfter.size(), equalTo(violationsBefore.size() - maxFixes));
+    }
+
+    @Test
+    public void segmentStrategy_splitsAndRetriesSegment_onOutOfMemoryError() throws IOException {
+        // arrange
+        Path workspace = TestHelper.createTemporaryProcessorTestFilesWorkspace();
+
+        SoraldConfig config = createSegmentConfig(workspace);
+        config.setMaxFilesPerSegment(Integer.MAX_VALUE);
+
+        SoraldAbstractProcessor<?> processor =
+                new ArrayHashCodeAndToStringProcessor().setEventHandlers(List.of());
+        Set<RuleViolation> violations =
+                ProjectScanner.scanProject(
+                        workspace.toFile(), workspace.toFile(), Rule.of(processor.getRuleKey()));
+
+        // we pretend that only segments of at most 10 files fit in memory
+        Repair repair = new Repair(config, List.of(), List.of());
+        Function<LinkedList<Node>, CtModel> memoryConstrainedSegmentParser =
+                segment ->
+                        segment.stream().mapToInt(Node::getJavaFilesNbs).sum() > 10
+                                ? throwOutOfMemoryError()
+                                : repair.createSegmentLauncher(segment).getModel();
+
+        // act
+        List<CtModel> models =
+                repair.segmentRepair(
+                                workspace, processor, violations, memoryConstrainedSegmentParser)
+                        .collect(Collectors.toList());
+
+        // assert
+        assertThat(models.size(), greaterThan(1));
+        assertThat(processor.getNbFixes(), equalTo(violations.size()));
+    }
+
+    @Test
+    public void segmentStrategy_endsEveryParse_onOutOfMemoryError() throws IOException {
+        // arrange
+        Path workspace = TestHelper.createTemporaryProcessorTestFilesWorkspace();
+
+        SoraldConfig config = createSegmentConfig(workspace);
+        config.setMaxFilesPerSegment(Integer.MAX_VALUE);
+
+        SoraldAbstractProcessor<?> processor =
+                new ArrayHashCodeAndToStringProcessor().setEventHandlers(List.of());
+        Set<RuleViolation> violations =
+                ProjectScanner.scanProject(
+                        workspace.toFile(), workspace.toFile(), Rule.of(processor.getRuleKey()));
+
+        List<EventType> parseEvents = new ArrayList<>();
+        SoraldEventHandler parseEventRecorder =
+                event -> {
+                    if (event.type() == EventType.PARSE_START
+                            || event.type() == EventType.PARSE_END) {
+                        parseEvents.add(event.type());
+                    }
+                };
+        Repair repair = new Repair(config, List.of(), List.of(parseEventRecorder));
+        Function<LinkedList<Node>, CtModel> memoryConstrainedSegmentParser =
+                segment ->
+                        segment.stream().mapToInt(Node::getJavaFilesNbs).sum() > 10
+                                ? throwOutOfMemoryError()
+                                : repair.createSegmentLauncher(segment).getModel();
+
+        // act
+        repair.segmentRepair(workspace, processor, violations, memoryConstrainedSegmentParser)
+                .forEach(model -> {});
+
+        // assert
+        assertThat(parseEvents.size(), greaterThan(2));
+        for (int i = 0; i < parseEvents.size(); i++) {
+            assertThat(
+                    parseEvents.get(i),
+                    equalTo(i % 2 == 0 ? EventType.PARSE_START : EventType.PARSE_END));
+        }
+        assertThat(parseEvents.size() % 2, equalTo(0));
+    }
+
     /**
      * @return the absolute path to a Java file in the given directory with the given class name.
      */
@@ -148,6 +297,10 @@ public class SegmentStrategyTest {
         throw new IllegalStateException("Just crashing a little bit here :)");
     }
 
+    private static CtModel throwOutOfMemoryError() {
+        throw new OutOfMemoryError("Just pretending to run out of memory here :)");
+    }
+
     private static boolean segmentContainsFile(LinkedList<Node> segment, String fileName) {
         return segment.stream()
                 .map(Node::getJavaFiles)
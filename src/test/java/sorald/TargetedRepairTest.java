@@ -13,12 +13,16 @@ import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.PrintStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
 import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import sorald.processor.BigDecimalDoubleConstructorProcessor;
 import sorald.processor.ProcessorTestHelper;
 import sorald.rule.Rule;
@@ -53,6 +57,34 @@ public class TargetedRepairTest {
         assertFalse(violationsAfter.contains(workdirInfo.targetViolation));
     }
 
+    @ParameterizedTest
+    @EnumSource(ViolationSpecVerification.class)
+    void targetedRepair_correctlyRepairsSingleViolation_withAnySpecVerification(
+            ViolationSpecVerification violationSpecVerification) throws Exception {
+        // arrange
+        TargetedRepairWorkdirInfo workdirInfo = setupWorkdir();
+
+        // act
+        Main.main(
+                new String[] {
+                    Constants.REPAIR_COMMAND_NAME,
+                    Constants.ARG_SOURCE,
+                    workdirInfo.workdir.getAbsolutePath(),
+                    Constants.ARG_RULE_VIOLATION_SPECIFIERS,
+                    workdirInfo.targetViolation.relativeSpecifier(workdirInfo.workdir.toPath()),
+                    Constants.ARG_VIOLATION_SPECS_VERIFICATION,
+                    violationSpecVerification.name()
+                });
+
+        // assert
+        Set<RuleViolation> violationsAfter =
+                ProjectScanner.scanProject(
+                        workdirInfo.targetFile, workdirInfo.targetFile, workdirInfo.rule);
+
+        assertThat(violationsAfter.size(), equalTo(workdirInfo.numViolationsBefore - 1));
+        assertFalse(violationsAfter.contains(workdirInfo.targetViolation));
+    }
+
     /** It should not be possible to specify both rule keys and specific rule violations. */
     @Test
     public void targetedRepair_cannotBeUsedWithRuleKeys(@TempDir File workdir) throws Exception {
@@ -124,8 +156,12 @@ public class TargetedRepairTest {
         assertThat(violationsAfter.size(), equalTo(workdirInfo.numViolationsBefore - 1));
     }
 
-    @Test
-    void targetedRepair_requiresViolationSpecs_pointToExistingViolations() throws Exception {
+    @ParameterizedTest
+    @EnumSource(
+            value = ViolationSpecVerification.class,
+            names = {"PROJECT", "FILES"})
+    void targetedRepair_requiresViolationSpecs_pointToExistingViolations(
+            ViolationSpecVerification violationSpecVerification) throws Exception {
         // arrange
         TargetedRepairWorkdirInfo workdirInfo = setupWorkdir();
         // run Sorald to remove the violation
@@ -140,7 +176,9 @@ public class TargetedRepairTest {
             Constants.ARG_SOURCE,
             workdirInfo.workdir.toString(),
             Constants.ARG_RULE_VIOLATION_SPECIFIERS,
-            violationSpec
+            violationSpec,
+            Constants.ARG_VIOLATION_SPECS_VERIFICATION,
+            violationSpecVerification.name()
         };
 
         final ByteArrayOutputStream err = new ByteArrayOutputStream();
@@ -210,6 +248,148 @@ public class TargetedRepairTest {
         assertThat(violationsAfter.size(), equalTo(workdirInfo.numViolationsBefore - 1));
     }
 
+    /** Test that all violations mined by the mine command can be replayed from its stats file. */
+    @ParameterizedTest
+    @EnumSource(StatsOutputFormat.class)
+    void targetedRepair_repairsViolations_fromViolationSpecsFile(
+            StatsOutputFormat statsOutputFormat, @TempDir File statsDir) throws Exception {
+        // arrange
+        TargetedRepairWorkdirInfo workdirInfo = setupWorkdir();
+        File source = workdirInfo.targetFile.getParentFile();
+        File statsFile = new File(statsDir, "mined.json");
+        Main.main(
+                new String[] {
+                    Constants.MINE_COMMAND_NAME,
+                    Constants.ARG_SOURCE,
+                    source.getAbsolutePath(),
+                    Constants.ARG_HANDLED_RULES,
+                    Constants.ARG_STATS_OUTPUT_FILE,
+                    statsFile.getAbsolutePath(),
+                    Constants.ARG_STATS_OUTPUT_FORMAT,
+                    statsOutputFormat.name()
+                });
+
+        // act
+        Main.main(
+                new String[] {
+                    Constants.REPAIR_COMMAND_NAME,
+                    Constants.ARG_SOURCE,
+                    source.getAbsolutePath(),
+                    Constants.ARG_RULE_VIOLATION_SPECIFIERS_FILE,
+                    statsFile.getAbsolutePath()
+                });
+
+        // assert
+        assertNoRuleViolations(workdirInfo.targetFile, workdirInfo.rule);
+    }
+
+    @ParameterizedTest
+    @EnumSource(StatsOutputFormat.class)
+    void targetedRepair_skipsViolationsOfRulesWithoutRepair_fromViolationSpecsFile(
+            StatsOutputFormat statsOutputFormat, @TempDir File statsDir) throws Throwable {
+        // arrange
+        TargetedRepairWorkdirInfo workdirInfo = setupWorkdir();
+        File source = workdirInfo.targetFile.getParentFile();
+        File statsFile = new File(statsDir, "mined.json");
+        Main.main(
+                new String[] {
+                    Constants.MINE_COMMAND_NAME,
+                    Constants.ARG_SOURCE,
+                    source.getAbsolutePath(),
+                    Constants.ARG_STATS_OUTPUT_FILE,
+                    statsFile.getAbsolutePath(),
+                    Constants.ARG_STATS_OUTPUT_FORMAT,
+                    statsOutputFormat.name()
+                });
+
+        // act
+        String err =
+                captureErr(
+                        () ->
+                                Main.main(
+                                        new String[] {
+                                            Constants.REPAIR_COMMAND_NAME,
+                                            Constants.ARG_SOURCE,
+                                            source.getAbsolutePath(),
+                                            Constants.ARG_RULE_VIOLATION_SPECIFIERS_FILE,
+                                            statsFile.getAbsolutePath()
+                                        }));
+
+        // assert
+        assertNoRuleViolations(workdirInfo.targetFile, workdirInfo.rule);
+        assertThat(
+                err,
+                allOf(
+                        containsString("Warning: skipping"),
+                        containsString("as repair is not available for it")));
+    }
+
+    @ParameterizedTest
+    @EnumSource(StatsOutputFormat.class)
+    void targetedRepair_repairsNothing_fromViolationSpecsFileWithoutViolations(
+            StatsOutputFormat statsOutputFormat, @TempDir File workdir) throws Throwable {
+        // arrange
+        File source = new File(workdir, "source");
+        source.mkdir();
+        File compliantFile = new File(source, "Compliant.java");
+        Files.writeString(compliantFile.toPath(), "public class Compliant { int a = 1; }");
+        File statsFile = new File(workdir, "mined.json");
+        Main.main(
+                new String[] {
+                    Constants.MINE_COMMAND_NAME,
+                    Constants.ARG_SOURCE,
+                    source.getAbsolutePath(),
+                    Constants.ARG_HANDLED_RULES,
+                    Constants.ARG_STATS_OUTPUT_FILE,
+                    statsFile.getAbsolutePath(),
+                    Constants.ARG_STATS_OUTPUT_FORMAT,
+                    statsOutputFormat.name()
+                });
+
+        // act
+        String out =
+                captureOut(
+                        () ->
+                                Main.main(
+                                        new String[] {
+                                            Constants.REPAIR_COMMAND_NAME,
+                                            Constants.ARG_SOURCE,
+                                            source.getAbsolutePath(),
+                                            Constants.ARG_RULE_VIOLATION_SPECIFIERS_FILE,
+                                            statsFile.getAbsolutePath()
+                                        }));
+
+        // assert
+        assertThat(out, containsString("nothing to repair"));
+        assertThat(
+                Files.readString(compliantFile.toPath()),
+                equalTo("public class Compliant { int a = 1; }"));
+    }
+
+    private static String captureOut(Executable executable) throws Throwable {
+        PrintStream originalOut = System.out;
+        var out = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(out));
+        try {
+            executable.execute();
+        } finally {
+            System.setOut(originalOut);
+        }
+        return out.toString();
+    }
+
+    private static String captureErr(Executable executable) throws Throwable {
+        PrintStream originalErr = System.err;
+        var err = new ByteArrayOutputStream();
+        System.setErr(new PrintStream(err));
+        try {
+            executable.execute();
+        } finally {
+            System.setErr(originalErr);
+        }
+        return err.toString();
+    }
+
     /** Setup the workdir with a specific target violation. */
     private static TargetedRepairWorkdirInfo setupWorkdir() throws IOException {
         Path workdir = TestHelper.createTemporaryProcessorTestFilesWorkspace();
@@ -0,0 +1,106 @@
+package sorald;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import spoon.Launcher;
+import spoon.reflect.CtModel;
+import spoon.reflect.declaration.CtCompilationUnit;
+import spoon.reflect.declaration.CtField;
+import spoon.reflect.declaration.CtImport;
+import spoon.reflect.declaration.CtType;
+import spoon.reflect.reference.CtTypeReference;
+
+class TypeReferenceIndexTest {
+
+    @Test
+    void getReferences_containsOnlyReferencesThatExistedWhenIndexed(@TempDir Path workdir)
+            throws Exception {
+        Files.writeString(workdir.resolve("A.java"), "class A { String s; }");
+        CtModel model = buildModel(workdir);
+        CtType<?> type = model.getAllTypes().iterator().next();
+        CtCompilationUnit cu = type.getFactory().CompilationUnit().getOrCreate(type);
+        CtTypeReference<?> existingReference = type.getField("s").getType();
+
+        TypeReferenceIndex index = TypeReferenceIndex.of(model);
+        index.attachTo(type.getFactory().getEnvironment());
+        CtField<?> addedField =
+                type.getFactory()
+                        .createField(
+                                type, Set.of(), type.getFactory().Type().integerType(), "added");
+
+        assertThat(TypeReferenceIndex.of(model), sameInstance(index));
+        assertThat(index.getReferences(cu).contains(existingReference), equalTo(true));
+        assertThat(index.getReferences(cu).contains(addedField.getType()), equalTo(false));
+    }
+
+    @Test
+    void attachTo_indexesUnitsBeforeTheyAreModified_includingImports(@TempDir Path workdir)
+            throws Exception {
+        Files.writeString(workdir.resolve("A.java"), "class A { int i = 1 / 2; }");
+        Files.writeString(
+                workdir.resolve("B.java"), "import java.util.Map; class B { Map<String, B> m; }");
+        CtModel model = buildModel(workdir);
+        CtType<?> typeB =
+                model.getAllTypes().stream()
+                        .filter(type -> type.getSimpleName().equals("B"))
+                        .findFirst()
+                        .orElseThrow();
+        CtCompilationUnit cuB = typeB.getFactory().CompilationUnit().getOrCreate(typeB);
+        CtImport mapImport = cuB.getImports().get(0);
+
+        // only A would have a best fit, but a repair might just as well add a type to B
+        TypeReferenceIndex index = TypeReferenceIndex.of(model);
+        index.attachTo(typeB.getFactory().getEnvironment());
+        CtField<?> addedField =
+                typeB.getFactory()
+                        .createField(
+                                typeB,
+                                Set.of(),
+                                typeB.getFactory().Type().createReference("java.util.List"),
+                                "added");
+
+        assertThat(index.isIndexed(cuB), equalTo(true));
+        Set<CtTypeReference<?>> references = index.getReferences(cuB);
+        assertThat(references.contains(mapImport.getReference()), equalTo(true));
+        assertThat(references.contains(addedField.getType()), equalTo(false));
+    }
+
+    @Test
+    void attachTo_neverIndexesUntouchedUnits(@TempDir Path workdir) throws Exception {
+        Files.writeString(workdir.resolve("A.java"), "class A { String s; }");
+        Files.writeString(workdir.resolve("B.java"), "class B { Integer i; }");
+        CtModel model = buildModel(workdir);
+        CtType<?> typeA =
+                model.getAllTypes().stream()
+                        .filter(type -> type.getSimpleName().equals("A"))
+                        .findFirst()
+                        .orElseThrow();
+        CtType<?> typeB =
+                model.getAllTypes().stream()
+                        .filter(type -> type.getSimpleName().equals("B"))
+                        .findFirst()
+                        .orElseThrow();
+        CtCompilationUnit cuA = typeA.getFactory().CompilationUnit().getOrCreate(typeA);
+        CtCompilationUnit cuB = typeB.getFactory().CompilationUnit().getOrCreate(typeB);
+
+        TypeReferenceIndex index = TypeReferenceIndex.of(model);
+        index.attachTo(typeA.getFactory().getEnvironment());
+        typeA.getField("s").setSimpleName("renamed");
+
+        assertThat(index.isIndexed(cuA), equalTo(true));
+        assertThat(index.isIndexed(cuB), equalTo(false));
+    }
+
+    private static CtModel buildModel(Path workdir) {
+        Launcher launcher = new Launcher();
+        launcher.addInputResource(workdir.toString());
+        return launcher.buildModel();
+    }
+}
@@ -0,0 +1,245 @@
+package sorald.cli;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import sorald.Constants;
+import sorald.TestHelper;
+
+public class SoraldDaemonTest {
+    private static final int READ_TIMEOUT_MILLIS = 60_000;
+
+    @Test
+    public void daemon_servesRequestsOnSameConnection_untilShutdown(@TempDir Path cacheDir)
+            throws Exception {
+        var serverSocket = new ServerSocket(0, 0, InetAddress.getLoopbackAddress());
+        String token = SoraldDaemon.createToken();
+        var daemon = new SoraldDaemon(serverSocket, cacheDir, token, READ_TIMEOUT_MILLIS);
+        Thread daemonThread = new Thread(() -> serveQuietly(daemon));
+        PrintStream originalOut = System.out;
+        var daemonOut = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(daemonOut, true, StandardCharsets.UTF_8));
+        daemonThread.start();
+
+        String source =
+                TestHelper.PATH_TO_RESOURCES_FOLDER
+                        .resolve("ArrayHashCodeAndToString.java")
+                        .toString();
+        List<String> mineArgs = List.of(Constants.MINE_COMMAND_NAME, Constants.ARG_SOURCE, source);
+
+        try (var socket =
+                        new Socket(InetAddress.getLoopbackAddress(), serverSocket.getLocalPort());
+                var reader =
+                        new BufferedReader(
+                                new InputStreamReader(
+                                        socket.getInputStream(), StandardCharsets.UTF_8));
+                Writer writer =
+                        new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8)) {
+            writer.write(token + "\n");
+            JSONObject first = sendRequest(writer, reader, mineArgs);
+            JSONObject second = sendRequest(writer, reader, mineArgs);
+            JSONObject malformed = sendRawRequest(writer, reader, "not json");
+            JSONObject shutdown =
+                    sendRequest(writer, reader, List.of(SoraldDaemon.SHUTDOWN_REQUEST));
+
+            assertThat(first.getInt(SoraldDaemon.EXIT_CODE), equalTo(0));
+            assertThat(first.getString(SoraldDaemon.OUTPUT), containsString("S2116"));
+            assertThat(second.getInt(SoraldDaemon.EXIT_CODE), equalTo(0));
+            assertThat(second.getString(SoraldDaemon.OUTPUT), containsString("S2116"));
+            assertThat(
+                    malformed.getInt(SoraldDaemon.EXIT_CODE),
+                    equalTo(SoraldDaemon.BAD_REQUEST_EXIT_CODE));
+            assertThat(shutdown.getInt(SoraldDaemon.EXIT_CODE), equalTo(0));
+        } finally {
+            daemonThread.join();
+            System.setOut(originalOut);
+        }
+
+        serverSocket.close();
+        assertThat(
+                "the output of a request must only be part of its response",
+                daemonOut.toString(StandardCharsets.UTF_8),
+                not(containsString("S2116")));
+        // the violation cache is shared between requests
+        try (var entries = Files.list(cacheDir)) {
+            assertThat(entries.count(), equalTo(1L));
+        }
+    }
+
+    @Test
+    public void daemon_passesArgumentsUnchanged_toCommandsAndTopLevel(@TempDir Path workdir)
+            throws Exception {
+        Path cacheDir = Files.createDirectory(workdir.resolve("shared-cache"));
+        Path requestCacheDir = workdir.resolve("request-cache");
+        var serverSocket = new ServerSocket(0, 0, InetAddress.getLoopbackAddress());
+        String token = SoraldDaemon.createToken();
+        var daemon = new SoraldDaemon(serverSocket, cacheDir, token, READ_TIMEOUT_MILLIS);
+        Thread daemonThread = new Thread(() -> serveQuietly(daemon));
+        daemonThread.start();
+
+        String source =
+                TestHelper.PATH_TO_RESOURCES_FOLDER
+                        .resolve("ArrayHashCodeAndToString.java")
+                        .toString();
+        List<String> mineArgs =
+                List.of(
+                        Constants.MINE_COMMAND_NAME,
+                        Constants.ARG_SOURCE,
+                        source,
+                        Constants.ARG_VIOLATION_CACHE_DIR + "=" + requestCacheDir);
+
+        try (var socket =
+                        new Socket(InetAddress.getLoopbackAddress(), serverSocket.getLocalPort());
+                var reader =
+                        new BufferedReader(
+                                new InputStreamReader(
+                                        socket.getInputStream(), StandardCharsets.UTF_8));
+                Writer writer =
+                        new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8)) {
+            writer.write(token + "\n");
+            JSONObject mine = sendRequest(writer, reader, mineArgs);
+            JSONObject version = sendRequest(writer, reader, List.of("--version"));
+            JSONObject usage = sendRequest(writer, reader, List.of());
+            sendRequest(writer, reader, List.of(SoraldDaemon.SHUTDOWN_REQUEST));
+
+            assertThat(mine.getInt(SoraldDaemon.EXIT_CODE), equalTo(0));
+            assertThat(mine.getString(SoraldDaemon.OUTPUT), containsString("S2116"));
+            assertThat(version.getInt(SoraldDaemon.EXIT_CODE), equalTo(0));
+            assertThat(usage.getString(SoraldDaemon.OUTPUT), containsString("Usage"));
+        } finally {
+            daemonThread.join();
+            serverSocket.close();
+        }
+
+        // a violation cache directory of a request takes precedence over the shared one
+        try (var entries = Files.list(requestCacheDir)) {
+            assertThat(entries.count(), equalTo(1L));
+        }
+        try (var entries = Files.list(cacheDir)) {
+            assertThat(entries.count(), equalTo(0L));
+        }
+    }
+
+    @Test
+    public void daemon_rejectsConnection_withInvalidToken(@TempDir Path cacheDir) throws Exception {
+        var serverSocket = new ServerSocket(0, 0, InetAddress.getLoopbackAddress());
+        String token = SoraldDaemon.createToken();
+        var daemon = new SoraldDaemon(serverSocket, cacheDir, token, READ_TIMEOUT_MILLIS);
+        Thread daemonThread = new Thread(() -> serveQuietly(daemon));
+        daemonThread.start();
+
+        try {
+            List<String> shutdownArgs = List.of(SoraldDaemon.SHUTDOWN_REQUEST);
+            try (var socket =
+                            new Socket(
+                                    InetAddress.getLoopbackAddress(), serverSocket.getLocalPort());
+                    var reader =
+                            new BufferedReader(
+                                    new InputStreamReader(
+                                            socket.getInputStream(), StandardCharsets.UTF_8));
+                    Writer writer =
+                            new OutputStreamWriter(
+                                    socket.getOutputStream(), StandardCharsets.UTF_8)) {
+                JSONObject rejected = sendRawRequest(writer, reader, SoraldDaemon.createToken());
+
+                assertThat(
+                        rejected.getInt(SoraldDaemon.EXIT_CODE),
+                        equalTo(SoraldDaemon.UNAUTHORIZED_EXIT_CODE));
+                writer.write(new JSONArray(shutdownArgs) + "\n");
+                writer.flush();
+                assertThat("the connection must be closed", reader.readLine(), equalTo(null));
+            }
+            assertThat("the daemon must not shut down", daemonThread.isAlive(), equalTo(true));
+        } finally {
+            try (var socket =
+                            new Socket(
+                                    InetAddress.getLoopbackAddress(), serverSocket.getLocalPort());
+                    Writer writer =
+                            new OutputStreamWriter(
+                                    socket.getOutputStream(), StandardCharsets.UTF_8)) {
+                writer.write(token + "\n");
+                writer.write(new JSONArray(List.of(SoraldDaemon.SHUTDOWN_REQUEST)) + "\n");
+                writer.flush();
+                daemonThread.join();
+            }
+            serverSocket.close();
+        }
+    }
+
+    @Test
+    public void daemon_closesIdleConnection_andServesNextClient(@TempDir Path cacheDir)
+            throws Exception {
+        var serverSocket = new ServerSocket(0, 0, InetAddress.getLoopbackAddress());
+        String token = SoraldDaemon.createToken();
+        var daemon = new SoraldDaemon(serverSocket, cacheDir, token, 100);
+        Thread daemonThread = new Thread(() -> serveQuietly(daemon));
+        daemonThread.start();
+
+        try (var idleSocket =
+                        new Socket(InetAddress.getLoopbackAddress(), serverSocket.getLocalPort());
+                var idleReader =
+                        new BufferedReader(
+                                new InputStreamReader(
+                                        idleSocket.getInputStream(), StandardCharsets.UTF_8));
+                var socket =
+                        new Socket(InetAddress.getLoopbackAddress(), serverSocket.getLocalPort());
+                var reader =
+                        new BufferedReader(
+                                new InputStreamReader(
+                                        socket.getInputStream(), StandardCharsets.UTF_8));
+                Writer writer =
+                        new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8)) {
+            // fail rather than hang if the daemon never closes the idle connection
+            idleSocket.setSoTimeout(READ_TIMEOUT_MILLIS);
+            assertThat("the idle connection must be closed", idleReader.readLine(), equalTo(null));
+
+            writer.write(token + "\n");
+            JSONObject shutdown =
+                    sendRequest(writer, reader, List.of(SoraldDaemon.SHUTDOWN_REQUEST));
+
+            assertThat(shutdown.getInt(SoraldDaemon.EXIT_CODE), equalTo(0));
+        } finally {
+            daemonThread.join();
+            serverSocket.close();
+        }
+    }
+
+    private static JSONObject sendRequest(Writer writer, BufferedReader reader, List<String> args)
+            throws Exception {
+        return sendRawRequest(writer, reader, new JSONArray(args).toString());
+    }
+
+    private static JSONObject sendRawRequest(Writer writer, BufferedReader reader, String request)
+            throws Exception {
+        writer.write(request + "\n");
+        writer.flush();
+        return new JSONObject(reader.readLine());
+    }
+
+    private static void serveQuietly(SoraldDaemon daemon) {
+        try {
+            daemon.serve();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package sorald.event.jfr;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasItems;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import sorald.Constants;
+import sorald.RepairStrategy;
+import sorald.processor.ProcessorTestHelper;
+import sorald.processor.XxeProcessingProcessor;
+
+class SoraldJfrEventTest {
+
+    @AfterEach
+    public void tearDown() {
+        SoraldJfrEvent.setEmitting(false);
+    }
+
+    @Test
+    public void repair_emitsEventsForAllPhases_whenJfrGiven(@TempDir File tempDir)
+            throws Exception {
+        ProcessorTestHelper.ProcessorTestCase testCase = copyXxeTestCase(tempDir);
+
+        List<RecordedEvent> events =
+                recordSoraldEvents(
+                        tempDir.toPath().resolve("recording.jfr"),
+                        () ->
+                                ProcessorTestHelper.runSorald(
+                                        tempDir,
+                                        testCase.getRule(),
+                                        Constants.ARG_JFR,
+                                        Constants.ARG_REPAIR_STRATEGY,
+                                        RepairStrategy.SEGMENT.name()));
+
+        List<String> eventNames =
+                events.stream()
+                        .map(event -> event.getEventType().getName())
+                        .collect(Collectors.toList());
+        assertThat(
+                eventNames,
+                hasItems(
+                        "sorald.Analyze",
+                        "sorald.Parse",
+                        "sorald.BestFit",
+                        "sorald.Repair",
+                        "sorald.Print"));
+
+        RecordedEvent repair = findEvent(events, "sorald.Repair");
+        assertThat(repair.getString("ruleKey"), equalTo(testCase.ruleKey));
+        assertThat(repair.getInt("segmentId"), equalTo(1));
+        assertThat(repair.getInt("fileCount"), greaterThan(0));
+        assertThat(repair.getInt("violationCount"), greaterThan(0));
+    }
+
+    @Test
+    public void repair_emitsNoEvents_whenJfrNotGiven(@TempDir File tempDir) throws Exception {
+        ProcessorTestHelper.ProcessorTestCase testCase = copyXxeTestCase(tempDir);
+
+        List<RecordedEvent> events =
+                recordSoraldEvents(
+                        tempDir.toPath().resolve("recording.jfr"),
+                        () -> ProcessorTestHelper.runSorald(tempDir, testCase.getRule()));
+
+        assertThat(events, empty());
+    }
+
+    private static ProcessorTestHelper.ProcessorTestCase copyXxeTestCase(File dir)
+            throws Exception {
+        ProcessorTestHelper.ProcessorTestCase testCase =
+                ProcessorTestHelper.getTestCasesInTemporaryDirectory()
+                        .filter(tc -> tc.ruleKey.equals(new XxeProcessingProcessor().getRuleKey()))
+                        .findFirst()
+                        .get();
+        org.apache.commons.io.FileUtils.copyFile(
+                testCase.nonCompliantFile,
+                dir.toPath().resolve(testCase.nonCompliantFile.getName()).toFile());
+        return testCase;
+    }
+
+    private static List<RecordedEvent> recordSoraldEvents(Path recordingFile, SoraldRun run)
+            throws Exception {
+        try (var recording = new Recording()) {
+            List.of(
+                            AnalyzeJfrEvent.class,
+                            ParseJfrEvent.class,
+                            BestFitJfrEvent.class,
+                            RepairJfrEvent.class,
+                            PrintJfrEvent.class,
+                            MineJfrEvent.class)
+                    .forEach(recording::enable);
+            recording.start();
+            run.run();
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+        return RecordingFile.readAllEvents(recordingFile).stream()
+                .filter(event -> event.getEventType().getName().startsWith("sorald."))
+                .collect(Collectors.toList());
+    }
+
+    private static RecordedEvent findEvent(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @FunctionalInterface
+    private interface SoraldRun {
+        void run() throws Exception;
+    }
+}
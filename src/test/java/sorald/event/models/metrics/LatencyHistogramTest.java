@@ -0,0 +1,57 @@
+package sorald.event.models.metrics;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+    @Test
+    public void percentiles_areUpperBoundsOfBuckets_cappedByMax() {
+        var histogram = new LatencyHistogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i);
+        }
+
+        assertThat(histogram.getCount(), equalTo(100L));
+        assertThat(histogram.getTotalNanos(), equalTo(5050L));
+        assertThat(histogram.getMinNanos(), equalTo(1L));
+        assertThat(histogram.getMaxNanos(), equalTo(100L));
+        assertThat(histogram.getMeanNanos(), equalTo(50L));
+        // the 50th latency is 50, which is in the bucket [32, 64)
+        assertThat(histogram.getP50Nanos(), equalTo(64L));
+        // the 90th and 99th latencies are in the bucket [64, 128), which is capped by the max
+        assertThat(histogram.getP90Nanos(), equalTo(100L));
+        assertThat(histogram.getP99Nanos(), equalTo(100L));
+    }
+
+    @Test
+    public void getBuckets_onlyReturnsNonEmptyBuckets() {
+        var histogram = new LatencyHistogram();
+        histogram.record(0);
+        histogram.record(5);
+        histogram.record(6);
+        histogram.record(1000);
+
+        List<List<Long>> buckets =
+                histogram.getBuckets().stream()
+                        .map(bucket -> List.of(bucket.getUpperBoundNanos(), bucket.getCount()))
+                        .collect(Collectors.toList());
+
+        assertThat(buckets, contains(List.of(1L, 1L), List.of(8L, 2L), List.of(1024L, 1L)));
+    }
+
+    @Test
+    public void emptyHistogram_hasZeroStatistics() {
+        var histogram = new LatencyHistogram();
+
+        assertThat(histogram.getMinNanos(), equalTo(0L));
+        assertThat(histogram.getMeanNanos(), equalTo(0L));
+        assertThat(histogram.getP99Nanos(), equalTo(0L));
+        assertThat(histogram.getBuckets().size(), equalTo(0));
+    }
+}
@@ -12,13 +12,16 @@ import java.io.IOException;
 import java.io.PrintStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.eclipse.jgit.api.Git;
 import org.json.JSONArray;
 import org.json.JSONObject;
 import org.junit.jupiter.api.Test;
@@ -29,8 +32,11 @@ import sorald.Main;
 import sorald.SystemExitHandler;
 import sorald.TestHelper;
 import sorald.cli.SoraldVersionProvider;
+import sorald.event.EventType;
+import sorald.event.SoraldEvent;
 import sorald.event.StatsMetadataKeys;
 import sorald.processor.CastArithmeticOperandProcessor;
+import sorald.rule.Rule;
 import sorald.rule.RuleType;
 import sorald.rule.Rules;
 
@@ -139,6 +145,70 @@ public class WarningMinerTest {
         assertThat(out.toString(), containsString("MathOnFloatCheck<S2164>=1"));
     }
 
+    /**
+     * Test that the warnings miner can mine several repos concurrently from local file:// URLs,
+     * writing one block of results per repo and cleaning up the clones afterwards.
+     */
+    @Test
+    public void warningsMiner_minesLocalReposConcurrently_whenRepoThreadsGiven(
+            @TempDir Path workdir) throws Exception {
+        List<String> repoNames = List.of("first", "second", "third");
+        List<String> repoUrls = createLocalRepos(workdir.resolve("repos"), repoNames);
+        Path reposList = Files.write(workdir.resolve("repos.txt"), repoUrls);
+        Path outputFile = workdir.resolve("output.txt");
+        Path tempDir = Files.createDirectory(workdir.resolve("temp"));
+
+        runMiner(
+                reposList,
+                outputFile.toString(),
+                tempDir.toString(),
+                Constants.ARG_REPO_THREADS,
+                "2");
+
+        List<String> output = Files.readAllLines(outputFile);
+        List<String> minedRepos =
+                output.stream()
+                        .filter(line -> line.startsWith("RepoName: "))
+                        .sorted()
+                        .collect(Collectors.toList());
+        assertThat(
+                minedRepos,
+                equalTo(List.of("RepoName: first", "RepoName: second", "RepoName: third")));
+        assertThat(
+                output.stream().filter(line -> line.equals("MathOnFloatCheck<S2164>=1")).count(),
+                equalTo((long) repoNames.size()));
+        try (Stream<Path> clones = Files.list(tempDir)) {
+            assertThat(clones.count(), equalTo(0L));
+        }
+    }
+
+    /**
+     * Test that the mining start and end events span all concurrently mined repos, and that the
+     * mined violations of each repo are fired in between.
+     */
+    @Test
+    public void mineGitRepos_firesMiningStartAndEndOnce_whenMiningReposConcurrently(
+            @TempDir Path workdir) throws Exception {
+        List<String> repoUrls =
+                createLocalRepos(workdir.resolve("repos"), List.of("first", "second", "third"));
+        List<SoraldEvent> events = new ArrayList<>();
+        MineSonarWarnings miner = new MineSonarWarnings(List.of(events::add), List.of());
+
+        miner.mineGitRepos(
+                List.of(Rule.of("S2164")),
+                workdir.resolve("output.txt").toString(),
+                repoUrls,
+                workdir.resolve("temp").toFile(),
+                2);
+
+        List<EventType> types = events.stream().map(SoraldEvent::type).collect(Collectors.toList());
+        assertThat(types.get(0), equalTo(EventType.MINING_START));
+        assertThat(types.get(types.size() - 1), equalTo(EventType.MINING_END));
+        assertThat(Collections.frequency(types, EventType.MINING_START), equalTo(1));
+        assertThat(Collections.frequency(types, EventType.MINING_END), equalTo(1));
+        assertThat(Collections.frequency(types, EventType.MINED), equalTo(repoUrls.size()));
+    }
+
     /** Test that extracting warnings gives results even for rules that are not violated. */
     @Test
     public void extractWarnings_accountsForAllRules_whenManyAreNotViolated() throws Exception {
@@ -255,6 +325,28 @@ public class WarningMinerTest {
         Main.main(fullArgs);
     }
 
+    /**
+     * Create git repos with a single commit of a file that violates S2164.
+     *
+     * @return file:// URLs of the created repos.
+     */
+    private static List<String> createLocalRepos(Path reposDir, List<String> repoNames)
+            throws Exception {
+        List<String> repoUrls = new ArrayList<>();
+        for (String repoName : repoNames) {
+            Path repo = reposDir.resolve(repoName);
+            Files.createDirectories(repo);
+            Files.writeString(
+                    repo.resolve("Main.java"), "public class Main { double a = 1f / 2f; }");
+            try (Git git = Git.init().setDirectory(repo.toFile()).call()) {
+                git.add().addFilepattern(".").call();
+                git.commit().setMessage("Initial commit").setSign(false).call();
+            }
+            repoUrls.add(repo.toUri().toString());
+        }
+        return repoUrls;
+    }
+
     /** Extract check names from the warnings miner output file, sorted lexicographically. */
     private static List<String> extractSortedCheckNames(Path outputFile) throws IOException {
         Pattern checkNamePattern = Pattern.compile("^(.*)=\\d+$");
@@ -3,6 +3,7 @@ package sorald.segment;
 import static org.hamcrest.collection.IsIterableContainingInAnyOrder.containsInAnyOrder;
 
 import java.io.File;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.LinkedList;
@@ -11,6 +12,7 @@ import java.util.stream.Collectors;
 import org.hamcrest.MatcherAssert;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import sorald.TestHelper;
 
 public class FirstFitSegmentationAlgorithmTest {
@@ -59,4 +61,79 @@ public class FirstFitSegmentationAlgorithmTest {
         Assertions.assertEquals(1, fileNodeTwo.getJavaFiles().size());
         Assertions.assertEquals("DummyOne.java", dummyOne.getName());
     }
+
+    @Test
+    public void segmentBySourceSize_packsFilesByByteSize(@TempDir Path folder) throws Exception {
+        for (String name : List.of("A.java", "B.java", "C.java")) {
+            Files.writeString(folder.resolve(name), "class " + name.charAt(0) + " {}");
+        }
+        long fileSize = Files.size(folder.resolve("A.java"));
+        Node rootNode = SoraldTreeBuilderAlgorithm.buildTree(folder.toString());
+
+        LinkedList<LinkedList<Node>> segments =
+                FirstFitSegmentationAlgorithm.segmentBySourceSize(rootNode, 2 * fileSize + 1);
+
+        Assertions.assertEquals(2, segments.size());
+        Assertions.assertEquals(2, segments.get(0).get(0).getJavaFiles().size());
+        Assertions.assertEquals(1, segments.get(1).get(0).getJavaFiles().size());
+    }
+
+    @Test
+    public void segmentBySourceSize_putsFileInOwnSegment_whenItExceedsMaxSize(@TempDir Path folder)
+            throws Exception {
+        Files.writeString(folder.resolve("Small.java"), "class Small {}");
+        Files.writeString(folder.resolve("Large.java"), "class Large { int a; int b; int c; }");
+        Node rootNode = SoraldTreeBuilderAlgorithm.buildTree(folder.toString());
+
+        LinkedList<LinkedList<Node>> segments =
+                FirstFitSegmentationAlgorithm.segmentBySourceSize(
+                        rootNode, Files.size(folder.resolve("Small.java")));
+
+        Assertions.assertEquals(2, segments.size());
+        for (LinkedList<Node> segment : segments) {
+            Assertions.assertEquals(1, segment.get(0).getJavaFiles().size());
+        }
+    }
+
+    @Test
+    public void segmentBySourceSize_putsAllFilesInOneSegment_whenTheyFit() throws Exception {
+        Path folder = TestHelper.PATH_TO_RESOURCES_FOLDER.resolve("DummyTreeDir");
+        Node rootNode = SoraldTreeBuilderAlgorithm.buildTree(folder.toString());
+
+        LinkedList<LinkedList<Node>> segments =
+                FirstFitSegmentationAlgorithm.segmentBySourceSize(rootNode, Long.MAX_VALUE);
+
+        Assertions.assertEquals(1, segments.size());
+        Assertions.assertEquals(3, segments.get(0).get(0).getJavaFilesNbs());
+    }
+
+    @Test
+    public void split_preservesAllFiles() throws Exception {
+        Path folder = TestHelper.PATH_TO_RESOURCES_FOLDER.resolve("DummyTreeDir");
+        Node rootNode = SoraldTreeBuilderAlgorithm.buildTree(folder.toString());
+        LinkedList<Node> segment = new LinkedList<>(List.of(rootNode));
+
+        List<LinkedList<Node>> parts = FirstFitSegmentationAlgorithm.split(segment);
+
+        Assertions.assertEquals(2, parts.size());
+        int filesInParts =
+                parts.stream().flatMap(List::stream).mapToInt(Node::getJavaFilesNbs).sum();
+        Assertions.assertEquals(rootNode.getJavaFilesNbs(), filesInParts);
+    }
+
+    @Test
+    public void maxSourceBytesPerSegment_sharesUsableHeap_betweenSegmentsInMemory() {
+        long maxHeapBytes = 1024L * 1024 * 1024;
+
+        long oneSegment =
+                FirstFitSegmentationAlgorithm.maxSourceBytesPerSegment(maxHeapBytes, 1, 64);
+        long twoSegments =
+                FirstFitSegmentationAlgorithm.maxSourceBytesPerSegment(maxHeapBytes, 2, 64);
+        long twiceTheHeapPerByte =
+                FirstFitSegmentationAlgorithm.maxSourceBytesPerSegment(maxHeapBytes, 1, 128);
+
+        Assertions.assertEquals(maxHeapBytes / 2 / 64, oneSegment);
+        Assertions.assertEquals(oneSegment / 2, twoSegments);
+        Assertions.assertEquals(oneSegment / 2, twiceTheHeapPerByte);
+    }
 }
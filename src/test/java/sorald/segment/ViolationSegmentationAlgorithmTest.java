@@ -0,0 +1,87 @@
+package sorald.segment;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import sorald.rule.Rule;
+import sorald.rule.RuleViolation;
+import sorald.sonar.ProjectScanner;
+
+public class ViolationSegmentationAlgorithmTest {
+
+    @Test
+    public void segment_onlyIncludesViolatedSamePackageAndImportedFiles(@TempDir Path root)
+            throws Exception {
+        Path sourceRoot = root.resolve("src");
+        Path violated =
+                writeSource(
+                        sourceRoot,
+                        "a/b/Violated.java",
+                        "package a.b;\n"
+                                + "import c.Helper;\n"
+                                + "import static c.Statics.VALUE;\n"
+                                + "public class Violated {\n"
+                                + "    java.math.BigDecimal d = new java.math.BigDecimal(0.1);\n"
+                                + "}\n");
+        Path sibling = writeSource(sourceRoot, "a/b/Sibling.java", "package a.b; class Sibling {}");
+        Path helper = writeSource(sourceRoot, "c/Helper.java", "package c; public class Helper {}");
+        Path statics =
+                writeSource(
+                        sourceRoot,
+                        "c/Statics.java",
+                        "package c; public class Statics { public static int VALUE = 1; }");
+        writeSource(sourceRoot, "c/Unrelated.java", "package c; class Unrelated {}");
+        writeSource(sourceRoot, "d/Other.java", "package d; class Other {}");
+
+        Set<RuleViolation> violations =
+                ProjectScanner.scanProject(violated.toFile(), root.toFile(), Rule.of("S2111"));
+
+        LinkedList<LinkedList<Node>> segments =
+                ViolationSegmentationAlgorithm.segment(violations, Integer.MAX_VALUE);
+
+        List<String> files =
+                segments.stream()
+                        .flatMap(List::stream)
+                        .flatMap(node -> node.getJavaFiles().stream())
+                        .collect(Collectors.toList());
+        assertThat(violations.size(), equalTo(1));
+        assertThat(segments.size(), equalTo(1));
+        assertThat(
+                files,
+                containsInAnyOrder(
+                        violated.toString(),
+                        sibling.toString(),
+                        helper.toString(),
+                        statics.toString()));
+    }
+
+    @Test
+    public void findSourceRoots_stripsPackageFromFileLocation(@TempDir Path root) throws Exception {
+        Path sourceRoot = root.resolve("src");
+        Path file = writeSource(sourceRoot, "a/b/C.java", "package a.b;\nclass C {}");
+        Path unpackaged = writeSource(root, "misc/D.java", "class D {}");
+
+        Set<Path> sourceRoots =
+                ViolationSegmentationAlgorithm.findSourceRoots(List.of(file, unpackaged));
+
+        assertThat(sourceRoots, contains(root.resolve("misc"), sourceRoot));
+    }
+
+    private static Path writeSource(Path sourceRoot, String relativePath, String content)
+            throws Exception {
+        Path file = sourceRoot.resolve(relativePath).toAbsolutePath();
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+        return file;
+    }
+}
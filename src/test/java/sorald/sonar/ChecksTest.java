@@ -61,6 +61,33 @@ class ChecksTest {
                 () -> Checks.getRuleKey(scannerWithoutKey.getClass()));
     }
 
+    @Test
+    void getRuleKey_isConsistentWithGetCheck_forAllChecks() {
+        for (Class<? extends JavaFileScanner> check : Checks.getAllChecks()) {
+            String key = Checks.getRuleKey(check);
+            assertSame(check, Checks.getCheck(key));
+            assertNotNull(Checks.getRuleType(check));
+        }
+    }
+
+    @Test
+    void indexedRuleMetadata_isConsistentWithLoadedChecks_forAllChecks() {
+        for (String key : Checks.getAllRuleKeys()) {
+            Class<? extends JavaFileScanner> check = Checks.getCheck(key);
+            assertEquals(check.getSimpleName(), Checks.getCheckSimpleName(key));
+            assertEquals(Checks.getRuleType(check), Checks.getRuleType(key));
+        }
+    }
+
+    @Test
+    void sonarRuleOf_returnsSameInstance_forSameKey() {
+        SonarRule rule = SonarRule.of("S2116");
+
+        assertSame(rule, SonarRule.of("S2116"));
+        assertEquals(new SonarRule("S2116"), rule);
+        assertThrows(IllegalArgumentException.class, () -> SonarRule.of("12345678"));
+    }
+
     @Test
     void getAllChecks_containsNoDeprecatedChecks() {
         List<Class<? extends JavaFileScanner>> deprecatedChecks =
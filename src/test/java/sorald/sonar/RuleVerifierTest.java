@@ -7,7 +7,9 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.in;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -15,10 +17,15 @@ import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.sonar.java.checks.DefaultPackageCheck;
+import org.sonar.plugins.java.api.JavaFileScanner;
+import sorald.Constants;
+import sorald.FileUtils;
 import sorald.TestHelper;
 import sorald.processor.ArrayHashCodeAndToStringProcessor;
 import sorald.processor.MathOnFloatProcessor;
+import sorald.processor.ProcessorTestHelper;
 import sorald.rule.RuleViolation;
 
 class RuleVerifierTest {
@@ -49,20 +56,36 @@ class RuleVerifierTest {
     }
 
     @Test
-    public void analyze_filtersOutMessages_thatLackPrimaryLocation() {
-        var checkWithNoLocation = new DefaultPackageCheck();
+    public void analyze_filtersOutMessages_thatLackPrimaryLocation(@TempDir Path workdir)
+            throws IOException {
+        // S1996 reports an issue on the file as a whole, which has no primary location
+        Path testFile =
+                Files.writeString(
+                        workdir.resolve("TwoClasses.java"), "class TwoClasses {} class Other {}");
 
+        var violations =
+                RuleVerifier.analyze(
+                        List.of(testFile.toString()),
+                        workdir.toFile(),
+                        Checks.getCheckInstance("S1996"));
+
+        assertThat(violations, is(empty()));
+    }
+
+    @Test
+    public void analyze_throws_whenCheckIsNotTracked() {
         String testFile =
                 TestHelper.PATH_TO_RESOURCES_FOLDER
                         .resolve("ArrayHashCodeAndToString.java")
                         .toString();
-        var violations =
-                RuleVerifier.analyze(
-                        List.of(testFile),
-                        TestHelper.PATH_TO_RESOURCES_FOLDER.toFile(),
-                        checkWithNoLocation);
 
-        assertThat(violations, is(empty()));
+        assertThrows(
+                IllegalArgumentException.class,
+                () ->
+                        RuleVerifier.analyze(
+                                List.of(testFile),
+                                TestHelper.PATH_TO_RESOURCES_FOLDER.toFile(),
+                                new DefaultPackageCheck()));
     }
 
     @Test
@@ -86,4 +109,26 @@ class RuleVerifierTest {
         assertThat(violations.size(), equalTo(1));
         assertThat(violations.stream().findFirst().get().getStartLine(), equalTo(violationLine));
     }
+
+    @Test
+    public void analyze_producesSameViolations_whenShardedAcrossThreads() throws IOException {
+        // arrange
+        Path testFilesRoot = ProcessorTestHelper.TEST_FILES_ROOT;
+        List<String> files =
+                FileUtils.findFilesByExtension(testFilesRoot.toFile(), Constants.JAVA_EXT).stream()
+                        .map(File::toString)
+                        .collect(Collectors.toList());
+        List<JavaFileScanner> checks =
+                List.of(Checks.getCheckInstance("S1854"), Checks.getCheckInstance("S2116"));
+
+        // act
+        Set<RuleViolation> sequential =
+                RuleVerifier.analyze(files, testFilesRoot.toFile(), checks, List.of(), 1);
+        Set<RuleViolation> parallel =
+                RuleVerifier.analyze(files, testFilesRoot.toFile(), checks, List.of(), 4);
+
+        // assert
+        assertThat(sequential, is(not(empty())));
+        assertThat(parallel, equalTo(sequential));
+    }
 }
@@ -1,13 +1,24 @@
 package sorald.sonar;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
 import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
 import org.junit.jupiter.api.Test;
 import sorald.TestHelper;
 import sorald.processor.XxeProcessingProcessor;
 import sorald.rule.Rule;
 import sorald.rule.RuleViolation;
+import sorald.support.CanonicalPaths;
 
 public class RuleViolationTest {
     @Test
@@ -24,4 +35,83 @@ public class RuleViolationTest {
 
         assertNotEquals(violation, 2);
     }
+
+    @Test
+    public void getAbsolutePath_returnsSharedInstance_forViolationsInSameFile() {
+        File file = TestHelper.PATH_TO_RESOURCES_FOLDER.resolve("MultipleProcessors.java").toFile();
+        List<RuleViolation> violations;
+        try (CanonicalPaths.Run run = CanonicalPaths.internForRun()) {
+            violations =
+                    new ArrayList<>(
+                            ProjectScanner.scanProject(
+                                    file,
+                                    file.getParentFile(),
+                                    List.of(Rule.of("S2111"), Rule.of("S2184")),
+                                    List.of()));
+        }
+
+        assertThat(violations.size(), equalTo(2));
+        assertThat(
+                violations.get(0).getAbsolutePath(),
+                sameInstance(violations.get(1).getAbsolutePath()));
+        assertThat(
+                violations.get(0).getAbsolutePath(),
+                sameInstance(violations.get(0).getAbsolutePath()));
+    }
+
+    @Test
+    public void compareTo_ordersByEndLine_beforeEndColumn() {
+        Path file = Path.of("Violation.java").toAbsolutePath();
+        RuleViolation endsEarlier = createViolation(file, 1, 2, 3, 10);
+        RuleViolation endsLater = createViolation(file, 1, 2, 5, 4);
+
+        assertThat(endsEarlier.compareTo(endsLater), lessThan(0));
+        assertThat(endsLater.compareTo(endsEarlier), greaterThan(0));
+    }
+
+    @Test
+    public void compareTo_keepsViolationsApart_thatOnlyDifferInEndLine() {
+        Path file = Path.of("Violation.java").toAbsolutePath();
+        RuleViolation endsEarlier = createViolation(file, 1, 2, 3, 4);
+        RuleViolation endsLater = createViolation(file, 1, 2, 5, 4);
+
+        Set<RuleViolation> violations = new TreeSet<>(List.of(endsEarlier, endsLater));
+
+        assertThat(violations.size(), equalTo(2));
+    }
+
+    private static RuleViolation createViolation(
+            Path file, int startLine, int startCol, int endLine, int endCol) {
+        return new RuleViolation() {
+            @Override
+            public int getStartLine() {
+                return startLine;
+            }
+
+            @Override
+            public int getEndLine() {
+                return endLine;
+            }
+
+            @Override
+            public int getStartCol() {
+                return startCol;
+            }
+
+            @Override
+            public int getEndCol() {
+                return endCol;
+            }
+
+            @Override
+            public Path getAbsolutePath() {
+                return file;
+            }
+
+            @Override
+            public String getRuleKey() {
+                return "2111";
+            }
+        };
+    }
 }
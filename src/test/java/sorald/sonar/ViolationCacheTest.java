@@ -0,0 +1,87 @@
+package sorald.sonar;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayWithSize;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import sorald.TestHelper;
+import sorald.rule.Rule;
+import sorald.rule.RuleViolation;
+
+class ViolationCacheTest {
+
+    @Test
+    public void scanProject_replaysCachedViolations_forUnchangedFiles(@TempDir File cacheDir)
+            throws IOException {
+        // arrange
+        Path workspace = TestHelper.createTemporaryTestResourceWorkspace();
+        File target = workspace.resolve("ArrayHashCodeAndToString.java").toFile();
+        List<Rule> rules = List.of(Rule.of("S2116"));
+        var cache = new ViolationCache(cacheDir.toPath());
+        Set<RuleViolation> expected =
+                ProjectScanner.scanProject(target, workspace.toFile(), rules, List.of());
+
+        // act
+        Set<RuleViolation> firstScan =
+                ProjectScanner.scanProject(
+                        target,
+                        workspace.toFile(),
+                        rules,
+                        List.of(),
+                        new ScanOptions().setViolationCache(cache));
+        Set<RuleViolation> secondScan =
+                ProjectScanner.scanProject(
+                        target,
+                        workspace.toFile(),
+                        rules,
+                        List.of(),
+                        new ScanOptions().setViolationCache(cache));
+
+        // assert
+        assertThat(expected, is(not(empty())));
+        assertThat(cacheDir.listFiles(), arrayWithSize(1));
+        assertThat(firstScan, equalTo(expected));
+        assertThat(secondScan, equalTo(expected));
+    }
+
+    @Test
+    public void scanProject_reanalyzesFile_whenContentChanges(@TempDir File cacheDir)
+            throws IOException {
+        // arrange
+        Path workspace = TestHelper.createTemporaryTestResourceWorkspace();
+        File target = workspace.resolve("ArrayHashCodeAndToString.java").toFile();
+        List<Rule> rules = List.of(Rule.of("S2116"));
+        var cache = new ViolationCache(cacheDir.toPath());
+        ProjectScanner.scanProject(
+                target,
+                workspace.toFile(),
+                rules,
+                List.of(),
+                new ScanOptions().setViolationCache(cache));
+
+        // act
+        Files.writeString(target.toPath(), "public class ArrayHashCodeAndToString {}");
+        Set<RuleViolation> violations =
+                ProjectScanner.scanProject(
+                        target,
+                        workspace.toFile(),
+                        rules,
+                        List.of(),
+                        new ScanOptions().setViolationCache(cache));
+
+        // assert
+        assertThat(violations, is(empty()));
+        assertThat(cacheDir.listFiles(), arrayWithSize(2));
+    }
+}
@@ -0,0 +1,46 @@
+package sorald.support;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CanonicalPathsTest {
+
+    @Test
+    void canonicalize_internsPaths_onlyDuringRun(@TempDir Path root) {
+        String rawPath = root.resolve("pkg/../A.java").toString();
+
+        Path interned;
+        try (CanonicalPaths.Run run = CanonicalPaths.internForRun()) {
+            interned = CanonicalPaths.canonicalize(rawPath);
+            assertThat(interned, equalTo(root.resolve("A.java")));
+            assertThat(CanonicalPaths.canonicalize(rawPath), sameInstance(interned));
+            assertThat(CanonicalPaths.canonicalize(root.resolve("A.java")), sameInstance(interned));
+        }
+
+        Path afterRun = CanonicalPaths.canonicalize(rawPath);
+        assertThat(afterRun, equalTo(interned));
+        assertThat(afterRun, not(sameInstance(interned)));
+    }
+
+    @Test
+    void forgetAllIn_forgetsOnlyPathsInDirectory(@TempDir Path root) {
+        String forgottenPath = root.resolve("forgotten/A.java").toString();
+        String keptPath = root.resolve("kept/A.java").toString();
+
+        try (CanonicalPaths.Run run = CanonicalPaths.internForRun()) {
+            Path forgotten = CanonicalPaths.canonicalize(forgottenPath);
+            Path kept = CanonicalPaths.canonicalize(keptPath);
+
+            CanonicalPaths.forgetAllIn(root.resolve("forgotten"));
+
+            assertThat(CanonicalPaths.canonicalize(forgottenPath), not(sameInstance(forgotten)));
+            assertThat(CanonicalPaths.canonicalize(keptPath), sameInstance(kept));
+        }
+    }
+}
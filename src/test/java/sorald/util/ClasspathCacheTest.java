@@ -0,0 +1,108 @@
+package sorald.util;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ClasspathCacheTest {
+
+    @Test
+    void getOrResolve_resolvesOnlyOnce_untilPomChanges(@TempDir Path tempDir) throws Exception {
+        Path project = Files.createDirectories(tempDir.resolve("project"));
+        Path pom = Files.writeString(project.resolve("pom.xml"), "<project/>");
+        Path dependency = Files.writeString(tempDir.resolve("dependency.jar"), "");
+        AtomicInteger resolutions = new AtomicInteger();
+        Function<Path, List<String>> resolver =
+                dir -> {
+                    resolutions.incrementAndGet();
+                    return List.of(dependency.toString());
+                };
+        Path cacheDir = tempDir.resolve("cache");
+
+        List<String> classpath = new ClasspathCache(cacheDir).getOrResolve(project, resolver);
+        // a new cache instance must read the entry from disk
+        new ClasspathCache(cacheDir).getOrResolve(project, resolver);
+        assertThat(classpath, equalTo(List.of(dependency.toString())));
+        assertThat(resolutions.get(), equalTo(1));
+
+        Files.writeString(pom, "<project><modules/></project>");
+        new ClasspathCache(cacheDir).getOrResolve(project, resolver);
+        assertThat(resolutions.get(), equalTo(2));
+    }
+
+    @Test
+    void getOrResolve_resolvesAgain_whenModulePomChangesOrEntryIsMissing(@TempDir Path tempDir)
+            throws Exception {
+        Path project = Files.createDirectories(tempDir.resolve("project"));
+        Files.writeString(
+                project.resolve("pom.xml"),
+                "<project><modules><module>module</module></modules></project>");
+        Path modulePom =
+                Files.writeString(
+                        Files.createDirectories(project.resolve("module")).resolve("pom.xml"),
+                        "<project/>");
+        Path undeclaredPom =
+                Files.writeString(
+                        Files.createDirectories(project.resolve("fixtures")).resolve("pom.xml"),
+                        "<project/>");
+        Path dependency = Files.writeString(tempDir.resolve("dependency.jar"), "");
+        AtomicInteger resolutions = new AtomicInteger();
+        Function<Path, List<String>> resolver =
+                dir -> {
+                    resolutions.incrementAndGet();
+                    return List.of(dependency.toString());
+                };
+        Path cacheDir = tempDir.resolve("cache");
+
+        new ClasspathCache(cacheDir).getOrResolve(project, resolver);
+        Files.writeString(undeclaredPom, "<project><modules/></project>");
+        new ClasspathCache(cacheDir).getOrResolve(project, resolver);
+        assertThat(resolutions.get(), equalTo(1));
+
+        Files.writeString(modulePom, "<project><modules/></project>");
+        new ClasspathCache(cacheDir).getOrResolve(project, resolver);
+        assertThat(resolutions.get(), equalTo(2));
+
+        Files.delete(dependency);
+        new ClasspathCache(cacheDir).getOrResolve(project, resolver);
+        assertThat(resolutions.get(), equalTo(3));
+    }
+
+    @Test
+    void getLocalRepository_readsUserSettings_beforeGlobalSettings(@TempDir Path tempDir)
+            throws Exception {
+        Path userHome = Files.createDirectories(tempDir.resolve("home"));
+        Path mavenHome = Files.createDirectories(tempDir.resolve("maven"));
+        Path globalSettings =
+                Files.createDirectories(mavenHome.resolve("conf"))
+                        .resolve(ClasspathCache.SETTINGS_FILE);
+        Files.writeString(
+                globalSettings,
+                "<settings><localRepository>"
+                        + tempDir.resolve("global-repo")
+                        + "</localRepository></settings>");
+
+        assertThat(
+                ClasspathCache.getLocalRepository(userHome, Optional.empty()),
+                equalTo(userHome.resolve(".m2").resolve("repository")));
+        assertThat(
+                ClasspathCache.getLocalRepository(userHome, Optional.of(mavenHome)),
+                equalTo(tempDir.resolve("global-repo")));
+
+        Files.writeString(
+                Files.createDirectories(userHome.resolve(".m2"))
+                        .resolve(ClasspathCache.SETTINGS_FILE),
+                "<settings><localRepository>${user.home}/user-repo</localRepository></settings>");
+        assertThat(
+                ClasspathCache.getLocalRepository(userHome, Optional.of(mavenHome)),
+                equalTo(userHome.resolve("user-repo")));
+    }
+}
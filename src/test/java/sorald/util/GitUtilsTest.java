@@ -0,0 +1,42 @@
+package sorald.util;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.eclipse.jgit.api.Git;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class GitUtilsTest {
+
+    @Test
+    void findChangedJavaFiles_findsModifiedAndUntrackedFiles_butNotDeletedOrIgnoredFiles(
+            @TempDir Path repoDir) throws Exception {
+        Path src = Files.createDirectories(repoDir.resolve("src"));
+        Path modified = Files.writeString(src.resolve("Modified.java"), "class Modified {}");
+        Path unchanged = Files.writeString(src.resolve("Unchanged.java"), "class Unchanged {}");
+        Path deleted = Files.writeString(src.resolve("Deleted.java"), "class Deleted {}");
+        Files.writeString(repoDir.resolve(".gitignore"), "Ignored.java\n");
+        try (Git git = Git.init().setDirectory(repoDir.toFile()).call()) {
+            git.add().addFilepattern(".").call();
+            git.commit().setMessage("Initial commit").setSign(false).call();
+        }
+
+        Files.writeString(modified, "class Modified { int x; }");
+        Files.delete(deleted);
+        Path untracked = Files.writeString(src.resolve("Untracked.java"), "class Untracked {}");
+        Files.writeString(src.resolve("Ignored.java"), "class Ignored {}");
+        Files.writeString(src.resolve("NotJava.txt"), "not java");
+
+        List<File> changedFiles = GitUtils.findChangedJavaFiles(src, "HEAD");
+
+        assertThat(changedFiles, containsInAnyOrder(modified.toFile(), untracked.toFile()));
+        assertThat(GitUtils.isResolvableRevision(unchanged, "HEAD"), equalTo(true));
+        assertThat(GitUtils.isResolvableRevision(unchanged, "no-such-branch"), equalTo(false));
+    }
+}
@@ -0,0 +1,87 @@
+package sorald.util;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SourceDiscoveryTest {
+
+    @Test
+    void findJavaFiles_findsJavaFiles_butNotInPrunedDirectories(@TempDir Path root)
+            throws Exception {
+        Path pkg = Files.createDirectories(root.resolve("src/main/java/pkg"));
+        Path first = Files.writeString(pkg.resolve("First.java"), "class First {}");
+        Path second =
+                Files.writeString(
+                        Files.createDirectories(pkg.resolve("nested")).resolve("Second.java"),
+                        "class Second {}");
+        Files.writeString(pkg.resolve("NotJava.txt"), "not java");
+        Files.createDirectories(pkg.resolve("Directory.java"));
+        Set<String> prunedDirectories = new HashSet<>(SourceDiscovery.PRUNED_DIRECTORIES);
+        prunedDirectories.addAll(SourceDiscovery.BUILD_OUTPUT_DIRECTORIES);
+        for (String pruned : prunedDirectories) {
+            Path prunedDir = Files.createDirectories(root.resolve(pruned).resolve("pkg"));
+            Files.writeString(prunedDir.resolve("Pruned.java"), "class Pruned {}");
+        }
+
+        List<Path> expected = List.of(first, second);
+        assertThat(SourceDiscovery.findJavaFiles(root), equalTo(expected));
+        assertThat(SourceDiscovery.findJavaFiles(root, 4), equalTo(expected));
+        assertThat(SourceDiscovery.findJavaFiles(first), equalTo(List.of(first)));
+    }
+
+    @Test
+    void findJavaFiles_findsJavaFiles_inSourcePackagesNamedLikeBuildOutput(@TempDir Path root)
+            throws Exception {
+        Path module = Files.createDirectories(root.resolve("module"));
+        Files.writeString(module.resolve("pom.xml"), "<project/>");
+        Path moduleOutput = Files.createDirectories(module.resolve("target/classes/pkg"));
+        Files.writeString(moduleOutput.resolve("Pruned.java"), "class Pruned {}");
+        Path gradleModule = Files.createDirectories(root.resolve("gradle-module"));
+        Files.writeString(gradleModule.resolve("build.gradle"), "");
+        Path gradleOutput = Files.createDirectories(gradleModule.resolve("build/generated"));
+        Files.writeString(gradleOutput.resolve("Pruned.java"), "class Pruned {}");
+        Path buildPackage =
+                Files.createDirectories(
+                        module.resolve("src/main/java/com/google/devtools/build/lib"));
+        Path build = Files.writeString(buildPackage.resolve("Build.java"), "class Build {}");
+        Path targetPackage =
+                Files.createDirectories(module.resolve("src/main/java/com/example/target"));
+        Path target = Files.writeString(targetPackage.resolve("Target.java"), "class Target {}");
+
+        List<Path> expected = List.of(target, build);
+        assertThat(SourceDiscovery.findJavaFiles(root), equalTo(expected));
+        assertThat(SourceDiscovery.findJavaFiles(root, 4), equalTo(expected));
+    }
+
+    @Test
+    void findJavaFiles_findsSymbolicallyLinkedJavaFiles(@TempDir Path workdir) throws Exception {
+        Path target = Files.writeString(workdir.resolve("Target.java"), "class Target {}");
+        Path root = Files.createDirectory(workdir.resolve("root"));
+        Path link = Files.createSymbolicLink(root.resolve("Link.java"), target);
+
+        assertThat(SourceDiscovery.findJavaFiles(root), equalTo(List.of(link)));
+        assertThat(SourceDiscovery.findJavaFiles(root, 4), equalTo(List.of(link)));
+    }
+
+    @Test
+    void findJavaFiles_cachesDiscoveredFiles_onlyDuringRun(@TempDir Path root) throws Exception {
+        Path first = Files.writeString(root.resolve("First.java"), "class First {}");
+
+        Path second;
+        try (SourceDiscovery.Run run = SourceDiscovery.cacheForRun()) {
+            assertThat(SourceDiscovery.findJavaFiles(root), equalTo(List.of(first)));
+            second = Files.writeString(root.resolve("Second.java"), "class Second {}");
+            assertThat(SourceDiscovery.findJavaFiles(root), equalTo(List.of(first)));
+        }
+
+        assertThat(SourceDiscovery.findJavaFiles(root), equalTo(List.of(first, second)));
+    }
+}